@@ -34,7 +34,6 @@ dependencies {
     compileOnly(libs.jqwik.web)
     compileOnly(libs.jqwik.time)
     compileOnly(libs.rgxgen)
-    compileOnly(libs.generex)
 
     testImplementation(libs.jqwik.engine)
     testImplementation(libs.jqwik.api)
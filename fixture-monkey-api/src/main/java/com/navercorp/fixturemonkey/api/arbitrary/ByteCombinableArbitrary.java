@@ -31,6 +31,17 @@ public interface ByteCombinableArbitrary extends CombinableArbitrary<Byte> {
 	@Override
 	Byte rawValue();
 
+	/**
+	 * Generates a primitive {@code byte} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code byte} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default byte nextByte() {
+		return combined();
+	}
+
 	/**
 	 * Generates a ByteCombinableArbitrary which produces bytes within the specified range.
 	 *
@@ -32,6 +32,17 @@ public interface CharacterCombinableArbitrary extends CombinableArbitrary<Charac
 	@Override
 	Character rawValue();
 
+	/**
+	 * Generates a primitive {@code char} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code char} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default char nextChar() {
+		return combined();
+	}
+
 	/**
 	 * Generates a CharacterCombinableArbitrary which produces characters within the specified range.
 	 *
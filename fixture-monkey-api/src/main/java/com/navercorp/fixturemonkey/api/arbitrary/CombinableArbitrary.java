@@ -19,7 +19,6 @@
 package com.navercorp.fixturemonkey.api.arbitrary;
 
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -27,6 +26,7 @@ import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.container.UniqueValueSet;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 
@@ -193,7 +193,7 @@ public interface CombinableArbitrary<T> {
 	 * @return A {@link CombinableArbitrary} returns a unique value
 	 */
 	default CombinableArbitrary<T> unique() {
-		return new UniqueCombinableArbitrary<>(this, new ConcurrentHashMap<>());
+		return new UniqueCombinableArbitrary<>(this, new UniqueValueSet());
 	}
 
 	/**
@@ -19,7 +19,7 @@
 package com.navercorp.fixturemonkey.api.arbitrary;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -31,20 +31,18 @@ import org.apiguardian.api.API.Status;
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
-	private static final Object EXISTED = new Object();
-
 	private final List<CombinableArbitrary<?>> combinableArbitraryList;
 	private final Function<List<Object>, T> combinator;
-	private final Map<Object, Object> generatedMap;
+	private final Set<Object> generatedSet;
 
 	ContainerCombinableArbitrary(
 		List<CombinableArbitrary<?>> combinableArbitraryList,
 		Function<List<Object>, T> combinator,
-		Map<Object, Object> generatedMap
+		Set<Object> generatedSet
 	) {
 		this.combinableArbitraryList = combinableArbitraryList;
 		this.combinator = combinator;
-		this.generatedMap = generatedMap;
+		this.generatedSet = generatedSet;
 	}
 
 	@Override
@@ -91,11 +89,9 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	public CombinableArbitrary<T> unique() {
 		List<CombinableArbitrary<?>> uniqueCombinableArbitraryList = this.combinableArbitraryList.stream()
 			.map(arbitrary -> arbitrary.filter(it -> {
-				if (!generatedMap.containsKey(it)) {
-					generatedMap.put(it, EXISTED);
-					return true;
+				synchronized (generatedSet) {
+					return generatedSet.add(it);
 				}
-				return false;
 			}))
 			.collect(Collectors.toList());
 
@@ -20,12 +20,13 @@ package com.navercorp.fixturemonkey.api.arbitrary;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.container.UniqueValueSet;
+
 @API(since = "0.6.0", status = Status.MAINTAINED)
 public final class ContainerCombineArbitraryBuilder {
 	private final List<CombinableArbitrary<?>> elementArbitraryList;
@@ -59,7 +60,7 @@ public final class ContainerCombineArbitraryBuilder {
 				postBuild.run();
 				return container;
 			},
-			new ConcurrentHashMap<>()
+			new UniqueValueSet()
 		);
 	}
 }
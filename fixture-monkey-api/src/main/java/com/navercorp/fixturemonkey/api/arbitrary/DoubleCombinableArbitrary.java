@@ -31,6 +31,17 @@ public interface DoubleCombinableArbitrary extends CombinableArbitrary<Double> {
 	@Override
 	Double rawValue();
 
+	/**
+	 * Generates a primitive {@code double} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code double} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default double nextDouble() {
+		return combined();
+	}
+
 	/**
 	 * Generates a DoubleCombinableArbitrary which produces doubles within the specified range.
 	 *
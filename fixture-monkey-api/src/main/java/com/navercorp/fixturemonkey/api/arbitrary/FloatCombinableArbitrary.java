@@ -31,6 +31,17 @@ public interface FloatCombinableArbitrary extends CombinableArbitrary<Float> {
 	@Override
 	Float rawValue();
 
+	/**
+	 * Generates a primitive {@code float} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code float} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default float nextFloat() {
+		return combined();
+	}
+
 	/**
 	 * Generates a FloatCombinableArbitrary which produces floats within the specified range.
 	 *
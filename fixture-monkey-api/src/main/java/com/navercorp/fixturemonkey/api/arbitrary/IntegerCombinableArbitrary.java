@@ -31,6 +31,17 @@ public interface IntegerCombinableArbitrary extends CombinableArbitrary<Integer>
 	@Override
 	Integer rawValue();
 
+	/**
+	 * Generates a primitive {@code int} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code int} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default int nextInt() {
+		return combined();
+	}
+
 	/**
 	 * Generates an IntegerCombinableArbitrary which produces integers within the specified range.
 	 *
@@ -31,6 +31,17 @@ public interface LongCombinableArbitrary extends CombinableArbitrary<Long> {
 	@Override
 	Long rawValue();
 
+	/**
+	 * Generates a primitive {@code long} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code long} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default long nextLong() {
+		return combined();
+	}
+
 	/**
 	 * Generates a LongCombinableArbitrary which produces longs within the specified range.
 	 *
@@ -0,0 +1,220 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+/**
+ * A {@link JavaTypeArbitraryGeneratorSet} generating the primitive leaves, {@code char}, {@code short},
+ * {@code byte}, {@code int}, {@code long}, {@code float} and {@code double},
+ * by the {@code Random*CombinableArbitrary} implementations drawing directly from the random source.
+ * Strings, big numbers and the decimals constrained by a scale are generated by the given delegate.
+ * Booleans are not part of the set, {@link com.navercorp.fixturemonkey.api.introspector.BooleanIntrospector}
+ * generates them by {@link RandomBooleanCombinableArbitrary}.
+ * <p>
+ * The constraints are resolved by {@link JavaConstraintGenerator}, the same as the jqwik based generator set.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class PrimitiveJavaTypeArbitraryGeneratorSet implements JavaTypeArbitraryGeneratorSet {
+	private final JavaConstraintGenerator constraintGenerator;
+	private final JavaTypeArbitraryGeneratorSet delegate;
+
+	public PrimitiveJavaTypeArbitraryGeneratorSet(
+		JavaConstraintGenerator constraintGenerator,
+		JavaTypeArbitraryGeneratorSet delegate
+	) {
+		this.constraintGenerator = constraintGenerator;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public CombinableArbitrary<String> strings(ArbitraryGeneratorContext context) {
+		return delegate.strings(context);
+	}
+
+	@Override
+	public CombinableArbitrary<Character> characters(ArbitraryGeneratorContext context) {
+		return new RandomCharacterCombinableArbitrary();
+	}
+
+	@Override
+	public CombinableArbitrary<Short> shorts(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		if (constraint == null) {
+			return new RandomShortCombinableArbitrary();
+		}
+
+		BigInteger min = constraint.getMin();
+		BigInteger max = constraint.getMax();
+
+		return new RandomShortCombinableArbitrary(
+			min != null ? min.shortValueExact() : Short.MIN_VALUE,
+			max != null ? max.shortValueExact() : Short.MAX_VALUE
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<Byte> bytes(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		if (constraint == null) {
+			return new RandomByteCombinableArbitrary();
+		}
+
+		BigInteger min = constraint.getMin();
+		BigInteger max = constraint.getMax();
+
+		return new RandomByteCombinableArbitrary(
+			min != null ? min.byteValueExact() : Byte.MIN_VALUE,
+			max != null ? max.byteValueExact() : Byte.MAX_VALUE
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<Double> doubles(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = constraintGenerator.generateDecimalConstraint(context);
+		if (constraint == null) {
+			return new RandomDoubleCombinableArbitrary();
+		}
+
+		if (constraint.getScale() != null) {
+			return delegate.doubles(context);
+		}
+
+		BigDecimal min = constraint.getMin();
+		BigDecimal max = constraint.getMax();
+
+		double minValue = PrimitiveRandoms.DEFAULT_DECIMAL_MIN;
+		if (min != null) {
+			minValue = min.doubleValue();
+			if (Boolean.FALSE.equals(constraint.getMinInclusive())) {
+				minValue = Math.nextUp(minValue);
+			}
+		}
+
+		double maxValue = PrimitiveRandoms.DEFAULT_DECIMAL_MAX;
+		if (max != null) {
+			maxValue = max.doubleValue();
+			if (Boolean.FALSE.equals(constraint.getMaxInclusive())) {
+				maxValue = Math.nextDown(maxValue);
+			}
+		}
+
+		// a single bound outside of the default range moves the missing bound with it
+		if (min == null) {
+			minValue = Math.min(minValue, maxValue);
+		}
+		if (max == null) {
+			maxValue = Math.max(minValue, maxValue);
+		}
+
+		return new RandomDoubleCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public CombinableArbitrary<Float> floats(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = constraintGenerator.generateDecimalConstraint(context);
+		if (constraint == null) {
+			return new RandomFloatCombinableArbitrary();
+		}
+
+		if (constraint.getScale() != null) {
+			return delegate.floats(context);
+		}
+
+		BigDecimal min = constraint.getMin();
+		BigDecimal max = constraint.getMax();
+
+		float minValue = (float)PrimitiveRandoms.DEFAULT_DECIMAL_MIN;
+		if (min != null) {
+			minValue = min.floatValue();
+			if (Boolean.FALSE.equals(constraint.getMinInclusive())) {
+				minValue = Math.nextUp(minValue);
+			}
+		}
+
+		float maxValue = (float)PrimitiveRandoms.DEFAULT_DECIMAL_MAX;
+		if (max != null) {
+			maxValue = max.floatValue();
+			if (Boolean.FALSE.equals(constraint.getMaxInclusive())) {
+				maxValue = Math.nextDown(maxValue);
+			}
+		}
+
+		// a single bound outside of the default range moves the missing bound with it
+		if (min == null) {
+			minValue = Math.min(minValue, maxValue);
+		}
+		if (max == null) {
+			maxValue = Math.max(minValue, maxValue);
+		}
+
+		return new RandomFloatCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public CombinableArbitrary<Integer> integers(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		if (constraint == null) {
+			return new RandomIntegerCombinableArbitrary();
+		}
+
+		BigInteger min = constraint.getMin();
+		BigInteger max = constraint.getMax();
+
+		return new RandomIntegerCombinableArbitrary(
+			min != null ? min.intValueExact() : Integer.MIN_VALUE,
+			max != null ? max.intValueExact() : Integer.MAX_VALUE
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<Long> longs(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		if (constraint == null) {
+			return new RandomLongCombinableArbitrary();
+		}
+
+		BigInteger min = constraint.getMin();
+		BigInteger max = constraint.getMax();
+
+		return new RandomLongCombinableArbitrary(
+			min != null ? min.longValueExact() : Long.MIN_VALUE,
+			max != null ? max.longValueExact() : Long.MAX_VALUE
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<BigInteger> bigIntegers(ArbitraryGeneratorContext context) {
+		return delegate.bigIntegers(context);
+	}
+
+	@Override
+	public CombinableArbitrary<BigDecimal> bigDecimals(ArbitraryGeneratorContext context) {
+		return delegate.bigDecimals(context);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.Random;
+
+/**
+ * Bounded primitive draws from a {@link Random} without going through boxed values.
+ * <p>
+ * One in {@link #EDGE_CASE_RATIO} draws is an edge case of the range, the minimum, the maximum or zero
+ * if the range contains it. The other draws are uniformly distributed within the range.
+ */
+final class PrimitiveRandoms {
+	/**
+	 * The default range of the {@code float} and {@code double} engines, the same as the {@code int} engine.
+	 * A uniform draw over the whole decimal range would almost always be a huge value.
+	 */
+	static final double DEFAULT_DECIMAL_MIN = Integer.MIN_VALUE;
+	static final double DEFAULT_DECIMAL_MAX = Integer.MAX_VALUE;
+
+	private static final int EDGE_CASE_RATIO = 20;
+
+	private PrimitiveRandoms() {
+	}
+
+	/**
+	 * Draws a long within {@code [min, max]}.
+	 */
+	static long nextLong(Random random, long min, long max) {
+		if (random.nextInt(EDGE_CASE_RATIO) == 0) {
+			switch (random.nextInt(3)) {
+				case 0:
+					return min;
+				case 1:
+					return max;
+				default:
+					return Math.max(min, Math.min(0L, max));
+			}
+		}
+
+		return nextUniformLong(random, min, max);
+	}
+
+	/**
+	 * Draws a double within {@code [min, max]}.
+	 */
+	static double nextDouble(Random random, double min, double max) {
+		if (random.nextInt(EDGE_CASE_RATIO) == 0) {
+			switch (random.nextInt(3)) {
+				case 0:
+					return min;
+				case 1:
+					return max;
+				default:
+					return Math.max(min, Math.min(0.0, max));
+			}
+		}
+
+		return nextUniformDouble(random, min, max);
+	}
+
+	private static long nextUniformLong(Random random, long min, long max) {
+		if (min == Long.MIN_VALUE && max == Long.MAX_VALUE) {
+			return random.nextLong();
+		}
+
+		long bound = max - min + 1L;
+		if (bound <= 0L) {
+			// the range is wider than Long.MAX_VALUE, more than half of the draws are accepted
+			long value = random.nextLong();
+			while (value < min || value > max) {
+				value = random.nextLong();
+			}
+			return value;
+		}
+
+		long mask = bound - 1L;
+		if ((bound & mask) == 0L) {
+			return min + (random.nextLong() & mask);
+		}
+
+		long unsigned = random.nextLong() >>> 1;
+		long value = unsigned % bound;
+		while (unsigned + mask - value < 0L) {
+			unsigned = random.nextLong() >>> 1;
+			value = unsigned % bound;
+		}
+		return min + value;
+	}
+
+	/**
+	 * It interpolates instead of subtracting, so it does not overflow when the range spans the whole double range.
+	 */
+	private static double nextUniformDouble(Random random, double min, double max) {
+		if (min == max) {
+			return min;
+		}
+
+		double ratio = random.nextDouble();
+		double value = ratio * max + (1.0 - ratio) * min;
+		return Math.min(Math.max(value, min), max);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link CombinableArbitrary} generating booleans directly from {@link Randoms#current()}.
+ * It is stateless, the same instance can be shared by every boolean property.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomBooleanCombinableArbitrary implements CombinableArbitrary<Boolean> {
+	public static final RandomBooleanCombinableArbitrary INSTANCE = new RandomBooleanCombinableArbitrary();
+
+	private RandomBooleanCombinableArbitrary() {
+	}
+
+	/**
+	 * Generates a primitive {@code boolean} value without boxing.
+	 *
+	 * @return a generated {@code boolean} value
+	 */
+	public boolean nextBoolean() {
+		return Randoms.nextInt(2) == 0;
+	}
+
+	@Override
+	public Boolean combined() {
+		return nextBoolean();
+	}
+
+	@Override
+	public Boolean rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
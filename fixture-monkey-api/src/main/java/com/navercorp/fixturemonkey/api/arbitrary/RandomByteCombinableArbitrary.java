@@ -0,0 +1,116 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.IntUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link ByteCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextByte()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomByteCombinableArbitrary implements ByteCombinableArbitrary {
+	private final byte min;
+	private final byte max;
+	@Nullable
+	private final IntUnaryOperator mapper;
+
+	public RandomByteCombinableArbitrary() {
+		this(Byte.MIN_VALUE, Byte.MAX_VALUE, null);
+	}
+
+	public RandomByteCombinableArbitrary(byte min, byte max) {
+		this(min, max, null);
+	}
+
+	private RandomByteCombinableArbitrary(byte min, byte max, @Nullable IntUnaryOperator mapper) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public byte nextByte() {
+		int value = (int)PrimitiveRandoms.nextLong(Randoms.current(), min, max);
+		return (byte)(mapper != null ? mapper.applyAsInt(value) : value);
+	}
+
+	@Override
+	public Byte combined() {
+		return nextByte();
+	}
+
+	@Override
+	public Byte rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public ByteCombinableArbitrary withRange(byte min, byte max) {
+		return new RandomByteCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public ByteCombinableArbitrary positive() {
+		return new RandomByteCombinableArbitrary((byte)1, Byte.MAX_VALUE);
+	}
+
+	@Override
+	public ByteCombinableArbitrary negative() {
+		return new RandomByteCombinableArbitrary(Byte.MIN_VALUE, (byte)-1);
+	}
+
+	@Override
+	public ByteCombinableArbitrary even() {
+		return new RandomByteCombinableArbitrary(Byte.MIN_VALUE, Byte.MAX_VALUE, it -> it & ~1);
+	}
+
+	@Override
+	public ByteCombinableArbitrary odd() {
+		return new RandomByteCombinableArbitrary(Byte.MIN_VALUE, Byte.MAX_VALUE, it -> it | 1);
+	}
+
+	@Override
+	public ByteCombinableArbitrary ascii() {
+		return new RandomByteCombinableArbitrary((byte)0, Byte.MAX_VALUE);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
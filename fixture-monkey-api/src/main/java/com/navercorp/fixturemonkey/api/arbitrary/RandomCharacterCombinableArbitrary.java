@@ -0,0 +1,151 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.IntUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link CharacterCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextChar()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ * The character sets made of several ranges draw an index and map it to a character.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomCharacterCombinableArbitrary implements CharacterCombinableArbitrary {
+	private static final char[] WHITESPACES = {' ', '\t', '\n', '\r', '\f'};
+
+	private final char min;
+	private final char max;
+	@Nullable
+	private final IntUnaryOperator mapper;
+
+	public RandomCharacterCombinableArbitrary() {
+		this(Character.MIN_VALUE, Character.MAX_VALUE, null);
+	}
+
+	public RandomCharacterCombinableArbitrary(char min, char max) {
+		this(min, max, null);
+	}
+
+	private RandomCharacterCombinableArbitrary(char min, char max, @Nullable IntUnaryOperator mapper) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + (int)min + ", max: " + (int)max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public char nextChar() {
+		int value = (int)PrimitiveRandoms.nextLong(Randoms.current(), min, max);
+		return (char)(mapper != null ? mapper.applyAsInt(value) : value);
+	}
+
+	@Override
+	public Character combined() {
+		return nextChar();
+	}
+
+	@Override
+	public Character rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public CharacterCombinableArbitrary withRange(char min, char max) {
+		return new RandomCharacterCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary alphabetic() {
+		return new RandomCharacterCombinableArbitrary(
+			(char)0,
+			(char)51,
+			it -> it < 26 ? 'A' + it : 'a' + it - 26
+		);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary numeric() {
+		return new RandomCharacterCombinableArbitrary('0', '9');
+	}
+
+	@Override
+	public CharacterCombinableArbitrary alphaNumeric() {
+		return new RandomCharacterCombinableArbitrary(
+			(char)0,
+			(char)61,
+			it -> it < 10 ? '0' + it : it < 36 ? 'A' + it - 10 : 'a' + it - 36
+		);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary ascii() {
+		return new RandomCharacterCombinableArbitrary((char)0, (char)127);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary uppercase() {
+		return new RandomCharacterCombinableArbitrary('A', 'Z');
+	}
+
+	@Override
+	public CharacterCombinableArbitrary lowercase() {
+		return new RandomCharacterCombinableArbitrary('a', 'z');
+	}
+
+	@Override
+	public CharacterCombinableArbitrary korean() {
+		return new RandomCharacterCombinableArbitrary('\uAC00', '\uD7A3');  // 가-힣
+	}
+
+	@Override
+	public CharacterCombinableArbitrary emoji() {
+		return new RandomCharacterCombinableArbitrary('\u2600', '\u27BF');
+	}
+
+	@Override
+	public CharacterCombinableArbitrary whitespace() {
+		return new RandomCharacterCombinableArbitrary(
+			(char)0,
+			(char)(WHITESPACES.length - 1),
+			it -> WHITESPACES[it]
+		);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.DoubleUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link DoubleCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextDouble()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomDoubleCombinableArbitrary implements DoubleCombinableArbitrary {
+	private static final double[] STANDARD_SPECIAL_VALUES = {
+		Double.NaN,
+		Double.MIN_VALUE,
+		Double.MIN_NORMAL,
+		Double.POSITIVE_INFINITY,
+		Double.NEGATIVE_INFINITY
+	};
+
+	private final double min;
+	private final double max;
+	@Nullable
+	private final DoubleUnaryOperator mapper;
+
+	public RandomDoubleCombinableArbitrary() {
+		this(PrimitiveRandoms.DEFAULT_DECIMAL_MIN, PrimitiveRandoms.DEFAULT_DECIMAL_MAX, null);
+	}
+
+	public RandomDoubleCombinableArbitrary(double min, double max) {
+		this(min, max, null);
+	}
+
+	private RandomDoubleCombinableArbitrary(double min, double max, @Nullable DoubleUnaryOperator mapper) {
+		if (!(min <= max)) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public double nextDouble() {
+		double value = PrimitiveRandoms.nextDouble(Randoms.current(), min, max);
+		return mapper != null ? mapper.applyAsDouble(value) : value;
+	}
+
+	@Override
+	public Double combined() {
+		return nextDouble();
+	}
+
+	@Override
+	public Double rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withRange(double min, double max) {
+		return new RandomDoubleCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary positive() {
+		return new RandomDoubleCombinableArbitrary(Double.MIN_VALUE, PrimitiveRandoms.DEFAULT_DECIMAL_MAX);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary negative() {
+		return new RandomDoubleCombinableArbitrary(PrimitiveRandoms.DEFAULT_DECIMAL_MIN, -Double.MIN_VALUE);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary nonZero() {
+		return new RandomDoubleCombinableArbitrary(
+			PrimitiveRandoms.DEFAULT_DECIMAL_MIN,
+			PrimitiveRandoms.DEFAULT_DECIMAL_MAX,
+			it -> it == 0.0 ? Double.MIN_VALUE : it
+		);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withPrecision(int scale) {
+		return new RandomDoubleCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> BigDecimal.valueOf(it).setScale(scale, RoundingMode.HALF_UP).doubleValue())
+		);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary finite() {
+		return new RandomDoubleCombinableArbitrary();
+	}
+
+	@Override
+	public DoubleCombinableArbitrary infinite() {
+		return new RandomDoubleCombinableArbitrary(
+			-1.0,
+			1.0,
+			it -> it < 0.0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY
+		);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary normalized() {
+		return new RandomDoubleCombinableArbitrary(0.0, 1.0);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary nan() {
+		return new RandomDoubleCombinableArbitrary(0.0, 0.0, it -> Double.NaN);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary percentage() {
+		return new RandomDoubleCombinableArbitrary(0.0, 100.0);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary score() {
+		return new RandomDoubleCombinableArbitrary(0.0, 100.0);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withSpecialValue(double special) {
+		return new RandomDoubleCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> Randoms.nextInt(2) == 0 ? it : special)
+		);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withStandardSpecialValues() {
+		return new RandomDoubleCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> Randoms.nextInt(2) == 0
+				? it
+				: STANDARD_SPECIAL_VALUES[Randoms.nextInt(STANDARD_SPECIAL_VALUES.length)]
+			)
+		);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+
+	private DoubleUnaryOperator andThen(DoubleUnaryOperator after) {
+		return mapper != null ? mapper.andThen(after) : after;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.DoubleUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link FloatCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextFloat()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomFloatCombinableArbitrary implements FloatCombinableArbitrary {
+	private static final float[] STANDARD_SPECIAL_VALUES = {
+		Float.NaN,
+		Float.MIN_VALUE,
+		Float.MIN_NORMAL,
+		Float.POSITIVE_INFINITY,
+		Float.NEGATIVE_INFINITY
+	};
+
+	private final float min;
+	private final float max;
+	@Nullable
+	private final DoubleUnaryOperator mapper;
+
+	public RandomFloatCombinableArbitrary() {
+		this((float)PrimitiveRandoms.DEFAULT_DECIMAL_MIN, (float)PrimitiveRandoms.DEFAULT_DECIMAL_MAX, null);
+	}
+
+	public RandomFloatCombinableArbitrary(float min, float max) {
+		this(min, max, null);
+	}
+
+	private RandomFloatCombinableArbitrary(float min, float max, @Nullable DoubleUnaryOperator mapper) {
+		if (!(min <= max)) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public float nextFloat() {
+		double value = PrimitiveRandoms.nextDouble(Randoms.current(), min, max);
+		return (float)(mapper != null ? mapper.applyAsDouble(value) : value);
+	}
+
+	@Override
+	public Float combined() {
+		return nextFloat();
+	}
+
+	@Override
+	public Float rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public FloatCombinableArbitrary withRange(float min, float max) {
+		return new RandomFloatCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public FloatCombinableArbitrary positive() {
+		return new RandomFloatCombinableArbitrary(Float.MIN_VALUE, (float)PrimitiveRandoms.DEFAULT_DECIMAL_MAX);
+	}
+
+	@Override
+	public FloatCombinableArbitrary negative() {
+		return new RandomFloatCombinableArbitrary((float)PrimitiveRandoms.DEFAULT_DECIMAL_MIN, -Float.MIN_VALUE);
+	}
+
+	@Override
+	public FloatCombinableArbitrary nonZero() {
+		return new RandomFloatCombinableArbitrary(
+			(float)PrimitiveRandoms.DEFAULT_DECIMAL_MIN,
+			(float)PrimitiveRandoms.DEFAULT_DECIMAL_MAX,
+			it -> it == 0.0 ? Float.MIN_VALUE : it
+		);
+	}
+
+	@Override
+	public FloatCombinableArbitrary withPrecision(int scale) {
+		return new RandomFloatCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> BigDecimal.valueOf(it).setScale(scale, RoundingMode.HALF_UP).doubleValue())
+		);
+	}
+
+	@Override
+	public FloatCombinableArbitrary finite() {
+		return new RandomFloatCombinableArbitrary();
+	}
+
+	@Override
+	public FloatCombinableArbitrary infinite() {
+		return new RandomFloatCombinableArbitrary(
+			-1.0f,
+			1.0f,
+			it -> it < 0.0 ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY
+		);
+	}
+
+	@Override
+	public FloatCombinableArbitrary normalized() {
+		return new RandomFloatCombinableArbitrary(0.0f, 1.0f);
+	}
+
+	@Override
+	public FloatCombinableArbitrary nan() {
+		return new RandomFloatCombinableArbitrary(0.0f, 0.0f, it -> Float.NaN);
+	}
+
+	@Override
+	public FloatCombinableArbitrary percentage() {
+		return new RandomFloatCombinableArbitrary(0.0f, 100.0f);
+	}
+
+	@Override
+	public FloatCombinableArbitrary score() {
+		return new RandomFloatCombinableArbitrary(0.0f, 100.0f);
+	}
+
+	@Override
+	public FloatCombinableArbitrary withSpecialValue(float special) {
+		return new RandomFloatCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> Randoms.nextInt(2) == 0 ? it : special)
+		);
+	}
+
+	@Override
+	public FloatCombinableArbitrary withStandardSpecialValues() {
+		return new RandomFloatCombinableArbitrary(
+			min,
+			max,
+			andThen(it -> Randoms.nextInt(2) == 0
+				? it
+				: STANDARD_SPECIAL_VALUES[Randoms.nextInt(STANDARD_SPECIAL_VALUES.length)]
+			)
+		);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+
+	private DoubleUnaryOperator andThen(DoubleUnaryOperator after) {
+		return mapper != null ? mapper.andThen(after) : after;
+	}
+}
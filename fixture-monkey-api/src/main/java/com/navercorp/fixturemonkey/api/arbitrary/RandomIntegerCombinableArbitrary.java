@@ -0,0 +1,112 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.IntUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * An {@link IntegerCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextInt()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomIntegerCombinableArbitrary implements IntegerCombinableArbitrary {
+	private final int min;
+	private final int max;
+	@Nullable
+	private final IntUnaryOperator mapper;
+
+	public RandomIntegerCombinableArbitrary() {
+		this(Integer.MIN_VALUE, Integer.MAX_VALUE, null);
+	}
+
+	public RandomIntegerCombinableArbitrary(int min, int max) {
+		this(min, max, null);
+	}
+
+	private RandomIntegerCombinableArbitrary(int min, int max, @Nullable IntUnaryOperator mapper) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public int nextInt() {
+		int value = (int)PrimitiveRandoms.nextLong(Randoms.current(), min, max);
+		return mapper != null ? mapper.applyAsInt(value) : value;
+	}
+
+	@Override
+	public Integer combined() {
+		return nextInt();
+	}
+
+	@Override
+	public Integer rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public IntegerCombinableArbitrary withRange(int min, int max) {
+		return new RandomIntegerCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary positive() {
+		return new RandomIntegerCombinableArbitrary(1, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary negative() {
+		return new RandomIntegerCombinableArbitrary(Integer.MIN_VALUE, -1);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary even() {
+		return new RandomIntegerCombinableArbitrary(Integer.MIN_VALUE, Integer.MAX_VALUE, it -> it & ~1);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary odd() {
+		return new RandomIntegerCombinableArbitrary(Integer.MIN_VALUE, Integer.MAX_VALUE, it -> it | 1);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
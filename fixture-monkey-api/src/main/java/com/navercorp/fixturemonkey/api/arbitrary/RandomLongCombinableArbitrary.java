@@ -0,0 +1,125 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.LongUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link LongCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextLong()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomLongCombinableArbitrary implements LongCombinableArbitrary {
+	private final long min;
+	private final long max;
+	@Nullable
+	private final LongUnaryOperator mapper;
+
+	public RandomLongCombinableArbitrary() {
+		this(Long.MIN_VALUE, Long.MAX_VALUE, null);
+	}
+
+	public RandomLongCombinableArbitrary(long min, long max) {
+		this(min, max, null);
+	}
+
+	private RandomLongCombinableArbitrary(long min, long max, @Nullable LongUnaryOperator mapper) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public long nextLong() {
+		long value = PrimitiveRandoms.nextLong(Randoms.current(), min, max);
+		return mapper != null ? mapper.applyAsLong(value) : value;
+	}
+
+	@Override
+	public Long combined() {
+		return nextLong();
+	}
+
+	@Override
+	public Long rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public LongCombinableArbitrary withRange(long min, long max) {
+		return new RandomLongCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public LongCombinableArbitrary positive() {
+		return new RandomLongCombinableArbitrary(1L, Long.MAX_VALUE);
+	}
+
+	@Override
+	public LongCombinableArbitrary negative() {
+		return new RandomLongCombinableArbitrary(Long.MIN_VALUE, -1L);
+	}
+
+	@Override
+	public LongCombinableArbitrary even() {
+		return new RandomLongCombinableArbitrary(Long.MIN_VALUE, Long.MAX_VALUE, it -> it & ~1L);
+	}
+
+	@Override
+	public LongCombinableArbitrary odd() {
+		return new RandomLongCombinableArbitrary(Long.MIN_VALUE, Long.MAX_VALUE, it -> it | 1L);
+	}
+
+	@Override
+	public LongCombinableArbitrary nonZero() {
+		return new RandomLongCombinableArbitrary(Long.MIN_VALUE, Long.MAX_VALUE, it -> it == 0L ? 1L : it);
+	}
+
+	@Override
+	public LongCombinableArbitrary multipleOf(long divisor) {
+		if (divisor == 0L) {
+			throw new IllegalArgumentException("divisor should not be zero.");
+		}
+		return new RandomLongCombinableArbitrary(Long.MIN_VALUE, Long.MAX_VALUE, it -> it - it % divisor);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.IntUnaryOperator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A {@link ShortCombinableArbitrary} drawing values directly from {@link Randoms#current()}.
+ * <p>
+ * Unlike the jqwik based implementation, it creates no intermediate {@code Arbitrary} and no boxed value
+ * when {@link #nextShort()} is used. One in twenty values is an edge case of the range,
+ * the others are uniformly distributed within the range.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomShortCombinableArbitrary implements ShortCombinableArbitrary {
+	private final short min;
+	private final short max;
+	@Nullable
+	private final IntUnaryOperator mapper;
+
+	public RandomShortCombinableArbitrary() {
+		this(Short.MIN_VALUE, Short.MAX_VALUE, null);
+	}
+
+	public RandomShortCombinableArbitrary(short min, short max) {
+		this(min, max, null);
+	}
+
+	private RandomShortCombinableArbitrary(short min, short max, @Nullable IntUnaryOperator mapper) {
+		if (min > max) {
+			throw new IllegalArgumentException(
+				"min should be less than or equal to max. min: " + min + ", max: " + max
+			);
+		}
+		this.min = min;
+		this.max = max;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public short nextShort() {
+		int value = (int)PrimitiveRandoms.nextLong(Randoms.current(), min, max);
+		return (short)(mapper != null ? mapper.applyAsInt(value) : value);
+	}
+
+	@Override
+	public Short combined() {
+		return nextShort();
+	}
+
+	@Override
+	public Short rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public ShortCombinableArbitrary withRange(short min, short max) {
+		return new RandomShortCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public ShortCombinableArbitrary positive() {
+		return new RandomShortCombinableArbitrary((short)1, Short.MAX_VALUE);
+	}
+
+	@Override
+	public ShortCombinableArbitrary negative() {
+		return new RandomShortCombinableArbitrary(Short.MIN_VALUE, (short)-1);
+	}
+
+	@Override
+	public ShortCombinableArbitrary even() {
+		return new RandomShortCombinableArbitrary(min, max, andThen(it -> it & ~1));
+	}
+
+	@Override
+	public ShortCombinableArbitrary odd() {
+		return new RandomShortCombinableArbitrary(min, max, andThen(it -> it | 1));
+	}
+
+	@Override
+	public ShortCombinableArbitrary nonZero() {
+		return new RandomShortCombinableArbitrary(min, max, andThen(it -> it == 0 ? 1 : it));
+	}
+
+	@Override
+	public ShortCombinableArbitrary multipleOf(short divisor) {
+		if (divisor == 0) {
+			throw new IllegalArgumentException("divisor should not be zero.");
+		}
+		return new RandomShortCombinableArbitrary(min, max, andThen(it -> it - it % divisor));
+	}
+
+	@Override
+	public ShortCombinableArbitrary percentage() {
+		return new RandomShortCombinableArbitrary((short)0, (short)100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary score() {
+		return new RandomShortCombinableArbitrary((short)0, (short)100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary year() {
+		return new RandomShortCombinableArbitrary((short)1900, (short)2100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary month() {
+		return new RandomShortCombinableArbitrary((short)1, (short)12);
+	}
+
+	@Override
+	public ShortCombinableArbitrary day() {
+		return new RandomShortCombinableArbitrary((short)1, (short)31);
+	}
+
+	@Override
+	public ShortCombinableArbitrary hour() {
+		return new RandomShortCombinableArbitrary((short)0, (short)23);
+	}
+
+	@Override
+	public ShortCombinableArbitrary minute() {
+		return new RandomShortCombinableArbitrary((short)0, (short)59);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+
+	private IntUnaryOperator andThen(IntUnaryOperator after) {
+		return mapper != null ? mapper.andThen(after) : after;
+	}
+}
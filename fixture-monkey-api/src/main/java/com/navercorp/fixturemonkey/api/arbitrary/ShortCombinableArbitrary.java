@@ -31,6 +31,17 @@ public interface ShortCombinableArbitrary extends CombinableArbitrary<Short> {
 	@Override
 	Short rawValue();
 
+	/**
+	 * Generates a primitive {@code short} value.
+	 * Implementations backed directly by a random source can override it to avoid boxing.
+	 *
+	 * @return a generated {@code short} value
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default short nextShort() {
+		return combined();
+	}
+
 	/**
 	 * Generates a ShortCombinableArbitrary which produces shorts within the specified range.
 	 *
@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.Map;
+import java.util.Set;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -29,12 +29,10 @@ import org.apiguardian.api.API.Status;
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 final class UniqueCombinableArbitrary<T> implements CombinableArbitrary<T> {
-	private static final Object EXISTED = new Object();
-
 	private final CombinableArbitrary<T> combinableArbitrary;
-	private final Map<Object, Object> generated;
+	private final Set<Object> generated;
 
-	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary, Map<Object, Object> generated) {
+	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary, Set<Object> generated) {
 		this.combinableArbitrary = combinableArbitrary;
 		this.generated = generated;
 	}
@@ -42,29 +40,19 @@ final class UniqueCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	@SuppressWarnings("argument")
 	public T combined() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).combined();
+		return combinableArbitrary.filter(this::addGenerated).combined();
 	}
 
 	@Override
 	@SuppressWarnings("argument")
 	public Object rawValue() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).rawValue();
+		return combinableArbitrary.filter(this::addGenerated).rawValue();
+	}
+
+	private boolean addGenerated(T value) {
+		synchronized (generated) {
+			return generated.add(value);
+		}
 	}
 
 	@Override
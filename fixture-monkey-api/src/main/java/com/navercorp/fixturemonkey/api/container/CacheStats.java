@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * An immutable snapshot of the counters of a bounded cache.
+ *
+ * @see ConcurrentClockCache#stats()
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class CacheStats {
+	private final int size;
+	private final int maxSize;
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+	public CacheStats(int size, int maxSize, long hitCount, long missCount, long evictionCount) {
+		this.size = size;
+		this.maxSize = maxSize;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the ratio of lookups that found a cached value, {@code 1.0} if there was no lookup.
+	 */
+	public double getHitRate() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats{"
+			+ "size=" + size
+			+ ", maxSize=" + maxSize
+			+ ", hitCount=" + hitCount
+			+ ", missCount=" + missCount
+			+ ", evictionCount=" + evictionCount
+			+ '}';
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * It is a concurrent cache evicting entries by the CLOCK (second chance) policy.
+ * <p>
+ * Unlike {@link ConcurrentLruCache}, a read takes no lock. A hit only marks the entry as referenced,
+ * it does not reorder anything. When the cache is full, the thread inserting an entry sweeps
+ * the clock if no other thread is sweeping, a referenced entry gets a second chance and
+ * an unreferenced entry is evicted. The size may exceed {@code maxSize} temporarily while
+ * another thread is sweeping.
+ * <p>
+ * Null keys are not allowed.
+ * <p>
+ * Hits and misses of {@link #get(Object)} and {@link #computeIfAbsent(Object, Function)} and evictions are counted,
+ * see {@link #stats()}.
+ *
+ * @param <K> key of the cache
+ * @param <V> value of the cache
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+@SuppressWarnings({"contracts", "override", "return"})
+public final class ConcurrentClockCache<K, V> extends AbstractMap<K, V> {
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Node<K, V>> map;
+	private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger clockSize = new AtomicInteger();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	public ConcurrentClockCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize should be positive. maxSize: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return map.containsKey(key);
+	}
+
+	@Override
+	public @Nullable V get(Object key) {
+		Node<K, V> node = map.get(key);
+		if (node == null) {
+			missCount.increment();
+			return null;
+		}
+		hitCount.increment();
+		node.markReferenced();
+		return node.value;
+	}
+
+	@Override
+	public @Nullable V put(K key, V value) {
+		Node<K, V> node = new Node<>(key, value);
+		Node<K, V> previous = map.put(key, node);
+		onInsert(node);
+		return previous != null ? previous.value : null;
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		Node<K, V> node = new Node<>(key, value);
+		Node<K, V> previous = map.putIfAbsent(key, node);
+		if (previous != null) {
+			previous.markReferenced();
+			return previous.value;
+		}
+		onInsert(node);
+		return null;
+	}
+
+	/**
+	 * Returns the cached value or computes a new one.
+	 * The mapping function runs without holding any lock, so it may call this cache recursively.
+	 * When two threads compute the same key at the same time, the first inserted value wins.
+	 */
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V cached = get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		V value = mappingFunction.apply(key);
+		if (value == null) {
+			return null;
+		}
+
+		V previous = putIfAbsent(key, value);
+		return previous != null ? previous : value;
+	}
+
+	@Override
+	public @Nullable V remove(Object key) {
+		Node<K, V> removed = map.remove(key);
+		return removed != null ? removed.value : null;
+	}
+
+	@Override
+	public void clear() {
+		map.clear();
+		clock.clear();
+		clockSize.set(0);
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns a snapshot of the counters, they are not reset by {@link #clear()}.
+	 */
+	public CacheStats stats() {
+		return new CacheStats(
+			map.size(),
+			maxSize,
+			hitCount.sum(),
+			missCount.sum(),
+			evictionCount.sum()
+		);
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	private void onInsert(Node<K, V> node) {
+		clock.offer(node);
+		int queued = clockSize.incrementAndGet();
+		// stale nodes of replaced or removed entries stay in the clock until swept
+		if (map.size() > maxSize || queued > maxSize * 2) {
+			evict();
+		}
+	}
+
+	private void evict() {
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+
+		try {
+			while (map.size() > maxSize || clockSize.get() > maxSize) {
+				Node<K, V> node = clock.poll();
+				if (node == null) {
+					return;
+				}
+				clockSize.decrementAndGet();
+
+				if (map.get(node.key) != node) {
+					continue;
+				}
+
+				if (node.referenced) {
+					node.referenced = false;
+					clock.offer(node);
+					clockSize.incrementAndGet();
+				} else if (map.size() > maxSize) {
+					if (map.remove(node.key, node)) {
+						evictionCount.increment();
+					}
+				} else {
+					clock.offer(node);
+					clockSize.incrementAndGet();
+					return;
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private volatile boolean referenced;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		private void markReferenced() {
+			// avoids a write on hot entries, which would bounce their cache line between cores
+			if (!referenced) {
+				referenced = true;
+			}
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			Iterator<Entry<K, Node<K, V>>> iterator = map.entrySet().iterator();
+			return new Iterator<Entry<K, V>>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					Entry<K, Node<K, V>> next = iterator.next();
+					return new SimpleImmutableEntry<>(next.getKey(), next.getValue().value);
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void clear() {
+			ConcurrentClockCache.this.clear();
+		}
+	}
+}
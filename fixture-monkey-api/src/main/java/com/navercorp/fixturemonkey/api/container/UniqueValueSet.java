@@ -0,0 +1,364 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * It is a set of values already generated for a property that should be unique.
+ * <p>
+ * Values of the first scalar type added, a boxed primitive or an enum, are stored as {@code long} keys
+ * in an open-addressing table, so checking and adding them boxes nothing and creates no entry objects.
+ * Values of any other type are kept in a {@link HashSet}.
+ * <p>
+ * It is not thread-safe. Iteration is backed by a snapshot, removing through the iterator removes from the set.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+@SuppressWarnings({"override", "return", "argument"})
+public final class UniqueValueSet extends AbstractSet<Object> {
+	private static final int INITIAL_CAPACITY = 16;
+	private static final long EMPTY = 0L;
+	private static final long PHI = 0x9E3779B97F4A7C15L;
+
+	private @Nullable Class<?> scalarType;
+	private long[] keys = new long[INITIAL_CAPACITY];
+	private int shift = Long.SIZE - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+	private int scalarSize;
+	private boolean containsEmptyKey;
+	private boolean containsNull;
+	private @Nullable Set<Object> others;
+
+	/**
+	 * Returns how many distinct values the given type has, {@code Long.MAX_VALUE} if it is too large to matter.
+	 * A container of unique elements larger than it can never be generated.
+	 *
+	 * @param type the type of elements
+	 * @return the number of distinct non-null values of the given type
+	 */
+	public static long domainSize(Class<?> type) {
+		if (type == boolean.class || type == Boolean.class) {
+			return 2;
+		}
+		if (type == byte.class || type == Byte.class) {
+			return 1L << Byte.SIZE;
+		}
+		if (type == char.class || type == Character.class || type == short.class || type == Short.class) {
+			return 1L << Short.SIZE;
+		}
+		if (type.isEnum()) {
+			Object[] constants = type.getEnumConstants();
+			return constants != null ? constants.length : Long.MAX_VALUE;
+		}
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public boolean add(@Nullable Object value) {
+		if (value == null) {
+			if (containsNull) {
+				return false;
+			}
+			containsNull = true;
+			return true;
+		}
+
+		Class<?> type = toScalarType(value);
+		if (type != null && (scalarType == null || scalarType == type)) {
+			scalarType = type;
+			return addKey(toKey(value));
+		}
+
+		if (others == null) {
+			others = new HashSet<>();
+		}
+		return others.add(value);
+	}
+
+	@Override
+	public boolean contains(@Nullable Object value) {
+		if (value == null) {
+			return containsNull;
+		}
+
+		Class<?> type = toScalarType(value);
+		if (type != null && type == scalarType) {
+			return containsKey(toKey(value));
+		}
+
+		return others != null && others.contains(value);
+	}
+
+	@Override
+	public boolean remove(@Nullable Object value) {
+		if (value == null) {
+			if (!containsNull) {
+				return false;
+			}
+			containsNull = false;
+			return true;
+		}
+
+		Class<?> type = toScalarType(value);
+		if (type != null && type == scalarType) {
+			return removeKey(toKey(value));
+		}
+
+		return others != null && others.remove(value);
+	}
+
+	@Override
+	public int size() {
+		return scalarSize + (containsNull ? 1 : 0) + (others != null ? others.size() : 0);
+	}
+
+	@Override
+	public void clear() {
+		if (scalarSize > 0) {
+			if (keys.length > INITIAL_CAPACITY) {
+				keys = new long[INITIAL_CAPACITY];
+				shift = Long.SIZE - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+			} else {
+				Arrays.fill(keys, EMPTY);
+			}
+		}
+		scalarType = null;
+		scalarSize = 0;
+		containsEmptyKey = false;
+		containsNull = false;
+		others = null;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		List<Object> snapshot = new ArrayList<>(size());
+		Class<?> type = scalarType;
+		if (type != null) {
+			if (containsEmptyKey) {
+				snapshot.add(fromKey(type, EMPTY));
+			}
+			for (long key : keys) {
+				if (key != EMPTY) {
+					snapshot.add(fromKey(type, key));
+				}
+			}
+		}
+		if (containsNull) {
+			snapshot.add(null);
+		}
+		if (others != null) {
+			snapshot.addAll(others);
+		}
+
+		Iterator<Object> iterator = snapshot.iterator();
+		return new Iterator<Object>() {
+			private @Nullable Object last;
+			private boolean removable;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Object next() {
+				last = iterator.next();
+				removable = true;
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if (!removable) {
+					throw new IllegalStateException();
+				}
+				UniqueValueSet.this.remove(last);
+				removable = false;
+			}
+		};
+	}
+
+	private boolean addKey(long key) {
+		if (key == EMPTY) {
+			if (containsEmptyKey) {
+				return false;
+			}
+			containsEmptyKey = true;
+			scalarSize++;
+			return true;
+		}
+
+		int mask = keys.length - 1;
+		int index = indexOf(key);
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+
+		keys[index] = key;
+		scalarSize++;
+		if (scalarSize * 2 > keys.length) {
+			rehash();
+		}
+		return true;
+	}
+
+	private boolean removeKey(long key) {
+		if (key == EMPTY) {
+			if (!containsEmptyKey) {
+				return false;
+			}
+			containsEmptyKey = false;
+			scalarSize--;
+			return true;
+		}
+
+		int mask = keys.length - 1;
+		int index = indexOf(key);
+		while (keys[index] != key) {
+			if (keys[index] == EMPTY) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+
+		// shifts back the following keys of the probe sequence, so that no lookup stops at the freed slot
+		int gap = index;
+		int next = (gap + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = indexOf(keys[next]);
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[gap] = EMPTY;
+		scalarSize--;
+		return true;
+	}
+
+	private boolean containsKey(long key) {
+		if (key == EMPTY) {
+			return containsEmptyKey;
+		}
+
+		int mask = keys.length - 1;
+		int index = indexOf(key);
+		while (keys[index] != EMPTY) {
+			if (keys[index] == key) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	private void rehash() {
+		long[] oldKeys = keys;
+		keys = new long[oldKeys.length * 2];
+		shift--;
+
+		int mask = keys.length - 1;
+		for (long key : oldKeys) {
+			if (key != EMPTY) {
+				int index = indexOf(key);
+				while (keys[index] != EMPTY) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = key;
+			}
+		}
+	}
+
+	private int indexOf(long key) {
+		return (int)((key * PHI) >>> shift);
+	}
+
+	private static @Nullable Class<?> toScalarType(Object value) {
+		if (value instanceof Enum) {
+			return ((Enum<?>)value).getDeclaringClass();
+		}
+
+		Class<?> type = value.getClass();
+		if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+			|| type == Character.class || type == Boolean.class || type == Double.class || type == Float.class) {
+			return type;
+		}
+		return null;
+	}
+
+	private static long toKey(Object value) {
+		if (value instanceof Enum) {
+			return ((Enum<?>)value).ordinal();
+		}
+		if (value instanceof Double) {
+			return Double.doubleToLongBits((Double)value);
+		}
+		if (value instanceof Float) {
+			return Float.floatToIntBits((Float)value);
+		}
+		if (value instanceof Number) {
+			return ((Number)value).longValue();
+		}
+		if (value instanceof Character) {
+			return (Character)value;
+		}
+		return (Boolean)value ? 1L : 0L;
+	}
+
+	private static Object fromKey(Class<?> type, long key) {
+		if (type.isEnum()) {
+			return type.getEnumConstants()[(int)key];
+		}
+		if (type == Long.class) {
+			return key;
+		}
+		if (type == Integer.class) {
+			return (int)key;
+		}
+		if (type == Short.class) {
+			return (short)key;
+		}
+		if (type == Byte.class) {
+			return (byte)key;
+		}
+		if (type == Character.class) {
+			return (char)key;
+		}
+		if (type == Double.class) {
+			return Double.longBitsToDouble(key);
+		}
+		if (type == Float.class) {
+			return Float.intBitsToFloat((int)key);
+		}
+		return key == 1L;
+	}
+}
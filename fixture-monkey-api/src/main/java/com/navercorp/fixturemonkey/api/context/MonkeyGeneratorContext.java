@@ -18,7 +18,6 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedMap;
 
@@ -26,6 +25,7 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.container.UniqueValueSet;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 
@@ -43,14 +43,8 @@ public final class MonkeyGeneratorContext {
 
 	@SuppressWarnings("argument")
 	public synchronized boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
-		Set<Object> set = uniqueSetsByProperty.computeIfAbsent(property, p -> new HashSet<>());
-		boolean unique = !set.contains(value);
-		if (unique) {
-			set.add(value);
-			return true;
-		}
-
-		return false;
+		Set<Object> set = uniqueSetsByProperty.computeIfAbsent(property, p -> new UniqueValueSet());
+		return set.add(value);
 	}
 
 	public void evictUnique(PropertyPath propertyPath) {
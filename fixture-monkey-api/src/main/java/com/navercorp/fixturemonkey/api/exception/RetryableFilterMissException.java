@@ -27,6 +27,11 @@ import org.apiguardian.api.API.Status;
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 public final class RetryableFilterMissException extends RuntimeException {
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public RetryableFilterMissException(String message) {
+		super(message);
+	}
+
 	public RetryableFilterMissException(String message, Throwable cause) {
 		super(message, cause);
 	}
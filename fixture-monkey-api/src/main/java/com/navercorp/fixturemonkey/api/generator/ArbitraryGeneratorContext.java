@@ -42,6 +42,7 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.Traceable;
+import com.navercorp.fixturemonkey.api.random.RandomSource;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.objectfarm.api.type.JvmType;
 
@@ -191,6 +192,17 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return loggingContext;
 	}
 
+	/**
+	 * Returns the random source of the generation, the one bound to the thread generating this property.
+	 * A generator drawing from it instead of a random of its own is reproduced by the seed of the generation.
+	 *
+	 * @return the random source bound to the current thread
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public RandomSource getRandomSource() {
+		return RandomSource.current();
+	}
+
 	public CombinableArbitrary<?> getGenerated() {
 		return generated.get();
 	}
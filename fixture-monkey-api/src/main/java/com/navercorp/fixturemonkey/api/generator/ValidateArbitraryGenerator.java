@@ -44,6 +44,7 @@ import java.util.Date;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
@@ -52,14 +53,17 @@ import com.navercorp.fixturemonkey.api.constraint.JavaDateTimeConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
 import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint.PatternConstraint;
 import com.navercorp.fixturemonkey.api.container.DecomposableJavaContainer;
 import com.navercorp.fixturemonkey.api.container.DecomposedContainerValueFactory;
 import com.navercorp.fixturemonkey.api.exception.ContainerSizeFilterMissException;
+import com.navercorp.fixturemonkey.api.random.RegexGenerator;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.6.9", status = Status.MAINTAINED)
 public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 	private static final ZoneOffset ZONE_OFFSET = OffsetTime.now().getOffset();
+	private static final RegexGenerator REGEX_GENERATOR = new RegexGenerator();
 
 	private final JavaConstraintGenerator constraintGenerator;
 	private final DecomposedContainerValueFactory decomposedContainerValueFactory;
@@ -86,41 +90,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 				constraintGenerator.generateStringConstraint(context);
 
 			if (javaStringConstraint != null) {
-				generated = generated.filter(
-					it -> {
-						String string = (String)it;
-						if (javaStringConstraint.isNotNull() && string == null) {
-							return false;
-						}
-
-						if (javaStringConstraint.isNotBlank()) {
-							if (string == null) {
-								return false;
-							}
-							return !isBlank(string);
-						}
-
-						BigInteger minSize = javaStringConstraint.getMinSize();
-						if (minSize != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(minSize)
-								>= 0;
-						}
-
-						BigInteger maxSize = javaStringConstraint.getMaxSize();
-						if (maxSize != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(maxSize)
-								<= 0;
-						}
-
-						return true;
-					}
-				);
+				generated = generated.filter(it -> isValidString((String)it, javaStringConstraint));
 			}
 		}
 
@@ -142,7 +112,9 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 								return false;
 							}
 
-							return value.compareTo(min) >= 0;
+							if (value.compareTo(min) < 0) {
+								return false;
+							}
 						}
 
 						BigDecimal max = javaDecimalConstraint.getMax();
@@ -316,6 +288,42 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		return generated;
 	}
 
+	/**
+	 * Checks the string against every part of the constraint.
+	 * The pattern is matched the same way as {@link RegexGenerator} generates it.
+	 */
+	static boolean isValidString(@Nullable String value, JavaStringConstraint constraint) {
+		if (value == null) {
+			return !constraint.isNotNull() && !constraint.isNotBlank();
+		}
+
+		if (constraint.isNotBlank() && isBlank(value)) {
+			return false;
+		}
+
+		BigInteger length = BigInteger.valueOf(value.length());
+		BigInteger minSize = constraint.getMinSize();
+		if (minSize != null && length.compareTo(minSize) < 0) {
+			return false;
+		}
+
+		BigInteger maxSize = constraint.getMaxSize();
+		if (maxSize != null && length.compareTo(maxSize) > 0) {
+			return false;
+		}
+
+		if (constraint.isDigits() && !isNumber(value)) {
+			return false;
+		}
+
+		PatternConstraint pattern = constraint.getPattern();
+		if (pattern != null && !REGEX_GENERATOR.matches(pattern.getRegexp(), pattern.getFlags(), value)) {
+			return false;
+		}
+
+		return !constraint.isEmail() || isEmail(value);
+	}
+
 	private LocalDate toLocalDate(Object value) {
 		if (value instanceof Year) {
 			return ((Year)value).atMonthDay(MonthDay.of(1, 1));
@@ -359,7 +367,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to OffsetTime. " + value.getClass());
 	}
 
-	private BigDecimal toBigDecimal(Object value) {
+	private static BigDecimal toBigDecimal(Object value) {
 		if (value instanceof Float || value instanceof Double) {
 			return new BigDecimal(value.toString());
 		} else {
@@ -370,7 +378,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to BigDecimal. " + value.getClass());
 	}
 
-	private BigInteger toBigInteger(Object value) {
+	private static BigInteger toBigInteger(Object value) {
 		if (value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Integer) {
 			return new BigInteger(value.toString());
 		} else {
@@ -381,7 +389,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to BigInteger. " + value.getClass());
 	}
 
-	private boolean isBlank(String value) {
+	private static boolean isBlank(String value) {
 		char[] charArray = value.toCharArray();
 		int length = 0;
 		for (char c : charArray) {
@@ -391,4 +399,18 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		}
 		return value.length() == length;
 	}
+
+	private static boolean isNumber(String value) {
+		try {
+			new BigDecimal(value);
+			return true;
+		} catch (NumberFormatException ex) {
+			return false;
+		}
+	}
+
+	private static boolean isEmail(String value) {
+		int at = value.lastIndexOf('@');
+		return at > 0 && at < value.length() - 1;
+	}
 }
@@ -18,18 +18,14 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
-import java.util.Arrays;
-import java.util.List;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.RandomBooleanCombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher {
@@ -44,10 +40,6 @@ public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher
 			throw new IllegalArgumentException("Given type is not Boolean. type: " + context.getResolvedType());
 		}
 
-		List<Boolean> booleans = Arrays.asList(true, false);
-
-		return new ArbitraryIntrospectorResult(
-			CombinableArbitrary.from(() -> booleans.get(Randoms.nextInt(2)))
-		);
+		return new ArbitraryIntrospectorResult(RandomBooleanCombinableArbitrary.INSTANCE);
 	}
 }
@@ -34,6 +34,7 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Accessors;
 
 @API(since = "0.6.12", status = Status.MAINTAINED)
 public final class FactoryMethodArbitraryIntrospector implements ArbitraryIntrospector {
@@ -89,7 +90,7 @@ public final class FactoryMethodArbitraryIntrospector implements ArbitraryIntros
 				list.add(combined);
 			}
 			try {
-				return factoryMethod.invoke(null, list.toArray());
+				return Accessors.invoke(factoryMethod, null, list.toArray());
 			} catch (IllegalAccessException | InvocationTargetException ex) {
 				throw new RuntimeException(ex);
 			}
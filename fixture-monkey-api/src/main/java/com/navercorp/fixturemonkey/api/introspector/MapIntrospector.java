@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import static com.navercorp.fixturemonkey.api.matcher.DoubleGenericTypeMatcher.DOUBLE_GENERIC_TYPE_MATCHER;
 
+import java.lang.reflect.AnnotatedType;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,12 +32,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.UniqueValueSet;
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty.MapEntryElementType;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
@@ -57,6 +61,7 @@ public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
 		}
 
 		List<CombinableArbitrary<?>> elementCombinableArbitraryList = context.getElementCombinableArbitraryList();
+		checkDomainSize(context, elementCombinableArbitraryList.size());
 
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.containerBuilder()
@@ -83,4 +88,28 @@ public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
 			return map;
 		};
 	}
+
+	/**
+	 * Fails fast when the map is larger than the number of values its key type has,
+	 * instead of missing the uniqueness filter {@code generateUniqueMaxTries} times for the last key.
+	 */
+	private static void checkDomainSize(ArbitraryGeneratorContext context, int size) {
+		List<AnnotatedType> genericsTypes = Types.getGenericsTypes(context.getResolvedAnnotatedType());
+		if (genericsTypes.isEmpty()) {
+			return;
+		}
+
+		Class<?> keyType = Types.getActualType(genericsTypes.get(0));
+		long domainSize = UniqueValueSet.domainSize(keyType);
+		if (size > domainSize) {
+			throw new RetryableFilterMissException(
+				String.format(
+					"Map of %s keys can not have %d entries, it has only %d keys.",
+					keyType.getSimpleName(),
+					size,
+					domainSize
+				)
+			);
+		}
+	}
 }
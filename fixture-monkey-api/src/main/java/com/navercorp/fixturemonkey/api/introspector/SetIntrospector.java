@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.api.introspector;
 import static com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult.NOT_INTROSPECTED;
 import static com.navercorp.fixturemonkey.api.matcher.SingleGenericTypeMatcher.SINGLE_GENERIC_TYPE_MATCHER;
 
+import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.util.Collection;
 import java.util.List;
@@ -33,6 +34,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.UniqueValueSet;
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
@@ -60,6 +63,8 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 			return NOT_INTROSPECTED;
 		}
 
+		checkDomainSize(context);
+
 		List<CombinableArbitrary<?>> elementArbitraryList = context.getElementCombinableArbitraryList().stream()
 			.map(it -> it.filter(
 					context.getGenerateUniqueMaxTries(),
@@ -80,4 +85,34 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 				.build(elements -> Reflections.newInstance(declaredConstructor, elements))
 		);
 	}
+
+	/**
+	 * Fails fast when the set is larger than the number of values its element type has,
+	 * instead of missing the uniqueness filter {@code generateUniqueMaxTries} times for the last element.
+	 */
+	private static void checkDomainSize(ArbitraryGeneratorContext context) {
+		List<AnnotatedType> genericsTypes = Types.getGenericsTypes(context.getResolvedAnnotatedType());
+		if (genericsTypes.isEmpty()) {
+			return;
+		}
+
+		Class<?> elementType = Types.getActualType(genericsTypes.get(0));
+		long domainSize = UniqueValueSet.domainSize(elementType);
+		if (domainSize == Long.MAX_VALUE) {
+			return;
+		}
+
+		boolean nullable = context.getChildren().stream().anyMatch(it -> it.getNullInject() > 0);
+		int size = context.getElementCombinableArbitraryList().size();
+		if (size > domainSize + (nullable ? 1 : 0)) {
+			throw new RetryableFilterMissException(
+				String.format(
+					"Set of %s can not have %d unique elements, it has only %d values.",
+					elementType.getSimpleName(),
+					size,
+					domainSize
+				)
+			);
+		}
+	}
 }
@@ -79,13 +79,14 @@ public final class JqwikJavaArbitraryResolver implements JavaArbitraryResolver {
 			int minLength = min == null ? 0 : min.intValue();
 			int maxLength = max == null ? Integer.MAX_VALUE : max.intValue();
 
-			Predicate<String> lengthCondition = it -> it.length() >= minLength && it.length() <= maxLength;
 			Predicate<String> notBlankCondition = it -> !(notBlank && it.trim().isEmpty());
 
 			return Arbitraries.ofSuppliers(() -> REGEX_GENERATOR.generate(
 				pattern.getRegexp(),
 				pattern.getFlags(),
-				lengthCondition.and(notBlankCondition)
+				minLength,
+				maxLength,
+				notBlankCondition
 			));
 		}
 
@@ -99,16 +100,26 @@ public final class JqwikJavaArbitraryResolver implements JavaArbitraryResolver {
 				int emailMaxLength = max.intValue();
 				arbitrary = arbitrary.filter(it -> it != null && it.length() <= emailMaxLength);
 			}
+		} else if (digits) {
+			// generated from the digits only, so that the digits validation never rejects a value
+			StringArbitrary digitsArbitrary = Arbitraries.strings()
+				.numeric()
+				.ofMinLength(min == null ? 1 : Math.max(min.intValue(), 1));
+			if (max != null) {
+				digitsArbitrary = digitsArbitrary.ofMaxLength(max.intValue());
+			}
+			arbitrary = digitsArbitrary;
 		} else {
 			if (min != null) {
 				stringArbitrary = stringArbitrary.ofMinLength(min.intValue());
 			}
+			if (notBlank && (min == null || min.signum() == 0)) {
+				// an empty string would always be filtered out below
+				stringArbitrary = stringArbitrary.ofMinLength(1);
+			}
 			if (max != null) {
 				stringArbitrary = stringArbitrary.ofMaxLength(max.intValue());
 			}
-			if (digits) {
-				stringArbitrary = stringArbitrary.numeric();
-			}
 			arbitrary = stringArbitrary;
 		}
 
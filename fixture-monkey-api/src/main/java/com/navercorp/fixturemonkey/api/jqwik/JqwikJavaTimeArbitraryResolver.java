@@ -327,14 +327,15 @@ public final class JqwikJavaTimeArbitraryResolver implements JavaTimeArbitraryRe
 		LocalDateTime min = constraint.getMin();
 		LocalDateTime max = constraint.getMax();
 
-		if (min != null) {
-			yearArbitrary = yearArbitrary.between(min.plusYears(1).getYear(), Year.MAX_VALUE);
-		}
-		if (max != null) {
-			yearArbitrary = yearArbitrary.between(Year.MIN_VALUE, max.minusYears(1).getYear());
+		if (min == null && max == null) {
+			return yearArbitrary;
 		}
 
-		return yearArbitrary;
+		// both bounds at once, a second between() would replace the first one
+		return yearArbitrary.between(
+			min != null ? min.plusYears(1).getYear() : Year.MIN_VALUE,
+			max != null ? max.minusYears(1).getYear() : Year.MAX_VALUE
+		);
 	}
 
 	@Override
@@ -27,10 +27,12 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -38,6 +40,11 @@ import com.navercorp.fixturemonkey.api.type.Types.UnidentifiableType;
 
 /**
  * It is for internal use only.
+ * <p>
+ * Operators with an {@link ExactTypeMatcher} or an {@link AssignableTypeMatcher} are bucketed by their type,
+ * the operators a raw type resolves to are memoized per class. Only the operators with other matchers are
+ * scanned by {@link Matcher#match(Property)} on each lookup. The memoized results are discarded when an operator
+ * is added.
  */
 @API(since = "1.1.16", status = INTERNAL)
 public final class DefaultMatcherOperatorContainer<T>
@@ -46,6 +53,9 @@ public final class DefaultMatcherOperatorContainer<T>
 	private final List<PriorityMatcherOperator<T>> typeUnknownIntrospectors = new ArrayList<>();
 	private final Map<Class<?>, List<PriorityMatcherOperator<T>>> typeAwareIntrospectors = new HashMap<>();
 	private final Map<Class<?>, List<PriorityMatcherOperator<T>>> typeAssignableIntrospectors = new HashMap<>();
+	private final Map<Class<?>, List<MatcherOperator<T>>> operatorsByNormalizedType = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<PriorityMatcherOperator<T>>> typeMatchedOperatorsByRawType =
+		new ConcurrentHashMap<>();
 
 	@Override
 	public void addFirst(MatcherOperator<T> matcherOperator) {
@@ -62,6 +72,31 @@ public final class DefaultMatcherOperatorContainer<T>
 		Class<?> propertyType = Types.normalizeRawType(
 			property.getJvmType().getRawType()
 		);
+		return operatorsByNormalizedType.computeIfAbsent(propertyType, this::collectOperators);
+	}
+
+	@Nullable
+	@Override
+	public MatcherOperator<T> getFirstMatched(Property property) {
+		List<PriorityMatcherOperator<T>> typeMatched = typeMatchedOperatorsByRawType.computeIfAbsent(
+			property.getJvmType().getRawType(),
+			this::collectTypeMatchedOperators
+		);
+		@Nullable PriorityMatcherOperator<T> firstTypeMatched = typeMatched.isEmpty() ? null : typeMatched.get(0);
+
+		for (PriorityMatcherOperator<T> operator : typeUnknownIntrospectors) {
+			if (firstTypeMatched != null && firstTypeMatched.getPriority() < operator.getPriority()) {
+				return firstTypeMatched;
+			}
+
+			if (operator.match(property)) {
+				return operator;
+			}
+		}
+		return firstTypeMatched;
+	}
+
+	private List<MatcherOperator<T>> collectOperators(Class<?> propertyType) {
 		List<PriorityMatcherOperator<T>> acc = new ArrayList<>(typeUnknownIntrospectors);
 
 		if (propertyType == UnidentifiableType.class) {
@@ -79,10 +114,31 @@ public final class DefaultMatcherOperatorContainer<T>
 
 		acc.addAll(typeAwareIntrospectors.getOrDefault(propertyType, Collections.emptyList()));
 
-		return acc.stream()
-			.sorted(Comparator.comparingInt(PriorityMatcherOperator::getPriority))
-			.map(op -> (MatcherOperator<T>)op)
-			.collect(Collectors.toList());
+		return Collections.unmodifiableList(
+			acc.stream()
+				.sorted(Comparator.comparingInt(PriorityMatcherOperator::getPriority))
+				.map(op -> (MatcherOperator<T>)op)
+				.collect(Collectors.toList())
+		);
+	}
+
+	/**
+	 * Collects the operators whose type matcher matches the given raw type, ordered by priority.
+	 * Both {@link ExactTypeMatcher} and {@link AssignableTypeMatcher} only depend on the raw type of a property.
+	 */
+	private List<PriorityMatcherOperator<T>> collectTypeMatchedOperators(Class<?> rawType) {
+		List<PriorityMatcherOperator<T>> acc = new ArrayList<>(
+			typeAwareIntrospectors.getOrDefault(Types.normalizeRawType(rawType), Collections.emptyList())
+		);
+
+		for (Map.Entry<Class<?>, List<PriorityMatcherOperator<T>>> e : typeAssignableIntrospectors.entrySet()) {
+			if (e.getKey().isAssignableFrom(rawType)) {
+				acc.addAll(e.getValue());
+			}
+		}
+
+		acc.sort(Comparator.comparingInt(PriorityMatcherOperator::getPriority));
+		return acc;
 	}
 
 	@Override
@@ -119,6 +175,10 @@ public final class DefaultMatcherOperatorContainer<T>
 				.add(priorityMatcherOperator);
 		} else {
 			typeUnknownIntrospectors.add(priorityMatcherOperator);
+			typeUnknownIntrospectors.sort(Comparator.comparingInt(PriorityMatcherOperator::getPriority));
 		}
+
+		operatorsByNormalizedType.clear();
+		typeMatchedOperatorsByRawType.clear();
 	}
 }
@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.property.Property;
 
@@ -33,4 +34,19 @@ public interface MatcherOperatorRetriever<T> {
 	List<MatcherOperator<T>> getList();
 
 	List<MatcherOperator<T>> getListByProperty(Property property);
+
+	/**
+	 * Returns the operator with the highest priority whose matcher matches the given property.
+	 * It is the same as the first matching operator of {@link #getList()}.
+	 *
+	 * @param property the property to match
+	 * @return the first matching operator, {@code null} if no operator matches
+	 */
+	@Nullable
+	default MatcherOperator<T> getFirstMatched(Property property) {
+		return getList().stream()
+			.filter(it -> it.match(property))
+			.findFirst()
+			.orElse(null);
+	}
 }
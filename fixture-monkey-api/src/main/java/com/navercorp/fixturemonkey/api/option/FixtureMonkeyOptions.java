@@ -226,11 +226,8 @@ public final class FixtureMonkeyOptions {
 
 	@Nullable
 	public PropertyGenerator getOptionalPropertyGenerator(Property property) {
-		return this.getPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		MatcherOperator<PropertyGenerator> matched = this.propertyGenerators.getFirstMatched(property);
+		return matched != null ? matched.getOperator() : null;
 	}
 
 	public PropertyGenerator getDefaultPropertyGenerator() {
@@ -242,11 +239,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return objectPropertyGenerators.getListByProperty(property)
-			.stream()
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultObjectPropertyGenerator());
+		List<MatcherOperator<ObjectPropertyGenerator>> operators = objectPropertyGenerators.getListByProperty(property);
+		return operators.isEmpty() ? this.getDefaultObjectPropertyGenerator() : operators.get(0).getOperator();
 	}
 
 	public ObjectPropertyGenerator getDefaultObjectPropertyGenerator() {
@@ -259,11 +253,9 @@ public final class FixtureMonkeyOptions {
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return containerPropertyGenerators.getListByProperty(property)
-			.stream()
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		List<MatcherOperator<ContainerPropertyGenerator>> operators =
+			containerPropertyGenerators.getListByProperty(property);
+		return operators.isEmpty() ? null : operators.get(0).getOperator();
 	}
 
 	public List<MatcherOperator<PropertyNameResolver>> getPropertyNameResolvers() {
@@ -286,11 +278,8 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		MatcherOperator<NullInjectGenerator> matched = this.nullInjectGenerators.getFirstMatched(property);
+		return matched != null ? matched.getOperator() : this.getDefaultNullInjectGenerator();
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -302,11 +291,9 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryContainerInfoGenerator());
+		MatcherOperator<ArbitraryContainerInfoGenerator> matched =
+			this.arbitraryContainerInfoGenerators.getFirstMatched(property);
+		return matched != null ? matched.getOperator() : this.getDefaultArbitraryContainerInfoGenerator();
 	}
 
 	public ArbitraryContainerInfoGenerator getDefaultArbitraryContainerInfoGenerator() {
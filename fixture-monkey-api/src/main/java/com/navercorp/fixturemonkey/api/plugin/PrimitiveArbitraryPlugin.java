@@ -0,0 +1,58 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.plugin;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.arbitrary.PrimitiveJavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.jqwik.JavaTypeArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaArbitraryResolver;
+import com.navercorp.fixturemonkey.api.jqwik.JqwikJavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptionsBuilder;
+
+/**
+ * This plugin generates the primitive leaf values, {@code char}, {@code short}, {@code byte}, {@code int},
+ * {@code long}, {@code float} and {@code double}, directly from
+ * {@link com.navercorp.fixturemonkey.api.random.Randoms#current()} instead of jqwik arbitraries.
+ * It is useful for the objects with lots of primitive properties.
+ * <p>
+ * One in twenty values is an edge case of the constraints, the others are uniformly distributed within them.
+ * The {@code float} and {@code double} values are within the {@code int} range unless constrained.
+ * The other types are generated by {@link JqwikJavaTypeArbitraryGeneratorSet}.
+ * It replaces the {@code JavaTypeArbitraryGeneratorSet} registered by the plugins applied before.
+ *
+ * @see PrimitiveJavaTypeArbitraryGeneratorSet
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class PrimitiveArbitraryPlugin implements Plugin {
+	@Override
+	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
+		optionsBuilder.javaTypeArbitraryGeneratorSet(
+			javaConstraintGenerator -> new PrimitiveJavaTypeArbitraryGeneratorSet(
+				javaConstraintGenerator,
+				new JqwikJavaTypeArbitraryGeneratorSet(
+					new JavaTypeArbitraryGenerator() {
+					},
+					new JqwikJavaArbitraryResolver(javaConstraintGenerator)
+				)
+			)
+		);
+	}
+}
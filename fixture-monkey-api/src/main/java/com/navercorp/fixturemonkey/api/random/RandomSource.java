@@ -0,0 +1,169 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A seed and the random seeded by it, the source of every random value generated on the thread it is bound to.
+ * <p>
+ * Each thread is bound to its own source, seeded by {@link System#nanoTime()} unless it is set by
+ * {@link Randoms#setSeed(long)}. A new thread, pooled or virtual, does not inherit the source of the thread
+ * submitting to it, so a source should be passed explicitly to reproduce the values generated on it.
+ * {@link #bind(Supplier)} binds a source to the thread running the task for the duration of the task.
+ * <pre>{@code
+ * RandomSource root = RandomSource.of(12345L);
+ * CompletableFuture.supplyAsync(root.split(index).bind(() -> fixtureMonkey.giveMeOne(Order.class)), executor);
+ * }</pre>
+ * <p>
+ * A source is not thread safe, its random should not be drawn from by multiple threads at the same time.
+ * Use {@link #split(long)} to derive an independent source for each task.
+ * When the jqwik engine is used, a bound source is re-created from its seed on the thread it is bound to.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class RandomSource {
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private final long seed;
+	private @Nullable Random random;
+
+	RandomSource(long seed, @Nullable Random random) {
+		this.seed = seed;
+		this.random = random;
+	}
+
+	/**
+	 * Creates a source seeded by the given seed.
+	 *
+	 * @param seed the seed value, it should not be {@code 0}
+	 * @return a new source
+	 */
+	public static RandomSource of(long seed) {
+		if (seed == 0L) {
+			throw new IllegalArgumentException("0L is not an allowed seed value");
+		}
+		return new RandomSource(seed, null);
+	}
+
+	/**
+	 * Returns the source bound to the current thread.
+	 *
+	 * @return the current source
+	 */
+	public static RandomSource current() {
+		return Randoms.currentSource();
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the random seeded by the seed of this source, it is created on first use.
+	 *
+	 * @return the random of this source
+	 */
+	public Random getRandom() {
+		Random random = this.random;
+		if (random == null) {
+			random = Randoms.newRandom(seed);
+			this.random = random;
+		}
+		return random;
+	}
+
+	/**
+	 * Derives an independent source by the given index.
+	 * The derived seed only depends on the seed of this source and the index,
+	 * the same index always derives the same source regardless of the values drawn from this source.
+	 *
+	 * @param index the index of the derived source, e.g. the index of a task
+	 * @return a new source
+	 */
+	public RandomSource split(long index) {
+		long derived = mix(seed + GOLDEN_GAMMA * (index + 1));
+		return new RandomSource(derived != 0L ? derived : GOLDEN_GAMMA, null);
+	}
+
+	/**
+	 * Runs the given supplier with this source bound to the current thread.
+	 * The previous source of the current thread is restored afterwards.
+	 *
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	public <T> T call(Supplier<T> supplier) {
+		return Randoms.callWith(this, supplier);
+	}
+
+	/**
+	 * Runs the given runnable with this source bound to the current thread.
+	 *
+	 * @param runnable the generation to run
+	 * @see #call(Supplier)
+	 */
+	public void run(Runnable runnable) {
+		Randoms.callWith(this, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Returns a supplier running the given supplier with this source bound to the thread calling it.
+	 * It propagates this source to the thread the supplier is submitted to.
+	 *
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return a supplier bound to this source
+	 */
+	public <T> Supplier<T> bind(Supplier<T> supplier) {
+		return () -> call(supplier);
+	}
+
+	/**
+	 * Returns a runnable running the given runnable with this source bound to the thread calling it.
+	 *
+	 * @param runnable the generation to run
+	 * @return a runnable bound to this source
+	 * @see #bind(Supplier)
+	 */
+	public Runnable bind(Runnable runnable) {
+		return () -> run(runnable);
+	}
+
+	RandomSource withSeed(long seed) {
+		return new RandomSource(seed, random);
+	}
+
+	/**
+	 * The finalizer of SplitMix64, it spreads the bits of consecutive seeds.
+	 */
+	private static long mix(long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+}
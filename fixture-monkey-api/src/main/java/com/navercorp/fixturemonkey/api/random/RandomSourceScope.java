@@ -0,0 +1,59 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Binds the {@link RandomSource} of the current thread.
+ * <p>
+ * The source is kept in a thread local, a new thread starts from a source seeded by {@link System#nanoTime()}.
+ * A thread does not inherit the source of the thread that started it, so a task run on another thread binds
+ * a source split when the task is created, see {@link RandomSource#bind(Supplier)}.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+final class RandomSourceScope {
+	@SuppressWarnings("type.argument")
+	private static final ThreadLocal<RandomSource> CURRENT =
+		ThreadLocal.withInitial(() -> new RandomSource(System.nanoTime(), null));
+
+	private RandomSourceScope() {
+	}
+
+	static RandomSource get() {
+		return CURRENT.get();
+	}
+
+	static void set(RandomSource source) {
+		CURRENT.set(source);
+	}
+
+	static <T> T callWith(RandomSource source, Supplier<T> supplier) {
+		RandomSource previous = CURRENT.get();
+		CURRENT.set(source);
+		try {
+			return supplier.get();
+		} finally {
+			CURRENT.set(previous);
+		}
+	}
+}
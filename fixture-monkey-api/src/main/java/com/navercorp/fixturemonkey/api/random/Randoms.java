@@ -18,10 +18,13 @@
 
 package com.navercorp.fixturemonkey.api.random;
 
+import java.lang.reflect.Field;
 import java.util.Random;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.engine.SourceOfRandomness;
 
@@ -35,16 +38,6 @@ import com.navercorp.fixturemonkey.api.engine.EngineUtils;
 @API(since = "0.4.0", status = Status.INTERNAL)
 @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
 public abstract class Randoms {
-	@SuppressWarnings("type.argument")
-	private static final ThreadLocal<Random> CURRENT;
-	@SuppressWarnings("type.argument")
-	private static final ThreadLocal<Long> SEED;
-
-	static {
-		SEED = ThreadLocal.withInitial(System::nanoTime);
-		CURRENT = ThreadLocal.withInitial(() -> Randoms.newGlobalSeed(SEED.get()));
-	}
-
 	/**
 	 * It is deprecated. Do not use this method.
 	 * Use {@link #setSeed(long)} instead.
@@ -52,7 +45,7 @@ public abstract class Randoms {
 	@Deprecated
 	public static Random create(String seed) {
 		setSeed(Long.parseLong(seed));
-		return CURRENT.get();
+		return RandomSourceScope.get().getRandom();
 	}
 
 	/**
@@ -62,7 +55,7 @@ public abstract class Randoms {
 	 * @param seed the seed value
 	 */
 	public static void setSeed(long seed) {
-		SEED.set(seed);
+		RandomSourceScope.set(RandomSourceScope.get().withSeed(seed));
 	}
 
 	/**
@@ -91,23 +84,69 @@ public abstract class Randoms {
 	 */
 	public static Random newGlobalSeed(long seed) {
 		initializeGlobalSeed(seed);
-		return CURRENT.get();
+		return RandomSourceScope.get().getRandom();
 	}
 
 	public static Random current() {
 		return EngineUtils.useJqwikEngine()
 			? SourceOfRandomness.current()
-			: CURRENT.get();
+			: RandomSourceScope.get().getRandom();
 	}
 
 	public static long currentSeed() {
-		return SEED.get();
+		return RandomSourceScope.get().getSeed();
+	}
+
+	/**
+	 * Returns the random source bound to the current thread.
+	 *
+	 * @return the current random source
+	 * @see RandomSource#current()
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public static RandomSource currentSource() {
+		return RandomSourceScope.get();
 	}
 
 	public static int nextInt(int bound) {
 		return current().nextInt(bound);
 	}
 
+	/**
+	 * Runs the given supplier with a random seeded by the given seed on the current thread.
+	 * The seed and the random of the current thread are restored afterwards.
+	 * When the jqwik engine is used, the random instance of jqwik is restored as well, unchanged.
+	 * <p>
+	 * It does not affect the other threads, so it can be used to generate reproducible values in parallel.
+	 *
+	 * @param seed     the seed value, it should not be {@code 0}
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public static <T> T callWithSeed(long seed, Supplier<T> supplier) {
+		return callWith(new RandomSource(seed, null), supplier);
+	}
+
+	static <T> T callWith(RandomSource source, Supplier<T> supplier) {
+		if (EngineUtils.useJqwikEngine()) {
+			RandomSource previousSource = RandomSourceScope.get();
+			Random previousRandom = SourceOfRandomness.current();
+			initializeGlobalSeed(source.getSeed());
+			try {
+				return supplier.get();
+			} finally {
+				if (!JqwikRandomHolder.restore(previousRandom)) {
+					initializeGlobalSeed(previousRandom.nextLong());
+				}
+				RandomSourceScope.set(previousSource);
+			}
+		}
+
+		return RandomSourceScope.callWith(source, supplier);
+	}
+
 	/**
 	 * Creates a new random instance with the given seed. It is not thread safe.
 	 * It is generally recommended to use {@link #setSeed(long)} instead.
@@ -117,20 +156,50 @@ public abstract class Randoms {
 	 */
 	private static void initializeGlobalSeed(long seed) {
 		try {
-			Random random = newRandom(seed);
-			CURRENT.set(random);
-			SEED.set(seed);
+			RandomSourceScope.set(new RandomSource(seed, newRandom(seed)));
 		} catch (NumberFormatException nfe) {
 			throw new IllegalArgumentException(String.format("[%s] is not a valid random seed.", seed));
 		}
 	}
 
-	private static Random newRandom(final long seed) {
+	static Random newRandom(final long seed) {
 		return EngineUtils.useJqwikEngine()
 			? SourceOfRandomness.create(String.valueOf(seed))
 			: new XorShiftRandom(seed);
 	}
 
+	/**
+	 * Accesses the thread local random of jqwik, which has no setter.
+	 * It is a holder so that the jqwik engine is loaded only when it is used.
+	 */
+	private static final class JqwikRandomHolder {
+		private static final @Nullable ThreadLocal<Random> CURRENT = currentOfSourceOfRandomness();
+
+		/**
+		 * Sets the given random as the jqwik random of the current thread.
+		 *
+		 * @return false if the thread local of jqwik is not accessible
+		 */
+		static boolean restore(Random random) {
+			if (CURRENT == null) {
+				return false;
+			}
+			CURRENT.set(random);
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static @Nullable ThreadLocal<Random> currentOfSourceOfRandomness() {
+			try {
+				Field field = SourceOfRandomness.class.getDeclaredField("current");
+				field.setAccessible(true);
+				return (ThreadLocal<Random>)field.get(null);
+			} catch (ReflectiveOperationException | RuntimeException ex) {
+				return null;
+			}
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
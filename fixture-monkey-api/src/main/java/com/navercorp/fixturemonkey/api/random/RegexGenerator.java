@@ -18,20 +18,12 @@
 
 package com.navercorp.fixturemonkey.api.random;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-import javax.annotation.PreDestroy;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
@@ -39,84 +31,182 @@ import org.jspecify.annotations.Nullable;
 import com.github.curiousoddman.rgxgen.RgxGen;
 import com.github.curiousoddman.rgxgen.config.RgxGenOption;
 import com.github.curiousoddman.rgxgen.config.RgxGenProperties;
-import com.mifmif.common.regex.Generex;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
+/**
+ * Generates a string matching the given regular expression.
+ * <p>
+ * The parsed {@link RgxGen} and {@link Pattern} of each regular expression and flags are cached.
+ * A string is generated on the calling thread, it gives up when none of {@value #MAX_ATTEMPTS} generated strings
+ * satisfies the conditions, for example when the regular expression has a lookaround {@link RgxGen} ignores.
+ */
 @API(since = "0.6.9", status = Status.MAINTAINED)
 public final class RegexGenerator {
-	private static final int DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC = 10;
-	private static final int FLAG_CASE_INSENSITIVE = 2;
-	private static final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private static final int MAX_ATTEMPTS = 1000;
+	private static final int FLAG_CASE_INSENSITIVE = Pattern.CASE_INSENSITIVE;
+	private static final int FLAGS_CHANGING_SYNTAX = Pattern.COMMENTS | Pattern.LITERAL;
+	private static final ConcurrentClockCache<RegexKey, CompiledRegex> COMPILED_REGEXES =
+		new ConcurrentClockCache<>(256);
 
-	@SuppressWarnings("argument")
 	public String generate(String regex, int[] flags, Predicate<String> stringCondition) {
-		boolean caseInSensitive = Arrays.stream(flags).anyMatch(it -> it == FLAG_CASE_INSENSITIVE);
+		return generate(regex, flags, 0, Integer.MAX_VALUE, stringCondition);
+	}
 
+	/**
+	 * Generates a string matching the regular expression whose length is between {@code minLength}
+	 * and {@code maxLength}, and satisfying the given condition.
+	 * <p>
+	 * It fails fast without generating when the regular expression can not match a string of the given length.
+	 *
+	 * @param regex           the regular expression
+	 * @param flags           the flags of {@link Pattern}, only {@link Pattern#CASE_INSENSITIVE} affects generation
+	 * @param minLength       the minimum length of the generated string (inclusive)
+	 * @param maxLength       the maximum length of the generated string (inclusive)
+	 * @param stringCondition the condition the generated string should satisfy
+	 * @return the generated string
+	 * @throws IllegalArgumentException if the regular expression is invalid or no string satisfies the conditions
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public String generate(
+		String regex,
+		int[] flags,
+		int minLength,
+		int maxLength,
+		Predicate<String> stringCondition
+	) {
 		try {
-			RgxGen rgxGen = generateRgxGen(regex, caseInSensitive);
+			CompiledRegex compiledRegex = COMPILED_REGEXES.computeIfAbsent(
+				new RegexKey(regex, flags),
+				RegexGenerator::compile
+			);
+
+			@Nullable String generated = compiledRegex.lengthBounds.intersects(minLength, maxLength)
+				? generate(compiledRegex, minLength, maxLength, stringCondition)
+				: null;
+			if (generated != null) {
+				return generated;
+			}
+		} catch (Exception ex) {
+			// an invalid regular expression, reported as a generation failure below
+		}
 
-			String result = executor.submit(() ->
-				rgxGen.stream()
-					.filter(stringCondition)
-					.findFirst()
-			).get(DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC, TimeUnit.SECONDS).orElse(null);
+		throw new IllegalArgumentException(
+			String.format(
+				"String generation failed for the regular expression \"%s\"."
+					+ " Either the regular expression is incorrect,"
+					+ " or cannot produce a string that matches the regular expression.",
+				regex
+			)
+		);
+	}
 
-			checkValidity(regex, result, caseInSensitive);
-			return result;
+	/**
+	 * Returns whether the given string matches the regular expression, the same way a generated string is matched.
+	 *
+	 * @param regex the regular expression
+	 * @param flags the flags of {@link Pattern}, only {@link Pattern#CASE_INSENSITIVE} affects matching
+	 * @param value the string to match
+	 * @return true if the string matches the regular expression
+	 * @throws IllegalArgumentException if the regular expression is invalid
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public boolean matches(String regex, int[] flags, String value) {
+		CompiledRegex compiledRegex;
+		try {
+			compiledRegex = COMPILED_REGEXES.computeIfAbsent(new RegexKey(regex, flags), RegexGenerator::compile);
 		} catch (Exception ex) {
 			throw new IllegalArgumentException(
-				String.format(
-					"String generation failed for the regular expression \"%s\"."
-						+ " Either the regular expression is incorrect,"
-						+ " or cannot produce a string that matches the regular expression.",
-					regex
-				)
+				String.format("The regular expression \"%s\" is incorrect.", regex),
+				ex
 			);
 		}
+		return compiledRegex.pattern.matcher(value).matches();
 	}
 
-	private List<String> generateAll(Generex generex, @Nullable Integer min, @Nullable Integer max) {
-		if (min == null) {
-			min = 0;
+	@Nullable
+	private static String generate(
+		CompiledRegex compiledRegex,
+		int minLength,
+		int maxLength,
+		Predicate<String> stringCondition
+	) {
+		Iterator<String> candidates = compiledRegex.rgxGen.stream().iterator();
+		for (int i = 0; i < MAX_ATTEMPTS; i++) {
+			String candidate = candidates.next();
+			int length = candidate.length();
+			if (length >= minLength
+				&& length <= maxLength
+				&& stringCondition.test(candidate)
+				&& compiledRegex.pattern.matcher(candidate).matches()) {
+				return candidate;
+			}
 		}
-
-		if (max == null) {
-			max = 255;
-		}
-
-		Integer regexMin = min;
-		Integer regexMax = max;
-		List<String> result = generex.getMatchedStrings(100).stream()
-			.filter(it -> it.length() >= regexMin && it.length() <= regexMax)
-			.collect(toList());
-		Collections.shuffle(result);
-		return result;
+		return null;
 	}
 
-	private static RgxGen generateRgxGen(String regex, boolean caseInSensitive) {
+	private static CompiledRegex compile(RegexKey key) {
+		boolean caseInSensitive = Arrays.stream(key.flags).anyMatch(it -> it == FLAG_CASE_INSENSITIVE);
+		boolean syntaxChanged = Arrays.stream(key.flags).anyMatch(it -> (it & FLAGS_CHANGING_SYNTAX) != 0);
+
 		RgxGenProperties properties = new RgxGenProperties();
 		if (caseInSensitive) {
 			RgxGenOption.CASE_INSENSITIVE.setInProperties(properties, true);
 		}
-		RgxGen rgxGen = new RgxGen(regex);
+		RgxGen rgxGen = new RgxGen(key.regex);
 		rgxGen.setProperties(properties);
-		return rgxGen;
+
+		Pattern pattern = caseInSensitive
+			? Pattern.compile(key.regex, Pattern.CASE_INSENSITIVE)
+			: Pattern.compile(key.regex);
+
+		RegexLengthBounds lengthBounds = syntaxChanged ? RegexLengthBounds.UNKNOWN : RegexLengthBounds.of(key.regex);
+		return new CompiledRegex(rgxGen, pattern, lengthBounds);
 	}
 
-	private static void checkValidity(String regex, String result, boolean caseInSensitive) {
-		Pattern pattern;
-		if (caseInSensitive) {
-			pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-		} else {
-			pattern = Pattern.compile(regex);
+	/**
+	 * It is no longer needed, strings are generated on the calling thread.
+	 */
+	@Deprecated
+	public void terminateExecutor() {
+	}
+
+	private static final class RegexKey {
+		private final String regex;
+		private final int[] flags;
+
+		private RegexKey(String regex, int[] flags) {
+			this.regex = regex;
+			this.flags = flags.clone();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			RegexKey that = (RegexKey)obj;
+			return regex.equals(that.regex) && Arrays.equals(flags, that.flags);
 		}
 
-		if (!pattern.matcher(result).matches()) {
-			throw new NoSuchElementException();
+		@Override
+		public int hashCode() {
+			return Objects.hash(regex, Arrays.hashCode(flags));
 		}
 	}
 
-	@PreDestroy
-	public void terminateExecutor() {
-		executor.shutdown();
+	private static final class CompiledRegex {
+		private final RgxGen rgxGen;
+		private final Pattern pattern;
+		private final RegexLengthBounds lengthBounds;
+
+		private CompiledRegex(RgxGen rgxGen, Pattern pattern, RegexLengthBounds lengthBounds) {
+			this.rgxGen = rgxGen;
+			this.pattern = pattern;
+			this.lengthBounds = lengthBounds;
+		}
 	}
 }
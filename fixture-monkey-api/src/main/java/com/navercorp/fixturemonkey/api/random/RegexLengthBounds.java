@@ -0,0 +1,215 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The range of lengths of the strings a regular expression can match.
+ * <p>
+ * It is a conservative estimation, the range may be wider than the actual one, but never narrower.
+ * Only literals, character classes, groups, alternations and quantifiers are understood, any other construct
+ * makes the range unbounded, so {@link #intersects(int, int)} never rejects a satisfiable length range.
+ */
+final class RegexLengthBounds {
+	static final int UNBOUNDED = Integer.MAX_VALUE;
+	static final RegexLengthBounds UNKNOWN = new RegexLengthBounds(0, UNBOUNDED);
+
+	private static final RegexLengthBounds EMPTY = new RegexLengthBounds(0, 0);
+	private static final RegexLengthBounds SINGLE = new RegexLengthBounds(1, 1);
+	// a character matching any code point may be a surrogate pair
+	private static final RegexLengthBounds ANY_CODE_POINT = new RegexLengthBounds(1, 2);
+	private static final String SINGLE_CHAR_ESCAPES = "dwstnrfae\\.-[](){}|^$?*+/";
+	private static final String ANY_CODE_POINT_ESCAPES = "DWS";
+
+	private final int min;
+	private final int max;
+
+	private RegexLengthBounds(int min, int max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	static RegexLengthBounds of(String regex) {
+		int[] index = {0};
+		@Nullable RegexLengthBounds bounds = parseAlternation(regex, index);
+		return bounds != null && index[0] == regex.length() ? bounds : UNKNOWN;
+	}
+
+	int getMin() {
+		return min;
+	}
+
+	int getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns whether a string of length between {@code minLength} and {@code maxLength} may match.
+	 */
+	boolean intersects(int minLength, int maxLength) {
+		return min <= maxLength && max >= minLength;
+	}
+
+	/**
+	 * Parses the alternatives from {@code index[0]} until a closing parenthesis or the end.
+	 *
+	 * @return the bounds, null if the expression has a construct which is not understood
+	 */
+	private static @Nullable RegexLengthBounds parseAlternation(String regex, int[] index) {
+		int min = UNBOUNDED;
+		int max = 0;
+		do {
+			int sequenceMin = 0;
+			int sequenceMax = 0;
+			while (index[0] < regex.length() && regex.charAt(index[0]) != '|' && regex.charAt(index[0]) != ')') {
+				@Nullable RegexLengthBounds atom = parseAtom(regex, index);
+				if (atom == null) {
+					return null;
+				}
+				atom = parseQuantifier(regex, index, atom);
+				if (atom == null) {
+					return null;
+				}
+				sequenceMin = add(sequenceMin, atom.min);
+				sequenceMax = add(sequenceMax, atom.max);
+			}
+			min = Math.min(min, sequenceMin);
+			max = Math.max(max, sequenceMax);
+		} while (index[0] < regex.length() && regex.charAt(index[0]++) == '|');
+		return new RegexLengthBounds(min, max);
+	}
+
+	private static @Nullable RegexLengthBounds parseAtom(String regex, int[] index) {
+		char current = regex.charAt(index[0]++);
+		switch (current) {
+			case '(':
+				if (regex.startsWith("?:", index[0])) {
+					index[0] += 2;
+				} else if (regex.startsWith("?", index[0])) {
+					// lookarounds, named groups and inline flags
+					return null;
+				}
+				@Nullable RegexLengthBounds group = parseAlternation(regex, index);
+				return group != null && regex.charAt(index[0] - 1) == ')' ? group : null;
+			case '[':
+				return parseCharacterClass(regex, index);
+			case '\\':
+				if (index[0] == regex.length()) {
+					return null;
+				}
+				char escaped = regex.charAt(index[0]++);
+				if (ANY_CODE_POINT_ESCAPES.indexOf(escaped) >= 0) {
+					return ANY_CODE_POINT;
+				}
+				return SINGLE_CHAR_ESCAPES.indexOf(escaped) >= 0 ? SINGLE : null;
+			case '^':
+			case '$':
+				return EMPTY;
+			case '.':
+				return ANY_CODE_POINT;
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				return null;
+			default:
+				return Character.isSurrogate(current) ? null : SINGLE;
+		}
+	}
+
+	/**
+	 * Parses a character class without nested classes, intersections or escapes other than a single character.
+	 */
+	private static @Nullable RegexLengthBounds parseCharacterClass(String regex, int[] index) {
+		boolean negated = regex.startsWith("^", index[0]);
+		int start = negated ? index[0] + 1 : index[0];
+		int end = regex.indexOf(']', start + 1);
+		if (end < 0) {
+			return null;
+		}
+
+		String members = regex.substring(start, end);
+		if (members.indexOf('[') >= 0 || members.indexOf('\\') >= 0 || members.contains("&&")) {
+			return null;
+		}
+		for (int i = 0; i < members.length(); i++) {
+			if (Character.isSurrogate(members.charAt(i))) {
+				return null;
+			}
+		}
+		index[0] = end + 1;
+		return negated ? ANY_CODE_POINT : SINGLE;
+	}
+
+	private static @Nullable RegexLengthBounds parseQuantifier(String regex, int[] index, RegexLengthBounds atom) {
+		if (index[0] == regex.length()) {
+			return atom;
+		}
+
+		int minTimes;
+		int maxTimes;
+		char current = regex.charAt(index[0]);
+		if (current == '?') {
+			minTimes = 0;
+			maxTimes = 1;
+		} else if (current == '*') {
+			minTimes = 0;
+			maxTimes = UNBOUNDED;
+		} else if (current == '+') {
+			minTimes = 1;
+			maxTimes = UNBOUNDED;
+		} else if (current == '{') {
+			int end = regex.indexOf('}', index[0]);
+			String[] range = end < 0 ? new String[0] : regex.substring(index[0] + 1, end).split(",", -1);
+			if (range.length == 0 || range.length > 2 || !isCount(range[0])
+				|| (range.length == 2 && !range[1].isEmpty() && !isCount(range[1]))) {
+				return null;
+			}
+			minTimes = Integer.parseInt(range[0]);
+			maxTimes = range.length == 1 ? minTimes : range[1].isEmpty() ? UNBOUNDED : Integer.parseInt(range[1]);
+			index[0] = end;
+		} else {
+			return atom;
+		}
+		index[0]++;
+
+		if (index[0] < regex.length() && (regex.charAt(index[0]) == '?' || regex.charAt(index[0]) == '+')) {
+			index[0]++;
+		}
+		return new RegexLengthBounds(multiply(atom.min, minTimes), multiply(atom.max, maxTimes));
+	}
+
+	private static boolean isCount(String count) {
+		return !count.isEmpty() && count.length() <= 9 && count.chars().allMatch(it -> it >= '0' && it <= '9');
+	}
+
+	private static int add(int left, int right) {
+		long sum = (long)left + right;
+		return left == UNBOUNDED || right == UNBOUNDED || sum >= UNBOUNDED ? UNBOUNDED : (int)sum;
+	}
+
+	private static int multiply(int length, int times) {
+		if (length == 0 || times == 0) {
+			return 0;
+		}
+		long product = (long)length * times;
+		return length == UNBOUNDED || times == UNBOUNDED || product >= UNBOUNDED ? UNBOUNDED : (int)product;
+	}
+}
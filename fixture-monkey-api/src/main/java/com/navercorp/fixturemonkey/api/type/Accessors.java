@@ -0,0 +1,229 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+
+/**
+ * Invokes constructors, methods and field setters through {@link MethodHandle}s compiled once per member.
+ * <p>
+ * The handles are adapted to erased signatures and kept in a bounded cache like {@link TypeCache},
+ * which evicts the members no longer in use instead of pinning their class loaders.
+ * Repeated invocations skip the reflective access check and argument copying
+ * of {@link Method#invoke(Object, Object...)}.
+ * The signatures mirror the reflective counterparts, including the checked exceptions they throw.
+ * An exception thrown by the invoked member is wrapped in an {@link InvocationTargetException} just like reflection.
+ * <p>
+ * It falls back to reflection when a handle can not be created, for example when the member is not accessible
+ * from this class or the field is final, and when the arguments require a widening or unboxing conversion
+ * that reflection applies but an erased handle would reject.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+public abstract class Accessors {
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+	private static final MethodType METHOD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final CompiledAccessor REFLECTION = new CompiledAccessor(null, new Class<?>[0]);
+	private static final Map<AccessibleObject, CompiledAccessor> ACCESSORS = new ConcurrentClockCache<>(2048);
+
+	/**
+	 * Creates a new instance by the given constructor.
+	 *
+	 * @see Constructor#newInstance(Object...)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T newInstance(Constructor<T> constructor, Object... args)
+		throws InstantiationException, IllegalAccessException, InvocationTargetException {
+		CompiledAccessor accessor = getAccessor(constructor);
+		MethodHandle handle = accessor.handle;
+		if (handle == null || !accessor.accepts(args)) {
+			return constructor.newInstance(args);
+		}
+
+		try {
+			Object instance = handle.invokeExact(args);
+			return (T)instance;
+		} catch (Throwable throwable) {
+			throw new InvocationTargetException(throwable);
+		}
+	}
+
+	/**
+	 * Invokes the given method, {@code target} is ignored if the method is static.
+	 *
+	 * @see Method#invoke(Object, Object...)
+	 */
+	@SuppressWarnings("argument")
+	public static @Nullable Object invoke(Method method, @Nullable Object target, Object... args)
+		throws IllegalAccessException, InvocationTargetException {
+		CompiledAccessor accessor = getAccessor(method);
+		MethodHandle handle = accessor.handle;
+		if (handle == null || !accessor.accepts(args)
+			|| (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target))) {
+			return method.invoke(target, args);
+		}
+
+		try {
+			return (Object)handle.invokeExact((Object)target, args);
+		} catch (Throwable throwable) {
+			throw new InvocationTargetException(throwable);
+		}
+	}
+
+	/**
+	 * Sets the given field of the {@code target} to {@code value}.
+	 *
+	 * @see Field#set(Object, Object)
+	 */
+	@SuppressWarnings("argument")
+	public static void set(Field field, @Nullable Object target, @Nullable Object value)
+		throws IllegalAccessException {
+		CompiledAccessor accessor = getAccessor(field);
+		MethodHandle handle = accessor.handle;
+		if (handle == null || !field.getDeclaringClass().isInstance(target) || !accessor.accepts(value)) {
+			field.set(target, value);
+			return;
+		}
+
+		try {
+			handle.invokeExact((Object)target, (Object)value);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable throwable) {
+			throw new IllegalArgumentException(throwable);
+		}
+	}
+
+	private static CompiledAccessor getAccessor(AccessibleObject member) {
+		if (isNotAccessible(member)) {
+			return REFLECTION;
+		}
+
+		CompiledAccessor accessor = ACCESSORS.get(member);
+		if (accessor == null) {
+			accessor = compile(member);
+			CompiledAccessor existing = ACCESSORS.putIfAbsent(member, accessor);
+			if (existing != null) {
+				accessor = existing;
+			}
+		}
+		return accessor;
+	}
+
+	private static CompiledAccessor compile(AccessibleObject member) {
+		try {
+			if (member instanceof Constructor) {
+				Constructor<?> constructor = (Constructor<?>)member;
+				if (constructor.isVarArgs()) {
+					return REFLECTION;
+				}
+				MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+				return new CompiledAccessor(
+					spread(handle, constructor.getParameterCount()).asType(CONSTRUCTOR_TYPE),
+					constructor.getParameterTypes()
+				);
+			} else if (member instanceof Method) {
+				Method method = (Method)member;
+				if (method.isVarArgs()) {
+					return REFLECTION;
+				}
+				MethodHandle handle = spread(LOOKUP.unreflect(method), method.getParameterCount());
+				if (Modifier.isStatic(method.getModifiers())) {
+					handle = MethodHandles.dropArguments(handle, 0, Object.class);
+				}
+				return new CompiledAccessor(handle.asType(METHOD_TYPE), method.getParameterTypes());
+			} else if (member instanceof Field) {
+				Field field = (Field)member;
+				if (Modifier.isStatic(field.getModifiers())) {
+					return REFLECTION;
+				}
+				MethodHandle handle = LOOKUP.unreflectSetter(field);
+				return new CompiledAccessor(handle.asType(SETTER_TYPE), new Class<?>[] {field.getType()});
+			}
+		} catch (IllegalAccessException | RuntimeException ex) {
+			// e.g. a final field, or a member the lookup of this class can not access.
+		}
+		return REFLECTION;
+	}
+
+	private static boolean isNotAccessible(AccessibleObject accessibleObject) {
+		Member member = (Member)accessibleObject;
+		boolean publicMember = Modifier.isPublic(member.getModifiers())
+			&& Modifier.isPublic(member.getDeclaringClass().getModifiers());
+		return !accessibleObject.isAccessible() && !publicMember;
+	}
+
+	private static MethodHandle spread(MethodHandle handle, int parameterCount) {
+		MethodHandle generic = handle.asType(handle.type().generic());
+		return generic.asSpreader(Object[].class, parameterCount);
+	}
+
+	private static final class CompiledAccessor {
+		@Nullable
+		private final MethodHandle handle;
+		private final Class<?>[] parameterTypes;
+		private final boolean[] primitives;
+
+		private CompiledAccessor(@Nullable MethodHandle handle, Class<?>[] parameterTypes) {
+			this.handle = handle;
+			this.parameterTypes = new Class<?>[parameterTypes.length];
+			this.primitives = new boolean[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				this.parameterTypes[i] = Types.primitiveToWrapper(parameterTypes[i]);
+				this.primitives[i] = parameterTypes[i].isPrimitive();
+			}
+		}
+
+		/**
+		 * Returns whether the arguments can be passed without a conversion that only reflection applies.
+		 * A null argument for a primitive parameter is left to reflection to reject.
+		 */
+		private boolean accepts(@Nullable Object... args) {
+			if (args == null || args.length != parameterTypes.length) {
+				return false;
+			}
+
+			for (int i = 0; i < args.length; i++) {
+				Object arg = args[i];
+				if (arg == null ? primitives[i] : !parameterTypes[i].isInstance(arg)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
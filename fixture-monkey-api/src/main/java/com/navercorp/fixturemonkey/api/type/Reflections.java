@@ -55,7 +55,7 @@ public abstract class Reflections {
 		}
 
 		try {
-			return method.invoke(target, args);
+			return Accessors.invoke(method, target, args);
 		} catch (Throwable t) {
 			throw throwAsUnchecked(t);
 		}
@@ -67,7 +67,7 @@ public abstract class Reflections {
 		}
 
 		try {
-			return constructor.newInstance(args);
+			return Accessors.newInstance(constructor, args);
 		} catch (Throwable t) {
 			throw throwAsUnchecked(t);
 		}
@@ -43,7 +43,8 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.objectfarm.api.type.TypeMetadataIndex;
 
 @API(since = "0.4.0", status = Status.INTERNAL)
 public abstract class TypeCache {
@@ -52,11 +53,11 @@ public abstract class TypeCache {
 	private static final Map<PropertyDescriptor, AnnotatedType> PROPERTY_DESCRIPTOR_ANNOTATED_TYPE_MAP =
 		new ConcurrentHashMap<>(2048);
 	private static final Map<Class<?>, Map<String, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
-		new ConcurrentLruCache<>(2048);
-	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentLruCache<>(2048);
+		new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentClockCache<>(2048);
 	private static final Map<Class<?>, Map.Entry<Constructor<?>, String[]>> PARAMETER_NAMES_BY_PRIMARY_CONSTRUCTOR =
-		new ConcurrentLruCache<>(2048);
-	private static final Map<Class<?>, List<Constructor<?>>> CONSTRUCTORS = new ConcurrentLruCache<>(2048);
+		new ConcurrentClockCache<>(2048);
+	private static final Map<Class<?>, List<Constructor<?>>> CONSTRUCTORS = new ConcurrentClockCache<>(2048);
 
 	public static AnnotatedType getAnnotatedType(Field field) {
 		return FIELD_ANNOTATED_TYPE_MAP.computeIfAbsent(field, Field::getAnnotatedType);
@@ -91,6 +92,11 @@ public abstract class TypeCache {
 
 	public static Map<String, PropertyDescriptor> getPropertyDescriptorsByPropertyName(Class<?> clazz) {
 		return PROPERTY_DESCRIPTORS.computeIfAbsent(clazz, type -> {
+			Map<String, PropertyDescriptor> indexed = TypeMetadataIndex.findPropertyDescriptors(type);
+			if (indexed != null) {
+				return new ConcurrentHashMap<>(indexed);
+			}
+
 			Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
 			try {
 				PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
@@ -140,7 +146,9 @@ public abstract class TypeCache {
 				List<Constructor<?>> constructors = getDeclaredConstructors(clazz);
 				for (Constructor<?> constructor : constructors) {
 					Parameter[] parameters = constructor.getParameters();
-					boolean namePresent = Arrays.stream(parameters).anyMatch(Parameter::isNamePresent);
+					// the names of an indexed constructor are known even if it is compiled without -parameters
+					boolean namePresent = Arrays.stream(parameters).anyMatch(Parameter::isNamePresent)
+						|| TypeMetadataIndex.findParameterNames(constructor) != null;
 					boolean parameterEmpty = parameters.length == 0;
 					if (namePresent || parameterEmpty) {
 						possibilities.add(constructor);
@@ -219,6 +227,11 @@ public abstract class TypeCache {
 			ConstructorProperties constructorProperties = constructor.getAnnotation(ConstructorProperties.class);
 
 			if (constructorProperties == null) {
+				String[] indexedParameterNames = TypeMetadataIndex.findParameterNames(constructor);
+				if (indexedParameterNames != null) {
+					return indexedParameterNames;
+				}
+
 				return Arrays.stream(parameters)
 					.map(Parameter::getName)
 					.toArray(String[]::new);
@@ -21,8 +21,36 @@ package com.navercorp.fixturemonkey.api.validator;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
 @API(since = "1.2.0", status = Status.EXPERIMENTAL)
 public interface ArbitraryValidator {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(Object arbitrary);
+
+	/**
+	 * Returns whether the given property declares constraints of its own that
+	 * {@link #validateProperty(Class, String, Object)} can check before the object is combined.
+	 * A validator that only validates whole objects returns false, which is the default.
+	 *
+	 * @param type         the type declaring the property
+	 * @param propertyName the name of the property
+	 * @return true if the property should be validated as soon as it is generated
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default boolean isConstrained(Class<?> type, String propertyName) {
+		return false;
+	}
+
+	/**
+	 * Validates a single property value against the constraints declared on the property.
+	 * If it is not valid, it throws an exception then only the property would be re-created.
+	 *
+	 * @param type         the type declaring the property
+	 * @param propertyName the name of the property
+	 * @param value        the generated value of the property
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default void validateProperty(Class<?> type, String propertyName, @Nullable Object value) {
+	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RandomCombinableArbitraryTest {
+	@Test
+	void nextIntWithRange() {
+		// given
+		IntegerCombinableArbitrary arbitrary = new RandomIntegerCombinableArbitrary().withRange(-3, 3);
+
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.map(it -> arbitrary.nextInt())
+			.allMatch(value -> -3 <= value && value <= 3);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextIntCoversWholeRange() {
+		// given
+		IntegerCombinableArbitrary arbitrary = new RandomIntegerCombinableArbitrary(0, 4);
+
+		// when
+		long distinctCount = IntStream.range(0, 1000)
+			.map(it -> arbitrary.nextInt())
+			.distinct()
+			.count();
+
+		// then
+		then(distinctCount).isEqualTo(5);
+	}
+
+	@Test
+	void nextIntOdd() {
+		// when
+		boolean allOdd = IntStream.range(0, 100)
+			.map(it -> new RandomIntegerCombinableArbitrary().odd().nextInt())
+			.allMatch(value -> value % 2 != 0);
+
+		// then
+		then(allOdd).isTrue();
+	}
+
+	@Test
+	void nextLongWithWholeRange() {
+		// given
+		LongCombinableArbitrary arbitrary = new RandomLongCombinableArbitrary(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.mapToLong(it -> arbitrary.nextLong())
+			.allMatch(value -> value != Long.MIN_VALUE);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextLongMultipleOf() {
+		// when
+		boolean allMultipleOf = IntStream.range(0, 100)
+			.mapToLong(it -> new RandomLongCombinableArbitrary().multipleOf(7L).nextLong())
+			.allMatch(value -> value % 7L == 0L);
+
+		// then
+		then(allMultipleOf).isTrue();
+	}
+
+	@Test
+	void nextDoubleWithRange() {
+		// given
+		DoubleCombinableArbitrary arbitrary = new RandomDoubleCombinableArbitrary(-1.5, 2.5);
+
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.mapToDouble(it -> arbitrary.nextDouble())
+			.allMatch(value -> -1.5 <= value && value <= 2.5);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextDoubleFinite() {
+		// when
+		boolean allFinite = IntStream.range(0, 1000)
+			.mapToDouble(it -> new RandomDoubleCombinableArbitrary().finite().nextDouble())
+			.allMatch(Double::isFinite);
+
+		// then
+		then(allFinite).isTrue();
+	}
+
+	@Test
+	void nextDoubleDefaultRange() {
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.mapToDouble(it -> new RandomDoubleCombinableArbitrary().nextDouble())
+			.allMatch(value -> Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextIntFavorsEdgeCases() {
+		// given
+		IntegerCombinableArbitrary arbitrary = new RandomIntegerCombinableArbitrary(-1_000_000, 1_000_000);
+
+		// when
+		Set<Integer> actual = IntStream.range(0, 1000)
+			.map(it -> arbitrary.nextInt())
+			.boxed()
+			.collect(Collectors.toSet());
+
+		// then
+		then(actual).contains(-1_000_000, 0, 1_000_000);
+	}
+
+	@Test
+	void nextShortWithRange() {
+		// given
+		ShortCombinableArbitrary arbitrary = new RandomShortCombinableArbitrary((short)-3, (short)3);
+
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.map(it -> arbitrary.nextShort())
+			.allMatch(value -> -3 <= value && value <= 3);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextByteOdd() {
+		// when
+		boolean allOdd = IntStream.range(0, 100)
+			.map(it -> new RandomByteCombinableArbitrary().odd().nextByte())
+			.allMatch(value -> value % 2 != 0);
+
+		// then
+		then(allOdd).isTrue();
+	}
+
+	@Test
+	void nextCharAlphaNumeric() {
+		// when
+		boolean allAlphaNumeric = IntStream.range(0, 1000)
+			.map(it -> new RandomCharacterCombinableArbitrary().alphaNumeric().nextChar())
+			.allMatch(value -> ('0' <= value && value <= '9')
+				|| ('A' <= value && value <= 'Z')
+				|| ('a' <= value && value <= 'z')
+			);
+
+		// then
+		then(allAlphaNumeric).isTrue();
+	}
+
+	@Test
+	void nextFloatWithRange() {
+		// given
+		FloatCombinableArbitrary arbitrary = new RandomFloatCombinableArbitrary(-1.5f, 2.5f);
+
+		// when
+		boolean allInRange = IntStream.range(0, 1000)
+			.mapToDouble(it -> arbitrary.nextFloat())
+			.allMatch(value -> -1.5f <= value && value <= 2.5f);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextBooleanGeneratesBoth() {
+		// when
+		long distinctCount = IntStream.range(0, 100)
+			.mapToObj(it -> RandomBooleanCombinableArbitrary.INSTANCE.nextBoolean())
+			.distinct()
+			.count();
+
+		// then
+		then(distinctCount).isEqualTo(2);
+	}
+
+	@Test
+	void combinedEqualsBoxedNextInt() {
+		// when
+		Integer actual = new RandomIntegerCombinableArbitrary(5, 5).combined();
+
+		// then
+		then(actual).isEqualTo(5);
+	}
+
+	@Test
+	void invalidRange() {
+		thenThrownBy(() -> new RandomIntegerCombinableArbitrary(1, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
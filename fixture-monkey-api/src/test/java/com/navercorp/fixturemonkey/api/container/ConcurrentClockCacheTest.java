@@ -0,0 +1,121 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentClockCacheTest {
+	@Test
+	void evictsWhenFull() {
+		// given
+		ConcurrentClockCache<Integer, String> sut = new ConcurrentClockCache<>(10);
+
+		// when
+		IntStream.range(0, 100).forEach(it -> sut.put(it, String.valueOf(it)));
+
+		// then
+		then(sut).hasSize(10);
+	}
+
+	@Test
+	void referencedEntryGetsSecondChance() {
+		// given
+		ConcurrentClockCache<Integer, String> sut = new ConcurrentClockCache<>(3);
+		sut.put(0, "0");
+		sut.put(1, "1");
+		sut.put(2, "2");
+
+		// when
+		sut.get(0);
+		sut.put(3, "3");
+
+		// then
+		then(sut).containsKeys(0, 3).doesNotContainKey(1);
+	}
+
+	@Test
+	void computeIfAbsentComputesOnce() {
+		// given
+		ConcurrentClockCache<Integer, String> sut = new ConcurrentClockCache<>(10);
+		AtomicInteger computed = new AtomicInteger();
+
+		// when
+		IntStream.range(0, 5).forEach(it -> sut.computeIfAbsent(1, key -> {
+			computed.incrementAndGet();
+			return String.valueOf(key);
+		}));
+
+		// then
+		then(sut.get(1)).isEqualTo("1");
+		then(computed).hasValue(1);
+	}
+
+	@Test
+	void concurrentAccessKeepsBound() throws InterruptedException {
+		// given
+		ConcurrentClockCache<Integer, Integer> sut = new ConcurrentClockCache<>(64);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		// when
+		for (int thread = 0; thread < 8; thread++) {
+			int offset = thread * 1000;
+			executorService.submit(() -> {
+				for (int i = 0; i < 1000; i++) {
+					sut.computeIfAbsent(offset + i, key -> key);
+					sut.get(offset);
+				}
+			});
+		}
+		executorService.shutdown();
+		executorService.awaitTermination(10, TimeUnit.SECONDS);
+		sut.put(-1, -1);
+
+		// then
+		then(sut.size()).isLessThanOrEqualTo(64);
+		then(sut.get(-1)).isEqualTo(-1);
+	}
+
+	@Test
+	void statsCountHitsMissesAndEvictions() {
+		// given
+		ConcurrentClockCache<Integer, String> sut = new ConcurrentClockCache<>(2);
+
+		// when
+		sut.computeIfAbsent(0, String::valueOf);
+		sut.computeIfAbsent(0, String::valueOf);
+		sut.put(1, "1");
+		sut.put(2, "2");
+
+		// then
+		CacheStats actual = sut.stats();
+		then(actual.getHitCount()).isEqualTo(1);
+		then(actual.getMissCount()).isEqualTo(1);
+		then(actual.getEvictionCount()).isEqualTo(1);
+		then(actual.getSize()).isEqualTo(2);
+		then(actual.getMaxSize()).isEqualTo(2);
+	}
+}
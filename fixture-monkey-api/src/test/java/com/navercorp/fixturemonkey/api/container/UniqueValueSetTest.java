@@ -0,0 +1,145 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+class UniqueValueSetTest {
+	@Test
+	void addReturnsFalseForDuplicate() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+
+		// when
+		sut.add(1L);
+		boolean actual = sut.add(1L);
+
+		// then
+		then(actual).isFalse();
+		then(sut).hasSize(1);
+	}
+
+	@Test
+	void boxedTypesAreNotEqual() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+
+		// when
+		sut.add(1L);
+		boolean actual = sut.add(1);
+
+		// then
+		then(actual).isTrue();
+		then(sut).containsExactlyInAnyOrder(1L, 1);
+	}
+
+	@Test
+	void growsWithManyLongs() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+
+		// when
+		LongStream.range(-5_000, 5_000).forEach(sut::add);
+
+		// then
+		then(sut).hasSize(10_000);
+		then(sut.contains(0L)).isTrue();
+		then(sut.contains(-5_000L)).isTrue();
+		then(sut.contains(5_000L)).isFalse();
+	}
+
+	@Test
+	void keepsEnumAndNull() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+
+		// when
+		sut.add(TimeUnit.SECONDS);
+		sut.add(null);
+		boolean actual = sut.add(TimeUnit.SECONDS);
+
+		// then
+		then(actual).isFalse();
+		then(sut).containsExactlyInAnyOrder(TimeUnit.SECONDS, null);
+	}
+
+	@Test
+	void clear() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+		LongStream.range(0, 100).forEach(sut::add);
+		sut.add("value");
+
+		// when
+		sut.clear();
+
+		// then
+		then(sut).isEmpty();
+		then(sut.add(0L)).isTrue();
+	}
+
+	@Test
+	void remove() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+		LongStream.range(0, 1_000).forEach(sut::add);
+		sut.add("value");
+		sut.add(null);
+
+		// when
+		LongStream.range(0, 1_000).filter(it -> it % 2 == 0).forEach(sut::remove);
+		sut.remove("value");
+		sut.remove(null);
+
+		// then
+		then(sut).hasSize(500);
+		then(LongStream.range(0, 1_000)).allMatch(it -> sut.contains(it) == (it % 2 != 0));
+		then(sut.contains("value")).isFalse();
+		then(sut.contains(null)).isFalse();
+		then(sut.add(0L)).isTrue();
+	}
+
+	@Test
+	void retainAll() {
+		// given
+		UniqueValueSet sut = new UniqueValueSet();
+		LongStream.range(0, 10).forEach(sut::add);
+
+		// when
+		boolean actual = sut.retainAll(Arrays.asList(3L, 4L));
+
+		// then
+		then(actual).isTrue();
+		then(sut).containsExactlyInAnyOrder(3L, 4L);
+	}
+
+	@Test
+	void domainSize() {
+		then(UniqueValueSet.domainSize(Boolean.class)).isEqualTo(2);
+		then(UniqueValueSet.domainSize(byte.class)).isEqualTo(256);
+		then(UniqueValueSet.domainSize(TimeUnit.class)).isEqualTo(TimeUnit.values().length);
+		then(UniqueValueSet.domainSize(Long.class)).isEqualTo(Long.MAX_VALUE);
+	}
+}
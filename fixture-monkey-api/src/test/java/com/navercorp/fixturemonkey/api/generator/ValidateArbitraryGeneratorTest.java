@@ -0,0 +1,66 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint.PatternConstraint;
+
+class ValidateArbitraryGeneratorTest {
+	@Test
+	void isValidStringChecksEveryConstraint() {
+		JavaStringConstraint constraint = new JavaStringConstraint(
+			BigInteger.valueOf(2),
+			BigInteger.valueOf(4),
+			false,
+			true,
+			true,
+			new PatternConstraint("[a-z ]+", new int[0]),
+			false
+		);
+
+		then(ValidateArbitraryGenerator.isValidString("abc", constraint)).isTrue();
+		then(ValidateArbitraryGenerator.isValidString(null, constraint)).isFalse();
+		then(ValidateArbitraryGenerator.isValidString("   ", constraint)).isFalse();
+		then(ValidateArbitraryGenerator.isValidString("a", constraint)).isFalse();
+		then(ValidateArbitraryGenerator.isValidString("abcde", constraint)).isFalse();
+		then(ValidateArbitraryGenerator.isValidString("ABC", constraint)).isFalse();
+	}
+
+	@Test
+	void isValidStringChecksDigits() {
+		JavaStringConstraint constraint = new JavaStringConstraint(
+			null,
+			BigInteger.valueOf(3),
+			true,
+			false,
+			false,
+			null,
+			false
+		);
+
+		then(ValidateArbitraryGenerator.isValidString("123", constraint)).isTrue();
+		then(ValidateArbitraryGenerator.isValidString("12a", constraint)).isFalse();
+	}
+}
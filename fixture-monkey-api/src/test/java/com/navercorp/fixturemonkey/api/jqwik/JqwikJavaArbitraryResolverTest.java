@@ -0,0 +1,89 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaContainerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDateTimeConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+class JqwikJavaArbitraryResolverTest {
+	@Test
+	void digitsAreGeneratedFromDigitsOnly() {
+		JavaStringConstraint constraint = new JavaStringConstraint(
+			null,
+			BigInteger.valueOf(3),
+			true,
+			false,
+			true,
+			null,
+			false
+		);
+		JqwikJavaArbitraryResolver sut = new JqwikJavaArbitraryResolver(new StringConstraintGenerator(constraint));
+
+		Arbitrary<String> actual = sut.strings(Arbitraries.strings(), null);
+
+		then(actual.sampleStream().limit(100)).allMatch(it -> it.matches("[0-9]{1,3}"));
+	}
+
+	private static final class StringConstraintGenerator implements JavaConstraintGenerator {
+		private final JavaStringConstraint constraint;
+
+		private StringConstraintGenerator(JavaStringConstraint constraint) {
+			this.constraint = constraint;
+		}
+
+		@Override
+		public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+			return constraint;
+		}
+
+		@Override
+		public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+	}
+}
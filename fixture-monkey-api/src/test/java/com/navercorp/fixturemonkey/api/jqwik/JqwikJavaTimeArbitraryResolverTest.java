@@ -0,0 +1,87 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitrary;
+import net.jqwik.time.api.Dates;
+
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaContainerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDateTimeConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+class JqwikJavaTimeArbitraryResolverTest {
+	@Test
+	void yearsKeepBothBounds() {
+		JavaDateTimeConstraint constraint = new JavaDateTimeConstraint(
+			() -> LocalDateTime.of(2000, 1, 1, 0, 0),
+			() -> LocalDateTime.of(2010, 1, 1, 0, 0)
+		);
+		JqwikJavaTimeArbitraryResolver sut =
+			new JqwikJavaTimeArbitraryResolver(new DateTimeConstraintGenerator(constraint));
+
+		Arbitrary<Year> actual = sut.years(Dates.years(), null);
+
+		then(actual.sampleStream().limit(100))
+			.allMatch(it -> it.getValue() >= 2001 && it.getValue() <= 2009);
+	}
+
+	private static final class DateTimeConstraintGenerator implements JavaConstraintGenerator {
+		private final JavaDateTimeConstraint constraint;
+
+		private DateTimeConstraintGenerator(JavaDateTimeConstraint constraint) {
+			this.constraint = constraint;
+		}
+
+		@Override
+		public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+			return constraint;
+		}
+	}
+}
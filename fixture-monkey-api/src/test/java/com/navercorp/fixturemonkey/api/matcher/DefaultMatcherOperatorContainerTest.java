@@ -0,0 +1,92 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class DefaultMatcherOperatorContainerTest {
+	@Test
+	void getFirstMatchedReturnsSameAsScanningList() {
+		// given
+		DefaultMatcherOperatorContainer<String> sut = new DefaultMatcherOperatorContainer<>();
+		sut.addLast(MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "charSequence"));
+		sut.addLast(new MatcherOperator<>(property -> property.getJvmType().getRawType() == Integer.class, "integer"));
+		sut.addLast(MatcherOperator.exactTypeMatchOperator(String.class, "string"));
+		sut.addFirst(new MatcherOperator<>(property -> property.getJvmType().getRawType() == Long.class, "long"));
+
+		List<Property> properties = Arrays.asList(
+			PropertyUtils.toProperty(String.class),
+			PropertyUtils.toProperty(StringBuilder.class),
+			PropertyUtils.toProperty(Integer.class),
+			PropertyUtils.toProperty(Long.class),
+			PropertyUtils.toProperty(Double.class)
+		);
+
+		for (Property property : properties) {
+			// when
+			MatcherOperator<String> actual = sut.getFirstMatched(property);
+
+			// then
+			MatcherOperator<String> expected = sut.getList().stream()
+				.filter(it -> it.match(property))
+				.findFirst()
+				.orElse(null);
+			then(actual).isSameAs(expected);
+		}
+	}
+
+	@Test
+	void getFirstMatchedPrefersOperatorAddedFirst() {
+		// given
+		DefaultMatcherOperatorContainer<String> sut = new DefaultMatcherOperatorContainer<>();
+		sut.addLast(MatcherOperator.exactTypeMatchOperator(String.class, "last"));
+		sut.getFirstMatched(PropertyUtils.toProperty(String.class));
+
+		// when
+		sut.addFirst(new MatcherOperator<>(property -> true, "first"));
+
+		// then
+		MatcherOperator<String> actual = sut.getFirstMatched(PropertyUtils.toProperty(String.class));
+		then(actual.getOperator()).isEqualTo("first");
+	}
+
+	@Test
+	void getListByPropertyIsInvalidatedWhenAdded() {
+		// given
+		DefaultMatcherOperatorContainer<String> sut = new DefaultMatcherOperatorContainer<>();
+		sut.addLast(MatcherOperator.exactTypeMatchOperator(String.class, "string"));
+		sut.getListByProperty(PropertyUtils.toProperty(String.class));
+
+		// when
+		sut.addLast(MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "charSequence"));
+
+		// then
+		then(sut.getListByProperty(PropertyUtils.toProperty(String.class)))
+			.extracting(MatcherOperator::getOperator)
+			.containsExactly("string", "charSequence");
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class RandomSourceTest {
+	@Test
+	void sameSourceDrawsSameValuesOnOtherThread() {
+		RandomSource source = RandomSource.of(12345L);
+		long expected = source.call(() -> Randoms.current().nextLong());
+
+		long actual = CompletableFuture.supplyAsync(
+			RandomSource.of(12345L).bind(() -> Randoms.current().nextLong())
+		).join();
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void previousRandomIsRestoredUnchanged() {
+		Random previousRandom = Randoms.current();
+		long previousSeed = Randoms.currentSeed();
+
+		RandomSource.of(12345L).call(() -> Randoms.current().nextLong());
+
+		then(Randoms.current()).isSameAs(previousRandom);
+		then(Randoms.currentSeed()).isEqualTo(previousSeed);
+	}
+
+	@Test
+	void boundSourceIsCurrentSeed() {
+		long actual = RandomSource.of(12345L).call(Randoms::currentSeed);
+
+		then(actual).isEqualTo(12345L);
+	}
+
+	@Test
+	void splitIsDeterministic() {
+		RandomSource source = RandomSource.of(12345L);
+
+		then(source.split(3).getSeed()).isEqualTo(RandomSource.of(12345L).split(3).getSeed());
+		then(source.split(3).getSeed()).isNotEqualTo(source.split(4).getSeed());
+	}
+
+	@Test
+	void zeroSeedNotAllowed() {
+		thenThrownBy(() -> RandomSource.of(0L))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
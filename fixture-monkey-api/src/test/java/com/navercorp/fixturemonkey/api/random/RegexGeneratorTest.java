@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.api.random;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
@@ -77,4 +78,44 @@ class RegexGeneratorTest {
 			)
 		).isExactlyInstanceOf(IllegalArgumentException.class);
 	}
+
+	@Test
+	void generateRegExpIgnoringLookaroundThrowsWithoutWaiting() {
+		long start = System.nanoTime();
+
+		thenThrownBy(
+			() -> SUT.generate(
+				"(?=[0-9])[a-z]",
+				new int[] {},
+				it -> true
+			)
+		).isExactlyInstanceOf(IllegalArgumentException.class);
+		then(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	void generateRegExpWithLength() {
+		String result = SUT.generate("[a-z]{2,10}", new int[] {}, 5, 6, it -> true);
+
+		then(result).matches("[a-z]{5,6}");
+	}
+
+	@Test
+	void generateRegExpWithUnreachableLengthThrows() {
+		thenThrownBy(
+			() -> SUT.generate(
+				"^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$",
+				new int[] {},
+				0,
+				3,
+				it -> true
+			)
+		).isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void matchesWithCaseInsensitiveFlag() {
+		then(SUT.matches("a", new int[] {FLAG_CASE_INSENSITIVE}, "A")).isTrue();
+		then(SUT.matches("a", new int[] {}, "A")).isFalse();
+	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+class RegexLengthBoundsTest {
+	@Test
+	void boundedRegex() {
+		RegexLengthBounds actual = RegexLengthBounds.of("ab(c|de)?[0-9]{2,3}");
+
+		then(actual.getMin()).isEqualTo(4);
+		then(actual.getMax()).isEqualTo(7);
+	}
+
+	@Test
+	void unsupportedOrTruncatedRegexIsUnknown() {
+		String[] regexes = {"(a)\\1", "(?i)abc", "a{2", "a{x}", "a{99999999999}", "[abc", "(ab", "\\", "a\\p"};
+
+		for (String regex : regexes) {
+			then(RegexLengthBounds.of(regex)).as(regex).isSameAs(RegexLengthBounds.UNKNOWN);
+		}
+	}
+}
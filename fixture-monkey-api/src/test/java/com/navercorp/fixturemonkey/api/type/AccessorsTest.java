@@ -0,0 +1,160 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class AccessorsTest {
+	@Test
+	void newInstanceByPrivateConstructor() throws Exception {
+		// given
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+		constructor.setAccessible(true);
+
+		// when
+		Target actual = Accessors.newInstance(constructor, 1, "name");
+
+		// then
+		then(actual.number).isEqualTo(1);
+		then(actual.name).isEqualTo("name");
+	}
+
+	@Test
+	void newInstanceWithNullPrimitiveArgumentFallsBackToReflection() throws Exception {
+		// given
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+		constructor.setAccessible(true);
+
+		// when, then
+		thenThrownBy(() -> Accessors.newInstance(constructor, null, "name"))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void setPrivateFieldWithWideningConversion() throws Exception {
+		// given
+		Field field = Target.class.getDeclaredField("number");
+		field.setAccessible(true);
+		Target target = new Target();
+
+		// when
+		Accessors.set(field, target, (short)3);
+
+		// then
+		then(target.number).isEqualTo(3);
+	}
+
+	@Test
+	void setFinalField() throws Exception {
+		// given
+		Field field = Target.class.getDeclaredField("fixed");
+		field.setAccessible(true);
+		Target target = new Target();
+
+		// when
+		Accessors.set(field, target, "changed");
+
+		// then
+		then(field.get(target)).isEqualTo("changed");
+	}
+
+	@Test
+	void invokeSetter() throws Exception {
+		// given
+		Method method = Target.class.getMethod("setName", String.class);
+		Target target = new Target();
+
+		// when
+		Accessors.invoke(method, target, "name");
+
+		// then
+		then(target.name).isEqualTo("name");
+	}
+
+	@Test
+	void invokeStaticFactoryMethod() throws Exception {
+		// given
+		Method method = Target.class.getMethod("of", String.class);
+
+		// when
+		Object actual = Accessors.invoke(method, null, "name");
+
+		// then
+		then(actual).isInstanceOf(Target.class);
+		then(((Target)actual).name).isEqualTo("name");
+	}
+
+	@Test
+	void invokeWrapsThrownException() throws Exception {
+		// given
+		Method method = Target.class.getMethod("fail");
+		Target target = new Target();
+
+		// when, then
+		thenThrownBy(() -> Accessors.invoke(method, target))
+			.isExactlyInstanceOf(InvocationTargetException.class)
+			.hasCauseExactlyInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void inaccessibleConstructorIsDenied() throws Exception {
+		// given
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+
+		// when, then
+		thenThrownBy(() -> Accessors.newInstance(constructor, 1, "name"))
+			.isExactlyInstanceOf(IllegalAccessException.class);
+	}
+
+	public static class Target {
+		private int number;
+		private final String fixed = "fixed";
+		private String name;
+
+		public Target() {
+		}
+
+		private Target(int number, String name) {
+			this.number = number;
+			this.name = name;
+		}
+
+		public static Target of(String name) {
+			Target target = new Target();
+			target.name = name;
+			return target;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void fail() {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.StageBenchmarkSpecs.Shape;
+import com.navercorp.objectfarm.api.node.JavaNodeContext;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTree;
+import com.navercorp.objectfarm.api.tree.JvmNodeTreeTransformer;
+import com.navercorp.objectfarm.api.type.JvmType;
+import com.navercorp.objectfarm.api.type.ReflectiveJvmType;
+
+/**
+ * Measures the two tree stages of object-farm separately:
+ * {@link JvmNodeCandidateTree.Builder#build()} and {@link JvmNodeTreeTransformer#transform}.
+ * The transform benchmarks reuse a single candidate tree built during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NodeTreeBenchmark {
+	@Param({"DEPTH_1", "DEPTH_4", "DEPTH_8", "WIDTH_4", "WIDTH_16", "WIDTH_32"})
+	public Shape shape;
+
+	@Param({"1", "10", "100"})
+	public int collectionSize;
+
+	private JavaNodeContext context;
+	private JvmType rootType;
+	private JvmNodeCandidateTree candidateTree;
+	private JvmNodeTreeTransformer transformer;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		context = StageBenchmarkSupport.nodeContext(collectionSize);
+		rootType = new ReflectiveJvmType(shape.getType());
+		candidateTree = new JvmNodeCandidateTree.Builder(rootType, context).build();
+		transformer = new JvmNodeTreeTransformer(context);
+	}
+
+	@Benchmark
+	public void buildCandidateTree(Blackhole blackhole) {
+		blackhole.consume(new JvmNodeCandidateTree.Builder(rootType, context).build());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void buildCandidateTreeConcurrently(Blackhole blackhole) {
+		blackhole.consume(new JvmNodeCandidateTree.Builder(rootType, context).build());
+	}
+
+	@Benchmark
+	public void transform(Blackhole blackhole) {
+		blackhole.consume(transformer.transform(candidateTree));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void transformConcurrently(Blackhole blackhole) {
+		blackhole.consume(transformer.transform(candidateTree));
+	}
+}
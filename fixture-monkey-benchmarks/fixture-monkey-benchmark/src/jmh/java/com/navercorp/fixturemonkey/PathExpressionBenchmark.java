@@ -0,0 +1,88 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.objectfarm.api.expression.PathExpression;
+
+/**
+ * Measures parsing and matching of {@link PathExpression}.
+ * Expressions descend {@code depth} child properties and select an element of a list of {@code collectionSize}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PathExpressionBenchmark {
+	@Param({"1", "4", "8"})
+	public int depth;
+
+	@Param({"1", "10", "100"})
+	public int collectionSize;
+
+	private String indexExpression;
+	private String wildcardExpression;
+	private PathExpression indexPath;
+	private PathExpression wildcardPath;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		StringBuilder prefix = new StringBuilder("$");
+		for (int i = 1; i < depth; i++) {
+			prefix.append(".child");
+		}
+		indexExpression = prefix + ".values[" + (collectionSize - 1) + "]";
+		wildcardExpression = prefix + ".values[*]";
+		indexPath = PathExpression.of(indexExpression);
+		wildcardPath = PathExpression.of(wildcardExpression);
+	}
+
+	@Benchmark
+	public void parseIndex(Blackhole blackhole) {
+		blackhole.consume(PathExpression.of(indexExpression));
+	}
+
+	@Benchmark
+	public void parseWildcard(Blackhole blackhole) {
+		blackhole.consume(PathExpression.of(wildcardExpression));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void parseIndexConcurrently(Blackhole blackhole) {
+		blackhole.consume(PathExpression.of(indexExpression));
+	}
+
+	@Benchmark
+	public void matchWildcard(Blackhole blackhole) {
+		blackhole.consume(wildcardPath.matches(indexPath));
+	}
+}
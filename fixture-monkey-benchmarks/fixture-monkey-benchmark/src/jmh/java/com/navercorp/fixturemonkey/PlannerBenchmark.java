@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.StageBenchmarkSpecs.Shape;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+import com.navercorp.fixturemonkey.customizer.DirectiveSet;
+import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
+import com.navercorp.objectfarm.api.type.JvmType;
+
+/**
+ * Measures {@link AssemblyPlanner#plan} alone, without assembling the values of the plan.
+ * The tree caches of the planner are warmed up once, so the benchmark reflects repeated samples of a builder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PlannerBenchmark {
+	@Param({"DEPTH_1", "DEPTH_4", "DEPTH_8", "WIDTH_4", "WIDTH_16", "WIDTH_32"})
+	public Shape shape;
+
+	@Param({"1", "10", "100"})
+	public int collectionSize;
+
+	private AssemblyPlanner planner;
+	private FixtureMonkeyOptions options;
+	private JvmType rootType;
+	private DirectiveSet directives;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		TypeCache.clearCache();
+		planner = new AssemblyPlanner(StageBenchmarkSupport.SEED);
+		options = StageBenchmarkSupport.options(collectionSize);
+		rootType = PropertyUtils.toProperty(shape.getType()).getJvmType();
+		directives = new DirectiveSet(Collections.emptyList());
+		planner.plan(rootType, directives, options, null);
+	}
+
+	@Benchmark
+	public void plan(Blackhole blackhole) {
+		blackhole.consume(planner.plan(rootType, directives, options, null));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void planConcurrently(Blackhole blackhole) {
+		blackhole.consume(planner.plan(rootType, directives, options, null));
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.StageBenchmarkSpecs.Shape;
+import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+import com.navercorp.fixturemonkey.customizer.DirectiveSet;
+import com.navercorp.fixturemonkey.planner.AssemblyPlan;
+import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
+import com.navercorp.fixturemonkey.projection.AssembleContext;
+
+/**
+ * Measures the assembly of a {@link AssemblyPlan} into a value, given a plan prepared during setup.
+ * The package-private {@code ValueProjectionAssembler} is driven through
+ * {@link com.navercorp.fixturemonkey.projection.ValueProjection#assemble(AssembleContext)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+	@Param({"DEPTH_1", "DEPTH_4", "DEPTH_8", "WIDTH_4", "WIDTH_16", "WIDTH_32"})
+	public Shape shape;
+
+	@Param({"1", "10", "100"})
+	public int collectionSize;
+
+	private AssemblyPlanner planner;
+	private MonkeyContext monkeyContext;
+	private TreeRootProperty rootProperty;
+	private AssemblyPlan plan;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		TypeCache.clearCache();
+		planner = new AssemblyPlanner(StageBenchmarkSupport.SEED);
+		monkeyContext = MonkeyContext.builder(StageBenchmarkSupport.options(collectionSize)).build();
+		rootProperty = new RootProperty(PropertyUtils.toProperty(shape.getType()));
+		plan = planner.plan(
+			rootProperty.getJvmType(),
+			new DirectiveSet(Collections.emptyList()),
+			monkeyContext.getFixtureMonkeyOptions(),
+			null
+		);
+	}
+
+	@Benchmark
+	public void assemble(Blackhole blackhole) {
+		blackhole.consume(assembleOnce());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void assembleConcurrently(Blackhole blackhole) {
+		blackhole.consume(assembleOnce());
+	}
+
+	private Object assembleOnce() {
+		AssembleContext context = AssembleContext.builder(monkeyContext)
+			.rootProperty(rootProperty)
+			.runtimeTreeFactory(planner)
+			.pathResolverContext(plan.getResolverContext())
+			.nodeMetadataCache(planner.sharedNodeMetadataCache())
+			.inlinedValueResolver(planner.inlinedValueResolver())
+			.build();
+		return plan.getValues().assemble(context).combined();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+
+/**
+ * Measures the throughput of a {@link FixtureMonkey} shared across threads.
+ * Planning takes no lock, so the throughput of {@link #sampleOnFourThreads} should be close to
+ * four times the one of {@link #sampleOnOneThread} on a machine with four cores or more.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SharedInstanceBenchmark {
+	private FixtureMonkey sut;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		TypeCache.clearCache();
+		sut = FixtureMonkey.builder().build();
+		sut.giveMeOne(OrderSheet.class);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void sampleOnOneThread(Blackhole blackhole) {
+		blackhole.consume(sut.giveMeOne(OrderSheet.class));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void sampleOnFourThreads(Blackhole blackhole) {
+		blackhole.consume(sut.giveMeOne(OrderSheet.class));
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.objectfarm.api.node.FixedContainerSizeResolver;
+import com.navercorp.objectfarm.api.node.JavaDefaultNodePromoter;
+import com.navercorp.objectfarm.api.node.JavaMapNodePromoter;
+import com.navercorp.objectfarm.api.node.JavaNodeContext;
+import com.navercorp.objectfarm.api.node.JavaObjectNodePromoter;
+
+/**
+ * Shared fixtures of the per-stage benchmarks.
+ * The container size of every stage is fixed so each benchmark measures a single shape.
+ */
+final class StageBenchmarkSupport {
+	static final long SEED = 1234L;
+
+	private StageBenchmarkSupport() {
+	}
+
+	static FixtureMonkeyOptions options(int collectionSize) {
+		return FixtureMonkeyOptions.builder()
+			.defaultNotNull(true)
+			.defaultArbitraryContainerInfoGenerator(
+				context -> new ArbitraryContainerInfo(collectionSize, collectionSize)
+			)
+			.build();
+	}
+
+	static JavaNodeContext nodeContext(int collectionSize) {
+		return JavaNodeContext.builder()
+			.seed(SEED)
+			.nodePromoters(
+				Collections.singletonList(
+					new JavaDefaultNodePromoter(
+						Arrays.asList(new JavaObjectNodePromoter(), new JavaMapNodePromoter())
+					)
+				)
+			)
+			.containerSizeResolver(new FixedContainerSizeResolver(collectionSize))
+			.build();
+	}
+}
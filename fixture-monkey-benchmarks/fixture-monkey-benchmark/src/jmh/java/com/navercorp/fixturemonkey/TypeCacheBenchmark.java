@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.StageBenchmarkSpecs.Shape;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+
+/**
+ * Measures {@link TypeCache} lookups.
+ * The warm benchmarks look up a type cached once per trial. The cold benchmarks clear the cache
+ * before every invocation, so each of them pays for the reflection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TypeCacheBenchmark {
+	@Param({"DEPTH_1", "DEPTH_8", "WIDTH_4", "WIDTH_32"})
+	public Shape shape;
+
+	private Class<?> type;
+
+	@Setup(value = Level.Trial)
+	public void setUp() {
+		TypeCache.clearCache();
+		type = shape.getType();
+		TypeCache.getFieldsByName(type);
+		TypeCache.getPropertyDescriptorsByPropertyName(type);
+		TypeCache.getDeclaredConstructors(type);
+	}
+
+	@Benchmark
+	public void fieldsByName(Blackhole blackhole) {
+		blackhole.consume(TypeCache.getFieldsByName(type));
+	}
+
+	@Benchmark
+	public void propertyDescriptors(Blackhole blackhole) {
+		blackhole.consume(TypeCache.getPropertyDescriptorsByPropertyName(type));
+	}
+
+	@Benchmark
+	public void declaredConstructors(Blackhole blackhole) {
+		blackhole.consume(TypeCache.getDeclaredConstructors(type));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void fieldsByNameConcurrently(Blackhole blackhole) {
+		blackhole.consume(TypeCache.getFieldsByName(type));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void propertyDescriptorsConcurrently(Blackhole blackhole) {
+		blackhole.consume(TypeCache.getPropertyDescriptorsByPropertyName(type));
+	}
+
+	@Benchmark
+	public void coldFieldsByName(ColdCache coldCache, Blackhole blackhole) {
+		blackhole.consume(TypeCache.getFieldsByName(type));
+	}
+
+	@Benchmark
+	public void coldPropertyDescriptors(ColdCache coldCache, Blackhole blackhole) {
+		blackhole.consume(TypeCache.getPropertyDescriptorsByPropertyName(type));
+	}
+
+	@Benchmark
+	public void coldDeclaredConstructors(ColdCache coldCache, Blackhole blackhole) {
+		blackhole.consume(TypeCache.getDeclaredConstructors(type));
+	}
+
+	/**
+	 * Clears the cache before every invocation of a benchmark using it.
+	 */
+	@State(Scope.Thread)
+	public static class ColdCache {
+		@Setup(value = Level.Invocation)
+		public void clear() {
+			TypeCache.clearCache();
+		}
+	}
+}
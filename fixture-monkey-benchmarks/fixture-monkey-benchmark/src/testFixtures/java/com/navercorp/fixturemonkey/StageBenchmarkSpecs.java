@@ -0,0 +1,242 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Synthetic types for the per-stage benchmarks, shaped by object depth and width.
+ * <p>
+ * Every type declares a {@code List<String> values} property so the container size can be varied
+ * independently of the shape.
+ */
+public final class StageBenchmarkSpecs {
+	private StageBenchmarkSpecs() {
+	}
+
+	public enum Shape {
+		DEPTH_1(Depth1.class),
+		DEPTH_4(Depth4.class),
+		DEPTH_8(Depth8.class),
+		WIDTH_4(Width4.class),
+		WIDTH_16(Width16.class),
+		WIDTH_32(Width32.class);
+
+		private final Class<?> type;
+
+		Shape(Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+	}
+
+	@Data
+	public static class Depth1 {
+		String value;
+
+		List<String> values;
+	}
+
+	@Data
+	public static class Depth2 {
+		String value;
+
+		List<String> values;
+
+		Depth1 child;
+	}
+
+	@Data
+	public static class Depth3 {
+		String value;
+
+		List<String> values;
+
+		Depth2 child;
+	}
+
+	@Data
+	public static class Depth4 {
+		String value;
+
+		List<String> values;
+
+		Depth3 child;
+	}
+
+	@Data
+	public static class Depth5 {
+		String value;
+
+		List<String> values;
+
+		Depth4 child;
+	}
+
+	@Data
+	public static class Depth6 {
+		String value;
+
+		List<String> values;
+
+		Depth5 child;
+	}
+
+	@Data
+	public static class Depth7 {
+		String value;
+
+		List<String> values;
+
+		Depth6 child;
+	}
+
+	@Data
+	public static class Depth8 {
+		String value;
+
+		List<String> values;
+
+		Depth7 child;
+	}
+
+	@Data
+	public static class Width4 {
+		String field0;
+
+		Integer field1;
+
+		Long field2;
+
+		Boolean field3;
+
+		List<String> values;
+	}
+
+	@Data
+	public static class Width16 {
+		String field0;
+
+		Integer field1;
+
+		Long field2;
+
+		Boolean field3;
+
+		String field4;
+
+		Integer field5;
+
+		Long field6;
+
+		Boolean field7;
+
+		String field8;
+
+		Integer field9;
+
+		Long field10;
+
+		Boolean field11;
+
+		String field12;
+
+		Integer field13;
+
+		Long field14;
+
+		Boolean field15;
+
+		List<String> values;
+	}
+
+	@Data
+	public static class Width32 {
+		String field0;
+
+		Integer field1;
+
+		Long field2;
+
+		Boolean field3;
+
+		String field4;
+
+		Integer field5;
+
+		Long field6;
+
+		Boolean field7;
+
+		String field8;
+
+		Integer field9;
+
+		Long field10;
+
+		Boolean field11;
+
+		String field12;
+
+		Integer field13;
+
+		Long field14;
+
+		Boolean field15;
+
+		String field16;
+
+		Integer field17;
+
+		Long field18;
+
+		Boolean field19;
+
+		String field20;
+
+		Integer field21;
+
+		Long field22;
+
+		Boolean field23;
+
+		String field24;
+
+		Integer field25;
+
+		Long field26;
+
+		Boolean field27;
+
+		String field28;
+
+		Integer field29;
+
+		Long field30;
+
+		Boolean field31;
+
+		List<String> values;
+	}
+}
@@ -25,8 +25,12 @@ import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
 import com.navercorp.fixturemonkey.api.matcher.Matcher
 import com.navercorp.fixturemonkey.api.property.Property
 import com.navercorp.fixturemonkey.datafaker.arbitrary.DataFakerStringArbitrary
+import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
 
 class DataFakerArbitraryIntrospector : ArbitraryIntrospector, Matcher {
+    // The keywords are scanned once per property name, the result is reused for every generation.
+    private val dataFakerFieldsByName = ConcurrentHashMap<String, Optional<DataFakerField>>()
 
     override fun match(property: Property): Boolean {
         val fieldName = property.name ?: return false
@@ -34,7 +38,7 @@ class DataFakerArbitraryIntrospector : ArbitraryIntrospector, Matcher {
 
         if (fieldType != String::class.java) return false
 
-        return isDataFakerTargetField(fieldName)
+        return resolveDataFakerField(fieldName) != null
     }
 
     override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
@@ -44,53 +48,51 @@ class DataFakerArbitraryIntrospector : ArbitraryIntrospector, Matcher {
             return ArbitraryIntrospectorResult.NOT_INTROSPECTED
         }
 
-        val fieldName = property.name!!
+        val dataFakerField = resolveDataFakerField(property.name!!)
+            ?: return ArbitraryIntrospectorResult.NOT_INTROSPECTED
 
         return try {
-            val combinableArbitrary = resolveDataFakerArbitrary(fieldName)
-            ArbitraryIntrospectorResult(combinableArbitrary)
+            ArbitraryIntrospectorResult(dataFakerField.arbitrary())
         } catch (e: Exception) {
             ArbitraryIntrospectorResult.NOT_INTROSPECTED
         }
     }
 
-    private fun isDataFakerTargetField(fieldName: String): Boolean {
-        val keywords = listOf(
-            "name", "firstName", "lastName", "fullName",
-            "address", "city", "email",
-            "phone", "phoneNumber",
-            "creditCard"
-        )
-        return keywords.any { fieldName.contains(it, ignoreCase = true) }
-    }
-
-    private fun resolveDataFakerArbitrary(fieldName: String): CombinableArbitrary<*> = when {
-        fieldName.contains("name", ignoreCase = true) ||
-                fieldName.contains("firstName", ignoreCase = true) ||
-                fieldName.contains("lastName", ignoreCase = true) ||
-                fieldName.contains(
-                    "fullName",
-                    ignoreCase = true
-                ) -> DataFakerStringArbitrary.name() as CombinableArbitrary<*>
-
-        fieldName.contains("address", ignoreCase = true) ||
-                fieldName.contains(
-                    "city",
-                    ignoreCase = true
-                ) -> DataFakerStringArbitrary.address() as CombinableArbitrary<*>
-
-        fieldName.contains("email", ignoreCase = true) -> DataFakerStringArbitrary.internet() as CombinableArbitrary<*>
-
-        fieldName.contains(
-            "phone",
-            ignoreCase = true
-        ) -> DataFakerStringArbitrary.phoneNumber() as CombinableArbitrary<*>
-
-        fieldName.contains(
-            "creditCard",
-            ignoreCase = true
-        ) -> DataFakerStringArbitrary.finance() as CombinableArbitrary<*>
-
-        else -> error("No DataFaker arbitrary found for field: $fieldName")
+    private fun resolveDataFakerField(fieldName: String): DataFakerField? =
+        dataFakerFieldsByName.computeIfAbsent(fieldName) { name ->
+            Optional.ofNullable(DataFakerField.values().firstOrNull { it.matches(name) })
+        }.orElse(null)
+
+    /**
+     * The kinds of fields DataFaker generates, in the order their keywords are checked.
+     */
+    private enum class DataFakerField(
+        private val keywords: List<String>,
+        private val arbitraryFactory: () -> CombinableArbitrary<*>
+    ) {
+        NAME(
+            listOf("name", "firstName", "lastName", "fullName"),
+            { DataFakerStringArbitrary.name() as CombinableArbitrary<*> }
+        ),
+        ADDRESS(
+            listOf("address", "city"),
+            { DataFakerStringArbitrary.address() as CombinableArbitrary<*> }
+        ),
+        EMAIL(
+            listOf("email"),
+            { DataFakerStringArbitrary.internet() as CombinableArbitrary<*> }
+        ),
+        PHONE(
+            listOf("phone", "phoneNumber"),
+            { DataFakerStringArbitrary.phoneNumber() as CombinableArbitrary<*> }
+        ),
+        CREDIT_CARD(
+            listOf("creditCard"),
+            { DataFakerStringArbitrary.finance() as CombinableArbitrary<*> }
+        );
+
+        fun matches(fieldName: String): Boolean = keywords.any { fieldName.contains(it, ignoreCase = true) }
+
+        fun arbitrary(): CombinableArbitrary<*> = arbitraryFactory()
     }
 }
@@ -52,7 +52,7 @@ public final class JacksonCombinableArbitrary<T> implements CombinableArbitrary<
 
 	/**
 	 * It would generate a serialized object.
-	 * @return a map representing JsonObject or JsonArray
+	 * @return a {@code TokenBuffer} holding a JsonObject, or a list or map representing JsonArray or JsonObject
 	 */
 	@Override
 	public Object rawValue() {
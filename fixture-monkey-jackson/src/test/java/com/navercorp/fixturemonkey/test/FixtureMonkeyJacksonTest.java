@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.test;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -126,6 +127,59 @@ class FixtureMonkeyJacksonTest {
 		then(actual).isNotNull();
 	}
 
+	@Test
+	void setNestedValue() {
+		String actual = SUT.giveMeBuilder(NestedStringValue.class)
+			.set("value.innerValue", "expected")
+			.sample()
+			.getValue()
+			.getInnerValue();
+
+		then(actual).isEqualTo("expected");
+	}
+
+	@Test
+	void setPrimitiveValues() {
+		PrimitiveValue actual = SUT.giveMeBuilder(PrimitiveValue.class)
+			.set("intValue", 1)
+			.set("longValue", 2L)
+			.set("booleanValue", true)
+			.set("doubleValue", 3.5)
+			.set("bigDecimalValue", new BigDecimal("4.5"))
+			.sample();
+
+		then(actual.getIntValue()).isEqualTo(1);
+		then(actual.getLongValue()).isEqualTo(2L);
+		then(actual.isBooleanValue()).isTrue();
+		then(actual.getDoubleValue()).isEqualTo(3.5);
+		then(actual.getBigDecimalValue()).isEqualByComparingTo("4.5");
+	}
+
+	@Test
+	void setJsonFormatValues() {
+		LocalDate localDate = LocalDate.of(2024, 1, 2);
+
+		JsonFormatSpec actual = SUT.giveMeBuilder(JsonFormatSpec.class)
+			.set("jsonEnum", JsonEnum.TWO)
+			.set("localDate", localDate)
+			.sample();
+
+		then(actual.getJsonEnum()).isEqualTo(JsonEnum.TWO);
+		then(actual.getLocalDate()).isEqualTo(localDate);
+	}
+
+	@Test
+	void setListNestedElementValue() {
+		List<StringValue> actual = SUT.giveMeBuilder(new TypeReference<GenericObject<List<StringValue>>>() {
+			})
+			.size("value", 2)
+			.set("value[*].innerValue", "expected")
+			.sample()
+			.getValue();
+
+		then(actual).extracting(StringValue::getInnerValue).containsExactly("expected", "expected");
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -162,6 +216,19 @@ class FixtureMonkeyJacksonTest {
 		JsonNode value;
 	}
 
+	@Value
+	public static class PrimitiveValue {
+		int intValue;
+
+		long longValue;
+
+		boolean booleanValue;
+
+		double doubleValue;
+
+		BigDecimal bigDecimalValue;
+	}
+
 	@Value
 	public static class StringValue {
 		String innerValue;
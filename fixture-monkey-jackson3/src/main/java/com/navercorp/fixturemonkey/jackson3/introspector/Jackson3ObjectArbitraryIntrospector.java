@@ -25,12 +25,12 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -38,11 +38,19 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.util.TokenBuffer;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
@@ -62,94 +70,121 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 		FixtureMonkeyJackson3.defaultJsonMapper()
 	);
 
+	private static final int CACHE_SIZE = 1024;
+	private static final TypeFactory TYPE_FACTORY = TypeFactory.createDefaultInstance();
+
 	private final ObjectMapper objectMapper;
+	private final ObjectWriter objectWriter;
+	private final Map<Type, ObjectReader> objectReadersByType = new ConcurrentClockCache<>(CACHE_SIZE);
+	private final Map<String, DateTimeFormatter> dateTimeFormattersByPattern =
+		new ConcurrentClockCache<>(CACHE_SIZE);
 
 	public Jackson3ObjectArbitraryIntrospector(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
 		Property property = context.getResolvedProperty();
-		TypeFactory typeFactory = TypeFactory.createDefaultInstance();
 		Type propertyType = Types.toAnnotatedType(property.getJvmType()).getType();
-		JavaType type = typeFactory.constructType(new Jackson3TypeReference<>() {
-			@Override
-			public Type getType() {
-				return propertyType;
-			}
-		});
+		ObjectReader objectReader = objectReadersByType.computeIfAbsent(
+			propertyType,
+			it -> objectMapper.readerFor(toJavaType(it))
+		);
 
 		return new ArbitraryIntrospectorResult(
 			new Jackson3CombinableArbitrary<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(context.getCombinableArbitrariesByArbitraryProperty())
 					.build(combineAsJson(property)),
-				map -> objectMapper.convertValue(map, type)
+				json -> deserialize((TokenBuffer)json, objectReader)
 			)
 		);
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * Writes the property values as the tokens of a JSON object.
+	 * A nested object is written by its own introspector, its tokens are copied without being deserialized.
+	 */
 	private Function<Map<ArbitraryProperty, Object>, Object> combineAsJson(Property property) {
+		// The type information is resolved once per introspection instead of once per property value.
+		JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
+		@Nullable String typeIdentifier = jsonTypeInfo != null
+			? getJsonTypeInfoIdentifier(jsonTypeInfo, property)
+			: null;
+		boolean wrapperObject = jsonTypeInfo != null && jsonTypeInfo.include() == As.WRAPPER_OBJECT;
+		boolean useBigDecimalForFloats = objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
 		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> map = initializeMap(property);
-
-			propertyValuesByArbitraryProperty.entrySet()
-				.stream()
-				.filter(it -> isJacksonSerializableProperty(it.getKey().getObjectProperty().getProperty()))
-				.forEach(
-					entry -> {
-						ArbitraryProperty arbitraryProperty = entry.getKey();
-						Object value = entry.getValue();
-
-						String resolvePropertyName = arbitraryProperty.getObjectProperty()
-							.getResolvedPropertyName();
-
-						if (value != null) {
-							Object jsonFormatted = arbitraryProperty.getObjectProperty()
-								.getProperty()
-								.getAnnotation(JsonFormat.class)
-								.map(it -> format(value, it))
-								.orElse(value);
-
-							JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property,
-								JsonTypeInfo.class);
-							if (jsonTypeInfo == null) {
-								map.put(resolvePropertyName, jsonFormatted);
-							} else {
-								if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-									String typeIdentifier = getJsonTypeInfoIdentifier(
-										jsonTypeInfo,
-										property
-									);
-
-									Map<String, Object> typeJson =
-										(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
-									typeJson.put(resolvePropertyName, jsonFormatted);
-									map.put(typeIdentifier, typeJson);
-								}
-							}
-						}
+			TokenBuffer json = TokenBuffer.forGeneration().forceUseOfBigDecimal(useBigDecimalForFloats);
+			try {
+				json.writeStartObject();
+				if (jsonTypeInfo != null && !wrapperObject) {
+					json.writeName(getJsonTypeInfoPropertyName(jsonTypeInfo));
+					json.writeString(typeIdentifier);
+				}
+
+				boolean wrapperStarted = false;
+				for (Map.Entry<ArbitraryProperty, Object> entry : propertyValuesByArbitraryProperty.entrySet()) {
+					ArbitraryProperty arbitraryProperty = entry.getKey();
+					Object value = entry.getValue();
+					Property childProperty = arbitraryProperty.getObjectProperty().getProperty();
+
+					if (value == null
+						|| !isJacksonSerializableProperty(childProperty)
+						|| (jsonTypeInfo != null && !wrapperObject)) {
+						continue;
 					}
-				);
-			return map;
+
+					if (wrapperObject && !wrapperStarted) {
+						json.writeName(typeIdentifier);
+						json.writeStartObject();
+						wrapperStarted = true;
+					}
+
+					json.writeName(arbitraryProperty.getObjectProperty().getResolvedPropertyName());
+					writeValue(
+						json,
+						childProperty.getAnnotation(JsonFormat.class)
+							.map(it -> format(value, it))
+							.orElse(value)
+					);
+				}
+
+				if (wrapperStarted) {
+					json.writeEndObject();
+				}
+				json.writeEndObject();
+			} catch (JacksonException ex) {
+				throw new IllegalArgumentException(ex.getMessage(), ex);
+			}
+			return json;
 		};
 	}
 
-	private Map<String, Object> initializeMap(Property property) {
-		Map<String, Object> defaultMap = new HashMap<>();
-
-		JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
-		if (jsonTypeInfo == null || jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-			return defaultMap;
+	private void writeValue(TokenBuffer json, Object value) {
+		if (value instanceof TokenBuffer tokenBuffer) {
+			tokenBuffer.serialize(json);
+		} else if (value instanceof String string) {
+			json.writeString(string);
+		} else if (value instanceof Integer integer) {
+			json.writeNumber(integer);
+		} else if (value instanceof Long longValue) {
+			json.writeNumber(longValue);
+		} else if (value instanceof Boolean bool) {
+			json.writeBoolean(bool);
+		} else {
+			objectWriter.writeValue(json, value);
 		}
+	}
 
-		String jsonTypeInfoValue = getJsonTypeInfoIdentifier(jsonTypeInfo, property);
-		String jsonTypeInfoPropertyName = getJsonTypeInfoPropertyName(jsonTypeInfo);
-
-		defaultMap.put(jsonTypeInfoPropertyName, jsonTypeInfoValue);
-		return defaultMap;
+	private static Object deserialize(TokenBuffer json, ObjectReader objectReader) {
+		try (JsonParser parser = json.asParser()) {
+			return objectReader.readValue(parser);
+		} catch (JacksonException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
 	}
 
 	private String getJsonTypeInfoPropertyName(JsonTypeInfo jsonTypeInfo) {
@@ -185,7 +220,8 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 	}
 
 	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
+		DateTimeFormatter dateTimeFormatter = dateTimeFormattersByPattern
+			.computeIfAbsent(jsonFormat.pattern(), DateTimeFormatter::ofPattern)
 			.withZone(ZoneId.systemDefault());
 
 		if (object instanceof TemporalAccessor temporalAccessor) {
@@ -202,6 +238,15 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 		}
 	}
 
+	private static JavaType toJavaType(Type propertyType) {
+		return TYPE_FACTORY.constructType(new Jackson3TypeReference<>() {
+			@Override
+			public Type getType() {
+				return propertyType;
+			}
+		});
+	}
+
 	private boolean isJacksonSerializableProperty(Property property) {
 		if (property instanceof CompositeProperty compositeProperty) {
 			return isJacksonSerializableProperty(compositeProperty.getPrimaryProperty())
@@ -37,6 +37,18 @@ import com.navercorp.fixturemonkey.jakarta.validation.validator.JakartaArbitrary
 public final class JakartaValidationPlugin implements Plugin {
 	private final JavaConstraintGenerator jakartaValidationConstraintGenerator =
 		new JakartaValidationConstraintGenerator();
+	private boolean propertyValidation = false;
+
+	/**
+	 * Validates each property against its own constraints as soon as it is generated.
+	 * A property that is not valid is re-created without discarding the whole object.
+	 * Types without any constraints are not validated at all.
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public JakartaValidationPlugin propertyValidation() {
+		this.propertyValidation = true;
+		return this;
+	}
 
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
@@ -55,6 +67,6 @@ public final class JakartaValidationPlugin implements Plugin {
 					)
 				)
 			)
-			.defaultArbitraryValidator(new JakartaArbitraryValidator());
+			.defaultArbitraryValidator(new JakartaArbitraryValidator(propertyValidation));
 	}
 }
@@ -37,13 +37,19 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BigDecimalIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BigIntegerIntrospectorSpec;
@@ -60,6 +66,8 @@ import com.navercorp.fixturemonkey.jakarta.validation.spec.ShortIntrospectorSpec
 import com.navercorp.fixturemonkey.jakarta.validation.spec.StringIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.TimeFutureIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.TimePastIntrospectorSpec;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.HistogramGenerationMetrics;
 
 class JakartaValidationFixtureMonkeyTest {
 	private static final FixtureMonkey SUT = FixtureMonkey.builder()
@@ -509,4 +517,51 @@ class JakartaValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Test
+	void introspectedValueMissingConstraintIsFilteredNotRewritten() {
+		AtomicInteger count = new AtomicInteger();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new JakartaValidationPlugin())
+			.defaultNotNull(true)
+			.pushArbitraryIntrospector(
+				new MatcherOperator<>(
+					property -> "minValue".equals(property.getName()),
+					context -> new ArbitraryIntrospectorResult(
+						CombinableArbitrary.from((Supplier<Integer>)() -> count.getAndIncrement() % 2 == 0 ? 50 : 120)
+					)
+				)
+			)
+			.build();
+
+		for (int i = 0; i < 10; i++) {
+			int actual = sut.giveMeOne(IntIntrospectorSpec.class).getMinValue();
+
+			then(actual).isEqualTo(120);
+		}
+	}
+
+	@Test
+	void propertyValidationRetriesPropertyWithoutRetryingRoot() {
+		HistogramGenerationMetrics metrics = GenerationMetrics.histogram();
+		AtomicInteger count = new AtomicInteger();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new JakartaValidationPlugin().propertyValidation())
+			.generationMetrics(metrics)
+			.pushArbitraryIntrospector(
+				new MatcherOperator<>(
+					property -> "assertTrue".equals(property.getName()),
+					context -> new ArbitraryIntrospectorResult(
+						CombinableArbitrary.from((Supplier<Boolean>)() -> count.getAndIncrement() % 2 != 0)
+					)
+				)
+			)
+			.build();
+
+		List<BooleanIntrospectorSpec> actual = sut.giveMe(BooleanIntrospectorSpec.class, 10);
+
+		then(actual).allMatch(BooleanIntrospectorSpec::isAssertTrue);
+		then(count.get()).isGreaterThanOrEqualTo(20);
+		then(metrics.getRetryCount(BooleanIntrospectorSpec.class)).isZero();
+	}
 }
@@ -37,6 +37,18 @@ import com.navercorp.fixturemonkey.javax.validation.validator.JavaxArbitraryVali
 public final class JavaxValidationPlugin implements Plugin {
 	private final JavaConstraintGenerator javaxValidationConstraintGenerator =
 		new JavaxValidationConstraintGenerator();
+	private boolean propertyValidation = false;
+
+	/**
+	 * Validates each property against its own constraints as soon as it is generated.
+	 * A property that is not valid is re-created without discarding the whole object.
+	 * Types without any constraints are not validated at all.
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public JavaxValidationPlugin propertyValidation() {
+		this.propertyValidation = true;
+		return this;
+	}
 
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
@@ -55,6 +67,6 @@ public final class JavaxValidationPlugin implements Plugin {
 					)
 				)
 			)
-			.defaultArbitraryValidator(new JavaxArbitraryValidator());
+			.defaultArbitraryValidator(new JavaxArbitraryValidator(propertyValidation));
 	}
 }
@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.javax.validation.validator;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -26,20 +28,41 @@ import javax.validation.Path;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
 import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 
 @API(since = "0.5.6", status = Status.MAINTAINED)
 public final class JavaxArbitraryValidator implements ArbitraryValidator {
+	private static final int CONSTRAINT_CACHE_SIZE = 2048;
+
+	private final boolean propertyValidation;
+	private final Map<Class<?>, Boolean> beanConstrainedByType = new ConcurrentClockCache<>(CONSTRAINT_CACHE_SIZE);
+	private final Map<Class<?>, Set<String>> constrainedPropertyNamesByType =
+		new ConcurrentClockCache<>(CONSTRAINT_CACHE_SIZE);
 	private @Nullable Validator validator;
 
 	public JavaxArbitraryValidator() {
+		this(false);
+	}
+
+	/**
+	 * Creates a validator.
+	 *
+	 * @param propertyValidation whether to validate each property against its own constraints as it is generated,
+	 *                           a property that is not valid would be re-created without discarding the whole object
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public JavaxArbitraryValidator(boolean propertyValidation) {
+		this.propertyValidation = propertyValidation;
 		try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
 			this.validator = factory.getValidator();
 		} catch (Exception e) {
@@ -49,8 +72,9 @@ public final class JavaxArbitraryValidator implements ArbitraryValidator {
 
 	@Override
 	public void validate(Object arbitrary) {
-		if (this.validator != null) {
-			Set<ConstraintViolation<Object>> violations = this.validator.validate(arbitrary);
+		Validator validator = this.validator;
+		if (validator != null && isBeanConstrained(validator, arbitrary.getClass())) {
+			Set<ConstraintViolation<Object>> violations = validator.validate(arbitrary);
 
 			Set<String> constraintViolationPropertyNames = violations.stream()
 				.<@NonNull Path>map(ConstraintViolation::getPropertyPath)
@@ -65,4 +89,48 @@ public final class JavaxArbitraryValidator implements ArbitraryValidator {
 			}
 		}
 	}
+
+	@Override
+	public boolean isConstrained(Class<?> type, String propertyName) {
+		Validator validator = this.validator;
+		if (!propertyValidation || validator == null || !isBeanConstrained(validator, type)) {
+			return false;
+		}
+
+		return constrainedPropertyNamesByType.computeIfAbsent(type, it -> getConstrainedPropertyNames(validator, it))
+			.contains(propertyName);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void validateProperty(Class<?> type, String propertyName, @Nullable Object value) {
+		Validator validator = this.validator;
+		if (validator == null) {
+			return;
+		}
+
+		Set<? extends ConstraintViolation<?>> violations =
+			validator.validateValue((Class<Object>)type, propertyName, value);
+
+		if (!violations.isEmpty()) {
+			throw new ValidationFailedException(
+				"DefaultArbitraryValidator ConstraintViolations. type: " + type + ", property: " + propertyName,
+				Collections.singleton(propertyName)
+			);
+		}
+	}
+
+	private boolean isBeanConstrained(Validator validator, Class<?> type) {
+		return beanConstrainedByType.computeIfAbsent(
+			type,
+			it -> validator.getConstraintsForClass(it).isBeanConstrained()
+		);
+	}
+
+	private static Set<String> getConstrainedPropertyNames(Validator validator, Class<?> type) {
+		BeanDescriptor beanDescriptor = validator.getConstraintsForClass(type);
+		return beanDescriptor.getConstrainedProperties().stream()
+			.map(PropertyDescriptor::getPropertyName)
+			.collect(Collectors.toSet());
+	}
 }
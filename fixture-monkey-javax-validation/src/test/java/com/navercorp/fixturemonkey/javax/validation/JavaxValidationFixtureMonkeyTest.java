@@ -60,6 +60,7 @@ import com.navercorp.fixturemonkey.javax.validation.spec.ShortIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.StringIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.TimeFutureIntrospectorSpec;
 import com.navercorp.fixturemonkey.javax.validation.spec.TimePastIntrospectorSpec;
+import com.navercorp.fixturemonkey.javax.validation.validator.JavaxArbitraryValidator;
 
 class JavaxValidationFixtureMonkeyTest {
 	private static final FixtureMonkey SUT = FixtureMonkey.builder()
@@ -509,4 +510,28 @@ class JavaxValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Test
+	void samplePropertyValidation() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new JavaxValidationPlugin().propertyValidation())
+			.defaultNotNull(true)
+			.build();
+
+		StringIntrospectorSpec actual = sut.giveMeOne(StringIntrospectorSpec.class);
+
+		then(actual.getNotBlank()).isNotBlank();
+		then(actual.getSize()).hasSizeBetween(5, 10);
+		then(actual.getPattern()).matches("[e-o]");
+	}
+
+	@Test
+	void propertyValidationSkipsUnconstrainedProperty() {
+		JavaxArbitraryValidator validator = new JavaxArbitraryValidator(true);
+
+		then(validator.isConstrained(StringIntrospectorSpec.class, "notBlank")).isTrue();
+		then(validator.isConstrained(StringIntrospectorSpec.class, "str")).isFalse();
+		then(validator.isConstrained(String.class, "value")).isFalse();
+		then(new JavaxArbitraryValidator().isConstrained(StringIntrospectorSpec.class, "notBlank")).isFalse();
+	}
 }
@@ -32,6 +32,7 @@ import com.navercorp.fixturemonkey.customizer.InnerSpec
 import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder
 import net.jqwik.api.Arbitrary
 import net.jqwik.api.Combinators
+import java.util.concurrent.ForkJoinPool
 import java.util.function.BiConsumer
 import java.util.function.BiFunction
 import java.util.function.Consumer
@@ -220,6 +221,8 @@ open class KotlinTypeDefaultArbitraryBuilder<T> internal constructor(val delegat
 
     override fun sampleList(size: Int): List<T> = delegate.sampleList(size)
 
+    override fun sampleListParallel(size: Int, pool: ForkJoinPool): List<T> = delegate.sampleListParallel(size, pool)
+
     override fun validOnly(validOnly: Boolean): KotlinTypeDefaultArbitraryBuilder<T> =
         this.apply { delegate.validOnly(validOnly) }
 
@@ -44,6 +44,7 @@ import com.navercorp.fixturemonkey.api.property.TypeNameProperty
 import com.navercorp.fixturemonkey.api.type.TypeReference
 import com.navercorp.fixturemonkey.api.type.Types
 import com.navercorp.fixturemonkey.kotlin.introspector.CompanionObjectFactoryMethodIntrospector
+import com.navercorp.fixturemonkey.kotlin.introspector.KotlinConstructorInvoker
 import com.navercorp.fixturemonkey.kotlin.introspector.KotlinPropertyArbitraryIntrospector
 import com.navercorp.fixturemonkey.kotlin.property.KotlinConstructorParameterProperty
 import com.navercorp.fixturemonkey.kotlin.property.KotlinPropertyGenerator
@@ -247,6 +248,8 @@ class KotlinInstantiatorProcessor :
 
     internal class KotlinConstructorArbitraryIntrospector(private val kotlinConstructor: KFunction<*>) :
         ArbitraryIntrospector {
+        private val invoker = KotlinConstructorInvoker.of(kotlinConstructor)
+
         override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult =
             ArbitraryIntrospectorResult(
                 CombinableArbitrary.objectBuilder()
@@ -264,7 +267,7 @@ class KotlinInstantiatorProcessor :
                         }
 
                         kotlinConstructor.isAccessible = true
-                        kotlinConstructor.callBy(sanitizeNullForPrimitives(kotlinConstructor, finalValues))
+                        invoker.callBy(sanitizeNullForPrimitives(kotlinConstructor, finalValues))
                     },
             )
 
@@ -0,0 +1,201 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.introspector
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache
+import com.navercorp.fixturemonkey.api.type.Accessors
+import java.lang.reflect.Constructor
+import kotlin.reflect.KClass
+import kotlin.reflect.KFunction
+import kotlin.reflect.KParameter
+import kotlin.reflect.KType
+import kotlin.reflect.jvm.javaConstructor
+
+/**
+ * Invokes a Kotlin constructor through its underlying Java constructor instead of [KFunction.call] and
+ * [KFunction.callBy].
+ *
+ * The Java constructors are resolved once per constructor. When optional parameters are omitted, it invokes
+ * the synthetic constructor taking the default-argument bitmasks and a `DefaultConstructorMarker`,
+ * the same one `callBy` delegates to. Both are invoked by [Accessors] with the arguments in parameter order,
+ * so no map of [KParameter] is built. The argument array is allocated per call, it is not reused,
+ * since the arguments are spread into a new array for the vararg of [Accessors.newInstance] anyway.
+ *
+ * Constructors whose Java signature differs from the Kotlin one fall back to kotlin-reflect,
+ * for example inner class constructors or constructors of or taking a value class.
+ */
+internal class KotlinConstructorInvoker private constructor(
+    private val function: KFunction<*>,
+    private val constructor: Constructor<*>?,
+    private val defaultsConstructor: Constructor<*>?,
+) {
+    private val parameters: List<KParameter> = function.parameters
+    private val placeholders: Array<Any?> = arrayOfNulls(parameters.size)
+
+    init {
+        val parameterTypes = constructor?.parameterTypes ?: emptyArray()
+        for ((index, parameterType) in parameterTypes.withIndex()) {
+            if (parameterType.isPrimitive) {
+                placeholders[index] = primitiveDefault(parameterType)
+            }
+        }
+    }
+
+    /**
+     * Invokes the constructor with all arguments given in parameter order.
+     */
+    fun call(arguments: Array<Any?>): Any? {
+        if (constructor == null) {
+            return function.call(*arguments)
+        }
+        return Accessors.newInstance(constructor, *arguments)
+    }
+
+    /**
+     * Invokes the constructor with the arguments given in parameter order,
+     * the parameters not included are omitted and take their default values.
+     *
+     * The omitted parameters are passed as the zero value of their type with their bits set in the masks,
+     * in an argument array allocated for this call.
+     */
+    fun callBy(arguments: Array<Any?>, includedParameters: BooleanArray): Any? {
+        if (includedParameters.all { it }) {
+            return call(arguments)
+        }
+
+        val canUseDefaults = defaultsConstructor != null &&
+            parameters.indices.all { includedParameters[it] || parameters[it].isOptional }
+        if (!canUseDefaults) {
+            return function.callBy(toArgumentsByParameter(arguments, includedParameters))
+        }
+
+        val maskCount = maskCount(parameters.size)
+        val defaultsArguments = arrayOfNulls<Any>(parameters.size + maskCount + 1)
+        val masks = IntArray(maskCount)
+        for (index in parameters.indices) {
+            if (includedParameters[index]) {
+                defaultsArguments[index] = arguments[index]
+            } else {
+                defaultsArguments[index] = placeholders[index]
+                masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or (1 shl (index % Int.SIZE_BITS))
+            }
+        }
+        for ((index, mask) in masks.withIndex()) {
+            defaultsArguments[parameters.size + index] = mask
+        }
+        return Accessors.newInstance(defaultsConstructor!!, *defaultsArguments)
+    }
+
+    /**
+     * Invokes the constructor with the given arguments, the parameters not given take their default values.
+     *
+     * @see KFunction.callBy
+     */
+    fun callBy(argumentsByParameter: Map<KParameter, Any?>): Any? {
+        val arguments = arrayOfNulls<Any>(parameters.size)
+        val includedParameters = BooleanArray(parameters.size)
+        for ((index, parameter) in parameters.withIndex()) {
+            if (argumentsByParameter.containsKey(parameter)) {
+                arguments[index] = argumentsByParameter[parameter]
+                includedParameters[index] = true
+            }
+        }
+        return callBy(arguments, includedParameters)
+    }
+
+    private fun toArgumentsByParameter(
+        arguments: Array<Any?>,
+        includedParameters: BooleanArray,
+    ): Map<KParameter, Any?> {
+        val argumentsByParameter = LinkedHashMap<KParameter, Any?>(parameters.size)
+        for ((index, parameter) in parameters.withIndex()) {
+            if (includedParameters[index]) {
+                argumentsByParameter[parameter] = arguments[index]
+            }
+        }
+        return argumentsByParameter
+    }
+
+    companion object {
+        private const val DEFAULT_CONSTRUCTOR_MARKER = "kotlin.jvm.internal.DefaultConstructorMarker"
+        private val INVOKERS = ConcurrentClockCache<KFunction<*>, KotlinConstructorInvoker>(2048)
+
+        fun of(function: KFunction<*>): KotlinConstructorInvoker = INVOKERS.computeIfAbsent(function) {
+            val constructor = resolveConstructor(it)
+            val defaultsConstructor = constructor?.let { resolved -> resolveDefaultsConstructor(resolved) }
+            KotlinConstructorInvoker(it, constructor, defaultsConstructor)
+        }
+
+        private fun resolveConstructor(function: KFunction<*>): Constructor<*>? {
+            val constructor = try {
+                function.javaConstructor
+            } catch (ex: Exception) {
+                null
+            } ?: return null
+
+            if (function.returnType.isValueClass() ||
+                constructor.isVarArgs ||
+                constructor.parameterCount != function.parameters.size ||
+                function.parameters.any { it.kind != KParameter.Kind.VALUE || it.isVararg || it.type.isValueClass() }
+            ) {
+                return null
+            }
+            return constructor.accessible()
+        }
+
+        /**
+         * Finds the synthetic constructor with the same leading parameters followed by the default-argument
+         * bitmasks and a `DefaultConstructorMarker`. It exists only if the constructor has an optional parameter.
+         */
+        private fun resolveDefaultsConstructor(constructor: Constructor<*>): Constructor<*>? {
+            val parameterTypes = constructor.parameterTypes
+            val maskCount = maskCount(parameterTypes.size)
+            return constructor.declaringClass.declaredConstructors.firstOrNull { candidate ->
+                val candidateTypes = candidate.parameterTypes
+                candidate.isSynthetic &&
+                    candidateTypes.size == parameterTypes.size + maskCount + 1 &&
+                    candidateTypes.last().name == DEFAULT_CONSTRUCTOR_MARKER &&
+                    (0 until maskCount).all { candidateTypes[parameterTypes.size + it] == java.lang.Integer.TYPE } &&
+                    parameterTypes.indices.all { candidateTypes[it] == parameterTypes[it] }
+            }?.accessible()
+        }
+
+        private fun maskCount(parameterCount: Int): Int = (parameterCount + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+
+        private fun KType.isValueClass(): Boolean = (classifier as? KClass<*>)?.isValue == true
+
+        private fun Constructor<*>.accessible(): Constructor<*>? = try {
+            apply { isAccessible = true }
+        } catch (ex: RuntimeException) {
+            null
+        }
+
+        private fun primitiveDefault(type: Class<*>): Any = when (type) {
+            java.lang.Boolean.TYPE -> false
+            java.lang.Byte.TYPE -> 0.toByte()
+            java.lang.Short.TYPE -> 0.toShort()
+            java.lang.Integer.TYPE -> 0
+            java.lang.Long.TYPE -> 0L
+            java.lang.Float.TYPE -> 0.0f
+            java.lang.Double.TYPE -> 0.0
+            java.lang.Character.TYPE -> '\u0000'
+            else -> 0
+        }
+    }
+}
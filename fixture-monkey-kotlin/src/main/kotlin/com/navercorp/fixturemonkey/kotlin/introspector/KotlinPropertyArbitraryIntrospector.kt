@@ -21,12 +21,15 @@ import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
+import com.navercorp.fixturemonkey.api.type.Accessors
 import com.navercorp.fixturemonkey.api.type.Types
 import com.navercorp.fixturemonkey.kotlin.type.cachedKotlin
+import kotlin.reflect.KClass
 import kotlin.reflect.KMutableProperty
 import kotlin.reflect.KVisibility
 import kotlin.reflect.full.createInstance
 import kotlin.reflect.full.declaredMemberProperties
+import kotlin.reflect.jvm.javaSetter
 
 class KotlinPropertyArbitraryIntrospector : ArbitraryIntrospector {
     override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
@@ -39,6 +42,12 @@ class KotlinPropertyArbitraryIntrospector : ArbitraryIntrospector {
             CombinableArbitrary.from { kotlinType.createInstance() }
         }
 
+        val settersByPropertyName = kotlinType.declaredMemberProperties
+            .filter { it is KMutableProperty<*> }
+            .map { it as KMutableProperty<*> }
+            .filter { it.setter.visibility == KVisibility.INTERNAL || it.setter.visibility == KVisibility.PUBLIC }
+            .map { it.name to it.compiledSetter() }
+
         return ArbitraryIntrospectorResult(
             CombinableArbitrary.objectBuilder()
                 .properties(context.combinableArbitrariesByArbitraryProperty)
@@ -47,21 +56,29 @@ class KotlinPropertyArbitraryIntrospector : ArbitraryIntrospector {
                     val valuesByPropertyName =
                         arbitraryListByArbitraryProperty.mapKeys { it.key.objectProperty.property.name }
 
-                    kotlinType.declaredMemberProperties
-                        .filter { it is KMutableProperty<*> }
-                        .map { it as KMutableProperty<*> }
-                        .filter { it.setter.visibility == KVisibility.INTERNAL || it.setter.visibility == KVisibility.PUBLIC }
-                        .forEach {
-                            if (valuesByPropertyName.containsKey(it.name)) {
-                                it.setter.call(instance, valuesByPropertyName[it.name])
-                            }
+                    settersByPropertyName.forEach { (name, setter) ->
+                        if (valuesByPropertyName.containsKey(name)) {
+                            setter(instance, valuesByPropertyName[name])
                         }
+                    }
 
                     instance
                 },
         )
     }
 
+    /**
+     * Sets the property through its Java setter by [Accessors] instead of [KMutableProperty.setter] call.
+     * A property of a value class type is set by kotlin-reflect since its Java setter takes the unboxed value.
+     */
+    private fun KMutableProperty<*>.compiledSetter(): (Any?, Any?) -> Unit {
+        val javaSetter = this.javaSetter
+        if (javaSetter == null || (returnType.classifier as? KClass<*>)?.isValue == true) {
+            return { instance, value -> setter.call(instance, value) }
+        }
+        return { instance, value -> Accessors.invoke(javaSetter, instance, value) }
+    }
+
     companion object {
         val INSTANCE = KotlinPropertyArbitraryIntrospector()
     }
@@ -34,7 +34,6 @@ import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.MAINTAINED
 import org.slf4j.LoggerFactory
 import java.lang.reflect.Modifier
-import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
 
 @API(since = "0.4.0", status = MAINTAINED)
@@ -64,6 +63,8 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
             LOGGER.warn("Given type $type is failed to generated due to the exception. It may be null.", ex)
             return ArbitraryIntrospectorResult.NOT_INTROSPECTED
         }
+        val invoker = KotlinConstructorInvoker.of(constructor)
+        val parameters = constructor.parameters
 
         return ArbitraryIntrospectorResult(
             CombinableArbitrary.objectBuilder()
@@ -74,16 +75,16 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
                         arbitrariesByPropertyName[arbitraryProperty.objectProperty.property.name] = value
                     }
 
-                    callConstructor(constructor, arbitrariesByPropertyName)
+                    callConstructor(invoker, parameters, arbitrariesByPropertyName)
                 },
         )
     }
 
     private fun callConstructor(
-        constructor: KFunction<*>,
+        invoker: KotlinConstructorInvoker,
+        parameters: List<KParameter>,
         arbitrariesByPropertyName: Map<String?, Any?>
     ): Any? {
-        val parameters = constructor.parameters
         val arguments = arrayOfNulls<Any>(parameters.size)
         val includedParameters = BooleanArray(parameters.size)
         var hasSkippedOptionalParameter = false
@@ -99,16 +100,9 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
         }
 
         if (!hasSkippedOptionalParameter) {
-            return constructor.call(*arguments)
-        }
-
-        val generatedByParameters = LinkedHashMap<KParameter, Any?>(parameters.size)
-        for ((index, parameter) in parameters.withIndex()) {
-            if (includedParameters[index]) {
-                generatedByParameters[parameter] = arguments[index]
-            }
+            return invoker.call(arguments)
         }
-        return constructor.callBy(generatedByParameters)
+        return invoker.callBy(arguments, includedParameters)
     }
 
     override fun getRequiredPropertyGenerator(p: Property): PropertyGenerator = PROPERTY_GENERATOR
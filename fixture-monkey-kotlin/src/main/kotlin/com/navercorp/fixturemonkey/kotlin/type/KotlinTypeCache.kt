@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.kotlin.type
 
-import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache
 import kotlin.jvm.internal.Reflection
 import kotlin.reflect.KClass
 import kotlin.reflect.KFunction
@@ -27,10 +27,10 @@ import kotlin.reflect.full.memberFunctions
 import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.isAccessible
 
-private val CONSTRUCTORS = ConcurrentLruCache<KClass<*>, Collection<KFunction<*>>>(2048)
-private val KOTLIN_TYPES = ConcurrentLruCache<Class<*>, KClass<*>>(2048)
-private val MEMBER_FUNCTIONS = ConcurrentLruCache<KClass<*>, Collection<KFunction<*>>>(2048)
-private val CONSTRUCTOR_CACHE = ConcurrentLruCache<Class<*>, KFunction<*>>(2048)
+private val CONSTRUCTORS = ConcurrentClockCache<KClass<*>, Collection<KFunction<*>>>(2048)
+private val KOTLIN_TYPES = ConcurrentClockCache<Class<*>, KClass<*>>(2048)
+private val MEMBER_FUNCTIONS = ConcurrentClockCache<KClass<*>, Collection<KFunction<*>>>(2048)
+private val CONSTRUCTOR_CACHE = ConcurrentClockCache<Class<*>, KFunction<*>>(2048)
 
 fun Class<*>.declaredKotlinConstructors(): Collection<KFunction<*>> =
     CONSTRUCTORS.computeIfAbsent(this.cachedKotlin()) { it.constructors }
@@ -81,6 +81,22 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         then(actual.stringValue).isEqualTo("default_value")
     }
 
+    @Test
+    fun samplePrimitiveDefaultValueWhenOptionalParametersAreSkipped() {
+        // when
+        val actual = sut.giveMeKotlinBuilder<PrimitiveDefaultValue>()
+            .set(PrimitiveDefaultValue::stringValue, "value")
+            .set(PrimitiveDefaultValue::longValue, null)
+            .set(PrimitiveDefaultValue::doubleValue, null)
+            .sample()
+
+        assertAll(
+            { then(actual.stringValue).isEqualTo("value") },
+            { then(actual.longValue).isEqualTo(7L) },
+            { then(actual.doubleValue).isEqualTo(0.5) },
+        )
+    }
+
     @Test
     fun sampleNullableDefaultValue() {
         // when
@@ -58,6 +58,12 @@ class NullableDefaultValue(
     val stringValue: String? = "default_value",
 )
 
+class PrimitiveDefaultValue private constructor(
+    val stringValue: String,
+    val longValue: Long = 7L,
+    val doubleValue: Double = 0.5,
+)
+
 class SecondaryConstructor(
     val intValue: Int,
     val stringValue: String,
@@ -0,0 +1,17 @@
+plugins {
+    id("com.navercorp.fixturemonkey.gradle.plugin.java-conventions")
+    id("com.navercorp.fixturemonkey.gradle.plugin.maven-publish-conventions")
+}
+
+dependencies {
+    implementation(libs.apiguardian.api)
+
+    testImplementation(projects.objectFarmApi)
+    testImplementation(libs.junit.jupiter.engine)
+    testImplementation(libs.junit.platform.engine)
+    testImplementation(libs.assertj.core)
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
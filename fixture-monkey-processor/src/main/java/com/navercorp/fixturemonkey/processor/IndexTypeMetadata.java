@@ -0,0 +1,51 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Marks a type whose metadata is indexed by {@link TypeMetadataProcessor}, including its nested classes.
+ * <p>
+ * The types of the main sources are usually indexed from a type of the test sources listing them,
+ * which keeps the processor and this annotation off the main classpath.
+ * <pre>{@code
+ * @IndexTypeMetadata({Order.class, Customer.class})
+ * class FixtureTypes {
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public @interface IndexTypeMetadata {
+	/**
+	 * The types to index instead of the annotated type, including their nested classes.
+	 * The annotated type itself is indexed if none is given.
+	 */
+	Class<?>[] value() default {};
+}
@@ -0,0 +1,701 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Indexes the metadata Fixture Monkey otherwise introspects by reflection on first use of a type.
+ * <p>
+ * For every class annotated with {@link IndexTypeMetadata} and its nested classes, it records the JavaBeans
+ * properties and the parameter names of the constructors. It generates a {@code TypeMetadataProvider} registered
+ * in {@code META-INF/services}, which {@code TypeMetadataIndex} loads at runtime before falling back to
+ * {@link java.beans.Introspector} and {@link java.lang.reflect.Parameter}.
+ * <p>
+ * Fixture Monkey is a test library, so the processor belongs to the test sources, listing the types of the main
+ * sources in {@link IndexTypeMetadata#value()}. The generated provider implements a type of
+ * {@code object-farm-api}, which Fixture Monkey brings to the test classpath.
+ * <pre>{@code
+ * dependencies {
+ *     testCompileOnly("com.navercorp.fixturemonkey:fixture-monkey-processor:${version}")
+ *     testAnnotationProcessor("com.navercorp.fixturemonkey:fixture-monkey-processor:${version}")
+ * }
+ * }</pre>
+ * <p>
+ * The parameter names of a constructor are indexed from its sources, so Fixture Monkey can call the constructors of
+ * a type compiled without {@code -parameters} once it is indexed, which it does not otherwise.
+ * The types read from class files, such as the types of the main sources listed from the test sources,
+ * only have their parameter names indexed if they are compiled with {@code -parameters}.
+ * <p>
+ * The bean properties of a type are left to introspection if it can not mirror {@link java.beans.Introspector},
+ * for example a type with an explicit {@code BeanInfo}, indexed properties or generic accessors.
+ * <p>
+ * It is registered as an aggregating processor for the incremental compilation of Gradle, which reprocesses
+ * the unchanged annotated types from their class files.
+ * <p>
+ * It supports the options below.
+ * <ul>
+ *     <li>{@value #PACKAGES_OPTION}: the comma-separated packages to index, including their subpackages.
+ *     All packages by default.</li>
+ *     <li>{@value #GENERATED_PACKAGE_OPTION}: the package of the generated provider.
+ *     The common package of the indexed types by default.</li>
+ * </ul>
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class TypeMetadataProcessor extends AbstractProcessor {
+	public static final String PACKAGES_OPTION = "fixturemonkey.typeMetadata.packages";
+	public static final String GENERATED_PACKAGE_OPTION = "fixturemonkey.typeMetadata.generatedPackage";
+
+	private static final String PROVIDER_INTERFACE = "com.navercorp.objectfarm.api.type.TypeMetadataProvider";
+	private static final String TYPE_METADATA = "com.navercorp.objectfarm.api.type.TypeMetadata";
+	private static final String GENERATED_CLASS_PREFIX = "FixtureMonkeyTypeMetadata_";
+	private static final String DEFAULT_GENERATED_PACKAGE = "fixturemonkey.generated";
+	private static final int TYPES_PER_METHOD = 100;
+
+	private final List<String> generatedProviders = new ArrayList<>();
+	private List<String> packages = Collections.emptyList();
+	@Nullable
+	private String generatedPackage;
+	private boolean missingProviderReported;
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		String packagesOption = processingEnv.getOptions().get(PACKAGES_OPTION);
+		if (packagesOption != null) {
+			this.packages = Arrays.stream(packagesOption.split(","))
+				.map(String::trim)
+				.filter(it -> !it.isEmpty())
+				.collect(Collectors.toList());
+		}
+		this.generatedPackage = processingEnv.getOptions().get(GENERATED_PACKAGE_OPTION);
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(IndexTypeMetadata.class.getName());
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+		return new HashSet<>(Arrays.asList(PACKAGES_OPTION, GENERATED_PACKAGE_OPTION));
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		Set<TypeElement> collectedTypes = new LinkedHashSet<>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				List<TypeElement> listedTypes = listedTypes(element, annotation);
+				if (listedTypes.isEmpty()) {
+					collectTypes(element, collectedTypes);
+				} else {
+					for (TypeElement listedType : listedTypes) {
+						collectTypes(listedType, collectedTypes);
+					}
+				}
+			}
+		}
+		if (collectedTypes.isEmpty()) {
+			return false;
+		}
+
+		if (processingEnv.getElementUtils().getTypeElement(PROVIDER_INTERFACE) == null) {
+			if (!missingProviderReported) {
+				missingProviderReported = true;
+				processingEnv.getMessager().printMessage(
+					Kind.WARNING,
+					PROVIDER_INTERFACE + " is not on the classpath, type metadata is not indexed."
+				);
+			}
+			return false;
+		}
+
+		List<TypeElement> types = new ArrayList<>(collectedTypes);
+		List<String> metadataSources = new ArrayList<>();
+		for (TypeElement type : types) {
+			String metadataSource = toMetadataSource(type);
+			if (metadataSource != null) {
+				metadataSources.add(metadataSource);
+			}
+		}
+		if (!metadataSources.isEmpty()) {
+			writeProvider(types, metadataSources);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the types listed in {@link IndexTypeMetadata#value()} of the element.
+	 */
+	private List<TypeElement> listedTypes(Element element, TypeElement annotation) {
+		List<TypeElement> listedTypes = new ArrayList<>();
+		for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+			if (!annotationMirror.getAnnotationType().asElement().equals(annotation)) {
+				continue;
+			}
+
+			for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+				: annotationMirror.getElementValues().entrySet()) {
+				if (!"value".contentEquals(entry.getKey().getSimpleName())) {
+					continue;
+				}
+
+				for (Object value : (List<?>)entry.getValue().getValue()) {
+					TypeMirror listedType = (TypeMirror)((AnnotationValue)value).getValue();
+					if (listedType.getKind() == TypeKind.DECLARED) {
+						listedTypes.add((TypeElement)((DeclaredType)listedType).asElement());
+					}
+				}
+			}
+		}
+		return listedTypes;
+	}
+
+	private void collectTypes(Element element, Set<TypeElement> types) {
+		ElementKind kind = element.getKind();
+		boolean record = "RECORD".equals(kind.name());
+		if (kind != ElementKind.CLASS && !record && kind != ElementKind.INTERFACE && kind != ElementKind.ENUM) {
+			return;
+		}
+
+		TypeElement type = (TypeElement)element;
+		if ((kind == ElementKind.CLASS || record)
+			&& isIndexedPackage(type)
+			&& !type.getSimpleName().toString().startsWith(GENERATED_CLASS_PREFIX)) {
+			types.add(type);
+		}
+
+		for (Element enclosed : type.getEnclosedElements()) {
+			collectTypes(enclosed, types);
+		}
+	}
+
+	private boolean isIndexedPackage(TypeElement type) {
+		if (packages.isEmpty()) {
+			return true;
+		}
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		for (String indexedPackage : packages) {
+			if (packageName.equals(indexedPackage) || packageName.startsWith(indexedPackage + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the builder expression of the type metadata, or null if the type refers to an unresolved type.
+	 */
+	@Nullable
+	private String toMetadataSource(TypeElement type) {
+		StringBuilder source = new StringBuilder();
+		source.append("\t\tmetadata.add(").append(TYPE_METADATA).append(".builder(")
+			.append(quote(binaryName(type))).append(")\n")
+			.append("\t\t\t.memberCount(").append(countMembers(type)).append(")\n");
+
+		try {
+			List<BeanPropertyModel> beanProperties = collectBeanProperties(type);
+			if (beanProperties == null) {
+				source.append("\t\t\t.beanPropertiesIndexed(false)\n");
+			} else {
+				for (BeanPropertyModel beanProperty : beanProperties) {
+					source.append("\t\t\t.beanProperty(")
+						.append(quote(beanProperty.name)).append(", ")
+						.append(quote(beanProperty.readMethodName)).append(", ")
+						.append(quote(beanProperty.writeMethodName)).append(", ")
+						.append(quote(beanProperty.propertyTypeName)).append(")\n");
+				}
+			}
+
+			if (!isInnerClass(type)) {
+				for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+					List<? extends VariableElement> parameters = constructor.getParameters();
+					if (parameters.isEmpty()) {
+						continue;
+					}
+
+					List<String> parameterTypeNames = new ArrayList<>();
+					List<String> parameterNames = new ArrayList<>();
+					for (VariableElement parameter : parameters) {
+						parameterTypeNames.add(typeName(parameter.asType()));
+						parameterNames.add(parameter.getSimpleName().toString());
+					}
+					if (isSynthesized(parameterNames)) {
+						continue;
+					}
+					source.append("\t\t\t.constructor(")
+						.append(toArraySource(parameterTypeNames)).append(", ")
+						.append(toArraySource(parameterNames)).append(")\n");
+				}
+			}
+		} catch (UnresolvedTypeException ex) {
+			return null;
+		}
+
+		source.append("\t\t\t.build());\n");
+		return source.toString();
+	}
+
+	/**
+	 * Counts the constructors of the type and the public instance methods of the type and its superclasses,
+	 * as {@code TypeMetadataIndex} counts them at runtime to ignore the metadata of a type changed since.
+	 */
+	private static int countMembers(TypeElement type) {
+		int count = ElementFilter.constructorsIn(type.getEnclosedElements()).size();
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+			for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+				Set<Modifier> modifiers = method.getModifiers();
+				if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+					count++;
+				}
+			}
+			current = superclass(current);
+		}
+		return count;
+	}
+
+	/**
+	 * Collects the JavaBeans properties the way {@link java.beans.Introspector} does for the public methods of
+	 * the type and its superclasses, or returns null if the type has a property it can not mirror.
+	 */
+	@Nullable
+	private List<BeanPropertyModel> collectBeanProperties(TypeElement type) {
+		Elements elements = processingEnv.getElementUtils();
+		Map<String, ExecutableElement> methodsBySignature = new LinkedHashMap<>();
+		TypeElement current = type;
+		while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+			if (elements.getTypeElement(current.getQualifiedName() + "BeanInfo") != null
+				|| hasDefaultAccessor(current)) {
+				return null;
+			}
+
+			for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+				Set<Modifier> modifiers = method.getModifiers();
+				if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+					methodsBySignature.putIfAbsent(signature(method), method);
+				}
+			}
+			current = superclass(current);
+		}
+
+		Map<String, ExecutableElement> gettersByName = new LinkedHashMap<>();
+		Map<String, List<ExecutableElement>> settersByName = new LinkedHashMap<>();
+		for (ExecutableElement method : methodsBySignature.values()) {
+			String methodName = method.getSimpleName().toString();
+			int parameterCount = method.getParameters().size();
+			TypeKind returnKind = method.getReturnType().getKind();
+
+			if (isIndexedAccessor(methodName, method)) {
+				return null;
+			}
+
+			if (parameterCount == 0 && methodName.startsWith("is") && methodName.length() > 2
+				&& returnKind == TypeKind.BOOLEAN) {
+				gettersByName.put(decapitalize(methodName.substring(2)), method);
+			} else if (parameterCount == 0 && methodName.startsWith("get") && methodName.length() > 3
+				&& returnKind != TypeKind.VOID) {
+				gettersByName.putIfAbsent(decapitalize(methodName.substring(3)), method);
+			} else if (parameterCount == 1 && methodName.startsWith("set") && methodName.length() > 3
+				&& returnKind == TypeKind.VOID) {
+				settersByName.computeIfAbsent(decapitalize(methodName.substring(3)), it -> new ArrayList<>())
+					.add(method);
+			}
+		}
+
+		Set<String> propertyNames = new LinkedHashSet<>(gettersByName.keySet());
+		propertyNames.addAll(settersByName.keySet());
+
+		List<BeanPropertyModel> beanProperties = new ArrayList<>();
+		for (String propertyName : propertyNames) {
+			ExecutableElement getter = gettersByName.get(propertyName);
+			List<ExecutableElement> setters = settersByName.getOrDefault(propertyName, Collections.emptyList());
+
+			String propertyTypeName;
+			ExecutableElement setter = null;
+			if (getter != null) {
+				if (isGeneric(getter.getReturnType())) {
+					return null;
+				}
+				propertyTypeName = typeName(getter.getReturnType());
+				for (ExecutableElement candidate : setters) {
+					TypeMirror parameterType = candidate.getParameters().get(0).asType();
+					if (!isGeneric(parameterType) && typeName(parameterType).equals(propertyTypeName)) {
+						setter = candidate;
+						break;
+					}
+				}
+			} else {
+				if (setters.size() != 1 || isGeneric(setters.get(0).getParameters().get(0).asType())) {
+					return null;
+				}
+				setter = setters.get(0);
+				propertyTypeName = typeName(setter.getParameters().get(0).asType());
+			}
+
+			beanProperties.add(
+				new BeanPropertyModel(
+					propertyName,
+					getter != null ? getter.getSimpleName().toString() : null,
+					setter != null ? setter.getSimpleName().toString() : null,
+					propertyTypeName
+				)
+			);
+		}
+		return beanProperties;
+	}
+
+	/**
+	 * Returns whether an interface of the type declares a default accessor,
+	 * which only the introspector of recent JDKs takes into account.
+	 */
+	private boolean hasDefaultAccessor(TypeElement type) {
+		for (TypeMirror interfaceType : type.getInterfaces()) {
+			if (interfaceType.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			TypeElement interfaceElement = (TypeElement)((DeclaredType)interfaceType).asElement();
+			for (ExecutableElement method : ElementFilter.methodsIn(interfaceElement.getEnclosedElements())) {
+				String methodName = method.getSimpleName().toString();
+				if (method.getModifiers().contains(Modifier.DEFAULT)
+					&& (methodName.startsWith("get") || methodName.startsWith("is") || methodName.startsWith("set"))) {
+					return true;
+				}
+			}
+			if (hasDefaultAccessor(interfaceElement)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isIndexedAccessor(String methodName, ExecutableElement method) {
+		List<? extends VariableElement> parameters = method.getParameters();
+		if (parameters.isEmpty() || parameters.get(0).asType().getKind() != TypeKind.INT) {
+			return false;
+		}
+		return (methodName.startsWith("get") && parameters.size() == 1)
+			|| (methodName.startsWith("set") && parameters.size() == 2);
+	}
+
+	/**
+	 * Returns whether the parameter names are the ones javac synthesizes for a class file compiled
+	 * without {@code -parameters}, which are left to reflection.
+	 */
+	private static boolean isSynthesized(List<String> parameterNames) {
+		for (int i = 0; i < parameterNames.size(); i++) {
+			if (!parameterNames.get(i).equals("arg" + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Nullable
+	private static TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement)((DeclaredType)superclass).asElement();
+	}
+
+	private static boolean isInnerClass(TypeElement type) {
+		return type.getNestingKind() != NestingKind.TOP_LEVEL && !type.getModifiers().contains(Modifier.STATIC);
+	}
+
+	private static boolean isGeneric(TypeMirror type) {
+		if (type.getKind() == TypeKind.TYPEVAR) {
+			return true;
+		}
+		if (type.getKind() == TypeKind.ARRAY) {
+			return isGeneric(((ArrayType)type).getComponentType());
+		}
+		return false;
+	}
+
+	private String signature(ExecutableElement method) {
+		StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+		for (VariableElement parameter : method.getParameters()) {
+			signature.append(typeName(parameter.asType())).append(',');
+		}
+		return signature.append(')').toString();
+	}
+
+	/**
+	 * Returns the name of the erased type as returned by {@link Class#getName()}.
+	 */
+	private String typeName(TypeMirror type) {
+		TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+		switch (erased.getKind()) {
+			case ARRAY:
+				return descriptor(erased).replace('/', '.');
+			case DECLARED:
+				return binaryName((TypeElement)((DeclaredType)erased).asElement());
+			case ERROR:
+				throw new UnresolvedTypeException();
+			default:
+				if (erased.getKind().isPrimitive()) {
+					return erased.toString();
+				}
+				throw new UnresolvedTypeException();
+		}
+	}
+
+	private String descriptor(TypeMirror type) {
+		Types types = processingEnv.getTypeUtils();
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return "Z";
+			case BYTE:
+				return "B";
+			case CHAR:
+				return "C";
+			case SHORT:
+				return "S";
+			case INT:
+				return "I";
+			case LONG:
+				return "J";
+			case FLOAT:
+				return "F";
+			case DOUBLE:
+				return "D";
+			case ARRAY:
+				return "[" + descriptor(types.erasure(((ArrayType)type).getComponentType()));
+			case DECLARED:
+				return "L" + binaryName((TypeElement)((DeclaredType)type).asElement()) + ";";
+			default:
+				throw new UnresolvedTypeException();
+		}
+	}
+
+	private String binaryName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeProvider(List<TypeElement> types, List<String> metadataSources) {
+		List<String> typeNames = types.stream()
+			.map(this::binaryName)
+			.sorted()
+			.collect(Collectors.toList());
+		String packageName = generatedPackage != null ? generatedPackage : commonPackage(types);
+		String className = GENERATED_CLASS_PREFIX + Integer.toHexString(String.join(",", typeNames).hashCode());
+		String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("/**\n")
+			.append(" * Generated by ").append(TypeMetadataProcessor.class.getName()).append(", do not edit.\n")
+			.append(" */\n")
+			.append("public final class ").append(className).append(" implements ").append(PROVIDER_INTERFACE)
+			.append(" {\n")
+			.append("\t@Override\n")
+			.append("\tpublic java.util.Collection<").append(TYPE_METADATA).append("> getTypeMetadata() {\n")
+			.append("\t\tjava.util.List<").append(TYPE_METADATA).append("> metadata = new java.util.ArrayList<>(")
+			.append(metadataSources.size()).append(");\n");
+
+		int methodCount = (metadataSources.size() + TYPES_PER_METHOD - 1) / TYPES_PER_METHOD;
+		for (int i = 0; i < methodCount; i++) {
+			source.append("\t\tadd").append(i).append("(metadata);\n");
+		}
+		source.append("\t\treturn metadata;\n")
+			.append("\t}\n");
+
+		// splits the registrations so that no method exceeds the size limit of the class file format.
+		for (int i = 0; i < methodCount; i++) {
+			source.append("\n\tprivate static void add").append(i).append("(java.util.List<").append(TYPE_METADATA)
+				.append("> metadata) {\n");
+			int end = Math.min((i + 1) * TYPES_PER_METHOD, metadataSources.size());
+			for (String metadataSource : metadataSources.subList(i * TYPES_PER_METHOD, end)) {
+				source.append(metadataSource);
+			}
+			source.append("\t}\n");
+		}
+		source.append("}\n");
+
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler()
+				.createSourceFile(qualifiedName, types.toArray(new Element[0]));
+			try (Writer writer = sourceFile.openWriter()) {
+				writer.write(source.toString());
+			}
+			generatedProviders.add(qualifiedName);
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.WARNING,
+				"Failed to write the type metadata provider " + qualifiedName + ": " + ex.getMessage()
+			);
+		}
+	}
+
+	private void writeServiceFile() {
+		if (generatedProviders.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject serviceFile = processingEnv.getFiler()
+				.createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + PROVIDER_INTERFACE);
+			try (Writer writer = serviceFile.openWriter()) {
+				for (String generatedProvider : generatedProviders) {
+					writer.write(generatedProvider);
+					writer.write("\n");
+				}
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.WARNING,
+				"Failed to register the type metadata providers: " + ex.getMessage()
+			);
+		}
+	}
+
+	private String commonPackage(List<TypeElement> types) {
+		Elements elements = processingEnv.getElementUtils();
+		String[] common = null;
+		int commonLength = 0;
+		for (TypeElement type : types) {
+			String[] segments = elements.getPackageOf(type).getQualifiedName().toString().split("\\.");
+			if (common == null) {
+				common = segments;
+				commonLength = segments.length;
+				continue;
+			}
+
+			int length = 0;
+			while (length < commonLength && length < segments.length && common[length].equals(segments[length])) {
+				length++;
+			}
+			commonLength = length;
+		}
+
+		if (common == null || commonLength == 0 || common[0].isEmpty()) {
+			return DEFAULT_GENERATED_PACKAGE;
+		}
+		return String.join(".", Arrays.asList(common).subList(0, commonLength));
+	}
+
+	/**
+	 * Mirrors {@link java.beans.Introspector#decapitalize(String)}.
+	 */
+	private static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+			return name;
+		}
+		char[] chars = name.toCharArray();
+		chars[0] = Character.toLowerCase(chars[0]);
+		return new String(chars);
+	}
+
+	private static String quote(@Nullable String value) {
+		if (value == null) {
+			return "null";
+		}
+		return "\"" + value + "\"";
+	}
+
+	private static String toArraySource(List<String> values) {
+		return values.stream()
+			.map(TypeMetadataProcessor::quote)
+			.collect(Collectors.joining(", ", "new String[] {", "}"));
+	}
+
+	private static final class BeanPropertyModel {
+		private final String name;
+		@Nullable
+		private final String readMethodName;
+		@Nullable
+		private final String writeMethodName;
+		private final String propertyTypeName;
+
+		private BeanPropertyModel(
+			String name,
+			@Nullable String readMethodName,
+			@Nullable String writeMethodName,
+			String propertyTypeName
+		) {
+			this.name = name;
+			this.readMethodName = readMethodName;
+			this.writeMethodName = writeMethodName;
+			this.propertyTypeName = propertyTypeName;
+		}
+	}
+
+	private static final class UnresolvedTypeException extends RuntimeException {
+		private UnresolvedTypeException() {
+			super(null, null, false, false);
+		}
+	}
+}
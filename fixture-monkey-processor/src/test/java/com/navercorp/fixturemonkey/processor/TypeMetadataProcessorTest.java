@@ -0,0 +1,249 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.processor;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.navercorp.objectfarm.api.type.TypeMetadata;
+import com.navercorp.objectfarm.api.type.TypeMetadata.BeanProperty;
+import com.navercorp.objectfarm.api.type.TypeMetadataIndex;
+import com.navercorp.objectfarm.api.type.TypeMetadataProvider;
+
+class TypeMetadataProcessorTest {
+	private static final String SOURCE = "package sample;\n"
+		+ "@com.navercorp.fixturemonkey.processor.IndexTypeMetadata\n"
+		+ "public class Order {\n"
+		+ "\tprivate final String id;\n"
+		+ "\tprivate boolean paid;\n"
+		+ "\tpublic Order(String id, int[] quantities) { this.id = id; }\n"
+		+ "\tpublic String getId() { return id; }\n"
+		+ "\tpublic boolean isPaid() { return paid; }\n"
+		+ "\tpublic void setPaid(boolean paid) { this.paid = paid; }\n"
+		+ "\tpublic static class Item<T> {\n"
+		+ "\t\tpublic T getValue() { return null; }\n"
+		+ "\t}\n"
+		+ "}\n"
+		+ "class Unmarked {\n"
+		+ "\tpublic Unmarked(String name) {}\n"
+		+ "}\n"
+		+ "@com.navercorp.fixturemonkey.processor.IndexTypeMetadata\n"
+		+ "class Payment {\n"
+		+ "\tpublic Payment(long amount) {}\n"
+		+ "\tpublic long getAmount() { return 0L; }\n"
+		+ "}\n";
+
+	private static final String CHANGED_SOURCE = "package sample;\n"
+		+ "class Payment {\n"
+		+ "\tpublic Payment(long amount) {}\n"
+		+ "\tpublic long getAmount() { return 0L; }\n"
+		+ "\tpublic String getCurrency() { return null; }\n"
+		+ "}\n";
+
+	private static final String LISTING_SOURCE = "package fixture;\n"
+		+ "@com.navercorp.fixturemonkey.processor.IndexTypeMetadata(sample.Customer.class)\n"
+		+ "class FixtureTypes {\n"
+		+ "}\n";
+
+	private static final String LISTED_SOURCE = "package sample;\n"
+		+ "public class Customer {\n"
+		+ "\tprivate final String name;\n"
+		+ "\tpublic Customer(String name) { this.name = name; }\n"
+		+ "\tpublic String getName() { return name; }\n"
+		+ "}\n";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void indexBeanPropertiesAndConstructorParameterNames() throws Exception {
+		Map<String, TypeMetadata> metadataByTypeName = compile();
+
+		TypeMetadata actual = metadataByTypeName.get("sample.Order");
+		then(actual.isBeanPropertiesIndexed()).isTrue();
+		then(actual.getBeanProperties())
+			.extracting(BeanProperty::getName, BeanProperty::getReadMethodName, BeanProperty::getWriteMethodName)
+			.containsExactlyInAnyOrder(
+				tuple("id", "getId", null),
+				tuple("paid", "isPaid", "setPaid")
+			);
+		then(actual.getConstructors()).hasSize(1);
+		then(actual.getConstructors().get(0).getParameterTypeNames()).containsExactly("java.lang.String", "[I");
+		then(actual.getConstructors().get(0).getParameterNames()).containsExactly("id", "quantities");
+		then(actual.getMemberCount()).isEqualTo(4);
+	}
+
+	@Test
+	void genericAccessorIsLeftToIntrospection() throws Exception {
+		Map<String, TypeMetadata> metadataByTypeName = compile();
+
+		TypeMetadata actual = metadataByTypeName.get("sample.Order$Item");
+
+		then(actual.isBeanPropertiesIndexed()).isFalse();
+	}
+
+	@Test
+	void typeWithoutAnnotationIsNotIndexed() throws Exception {
+		Map<String, TypeMetadata> metadataByTypeName = compile();
+
+		then(metadataByTypeName).doesNotContainKey("sample.Unmarked");
+	}
+
+	@Test
+	void indexIsReadAtRuntime() throws Exception {
+		Path classes = compileSource();
+		// the class changed since it was indexed comes first, as if the index was left behind.
+		Path changedClasses = compile("changed", "Payment.java", CHANGED_SOURCE, false);
+		URLClassLoader classLoader = new URLClassLoader(
+			new URL[] {changedClasses.toUri().toURL(), classes.toUri().toURL()},
+			TypeMetadataProcessorTest.class.getClassLoader()
+		);
+		Class<?> orderType = Class.forName("sample.Order", false, classLoader);
+		Constructor<?> constructor = orderType.getConstructor(String.class, int[].class);
+		Class<?> paymentType = Class.forName("sample.Payment", false, classLoader);
+
+		// TypeMetadataIndex loads the providers of the context class loader once, no other test looks it up.
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		Map<String, PropertyDescriptor> propertyDescriptors;
+		String[] parameterNames;
+		TypeMetadata changedMetadata;
+		try {
+			propertyDescriptors = TypeMetadataIndex.findPropertyDescriptors(orderType);
+			parameterNames = TypeMetadataIndex.findParameterNames(constructor);
+			changedMetadata = TypeMetadataIndex.find(paymentType);
+		} finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+
+		then(propertyDescriptors).containsOnlyKeys("id", "paid");
+		then(propertyDescriptors.get("id").getReadMethod()).isEqualTo(orderType.getMethod("getId"));
+		then(propertyDescriptors.get("id").getWriteMethod()).isNull();
+		then(propertyDescriptors.get("paid").getWriteMethod()).isEqualTo(orderType.getMethod("setPaid", boolean.class));
+		// compiled without -parameters, reflection only knows the synthesized names.
+		then(constructor.getParameters()[0].getName()).isEqualTo("arg0");
+		then(parameterNames).containsExactly("id", "quantities");
+		then(changedMetadata).isNull();
+	}
+
+	@Test
+	void indexListedTypesFromClassFiles() throws Exception {
+		Path mainClasses = compile("main", "Customer.java", LISTED_SOURCE, false);
+		Path testClasses = compile("test", "FixtureTypes.java", LISTING_SOURCE, true, mainClasses);
+
+		Map<String, TypeMetadata> metadataByTypeName = load(testClasses, mainClasses);
+
+		then(metadataByTypeName).containsOnlyKeys("sample.Customer");
+		TypeMetadata actual = metadataByTypeName.get("sample.Customer");
+		then(actual.getBeanProperties())
+			.extracting(BeanProperty::getName)
+			.containsExactly("name");
+		// read from a class file compiled without -parameters, the synthesized names are not indexed.
+		then(actual.getConstructors()).isEmpty();
+	}
+
+	private Map<String, TypeMetadata> compile() throws IOException {
+		return load(compileSource());
+	}
+
+	private Map<String, TypeMetadata> load(Path... classes) throws IOException {
+		URL[] urls = new URL[classes.length];
+		for (int i = 0; i < classes.length; i++) {
+			urls[i] = classes[i].toUri().toURL();
+		}
+		URLClassLoader classLoader = new URLClassLoader(urls, TypeMetadataProcessorTest.class.getClassLoader());
+		List<TypeMetadata> metadata = new ArrayList<>();
+		for (TypeMetadataProvider provider : ServiceLoader.load(TypeMetadataProvider.class, classLoader)) {
+			metadata.addAll(provider.getTypeMetadata());
+		}
+		return metadata.stream()
+			.collect(Collectors.toMap(TypeMetadata::getTypeName, it -> it));
+	}
+
+	private Path compileSource() throws IOException {
+		return compile("classes", "Order.java", SOURCE, true);
+	}
+
+	private Path compile(
+		String name,
+		String fileName,
+		String source,
+		boolean processed,
+		Path... classpath
+	) throws IOException {
+		Path sourceDirectory = Files.createDirectory(directory.resolve(name + "-sources"));
+		Path sourceFile = sourceDirectory.resolve(fileName);
+		Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+		Path output = Files.createDirectory(directory.resolve(name));
+
+		StringBuilder classpathOption = new StringBuilder(System.getProperty("java.class.path"));
+		for (Path path : classpath) {
+			classpathOption.append(File.pathSeparator).append(path);
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+		List<String> options = new ArrayList<>(Arrays.asList(
+			"-classpath", classpathOption.toString(),
+			"-d", output.toString(),
+			"-s", output.toString()
+		));
+		if (!processed) {
+			options.add("-proc:none");
+		}
+		JavaCompiler.CompilationTask task = compiler.getTask(
+			null,
+			fileManager,
+			null,
+			options,
+			null,
+			fileManager.getJavaFileObjects(sourceFile.toFile())
+		);
+		if (processed) {
+			task.setProcessors(Collections.singletonList(new TypeMetadataProcessor()));
+		}
+		then(task.call()).isTrue();
+		return output;
+	}
+}
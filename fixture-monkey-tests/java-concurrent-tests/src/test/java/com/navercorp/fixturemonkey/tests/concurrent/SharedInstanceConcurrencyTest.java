@@ -0,0 +1,130 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tests.concurrent;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+class SharedInstanceConcurrencyTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.objectIntrospector(ConstructorPropertiesArbitraryIntrospector.INSTANCE)
+		.build();
+	private static final int THREAD_COUNT = 4;
+	private static final int SAMPLE_COUNT = 100;
+	private static final long SEED = 12345L;
+
+	@Test
+	void sharedInstanceIsDeterministicPerThread() throws Exception {
+		List<JavaObject> expected = sampleWithSeed();
+
+		List<List<JavaObject>> actual = runOnThreads(SharedInstanceConcurrencyTest::sampleWithSeed);
+
+		then(actual).allSatisfy(it -> then(it).isEqualTo(expected));
+	}
+
+	@Test
+	void interleavedThreadsGenerateTheirOwnSeedSequences() throws Exception {
+		List<List<JavaObject>> expected = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			expected.add(sampleWithSeed(SEED + i, () -> {
+			}));
+		}
+
+		CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+		AtomicInteger threadIndex = new AtomicInteger();
+		List<List<JavaObject>> actual = runOnThreads(
+			() -> sampleWithSeed(SEED + threadIndex.getAndIncrement(), () -> await(barrier))
+		);
+
+		then(actual).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	private static List<JavaObject> sampleWithSeed() {
+		return sampleWithSeed(SEED, () -> {
+		});
+	}
+
+	/**
+	 * Generates the samples of the given seed, running {@code beforeEachSample} before each sample
+	 * so that the samples of the threads can be interleaved.
+	 */
+	private static List<JavaObject> sampleWithSeed(long seed, Runnable beforeEachSample) {
+		Randoms.newGlobalSeed(seed);
+		List<JavaObject> result = new ArrayList<>();
+		for (int i = 0; i < SAMPLE_COUNT; i++) {
+			beforeEachSample.run();
+			result.add(SUT.giveMeOne(JavaObject.class));
+		}
+		return result;
+	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		} catch (BrokenBarrierException | TimeoutException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static <T> List<T> runOnThreads(Callable<T> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		try {
+			List<Future<T>> futures = new ArrayList<>();
+			for (int i = 0; i < THREAD_COUNT; i++) {
+				futures.add(executor.submit(task));
+			}
+
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public record JavaObject(
+		String value,
+		Map<String, String> map
+	) {
+
+	}
+}
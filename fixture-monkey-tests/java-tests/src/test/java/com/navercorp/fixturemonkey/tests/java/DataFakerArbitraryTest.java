@@ -4,6 +4,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 
 import org.junit.jupiter.api.Test;
 
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.datafaker.arbitrary.DataFakerStringArbitrary;
 
 class DataFakerArbitraryTest {
@@ -79,4 +80,12 @@ class DataFakerArbitraryTest {
 		String value = DataFakerStringArbitrary.finance().creditCard();
 		then(value).isNotBlank();
 	}
+
+	@Test
+	void sameSeedGeneratesSameValue() {
+		String first = Randoms.callWithSeed(1234L, () -> DataFakerStringArbitrary.name().fullName());
+		String second = Randoms.callWithSeed(1234L, () -> DataFakerStringArbitrary.name().fullName());
+
+		then(first).isEqualTo(second);
+	}
 }
@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -531,6 +532,55 @@ public interface ArbitraryBuilder<T> {
 	 */
 	Stream<T> sampleStream();
 
+	/**
+	 * Generate sample value list in parallel using the common {@link ForkJoinPool}.
+	 *
+	 * @param size the size of the list
+	 * @return a list of generated instances
+	 * @see #sampleListParallel(int, ForkJoinPool)
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default List<T> sampleListParallel(int size) {
+		return sampleListParallel(size, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Generate sample value list in parallel using the given {@link ForkJoinPool}.
+	 * Each element is generated by its own random derived from the current seed and its index,
+	 * the same seed generates the same list regardless of the parallelism of the pool.
+	 * <p>
+	 * The implementations not supporting parallel generation generate the list sequentially.
+	 *
+	 * @param size the size of the list
+	 * @param pool the pool generating the elements
+	 * @return a list of generated instances
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default List<T> sampleListParallel(int size, ForkJoinPool pool) {
+		return sampleList(size);
+	}
+
+	/**
+	 * Generate the given number of sample values and pass each of them to the given consumer as it is generated.
+	 * The manipulations are analyzed once per batch instead of once per sample,
+	 * it is preferable to {@link #sampleList(int)} for generating a large number of instances.
+	 * All elements might generate differently per sample unless executing {@link #fixed()}.
+	 * <p>
+	 * A lazy manipulation, such as {@link #setLazy(String, Supplier)} or {@link #thenApply(BiConsumer)},
+	 * is still analyzed per sample, so it gains little from a batch.
+	 * <p>
+	 * The implementations not supporting batch generation generate each element by {@link #sample()}.
+	 *
+	 * @param size     the number of instances to generate
+	 * @param consumer the consumer receiving each generated instance
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	default void sampleBatch(int size, Consumer<? super T> consumer) {
+		for (int i = 0; i < size; i++) {
+			consumer.accept(sample());
+		}
+	}
+
 	/**
 	 * Copy an {@link ArbitraryBuilder} instance. All manipulations would be copied.
 	 *
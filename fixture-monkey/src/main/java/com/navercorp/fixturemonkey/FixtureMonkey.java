@@ -21,11 +21,14 @@ package com.navercorp.fixturemonkey;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -35,6 +38,8 @@ import org.jspecify.annotations.Nullable;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.ObjectBuilder;
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.matcher.NamedMatcher;
 import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
@@ -43,6 +48,7 @@ import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.random.RandomSource;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -56,8 +62,11 @@ import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder;
 import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.RegisteredBuilderIndex;
 import com.navercorp.fixturemonkey.tracing.AssemblyTracer;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
 import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.type.JvmType;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class FixtureMonkey {
@@ -70,7 +79,12 @@ public final class FixtureMonkey {
 	private final AssemblyPlanner assemblyPlanner;
 
 	private final AssemblyTracer tracer;
+	private final boolean compiledAssemblyPlanEnabled;
+	private final GenerationMetrics generationMetrics;
+	// kept by this instance, since the metrics hold it weakly
+	private final Supplier<Map<String, CacheStats>> cacheStatsSupplier;
 	private final Map<Class<?>, Set<Property>> inferredPropertiesCache = new ConcurrentHashMap<>();
+	private final ConcurrentClockCache<JvmType, RegisteredBuilderIndex> registeredBuilderIndexCache;
 
 	public FixtureMonkey(
 		FixtureMonkeyOptions fixtureMonkeyOptions,
@@ -117,15 +131,70 @@ public final class FixtureMonkey {
 		Map<String, PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> namedMatchers,
 		@Nullable AssemblyPlanner assemblyPlanner,
 		AssemblyTracer tracer
+	) {
+		this(
+			fixtureMonkeyOptions,
+			manipulatorOptimizer,
+			registeredBuilders,
+			monkeyManipulatorFactory,
+			namedMatchers,
+			assemblyPlanner,
+			tracer,
+			false
+		);
+	}
+
+	public FixtureMonkey(
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		ManipulatorOptimizer manipulatorOptimizer,
+		List<PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> registeredBuilders,
+		MonkeyDirectiveFactory monkeyManipulatorFactory,
+		Map<String, PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> namedMatchers,
+		@Nullable AssemblyPlanner assemblyPlanner,
+		AssemblyTracer tracer,
+		boolean compiledAssemblyPlanEnabled
+	) {
+		this(
+			fixtureMonkeyOptions,
+			manipulatorOptimizer,
+			registeredBuilders,
+			monkeyManipulatorFactory,
+			namedMatchers,
+			assemblyPlanner,
+			tracer,
+			compiledAssemblyPlanEnabled,
+			GenerationMetrics.noOp()
+		);
+	}
+
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public FixtureMonkey(
+		FixtureMonkeyOptions fixtureMonkeyOptions,
+		ManipulatorOptimizer manipulatorOptimizer,
+		List<PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> registeredBuilders,
+		MonkeyDirectiveFactory monkeyManipulatorFactory,
+		Map<String, PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>> namedMatchers,
+		@Nullable AssemblyPlanner assemblyPlanner,
+		AssemblyTracer tracer,
+		boolean compiledAssemblyPlanEnabled,
+		GenerationMetrics generationMetrics
 	) {
 		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
 		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.monkeyContext = MonkeyContext.builder(fixtureMonkeyOptions).build();
 		this.monkeyManipulatorFactory = monkeyManipulatorFactory;
-		this.assemblyPlanner = assemblyPlanner != null
+		AssemblyPlanner resolvedPlanner = assemblyPlanner != null
 			? assemblyPlanner
 			: new AssemblyPlanner(System.nanoTime());
+		ConcurrentClockCache<JvmType, RegisteredBuilderIndex> resolvedRegisteredBuilderIndexCache =
+			new ConcurrentClockCache<>(resolvedPlanner.getTreeContextCacheSize());
+		this.assemblyPlanner = resolvedPlanner;
+		this.registeredBuilderIndexCache = resolvedRegisteredBuilderIndexCache;
 		this.tracer = tracer;
+		this.compiledAssemblyPlanEnabled = compiledAssemblyPlanEnabled;
+		this.generationMetrics = generationMetrics;
+		this.cacheStatsSupplier = () -> cacheStats(resolvedPlanner, resolvedRegisteredBuilderIndexCache);
+		generationMetrics.bindCacheStats(cacheStatsSupplier);
 		initializeRegisteredArbitraryBuilders(registeredBuilders);
 		initializeNamedArbitraryBuilderMap(namedMatchers);
 	}
@@ -170,7 +239,10 @@ public final class FixtureMonkey {
 				monkeyContext,
 				assemblyPlanner,
 				tracer,
-				inferredPropertiesCache
+				inferredPropertiesCache,
+				registeredBuilderIndexCache,
+				compiledAssemblyPlanEnabled,
+				generationMetrics
 			),
 			monkeyManipulatorFactory,
 			newActiveBuilderContext,
@@ -197,7 +269,10 @@ public final class FixtureMonkey {
 				monkeyContext,
 				assemblyPlanner,
 				tracer,
-				inferredPropertiesCache
+				inferredPropertiesCache,
+				registeredBuilderIndexCache,
+				compiledAssemblyPlanEnabled,
+				generationMetrics
 			),
 			monkeyManipulatorFactory,
 			newActiveBuilderContext,
@@ -243,6 +318,64 @@ public final class FixtureMonkey {
 		return this.giveMe(typeReference).limit(size).collect(toList());
 	}
 
+	/**
+	 * Generates the instances of the given type in parallel using the common {@link ForkJoinPool}.
+	 *
+	 * @see ArbitraryBuilder#sampleListParallel(int, ForkJoinPool)
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size) {
+		return this.giveMeBuilder(type).sampleListParallel(size);
+	}
+
+	/**
+	 * Generates the instances of the given type in parallel using the given {@link ForkJoinPool}.
+	 * The same seed generates the same list regardless of the parallelism of the pool.
+	 *
+	 * @see ArbitraryBuilder#sampleListParallel(int, ForkJoinPool)
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, ForkJoinPool pool) {
+		return this.giveMeBuilder(type).sampleListParallel(size, pool);
+	}
+
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size) {
+		return this.giveMeBuilder(typeReference).sampleListParallel(size);
+	}
+
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size, ForkJoinPool pool) {
+		return this.giveMeBuilder(typeReference).sampleListParallel(size, pool);
+	}
+
+	/**
+	 * Runs the given generation with the given random source bound to the current thread.
+	 * The same source generates the same result regardless of the thread running it,
+	 * pass a source derived by {@link RandomSource#split(long)} to each task submitted to another thread.
+	 *
+	 * @param source   the random source of the generation
+	 * @param supplier the generation to run, e.g. {@code () -> fixtureMonkey.giveMeOne(Order.class)}
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public <T> T callWith(RandomSource source, Supplier<T> supplier) {
+		return assemblyPlanner.callWith(source, supplier);
+	}
+
+	/**
+	 * Returns the hit, miss and eviction counters of the caches this instance keeps across samples.
+	 * Use them to size the caches by {@link FixtureMonkeyBuilder#treeContextCacheSize(int)}
+	 * and {@link FixtureMonkeyBuilder#nodeMetadataCacheSize(int)}.
+	 *
+	 * @return the counters of each cache by its name
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public Map<String, CacheStats> getCacheStats() {
+		return cacheStats(assemblyPlanner, registeredBuilderIndexCache);
+	}
+
 	public <T> @Nullable T giveMeOne(Class<T> type) {
 		return this.giveMe(type, 1).get(0);
 	}
@@ -294,4 +427,13 @@ public final class FixtureMonkey {
 				);
 		});
 	}
+
+	private static Map<String, CacheStats> cacheStats(
+		AssemblyPlanner assemblyPlanner,
+		ConcurrentClockCache<JvmType, RegisteredBuilderIndex> registeredBuilderIndexCache
+	) {
+		Map<String, CacheStats> stats = new LinkedHashMap<>(assemblyPlanner.getCacheStats());
+		stats.put("registeredBuilderIndex", registeredBuilderIndexCache.stats());
+		return stats;
+	}
 }
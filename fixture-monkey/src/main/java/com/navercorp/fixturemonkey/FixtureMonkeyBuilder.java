@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -63,12 +64,15 @@ import com.navercorp.fixturemonkey.buildergroup.ArbitraryBuilderGroup;
 import com.navercorp.fixturemonkey.customizer.MonkeyDirectiveFactory;
 import com.navercorp.fixturemonkey.experimental.ExperimentalFixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
+import com.navercorp.fixturemonkey.planner.CandidateTreeSnapshotStore;
+import com.navercorp.fixturemonkey.planner.TreeContextCache;
 import com.navercorp.fixturemonkey.plugin.JvmTypeSystem;
 import com.navercorp.fixturemonkey.plugin.JvmTypeSystemPlugin;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
 import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
 import com.navercorp.fixturemonkey.seed.SeedFileLoader;
 import com.navercorp.fixturemonkey.tracing.AssemblyTracer;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
 import com.navercorp.objectfarm.api.input.InlinedValueResolver;
 import com.navercorp.objectfarm.api.node.JvmNodePromoter;
 import com.navercorp.objectfarm.api.node.LeafTypeResolver;
@@ -89,12 +93,18 @@ public final class FixtureMonkeyBuilder {
 		registeredPriorityMatchersByName = new HashMap<>();
 	private ManipulatorOptimizer manipulatorOptimizer = new NoneManipulatorOptimizer();
 	private boolean experimentalFileSeedEnabled = false;
+	private boolean compiledAssemblyPlanEnabled = false;
+	private @Nullable Path candidateTreeSnapshotFile;
+	private @Nullable String candidateTreeSnapshotKey;
 	private long seed = System.nanoTime();
 	private final List<JvmNodePromoter> jvmNodePromoters = new ArrayList<>();
 	private final List<LeafTypeResolver> leafTypeResolvers = new ArrayList<>();
 	private @Nullable UnaryOperator<JvmNodeCandidateGenerator> candidateGeneratorWrapper;
 	private @Nullable InlinedValueResolver inlinedValueResolver;
 	private @Nullable AssemblyTracer tracer;
+	private GenerationMetrics generationMetrics = GenerationMetrics.noOp();
+	private int treeContextCacheSize = TreeContextCache.DEFAULT_MAX_SIZE;
+	private int nodeMetadataCacheSize = AssemblyPlanner.DEFAULT_NODE_METADATA_CACHE_SIZE;
 
 	public FixtureMonkeyBuilder pushPropertyGenerator(MatcherOperator<PropertyGenerator> propertyGenerator) {
 		fixtureMonkeyOptionsBuilder.insertFirstPropertyGenerator(propertyGenerator);
@@ -602,6 +612,16 @@ public final class FixtureMonkeyBuilder {
 			Long fileSeed = new SeedFileLoader().loadSeedFromFile();
 			this.seed = fileSeed != null ? fileSeed : System.nanoTime();
 		}
+
+		if (options.isCompiledAssemblyPlanEnabled()) {
+			this.compiledAssemblyPlanEnabled = true;
+		}
+
+		Path snapshotFile = options.getCandidateTreeSnapshotFile();
+		if (snapshotFile != null) {
+			this.candidateTreeSnapshotFile = snapshotFile;
+			this.candidateTreeSnapshotKey = options.getCandidateTreeSnapshotKey();
+		}
 		return this;
 	}
 
@@ -632,6 +652,52 @@ public final class FixtureMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the metrics recording the latency of each generation stage, the retries and the cache counters
+	 * by root type. Unlike the tracer, it is cheap enough to be left enabled across a test suite,
+	 * see {@link GenerationMetrics#histogram()}. {@link GenerationMetrics#noOp()} by default.
+	 *
+	 * @param generationMetrics metrics to use
+	 * @return this builder
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder generationMetrics(GenerationMetrics generationMetrics) {
+		this.generationMetrics = generationMetrics;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of entries of each cache holding node contexts, candidate trees, subtrees
+	 * and registered-builder indexes by type.
+	 * The least recently referenced entries are evicted when a cache is full.
+	 *
+	 * @param treeContextCacheSize the maximum number of entries, {@value TreeContextCache#DEFAULT_MAX_SIZE} by default
+	 * @return this builder
+	 * @see FixtureMonkey#getCacheStats()
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder treeContextCacheSize(int treeContextCacheSize) {
+		checkCacheSize(treeContextCacheSize);
+		this.treeContextCacheSize = treeContextCacheSize;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of entries of the cache holding node metadata by type.
+	 * The least recently referenced entries are evicted when the cache is full.
+	 *
+	 * @param nodeMetadataCacheSize the maximum number of entries,
+	 *                              {@value AssemblyPlanner#DEFAULT_NODE_METADATA_CACHE_SIZE} by default
+	 * @return this builder
+	 * @see FixtureMonkey#getCacheStats()
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder nodeMetadataCacheSize(int nodeMetadataCacheSize) {
+		checkCacheSize(nodeMetadataCacheSize);
+		this.nodeMetadataCacheSize = nodeMetadataCacheSize;
+		return this;
+	}
+
 	public FixtureMonkey build() {
 		if (defaultPropertyNameResolver != null) {
 			fixtureMonkeyOptionsBuilder.defaultPropertyNameResolver(defaultPropertyNameResolver);
@@ -658,9 +724,35 @@ public final class FixtureMonkeyBuilder {
 			jvmNodePromoters,
 			leafTypeResolvers,
 			candidateGeneratorWrapper,
-			this.inlinedValueResolver != null ? this.inlinedValueResolver : InlinedValueResolver.noOp()
+			this.inlinedValueResolver != null ? this.inlinedValueResolver : InlinedValueResolver.noOp(),
+			treeContextCacheSize,
+			nodeMetadataCacheSize
 		);
 
+		Path snapshotFile = this.candidateTreeSnapshotFile;
+		if (snapshotFile != null) {
+			CandidateTreeSnapshotStore.attach(
+				resolvedPlanner.getCandidateTreeContext(),
+				snapshotFile,
+				Arrays.asList(
+					jvmNodePromoters,
+					leafTypeResolvers,
+					candidateGeneratorWrapper,
+					fixtureMonkeyOptions.getMaxRecursionDepth(),
+					fixtureMonkeyOptions.getDefaultArbitraryGenerator(),
+					fixtureMonkeyOptions.getPropertyGenerators(),
+					fixtureMonkeyOptions.getDefaultPropertyGenerator(),
+					fixtureMonkeyOptions.getObjectPropertyGenerators(),
+					fixtureMonkeyOptions.getDefaultObjectPropertyGenerator(),
+					fixtureMonkeyOptions.getContainerPropertyGenerators(),
+					fixtureMonkeyOptions.getPropertyNameResolvers(),
+					fixtureMonkeyOptions.getDefaultPropertyNameResolver(),
+					fixtureMonkeyOptions.getCandidateConcretePropertyResolvers()
+				),
+				candidateTreeSnapshotKey
+			);
+		}
+
 		return new FixtureMonkey(
 			fixtureMonkeyOptions,
 			manipulatorOptimizer,
@@ -668,8 +760,15 @@ public final class FixtureMonkeyBuilder {
 			monkeyManipulatorFactory,
 			registeredPriorityMatchersByName,
 			resolvedPlanner,
-			resolvedTracer
+			resolvedTracer,
+			compiledAssemblyPlanEnabled,
+			generationMetrics
 		);
 	}
 
+	private static void checkCacheSize(int cacheSize) {
+		if (cacheSize <= 0) {
+			throw new IllegalArgumentException("cache size should be positive. cacheSize: " + cacheSize);
+		}
+	}
 }
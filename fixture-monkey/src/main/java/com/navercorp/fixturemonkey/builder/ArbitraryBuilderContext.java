@@ -38,6 +38,7 @@ import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.customizer.PathDirective;
 import com.navercorp.fixturemonkey.customizer.SizeDirective;
+import com.navercorp.fixturemonkey.planner.CompiledAssemblyPlan;
 
 /**
  * {@link FixtureMonkey} → {@link ArbitraryBuilder} → {@link CombinableArbitrary}
@@ -62,6 +63,12 @@ public final class ArbitraryBuilderContext {
 	private @Nullable FixedState fixedState = null;
 	private @Nullable CombinableArbitrary<?> fixedCombinableArbitrary;
 
+	/**
+	 * The compiled plan for the current directives. It is discarded whenever this context changes
+	 * and is not shared by {@link #copy()} since the copy may diverge.
+	 */
+	private volatile @Nullable CompiledAssemblyPlan compiledAssemblyPlan;
+
 	private ArbitraryBuilderContext(
 		List<PathDirective> directives,
 		Map<Class<?>, List<Property>> propertyConfigurers,
@@ -113,10 +120,12 @@ public final class ArbitraryBuilderContext {
 
 	public void addDirective(PathDirective directive) {
 		this.directives.add(directive);
+		this.compiledAssemblyPlan = null;
 	}
 
 	public void addDirectives(Collection<PathDirective> directives) {
 		this.directives.addAll(directives);
+		this.compiledAssemblyPlan = null;
 	}
 
 	public List<PathDirective> getDirectives() {
@@ -148,14 +157,17 @@ public final class ArbitraryBuilderContext {
 				directives.set(i, ((SizeDirective)directive).fix());
 			}
 		}
+		this.compiledAssemblyPlan = null;
 	}
 
 	public void putPropertyConfigurer(Class<?> type, List<Property> propertyConfigurer) {
 		this.propertyConfigurers.put(type, propertyConfigurer);
+		this.compiledAssemblyPlan = null;
 	}
 
 	public void putArbitraryIntrospector(Class<?> type, ArbitraryIntrospector arbitraryIntrospector) {
 		this.arbitraryIntrospectorsByType.put(type, arbitraryIntrospector);
+		this.compiledAssemblyPlan = null;
 	}
 
 	public Map<Class<?>, ArbitraryIntrospector> getArbitraryIntrospectorsByType() {
@@ -194,6 +206,7 @@ public final class ArbitraryBuilderContext {
 
 		fixedState = new FixedState(this.directives.size());
 		fixedCombinableArbitrary = null;
+		compiledAssemblyPlan = null;
 	}
 
 	public boolean isFixed() {
@@ -214,6 +227,14 @@ public final class ArbitraryBuilderContext {
 		return fixedCombinableArbitrary;
 	}
 
+	public @Nullable CompiledAssemblyPlan getCompiledAssemblyPlan() {
+		return compiledAssemblyPlan;
+	}
+
+	public void setCompiledAssemblyPlan(@Nullable CompiledAssemblyPlan compiledAssemblyPlan) {
+		this.compiledAssemblyPlan = compiledAssemblyPlan;
+	}
+
 	private static class FixedState {
 		private final int fixedDirectiveSize;
 
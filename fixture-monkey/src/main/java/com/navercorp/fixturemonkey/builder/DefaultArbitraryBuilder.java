@@ -29,12 +29,14 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -64,6 +66,7 @@ import com.navercorp.fixturemonkey.api.property.PropertySelector;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -75,6 +78,7 @@ import com.navercorp.fixturemonkey.customizer.SizeDirective;
 import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
 import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.node.SeedSnapshot;
 
 @SuppressFBWarnings("NM_SAME_SIMPLE_NAME_AS_SUPERCLASS")
 @API(since = "0.4.0", status = Status.MAINTAINED)
@@ -512,6 +516,63 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 		return this.sampleStream().limit(size).collect(toList());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The first element is generated on the calling thread before the others are forked,
+	 * so the caches shared by the elements are always populated by the same element.
+	 */
+	@Override
+	public List<T> sampleListParallel(int size, ForkJoinPool pool) {
+		if (size <= 1 || activeContext.isFixed()) {
+			return sampleList(size);
+		}
+
+		ArbitraryBuilderContext buildContext = activeContext.copy();
+		long baseSeed = Randoms.current().nextLong();
+
+		List<T> samples = new ArrayList<>(size);
+		samples.add(sampleWithSeed(buildContext, baseSeed, 0));
+		samples.addAll(
+			pool.submit(() -> IntStream.range(1, size)
+				.parallel()
+				.mapToObj(index -> sampleWithSeed(buildContext, baseSeed, index))
+				.collect(toList())
+			).join()
+		);
+		return samples;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The batch is generated from a copy of the current manipulations,
+	 * manipulating this builder in the consumer does not affect the remaining elements.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void sampleBatch(int size, Consumer<? super T> consumer) {
+		if (size <= 0) {
+			return;
+		}
+
+		if (activeContext.isFixed()) {
+			for (int i = 0; i < size; i++) {
+				consumer.accept(sample());
+			}
+			return;
+		}
+
+		CombinableArbitrary<?> batchArbitrary = resolver.resolveBatch(
+			rootProperty,
+			activeContext.copy(),
+			standbyContexts
+		);
+		for (int i = 0; i < size; i++) {
+			consumer.accept((T)batchArbitrary.combined());
+		}
+	}
+
 	@Override
 	public ArbitraryBuilder<T> copy() {
 		return new DefaultArbitraryBuilder<>(
@@ -530,6 +591,15 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 		return this.activeContext;
 	}
 
+	@SuppressWarnings("unchecked")
+	private T sampleWithSeed(ArbitraryBuilderContext buildContext, long baseSeed, int index) {
+		long seed = new SeedSnapshot(baseSeed, index).seedFor(0);
+		return resolver.callWithSeed(
+			seed != 0L ? seed : 1L,
+			() -> (T)resolveArbitrary(buildContext).combined()
+		);
+	}
+
 	private CombinableArbitrary<?> resolveArbitrary(ArbitraryBuilderContext activeContext) {
 		if (activeContext.isFixed()) {
 			if (activeContext.getFixedCombinableArbitrary() == null || activeContext.fixedExpired()) {
@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.builder;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -314,6 +315,16 @@ public final class JavaTypeDefaultTypeArbitraryBuilder<T>
 		return delegate.sampleStream();
 	}
 
+	@Override
+	public List<T> sampleListParallel(int size, ForkJoinPool pool) {
+		return delegate.sampleListParallel(size, pool);
+	}
+
+	@Override
+	public void sampleBatch(int size, Consumer<? super T> consumer) {
+		delegate.sampleBatch(size, consumer);
+	}
+
 	@Override
 	public JavaTypeArbitraryBuilder<T> copy() {
 		return new JavaTypeDefaultTypeArbitraryBuilder<>(delegate.copy());
@@ -18,19 +18,86 @@
 
 package com.navercorp.fixturemonkey.experimental;
 
+import java.nio.file.Path;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 @API(since = "1.1.15", status = Status.EXPERIMENTAL)
 public final class ExperimentalFixtureMonkeyOptions {
 	private boolean fileSeedEnabled = false;
+	private boolean compiledAssemblyPlanEnabled = false;
+	private @Nullable Path candidateTreeSnapshotFile;
+	private @Nullable String candidateTreeSnapshotKey;
 
 	public ExperimentalFixtureMonkeyOptions fileSeed() {
 		this.fileSeedEnabled = true;
 		return this;
 	}
 
+	/**
+	 * Compiles the assembly plan once per builder and reuses it for every {@code sample()}.
+	 * Only container sizes and leaf values are drawn again for each sample.
+	 * Builders with lazy values, such as {@code setLazy} or {@code thenApply}, are still planned per sample.
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public ExperimentalFixtureMonkeyOptions compiledAssemblyPlan() {
+		this.compiledAssemblyPlanEnabled = true;
+		return this;
+	}
+
+	/**
+	 * Restores the candidate trees from the given file when {@code FixtureMonkey} is built,
+	 * and writes the candidate trees built since then back to it when the JVM exits.
+	 * A candidate tree is restored only if the class files it was built from have not changed,
+	 * so later runs skip building the candidate trees of unchanged types.
+	 * <p>
+	 * The file should not be shared by {@code FixtureMonkey} instances of different configurations.
+	 * A file in the build directory per test task is a typical choice.
+	 * <p>
+	 * The file is bound to a fingerprint of the configuration. A configuration holding a lambda declared outside
+	 * of Fixture Monkey, which is not serializable, can not be fingerprinted and is not persisted,
+	 * use {@link #candidateTreeSnapshot(Path, String)} to persist it.
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public ExperimentalFixtureMonkeyOptions candidateTreeSnapshot(Path file) {
+		this.candidateTreeSnapshotFile = file;
+		this.candidateTreeSnapshotKey = null;
+		return this;
+	}
+
+	/**
+	 * Restores and writes the candidate trees like {@link #candidateTreeSnapshot(Path)},
+	 * for a configuration named by the given cache key.
+	 * The key should be changed whenever the configuration changes, the candidate trees of a configuration
+	 * with another key are not restored.
+	 *
+	 * @param file     the snapshot file
+	 * @param cacheKey the key naming the configuration
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public ExperimentalFixtureMonkeyOptions candidateTreeSnapshot(Path file, String cacheKey) {
+		this.candidateTreeSnapshotFile = file;
+		this.candidateTreeSnapshotKey = cacheKey;
+		return this;
+	}
+
 	public boolean isFileSeedEnabled() {
 		return fileSeedEnabled;
 	}
+
+	public boolean isCompiledAssemblyPlanEnabled() {
+		return compiledAssemblyPlanEnabled;
+	}
+
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public @Nullable Path getCandidateTreeSnapshotFile() {
+		return candidateTreeSnapshotFile;
+	}
+
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public @Nullable String getCandidateTreeSnapshotKey() {
+		return candidateTreeSnapshotKey;
+	}
 }
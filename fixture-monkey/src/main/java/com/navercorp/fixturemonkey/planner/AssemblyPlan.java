@@ -23,6 +23,7 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
+import com.navercorp.fixturemonkey.projection.PathPatterns;
 import com.navercorp.fixturemonkey.projection.ValueProjection;
 import com.navercorp.objectfarm.api.tree.JvmNodeTree;
 import com.navercorp.objectfarm.api.tree.PathResolverContext;
@@ -57,6 +58,7 @@ public final class AssemblyPlan {
 	private final long treeBuildTimeNanos;
 	private final boolean cacheHit;
 	private final @Nullable PathResolverContext resolverContext;
+	private final @Nullable PathPatterns pathPatterns;
 
 	/**
 	 * Creates a new AssemblyPlan.
@@ -108,6 +110,34 @@ public final class AssemblyPlan {
 		long treeBuildTimeNanos,
 		boolean cacheHit,
 		@Nullable PathResolverContext resolverContext
+	) {
+		this(nodeTree, values, analysisResult, analyzeTimeNanos, treeBuildTimeNanos, cacheHit, resolverContext, null);
+	}
+
+	/**
+	 * Creates a new AssemblyPlan with timing, cache, resolver-context and path pattern information.
+	 *
+	 * @param nodeTree           the generated JvmNodeTree
+	 * @param values             the values projection extracted from manipulators
+	 * @param analysisResult     the original analysis result (may be null for default implementations)
+	 * @param analyzeTimeNanos   time spent in ManipulatorAnalyzer.analyze() in nanoseconds
+	 * @param treeBuildTimeNanos time spent building the JvmNodeTree in nanoseconds
+	 * @param cacheHit           whether this result was retrieved from cache
+	 * @param resolverContext    the path resolver context produced during planning, used by the
+	 *                           {@code RuntimeTreeFactory} during assembly
+	 * @param pathPatterns       the wildcard and type selector patterns of the values and the typed values,
+	 *                           built once with the compiled plan
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public AssemblyPlan(
+		JvmNodeTree nodeTree,
+		ValueProjection values,
+		AnalysisResult analysisResult,
+		long analyzeTimeNanos,
+		long treeBuildTimeNanos,
+		boolean cacheHit,
+		@Nullable PathResolverContext resolverContext,
+		@Nullable PathPatterns pathPatterns
 	) {
 		this.nodeTree = nodeTree;
 		this.values = values;
@@ -116,6 +146,7 @@ public final class AssemblyPlan {
 		this.treeBuildTimeNanos = treeBuildTimeNanos;
 		this.cacheHit = cacheHit;
 		this.resolverContext = resolverContext;
+		this.pathPatterns = pathPatterns;
 	}
 
 	/**
@@ -186,4 +217,15 @@ public final class AssemblyPlan {
 	public @Nullable PathResolverContext getResolverContext() {
 		return resolverContext;
 	}
+
+	/**
+	 * Returns the wildcard and type selector patterns of the values and the typed values,
+	 * built once with the compiled plan so that each assembly does not index them again.
+	 *
+	 * @return the path patterns, or {@code null} when not produced by the planner
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public @Nullable PathPatterns getPathPatterns() {
+		return pathPatterns;
+	}
 }
@@ -21,29 +21,36 @@ package com.navercorp.fixturemonkey.planner;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.CandidateConcretePropertyResolver;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.random.RandomSource;
 import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.customizer.DirectiveSet;
+import com.navercorp.fixturemonkey.customizer.LazyDirective;
 import com.navercorp.fixturemonkey.customizer.PathDirective;
 import com.navercorp.fixturemonkey.customizer.SizeDirective;
 import com.navercorp.fixturemonkey.nodecandidate.InterfaceMethodNodeCandidateGenerator;
 import com.navercorp.fixturemonkey.plugin.LeafTypeRegistry;
+import com.navercorp.fixturemonkey.projection.PathPatterns;
 import com.navercorp.fixturemonkey.projection.ValueProjection;
 import com.navercorp.fixturemonkey.resolver.AbstractTypeResolver;
 import com.navercorp.fixturemonkey.tracing.TraceContext;
@@ -91,21 +98,23 @@ import com.navercorp.objectfarm.api.type.ReflectiveJvmType;
  */
 @API(since = "1.2.0", status = Status.EXPERIMENTAL)
 public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegistry {
+	public static final int DEFAULT_NODE_METADATA_CACHE_SIZE = 4096;
 	private static final ContainerDetector CONTAINER_DETECTOR = ContainerDetector.standard();
 
-	private final SeedState seedState;
-	// Tracks the global Random instance used for the most recent adapt() call.
+	// Each thread keeps the Random instance used for its most recent adapt() call in the SeedState.
 	// When Randoms.newGlobalSeed() creates a new instance (e.g. via @Seed), reference inequality
-	// triggers a SeedState reset so seeded reruns produce deterministic container sizes.
-	private @Nullable Random lastSeenRandom;
+	// triggers a reset of the seed state of the thread so seeded reruns produce deterministic container sizes.
+	private final SeedState seedState;
 
 	// Performance optimization cache for (JvmNodeContext, JvmNodeCandidateTree) — keyed by (type, options identity).
 	// NOTE: AssemblyPlan/JvmNodeTree are NOT cached because container sizes must vary on each call.
+	// Builders that opt into compiled plans keep the size-independent part in a CompiledAssemblyPlan instead.
 	private final TreeContextCache treeCache;
+	private final int treeContextCacheSize;
 
 	// Cross-call cache for assembly node metadata (Property, resolvers, isContainerType)
 	// Type-erased here since CachedNodeMetadata is package-private in projection package
-	private final ConcurrentHashMap<Object, Object> nodeMetadataCache = new ConcurrentHashMap<>();
+	private final ConcurrentClockCache<Object, Object> nodeMetadataCache;
 
 	// Additional leaf type resolvers (e.g., KotlinLeafTypeResolver for Kotlin support).
 	// Held here for isLeafType lookups; node-context construction reads them via NodeContextFactory.
@@ -148,8 +157,37 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 		List<LeafTypeResolver> additionalLeafTypeResolvers,
 		@Nullable UnaryOperator<JvmNodeCandidateGenerator> candidateGeneratorWrapper,
 		InlinedValueResolver inlinedValueResolver
+	) {
+		this(
+			seed,
+			additionalPromoters,
+			additionalLeafTypeResolvers,
+			candidateGeneratorWrapper,
+			inlinedValueResolver,
+			TreeContextCache.DEFAULT_MAX_SIZE,
+			DEFAULT_NODE_METADATA_CACHE_SIZE
+		);
+	}
+
+	/**
+	 * Creates a new adapter with all configurable components and bounded caches.
+	 *
+	 * @param treeContextCacheSize  the maximum number of entries of each {@link TreeContextCache} cache
+	 * @param nodeMetadataCacheSize the maximum number of entries of {@link #nodeMetadataCache()}
+	 * @throws IllegalArgumentException if a cache size is not positive
+	 * @see #AssemblyPlanner(long, List, List, UnaryOperator, InlinedValueResolver)
+	 */
+	public AssemblyPlanner(
+		long seed,
+		List<JvmNodePromoter> additionalPromoters,
+		List<LeafTypeResolver> additionalLeafTypeResolvers,
+		@Nullable UnaryOperator<JvmNodeCandidateGenerator> candidateGeneratorWrapper,
+		InlinedValueResolver inlinedValueResolver,
+		int treeContextCacheSize,
+		int nodeMetadataCacheSize
 	) {
 		this.seedState = new SeedState(seed);
+		this.nodeMetadataCache = new ConcurrentClockCache<>(nodeMetadataCacheSize);
 		this.inlinedValueResolver = inlinedValueResolver;
 		List<JvmNodePromoter> resolvedPromoters = additionalPromoters != null
 			? additionalPromoters
@@ -165,7 +203,8 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 			this.additionalLeafTypeResolvers,
 			candidateGeneratorWrapper
 		);
-		this.treeCache = new TreeContextCache(new JvmNodeCandidateTreeContext(), nodeContextFactory);
+		this.treeCache = new TreeContextCache(nodeContextFactory, treeContextCacheSize);
+		this.treeContextCacheSize = treeContextCacheSize;
 		this.abstractTypeResolver = new AbstractTypeResolver(seedState);
 		this.pathResolverContextFactory = new PathResolverContextFactory(
 			containerSizeResolverFactory,
@@ -183,22 +222,140 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 		ResolutionListener resolutionListener = TraceContextResolutionListener.of(traceContext);
 
 		resetSeedStateIfRandomChanged();
+		CompiledAssemblyPlan compiledPlan = compile(rootType, manipulatorSet, options, resolutionListener);
+		return instantiate(compiledPlan, false);
+	}
+
+	/**
+	 * Compiles the size-independent skeleton of a plan so it can be reused across samples.
+	 * <p>
+	 * Returns {@code null} when the directives cannot be compiled, i.e. when any of them is a
+	 * {@link LazyDirective} whose value is evaluated during analysis and therefore differs per sample.
+	 * The size of a {@link SizeDirective} with a size range is drawn during analysis as well,
+	 * the compiled plan redraws it on every reuse.
+	 * The compiled plan never reports resolution events, so callers should not compile while tracing.
+	 *
+	 * @param rootType       the declared root type
+	 * @param manipulatorSet the directives of the builder
+	 * @param options        the options of the {@code FixtureMonkey} instance
+	 * @return the compiled plan, or {@code null} if the directives are not compilable
+	 */
+	public @Nullable CompiledAssemblyPlan compile(
+		JvmType rootType,
+		DirectiveSet manipulatorSet,
+		@Nullable FixtureMonkeyOptions options
+	) {
+		for (PathDirective directive : manipulatorSet.getDirectives()) {
+			if (directive instanceof LazyDirective) {
+				return null;
+			}
+		}
+
+		return compile(rootType, manipulatorSet, options, ResolutionListener.noOp());
+	}
+
+	/**
+	 * Creates a plan from a plan compiled by {@link #compile(JvmType, DirectiveSet, FixtureMonkeyOptions)}.
+	 * Only the candidate-tree transformation runs, which draws fresh container sizes.
+	 *
+	 * @param compiledPlan the compiled plan
+	 * @return a new plan whose {@link AssemblyPlan#isCacheHit()} is true
+	 */
+	public AssemblyPlan plan(CompiledAssemblyPlan compiledPlan) {
+		resetSeedStateIfRandomChanged();
+		return instantiate(compiledPlan, true);
+	}
+
+	/**
+	 * Runs a generation with the given seed confined to the current thread.
+	 * <p>
+	 * Both the thread-local random of {@link Randoms} and the seed state of this planner are seeded
+	 * by the given seed, so the result only depends on the seed, not on the generations running
+	 * on other threads or before.
+	 *
+	 * @param seed     the seed of the generation, it should not be {@code 0}
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	public <T> T callWithSeed(long seed, Supplier<T> supplier) {
+		return callWith(RandomSource.of(seed), supplier);
+	}
+
+	/**
+	 * Runs a generation with the given random source bound to the current thread.
+	 * <p>
+	 * The seed state of this planner is scoped by the seed of the source as well,
+	 * so the result only depends on the source, not on the thread running it.
+	 *
+	 * @param source   the random source of the generation
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 * @see RandomSource#bind(Supplier)
+	 */
+	public <T> T callWith(RandomSource source, Supplier<T> supplier) {
+		return source.call(() -> seedState.callInScope(source.getSeed(), supplier));
+	}
+
+	private void resetSeedStateIfRandomChanged() {
+		seedState.resetIfChanged(Randoms.current(), Randoms.currentSeed());
+	}
+
+	private CompiledAssemblyPlan compile(
+		JvmType rootType,
+		DirectiveSet manipulatorSet,
+		@Nullable FixtureMonkeyOptions options,
+		ResolutionListener resolutionListener
+	) {
 		if (manipulatorSet.isEmpty()) {
-			return buildDefaultAssemblyPlan(rootType, options, resolutionListener, manipulatorSet.isFixed());
+			return compileDefault(rootType, options, resolutionListener, manipulatorSet.isFixed());
 		}
 
-		return buildAssemblyPlan(rootType, manipulatorSet, options, resolutionListener);
+		return compileDirectives(rootType, manipulatorSet, options, resolutionListener);
 	}
 
-	private synchronized void resetSeedStateIfRandomChanged() {
-		Random current = Randoms.current();
-		if (current != lastSeenRandom) {
-			seedState.reset(Randoms.currentSeed());
-			lastSeenRandom = current;
+	private AssemblyPlan instantiate(CompiledAssemblyPlan compiledPlan, boolean reused) {
+		long treeBuildStart = System.nanoTime();
+
+		AnalysisResult analysisResult = compiledPlan.getAnalysisResult();
+		PathResolverContext resolverContext = compiledPlan.getResolverContext();
+		Function<AnalysisResult, PathResolverContext> rangedSizeResolverContextFactory =
+			compiledPlan.getRangedSizeResolverContextFactory();
+		if (reused && rangedSizeResolverContextFactory != null) {
+			analysisResult = ManipulatorAnalyzer.redrawContainerSizes(analysisResult);
+			resolverContext = rangedSizeResolverContextFactory.apply(analysisResult);
 		}
+
+		JvmNodeTreeTransformer transformer = new JvmNodeTreeTransformer(
+			compiledPlan.getNodeContext(),
+			compiledPlan.getTreeContext(),
+			resolverContext,
+			compiledPlan.getExpansionContext(),
+			compiledPlan.getSubtreeContext()
+		);
+
+		JvmNodeTree nodeTree = transformer.transform(compiledPlan.getCandidateTree());
+		long treeBuildTimeNanos = System.nanoTime() - treeBuildStart;
+
+		ValueProjection valueProjection = ValueProjection.fromPathExpressionMap(
+			nodeTree,
+			compiledPlan.getValuesByPath()
+		);
+
+		return new AssemblyPlan(
+			nodeTree,
+			valueProjection,
+			analysisResult,
+			reused ? 0 : compiledPlan.getAnalyzeTimeNanos(),
+			treeBuildTimeNanos,
+			reused,
+			resolverContext,
+			compiledPlan.getPathPatterns()
+		);
 	}
 
-	private AssemblyPlan buildDefaultAssemblyPlan(
+	private CompiledAssemblyPlan compileDefault(
 		JvmType rootType,
 		@Nullable FixtureMonkeyOptions options,
 		ResolutionListener resolutionListener,
@@ -206,8 +363,6 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 	) {
 		JvmType resolvedRootType = walkCandidateChain(rootType, options);
 
-		long treeBuildStart = System.nanoTime();
-
 		JvmNodeContext context = treeCache.getOrBuildNodeContext(
 			resolvedRootType,
 			options,
@@ -227,32 +382,24 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 		}
 		PathResolverContext resolverContext = resolverContextBuilder.build();
 
-		JvmNodeTreeTransformer transformer = new JvmNodeTreeTransformer(
+		return new CompiledAssemblyPlan(
+			rootType,
+			options,
 			context,
+			candidateTree,
 			treeCache.getTreeContext(),
+			treeCache.getSubtreeContext(),
 			resolverContext,
+			null,
 			null, // No expansion context for empty manipulators
-			treeCache.getSubtreeContext()
-		);
-
-		JvmNodeTree nodeTree = transformer.transform(candidateTree);
-		long treeBuildTimeNanos = System.nanoTime() - treeBuildStart;
-
-		AnalysisResult analysisResult = ManipulatorAnalyzer.emptyResult();
-		ValueProjection valueProjection = ValueProjection.of(nodeTree, Collections.emptyMap());
-
-		return new AssemblyPlan(
-			nodeTree,
-			valueProjection,
-			analysisResult,
-			0,
-			treeBuildTimeNanos,
-			false,
-			resolverContext
+			ManipulatorAnalyzer.emptyResult(),
+			Collections.emptyMap(),
+			PathPatterns.of(Collections.emptyList()),
+			0
 		);
 	}
 
-	private AssemblyPlan buildAssemblyPlan(
+	private CompiledAssemblyPlan compileDirectives(
 		JvmType rootType,
 		DirectiveSet manipulatorSet,
 		@Nullable FixtureMonkeyOptions options,
@@ -294,14 +441,27 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 				manipulatorSet.getTypedContainerSizes()
 			);
 
+		boolean isFixed = manipulatorSet.isFixed();
 		PathResolverContext resolverContext = pathResolverContextFactory.build(
 			analysisResult,
 			mergedTypedContainerSizes,
 			resolutionListener,
-			manipulatorSet.isFixed(),
+			isFixed,
 			options
 		);
 
+		// A ranged size is drawn during analysis, a reused plan redraws it and rebuilds the resolver context
+		Function<AnalysisResult, PathResolverContext> rangedSizeResolverContextFactory = null;
+		if (ManipulatorAnalyzer.hasRangedContainerSizes(analysisResult)) {
+			rangedSizeResolverContextFactory = redrawn -> pathResolverContextFactory.build(
+				redrawn,
+				mergedTypedContainerSizes,
+				resolutionListener,
+				isFixed,
+				options
+			);
+		}
+
 		// Use fresh treeCache.getTreeContext() when propertyConfigurers or introspectorsByType are present
 		// to avoid caching issues (cached subtrees don't respect custom property generators)
 		boolean hasCustomConfigurers =
@@ -325,7 +485,6 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 			? new JvmNodeCandidateTreeContext()
 			: treeCache.getTreeContext();
 
-		long treeBuildStart = System.nanoTime();
 		JvmNodeCandidateTree candidateTree = treeCache.getOrBuildCandidateTree(
 			resolvedRootType,
 			context,
@@ -337,30 +496,35 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 			? null
 			: treeCache.getSubtreeContext();
 
-		JvmNodeTreeTransformer transformer = new JvmNodeTreeTransformer(
+		return new CompiledAssemblyPlan(
+			rootType,
+			options,
 			context,
+			candidateTree,
 			effectiveTreeContext,
+			effectiveSubtreeContext,
 			resolverContext,
+			rangedSizeResolverContextFactory,
 			expansionContext,
-			effectiveSubtreeContext
-		);
-
-		JvmNodeTree nodeTree = transformer.transform(candidateTree);
-		long treeBuildTimeNanos = System.nanoTime() - treeBuildStart;
-
-		ValueProjection valueProjection = ValueProjection.fromPathExpressionMap(nodeTree, prunedValuesByPath);
-
-		return new AssemblyPlan(
-			nodeTree,
-			valueProjection,
 			analysisResult,
-			analyzeTimeNanos,
-			treeBuildTimeNanos,
-			false,
-			resolverContext
+			prunedValuesByPath,
+			pathPatterns(prunedValuesByPath, manipulatorSet.getTypedValues()),
+			analyzeTimeNanos
 		);
 	}
 
+	/**
+	 * Indexes the patterns of the values and of the typed values, which the assembly merges into its candidates.
+	 */
+	private static PathPatterns pathPatterns(
+		Map<PathExpression, @Nullable Object> valuesByPath,
+		Map<JvmType, Map<String, @Nullable Object>> typedValues
+	) {
+		Set<PathExpression> paths = new HashSet<>(valuesByPath.keySet());
+		paths.addAll(TypedValueExtractor.convertToPathExpressions(typedValues).values.keySet());
+		return PathPatterns.of(paths);
+	}
+
 	/**
 	 * Resolves the planning-phase root type.
 	 * <p>
@@ -500,6 +664,15 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 		nodeMetadataCache.clear();
 	}
 
+	/**
+	 * Returns the context caching the candidate subtrees by type across calls.
+	 *
+	 * @return the candidate tree context
+	 */
+	public JvmNodeCandidateTreeContext getCandidateTreeContext() {
+		return treeCache.getTreeContext();
+	}
+
 	/**
 	 * Returns the cross-call node metadata cache used by {@code Assembler} for assembly optimization.
 	 * <p>
@@ -508,10 +681,43 @@ public final class AssemblyPlanner implements RuntimeTreeFactory, LeafTypeRegist
 	 *
 	 * @return the node metadata cache
 	 */
-	public ConcurrentHashMap<?, ?> nodeMetadataCache() {
+	public Map<?, ?> sharedNodeMetadataCache() {
 		return nodeMetadataCache;
 	}
 
+	/**
+	 * Returns a copy of the cross-call node metadata cache.
+	 *
+	 * @return a copy of the node metadata cache
+	 * @deprecated The cache is bounded and no longer a {@link ConcurrentHashMap},
+	 * the returned map is a copy. Use {@link #sharedNodeMetadataCache()} instead.
+	 */
+	@Deprecated
+	public ConcurrentHashMap<?, ?> nodeMetadataCache() {
+		return new ConcurrentHashMap<>(nodeMetadataCache);
+	}
+
+	/**
+	 * Returns the hit, miss and eviction counters of the caches kept across calls.
+	 * The keys are the ones of {@link TreeContextCache#getCacheStats()} and {@code "nodeMetadata"}.
+	 *
+	 * @return the counters of each cache by its name
+	 */
+	public Map<String, CacheStats> getCacheStats() {
+		Map<String, CacheStats> stats = new LinkedHashMap<>(treeCache.getCacheStats());
+		stats.put("nodeMetadata", nodeMetadataCache.stats());
+		return stats;
+	}
+
+	/**
+	 * Returns the maximum number of entries of each cache by root type, see {@link TreeContextCache}.
+	 *
+	 * @return the maximum number of entries
+	 */
+	public int getTreeContextCacheSize() {
+		return treeContextCacheSize;
+	}
+
 	/**
 	 * Returns the {@link InlinedValueResolver} applied while decomposing a value passed to
 	 * {@code set(...)}, so that assembly decomposes the value the same way planning did.
@@ -0,0 +1,161 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.planner;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeContext;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeSnapshots;
+
+/**
+ * Keeps the candidate tree contexts of {@code FixtureMonkey} instances in sync with their snapshot files.
+ * <p>
+ * A context is restored from its file when it is attached, and the contexts still reachable are written back
+ * to their files by a shutdown hook. Contexts attached to the same file are merged when written,
+ * the file is left untouched if no context cached a subtree since it was restored.
+ * <p>
+ * A file is written with the fingerprint of the configuration of its contexts and restores nothing into a context
+ * of another configuration. A file belongs to the configuration of the first context attached to it,
+ * a context of another configuration attached later is neither restored nor written.
+ * A configuration which can not be told apart from others across JVM runs, for example one holding a lambda
+ * declared in a test class, is neither restored nor written unless a cache key naming it is given.
+ * The files are a cache, so failing to read or write them is ignored.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+public final class CandidateTreeSnapshotStore {
+	private static final Map<Path, FileEntry> ENTRIES_BY_FILE = new ConcurrentHashMap<>();
+	private static final AtomicBoolean SHUTDOWN_HOOK_ADDED = new AtomicBoolean(false);
+
+	private CandidateTreeSnapshotStore() {
+	}
+
+	/**
+	 * Restores the given context from the file if it exists, and registers it to be written on JVM exit.
+	 *
+	 * @param context       the candidate tree context of a {@code FixtureMonkey} instance
+	 * @param file          the snapshot file
+	 * @param configuration the components the candidate trees of the context are built by
+	 * @param cacheKey      the key naming the configuration, {@code null} to fingerprint the components only
+	 */
+	public static void attach(
+		JvmNodeCandidateTreeContext context,
+		Path file,
+		List<?> configuration,
+		@Nullable String cacheKey
+	) {
+		Long fingerprint = ConfigurationFingerprint.of(configuration, cacheKey);
+		if (fingerprint == null) {
+			return;
+		}
+
+		long configurationFingerprint = fingerprint;
+		Path normalizedFile = file.toAbsolutePath().normalize();
+		FileEntry entry = ENTRIES_BY_FILE.computeIfAbsent(
+			normalizedFile,
+			it -> new FileEntry(configurationFingerprint)
+		);
+		if (entry.configurationFingerprint != configurationFingerprint) {
+			return;
+		}
+
+		if (Files.isRegularFile(normalizedFile)) {
+			try {
+				int restored = JvmNodeCandidateTreeSnapshots.read(
+					context,
+					normalizedFile,
+					classLoader(),
+					configurationFingerprint
+				);
+				entry.restoredCount = Math.max(entry.restoredCount, restored);
+			} catch (IOException ex) {
+				// the candidate trees are built again
+			}
+		}
+		entry.contexts.add(new WeakReference<>(context));
+
+		if (SHUTDOWN_HOOK_ADDED.compareAndSet(false, true)) {
+			Runtime.getRuntime().addShutdownHook(
+				new Thread(CandidateTreeSnapshotStore::writeAll, "fixture-monkey-candidate-tree-snapshot")
+			);
+		}
+	}
+
+	/**
+	 * Writes the attached contexts to their files.
+	 * It is called on JVM exit, call it to persist the candidate trees earlier.
+	 */
+	public static void writeAll() {
+		for (Map.Entry<Path, FileEntry> fileEntry : ENTRIES_BY_FILE.entrySet()) {
+			FileEntry entry = fileEntry.getValue();
+			List<JvmNodeCandidateTreeContext> contexts = new ArrayList<>();
+			boolean changed = false;
+			for (WeakReference<JvmNodeCandidateTreeContext> reference : entry.contexts) {
+				JvmNodeCandidateTreeContext context = reference.get();
+				if (context == null) {
+					entry.contexts.remove(reference);
+					continue;
+				}
+				contexts.add(context);
+				changed |= context.getCacheSize() > entry.restoredCount;
+			}
+
+			if (!changed) {
+				continue;
+			}
+
+			try {
+				entry.restoredCount = JvmNodeCandidateTreeSnapshots.write(
+					contexts,
+					fileEntry.getKey(),
+					entry.configurationFingerprint
+				);
+			} catch (IOException ex) {
+				// the file is written again on the next run
+			}
+		}
+	}
+
+	private static ClassLoader classLoader() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return contextClassLoader != null ? contextClassLoader : ClassLoader.getSystemClassLoader();
+	}
+
+	private static final class FileEntry {
+		private final long configurationFingerprint;
+		private final List<WeakReference<JvmNodeCandidateTreeContext>> contexts = new CopyOnWriteArrayList<>();
+		private volatile int restoredCount;
+
+		private FileEntry(long configurationFingerprint) {
+			this.configurationFingerprint = configurationFingerprint;
+		}
+	}
+}
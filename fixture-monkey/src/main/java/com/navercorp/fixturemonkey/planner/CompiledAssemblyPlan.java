@@ -0,0 +1,162 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.planner;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.projection.PathPatterns;
+import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.node.JvmNodeContext;
+import com.navercorp.objectfarm.api.tree.ExpansionContext;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTree;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeContext;
+import com.navercorp.objectfarm.api.tree.JvmNodeSubtreeContext;
+import com.navercorp.objectfarm.api.tree.PathResolverContext;
+import com.navercorp.objectfarm.api.type.JvmType;
+
+/**
+ * The size-independent skeleton of an {@link AssemblyPlan}.
+ * <p>
+ * Holds everything {@link AssemblyPlanner} derives from the directives and the root type that does not
+ * depend on random draws: the {@link AnalysisResult}, the resolved root type, the pruned values and their
+ * {@link PathPatterns}, the {@link PathResolverContext} and the {@link JvmNodeCandidateTree}. Container sizes are drawn from the
+ * resolvers when {@link AssemblyPlanner#plan(CompiledAssemblyPlan)} transforms the candidate tree, so a
+ * compiled plan can be reused across {@code sample()} calls of the same builder.
+ * The size of a size directive with a size range is drawn during analysis, so a compiled plan holding one
+ * redraws it and rebuilds the {@link PathResolverContext} each time it is reused.
+ * <p>
+ * A compiled plan is immutable and can be shared between threads.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class CompiledAssemblyPlan {
+	private final JvmType rootType;
+	// weak so that a cached plan does not keep the options of a discarded FixtureMonkey reachable
+	private final @Nullable WeakReference<FixtureMonkeyOptions> optionsReference;
+	private final JvmNodeContext nodeContext;
+	private final JvmNodeCandidateTree candidateTree;
+	private final JvmNodeCandidateTreeContext treeContext;
+	private final @Nullable JvmNodeSubtreeContext subtreeContext;
+	private final PathResolverContext resolverContext;
+	private final @Nullable Function<AnalysisResult, PathResolverContext> rangedSizeResolverContextFactory;
+	private final @Nullable ExpansionContext expansionContext;
+	private final AnalysisResult analysisResult;
+	private final Map<PathExpression, @Nullable Object> valuesByPath;
+	private final PathPatterns pathPatterns;
+	private final long analyzeTimeNanos;
+
+	CompiledAssemblyPlan(
+		JvmType rootType,
+		@Nullable FixtureMonkeyOptions options,
+		JvmNodeContext nodeContext,
+		JvmNodeCandidateTree candidateTree,
+		JvmNodeCandidateTreeContext treeContext,
+		@Nullable JvmNodeSubtreeContext subtreeContext,
+		PathResolverContext resolverContext,
+		@Nullable Function<AnalysisResult, PathResolverContext> rangedSizeResolverContextFactory,
+		@Nullable ExpansionContext expansionContext,
+		AnalysisResult analysisResult,
+		Map<PathExpression, @Nullable Object> valuesByPath,
+		PathPatterns pathPatterns,
+		long analyzeTimeNanos
+	) {
+		this.rootType = rootType;
+		this.optionsReference = options != null ? new WeakReference<>(options) : null;
+		this.nodeContext = nodeContext;
+		this.candidateTree = candidateTree;
+		this.treeContext = treeContext;
+		this.subtreeContext = subtreeContext;
+		this.resolverContext = resolverContext;
+		this.rangedSizeResolverContextFactory = rangedSizeResolverContextFactory;
+		this.expansionContext = expansionContext;
+		this.analysisResult = analysisResult;
+		this.valuesByPath = valuesByPath;
+		this.pathPatterns = pathPatterns;
+		this.analyzeTimeNanos = analyzeTimeNanos;
+	}
+
+	/**
+	 * Returns whether this plan was compiled for the given root type and options.
+	 * Options are compared by reference.
+	 *
+	 * @param rootType the declared root type of the builder
+	 * @param options  the options of the {@code FixtureMonkey} instance
+	 * @return true if this plan can be reused for the given inputs
+	 */
+	public boolean isCompiledFor(JvmType rootType, @Nullable FixtureMonkeyOptions options) {
+		FixtureMonkeyOptions compiledOptions = optionsReference != null ? optionsReference.get() : null;
+		boolean sameOptions = options == null ? optionsReference == null : compiledOptions == options;
+		return sameOptions && Objects.equals(this.rootType, rootType);
+	}
+
+	JvmNodeContext getNodeContext() {
+		return nodeContext;
+	}
+
+	JvmNodeCandidateTree getCandidateTree() {
+		return candidateTree;
+	}
+
+	JvmNodeCandidateTreeContext getTreeContext() {
+		return treeContext;
+	}
+
+	@Nullable JvmNodeSubtreeContext getSubtreeContext() {
+		return subtreeContext;
+	}
+
+	PathResolverContext getResolverContext() {
+		return resolverContext;
+	}
+
+	/**
+	 * Returns the factory building the {@link PathResolverContext} of a redrawn analysis result,
+	 * or {@code null} if no container size is drawn during analysis.
+	 */
+	@Nullable Function<AnalysisResult, PathResolverContext> getRangedSizeResolverContextFactory() {
+		return rangedSizeResolverContextFactory;
+	}
+
+	@Nullable ExpansionContext getExpansionContext() {
+		return expansionContext;
+	}
+
+	AnalysisResult getAnalysisResult() {
+		return analysisResult;
+	}
+
+	Map<PathExpression, @Nullable Object> getValuesByPath() {
+		return valuesByPath;
+	}
+
+	PathPatterns getPathPatterns() {
+		return pathPatterns;
+	}
+
+	long getAnalyzeTimeNanos() {
+		return analyzeTimeNanos;
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.planner;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.container.LruCache;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.objectfarm.api.expression.PathExpression;
+
+/**
+ * Computes a fingerprint of the components that build the candidate trees, which is stable across JVM runs.
+ * <p>
+ * A component is described by its class and, unless it is a class of the JDK, by its instance fields, recursively.
+ * Lists and arrays are described by their elements in order, maps and sets regardless of their iteration order.
+ * Caches, concurrent maps and the other {@code java.util.concurrent} classes are described by their class only,
+ * the components fill them on use.
+ * A component referred to more than once is described in full the first time only.
+ * <p>
+ * Some components can not be told apart across JVM runs by their description. Two lambdas declared in the same class
+ * capturing the same values only differ by their implementation method, which is not known unless the lambda
+ * is serializable. Most classes of the JDK keep their state in fields of their own module.
+ * A serializable lambda is described by its implementation method and the values it captures,
+ * and a lambda declared by the JDK or the core artifacts of Fixture Monkey by the class declaring it
+ * and the values it captures, the options choosing between those lambdas are described themselves.
+ * Other lambdas, including those of the plugins, and the JDK objects whose value is not known are opaque.
+ * A configuration with an opaque component has no fingerprint, unless a cache key naming the configuration is given.
+ */
+final class ConfigurationFingerprint {
+	private static final int MAX_DEPTH = 12;
+	private static final String LAMBDA_CLASS_MARKER = "$$Lambda";
+	private static final List<@Nullable CodeSource> LIBRARY_CODE_SOURCES = Arrays.asList(
+		ConfigurationFingerprint.class.getProtectionDomain().getCodeSource(),
+		FixtureMonkeyOptions.class.getProtectionDomain().getCodeSource(),
+		PathExpression.class.getProtectionDomain().getCodeSource()
+	);
+
+	private final Map<Object, String> descriptions = new IdentityHashMap<>();
+	private final Set<Object> describing = Collections.newSetFromMap(new IdentityHashMap<>());
+	private boolean opaque;
+
+	private ConfigurationFingerprint() {
+	}
+
+	/**
+	 * Returns the fingerprint of the given components.
+	 *
+	 * @param components the components the candidate trees are built by
+	 * @param cacheKey   the key naming the configuration, {@code null} if the user did not give one
+	 * @return the fingerprint, or {@code null} if a component is opaque and no cache key is given
+	 */
+	static @Nullable Long of(List<?> components, @Nullable String cacheKey) {
+		ConfigurationFingerprint fingerprint = new ConfigurationFingerprint();
+		String description = fingerprint.describe(components, 0);
+		if (cacheKey != null) {
+			description = "key:" + cacheKey + "\n" + description;
+		} else if (fingerprint.opaque) {
+			return null;
+		}
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+			return ByteBuffer.wrap(digest).getLong();
+		} catch (NoSuchAlgorithmException ex) {
+			// every Java platform supports SHA-256
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private String describe(@Nullable Object value, int depth) {
+		if (value == null) {
+			return "null";
+		}
+
+		Class<?> type = value.getClass();
+		if (value instanceof String || value instanceof Number || value instanceof Boolean
+			|| value instanceof Character) {
+			return typeName(type) + ":" + value;
+		}
+		if (value instanceof Enum) {
+			return typeName(type) + ":" + ((Enum<?>)value).name();
+		}
+		if (value instanceof Class) {
+			return "class:" + typeName((Class<?>)value);
+		}
+		if (value instanceof Pattern) {
+			Pattern pattern = (Pattern)value;
+			return typeName(type) + ":" + pattern.flags() + ":" + pattern.pattern();
+		}
+		if (isJdkValue(value)) {
+			return typeName(type) + ":" + value;
+		}
+		if (value instanceof AnnotatedType && type.getClassLoader() == null) {
+			AnnotatedType annotatedType = (AnnotatedType)value;
+			return "annotated:" + annotatedType.getType().getTypeName() + Arrays.toString(annotatedType.getAnnotations());
+		}
+		String described = descriptions.get(value);
+		if (described != null) {
+			// a component shared by others is described in full once
+			return "#" + Integer.toHexString(described.hashCode()) + ":" + described.length();
+		}
+		if (depth >= MAX_DEPTH || isCache(value) || !describing.add(value)) {
+			return typeName(type);
+		}
+
+		try {
+			described = describeComponent(value, type, depth);
+			descriptions.put(value, described);
+			return described;
+		} finally {
+			describing.remove(value);
+		}
+	}
+
+	private String describeComponent(Object value, Class<?> type, int depth) {
+		if (isLambda(type)) {
+			return describeLambda(value, type, depth);
+		}
+		if (type.isArray()) {
+			List<String> elements = new ArrayList<>();
+			for (int i = 0; i < Array.getLength(value); i++) {
+				elements.add(describe(Array.get(value, i), depth + 1));
+			}
+			return typeName(type) + elements;
+		}
+		if (value instanceof Map) {
+			List<String> entries = new ArrayList<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+				entries.add(describe(entry.getKey(), depth + 1) + "=" + describe(entry.getValue(), depth + 1));
+			}
+			Collections.sort(entries);
+			return typeName(type) + entries;
+		}
+		if (value instanceof Collection) {
+			List<String> elements = new ArrayList<>();
+			for (Object element : (Collection<?>)value) {
+				elements.add(describe(element, depth + 1));
+			}
+			if (value instanceof Set) {
+				Collections.sort(elements);
+			}
+			return typeName(type) + elements;
+		}
+		if (value instanceof Optional) {
+			Optional<?> optional = (Optional<?>)value;
+			return typeName(type) + "[" + (optional.isPresent() ? describe(optional.get(), depth + 1) : "") + "]";
+		}
+		if (type.getClassLoader() == null) {
+			if (hasInstanceFields(type)) {
+				opaque = true;
+			}
+			return typeName(type);
+		}
+		return typeName(type) + describeFields(value, depth);
+	}
+
+	private String describeLambda(Object value, Class<?> type, int depth) {
+		SerializedLambda serializedLambda = serializedLambda(value, type);
+		if (serializedLambda != null) {
+			List<String> capturedArgs = new ArrayList<>();
+			for (int i = 0; i < serializedLambda.getCapturedArgCount(); i++) {
+				capturedArgs.add(describe(serializedLambda.getCapturedArg(i), depth + 1));
+			}
+			return "lambda:" + serializedLambda.getImplClass() + "." + serializedLambda.getImplMethodName()
+				+ serializedLambda.getImplMethodSignature() + capturedArgs;
+		}
+
+		if (type.getClassLoader() != null && !isLibraryType(type)) {
+			opaque = true;
+			return typeName(type);
+		}
+		return typeName(type) + describeFields(value, depth);
+	}
+
+	private List<String> describeFields(Object value, int depth) {
+		List<String> fields = new ArrayList<>();
+		for (Class<?> current = value.getClass(); current != null && current != Object.class;
+			current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+					continue;
+				}
+
+				String fieldValue;
+				try {
+					field.setAccessible(true);
+					fieldValue = describe(field.get(value), depth + 1);
+				} catch (IllegalAccessException | RuntimeException ex) {
+					// a field of a class encapsulated by its module is described by its declared type
+					fieldValue = typeName(field.getType());
+				}
+				fields.add(typeName(current) + "." + field.getName() + "=" + fieldValue);
+			}
+		}
+		Collections.sort(fields);
+		return fields;
+	}
+
+	private static boolean isCache(Object value) {
+		return value instanceof ConcurrentMap
+			|| value instanceof ConcurrentClockCache
+			|| value instanceof ConcurrentLruCache
+			|| value instanceof LruCache
+			|| value instanceof ThreadLocal
+			|| value.getClass().getName().startsWith("java.util.concurrent.");
+	}
+
+	/**
+	 * Returns whether the value is of a class of the JDK whose string form describes its value.
+	 */
+	private static boolean isJdkValue(Object value) {
+		return value.getClass().getClassLoader() == null
+			&& (value instanceof CharSequence
+			|| value instanceof Locale
+			|| value instanceof Charset
+			|| value instanceof UUID
+			|| value instanceof Type
+			|| value instanceof Member
+			|| value instanceof Parameter
+			|| value.getClass().getName().startsWith("java.time."));
+	}
+
+	private static boolean isLambda(Class<?> type) {
+		return type.isSynthetic() && type.getName().contains(LAMBDA_CLASS_MARKER);
+	}
+
+	/**
+	 * Returns whether the type is loaded from the same artifact as a core class of Fixture Monkey.
+	 * The classes of the user, including those sharing a package with Fixture Monkey, are not.
+	 */
+	private static boolean isLibraryType(Class<?> type) {
+		CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+		return codeSource != null && LIBRARY_CODE_SOURCES.contains(codeSource);
+	}
+
+	private static boolean hasInstanceFields(Class<?> type) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable SerializedLambda serializedLambda(Object value, Class<?> type) {
+		if (!(value instanceof Serializable)) {
+			return null;
+		}
+
+		try {
+			Method writeReplace = type.getDeclaredMethod("writeReplace");
+			writeReplace.setAccessible(true);
+			Object replaced = writeReplace.invoke(value);
+			return replaced instanceof SerializedLambda ? (SerializedLambda)replaced : null;
+		} catch (ReflectiveOperationException | RuntimeException ex) {
+			// a lambda of a module not open to Fixture Monkey is opaque
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the name of the type, without the suffix the JVM appends to the name of a lambda class per run.
+	 */
+	private static String typeName(Class<?> type) {
+		String name = type.getName();
+		int lambdaIndex = name.indexOf(LAMBDA_CLASS_MARKER);
+		return lambdaIndex < 0 ? name : name.substring(0, lambdaIndex + LAMBDA_CLASS_MARKER.length());
+	}
+}
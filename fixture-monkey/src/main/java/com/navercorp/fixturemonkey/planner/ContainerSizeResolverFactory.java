@@ -20,7 +20,6 @@ package com.navercorp.fixturemonkey.planner;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 import org.jspecify.annotations.Nullable;
 
@@ -107,7 +106,7 @@ final class ContainerSizeResolverFactory {
 						return minSize;
 					}
 					int range = maxSize - minSize + 1;
-					return minSize + nextRandomForType(containerType).nextInt(range);
+					return minSize + nextIntForType(containerType, range);
 				};
 				builder.addTypedContainerSizeResolver(ownerType, fieldEntry.getKey(), resolver);
 			}
@@ -148,23 +147,23 @@ final class ContainerSizeResolverFactory {
 				if (minSize == maxSize) {
 					return minSize;
 				}
-				return minSize + nextRandomForType(containerType).nextInt(maxSize - minSize + 1);
+				return minSize + nextIntForType(containerType, maxSize - minSize + 1);
 			};
 		}
 
 		return containerType -> {
 			int range = DEFAULT_MAX_CONTAINER_SIZE - DEFAULT_MIN_CONTAINER_SIZE + 1;
-			return DEFAULT_MIN_CONTAINER_SIZE + nextRandomForType(containerType).nextInt(range);
+			return DEFAULT_MIN_CONTAINER_SIZE + nextIntForType(containerType, range);
 		};
 	}
 
-	private Random nextRandomForType(JvmType containerType) {
+	private int nextIntForType(JvmType containerType, int bound) {
 		// Use the dedicated container-size counter on SeedState so cache hit/miss in other
 		// snapshot() consumers does not perturb the size sequence. Combining the snapshot
 		// with the type hash (via SeedSnapshot.seedFor) gives per-call variation plus
 		// per-type spread. Class.hashCode() is identityHashCode and varies across JVM runs,
 		// so we hash the fully-qualified class name instead to keep seeds reproducible.
-		return seedState.containerSizeSnapshot().randomFor(stableTypeHash(containerType));
+		return seedState.containerSizeSnapshot().nextInt(stableTypeHash(containerType), bound);
 	}
 
 	private static int stableTypeHash(JvmType containerType) {
@@ -206,8 +205,7 @@ final class ContainerSizeResolverFactory {
 				return minSize;
 			}
 			int range = maxSize - minSize + 1;
-			Random typeRandom = fixedSnapshot.randomFor(stableTypeHash(containerType));
-			return minSize + typeRandom.nextInt(range);
+			return minSize + fixedSnapshot.nextInt(stableTypeHash(containerType), range);
 		};
 	}
 
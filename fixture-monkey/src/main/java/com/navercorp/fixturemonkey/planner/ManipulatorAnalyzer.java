@@ -181,6 +181,69 @@ public final class ManipulatorAnalyzer {
 		return EMPTY_RESULT;
 	}
 
+	/**
+	 * Returns whether the container size resolver of any path comes from a {@link SizeDirective} with a size range.
+	 * The size of such a resolver is drawn once, when the directive is analyzed.
+	 */
+	static boolean hasRangedContainerSizes(AnalysisResult result) {
+		Map<PathExpression, Integer> sequenceByPath = result.getContainerSizeSequenceByPath();
+		for (SizeDirective directive : result.getLatestSizeDirectiveByPath().values()) {
+			if (isRangedSizeResolverOf(directive, sequenceByPath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a copy of the given result whose container size resolvers of {@link SizeDirective}s with a size range
+	 * draw a new size. The other resolvers and the rest of the result are shared.
+	 */
+	static AnalysisResult redrawContainerSizes(AnalysisResult result) {
+		Map<PathExpression, Integer> sequenceByPath = result.getContainerSizeSequenceByPath();
+		Map<PathExpression, SizeDirective> latestSizeDirectiveByPath = result.getLatestSizeDirectiveByPath();
+		List<PathResolver<ContainerSizeResolver>> containerSizeResolvers =
+			new ArrayList<>(result.getContainerSizeResolvers().size());
+		for (PathResolver<ContainerSizeResolver> resolver : result.getContainerSizeResolvers()) {
+			PathExpression path = getResolverPath(resolver);
+			SizeDirective directive = path != null ? latestSizeDirectiveByPath.get(path) : null;
+			if (directive != null && isRangedSizeResolverOf(directive, sequenceByPath)) {
+				containerSizeResolvers.add(buildExplicitSizeResolver(directive));
+			} else {
+				containerSizeResolvers.add(resolver);
+			}
+		}
+
+		return new AnalysisResult(
+			result.getInterfaceResolvers(),
+			result.getGenericTypeResolvers(),
+			containerSizeResolvers,
+			sequenceByPath,
+			latestSizeDirectiveByPath,
+			result.getJustPaths(),
+			result.getNotNullPaths(),
+			result.getValuesByPath(),
+			result.getFiltersByPath(),
+			result.getLimitsByPath(),
+			result.getValueOrderByPath(),
+			result.getCustomizersByPath(),
+			result.getNodeCollisions(),
+			result.isStrictMode()
+		);
+	}
+
+	/**
+	 * A later set directive replaces the resolver of a size directive at the same path,
+	 * so the resolver only comes from the directive if it still holds the sequence of the path.
+	 */
+	private static boolean isRangedSizeResolverOf(
+		SizeDirective directive,
+		Map<PathExpression, Integer> sequenceByPath
+	) {
+		Integer sequence = sequenceByPath.get(directive.path());
+		return directive.min() != directive.max() && sequence != null && sequence == directive.sequence();
+	}
+
 	private static final PathExpression ROOT_PATH = PathExpression.root();
 
 	private static final AnalysisResult EMPTY_RESULT = new AnalysisResult(
@@ -25,7 +25,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -404,8 +403,7 @@ public final class NodeContextFactory {
 			if (candidates.isEmpty()) {
 				return null;
 			}
-			Random typeRandom = seedState.snapshot().randomFor(type.hashCode());
-			return candidates.get(typeRandom.nextInt(candidates.size()));
+			return candidates.get(seedState.snapshot().nextInt(type.hashCode(), candidates.size()));
 		}
 
 		@Override
@@ -18,15 +18,17 @@
 
 package com.navercorp.fixturemonkey.planner;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -43,27 +45,84 @@ import com.navercorp.objectfarm.api.type.JvmType;
  * such as {@code propertyConfigurers} or {@code introspectorsByType} bypass the cache and
  * trigger a fresh build, since they alter how the context is constructed.
  * <p>
+ * Each cache holds at most {@code maxSize} entries and evicts by the CLOCK policy,
+ * so long-lived JVMs touching many types do not grow it without bound. Evicted entries are rebuilt on demand.
+ * The subtrees cached by the {@link JvmNodeSubtreeContext} are bounded the same way, and so are the ones of the
+ * {@link JvmNodeCandidateTreeContext} when it is created by {@link #TreeContextCache(NodeContextFactory, int)}.
+ * {@link #getCacheStats()} exposes the hit, miss and eviction counters to size the caches.
+ * <p>
  * Owns the long-lived {@link JvmNodeCandidateTreeContext} (subtree caching for candidate trees)
  * and {@link JvmNodeSubtreeContext} (promoted POJO subtree snapshots for tree transformation).
  * Both are exposed for use during {@code JvmNodeTreeTransformer} setup.
  */
 @API(since = "1.2.0", status = Status.EXPERIMENTAL)
 public final class TreeContextCache {
+	public static final int DEFAULT_MAX_SIZE = 2048;
+
 	private final JvmNodeCandidateTreeContext treeContext;
 	private final JvmNodeSubtreeContext subtreeContext;
 	private final NodeContextFactory nodeContextFactory;
 
-	private final Map<Key, JvmNodeContext> nodeContextCache;
-	private final Map<Key, JvmNodeCandidateTree> candidateTreeCache;
-	private final Map<Key, JvmNodeCandidateTree> concreteTypeCandidateTreeCache;
+	private final ConcurrentClockCache<Key, JvmNodeContext> nodeContextCache;
+	private final ConcurrentClockCache<Key, JvmNodeCandidateTree> candidateTreeCache;
+	private final ConcurrentClockCache<Key, JvmNodeCandidateTree> concreteTypeCandidateTreeCache;
+	private final ConcurrentClockCache<JvmType, Object> subtreeCache;
+	@Nullable
+	private final ConcurrentClockCache<JvmType, Object> candidateSubtreeCache;
 
 	public TreeContextCache(JvmNodeCandidateTreeContext treeContext, NodeContextFactory nodeContextFactory) {
+		this(treeContext, nodeContextFactory, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a cache whose node context and candidate tree caches hold at most {@code maxSize} entries each.
+	 *
+	 * @throws IllegalArgumentException if maxSize is not positive
+	 */
+	public TreeContextCache(
+		JvmNodeCandidateTreeContext treeContext,
+		NodeContextFactory nodeContextFactory,
+		int maxSize
+	) {
+		this(treeContext, null, nodeContextFactory, maxSize);
+	}
+
+	/**
+	 * Creates a cache owning a {@link JvmNodeCandidateTreeContext} whose subtree cache is bounded as well.
+	 *
+	 * @throws IllegalArgumentException if maxSize is not positive
+	 */
+	public TreeContextCache(NodeContextFactory nodeContextFactory, int maxSize) {
+		this(new ConcurrentClockCache<>(maxSize), nodeContextFactory, maxSize);
+	}
+
+	private TreeContextCache(
+		ConcurrentClockCache<JvmType, Object> candidateSubtreeCache,
+		NodeContextFactory nodeContextFactory,
+		int maxSize
+	) {
+		this(
+			new JvmNodeCandidateTreeContext(candidateSubtreeCache),
+			candidateSubtreeCache,
+			nodeContextFactory,
+			maxSize
+		);
+	}
+
+	private TreeContextCache(
+		JvmNodeCandidateTreeContext treeContext,
+		@Nullable ConcurrentClockCache<JvmType, Object> candidateSubtreeCache,
+		NodeContextFactory nodeContextFactory,
+		int maxSize
+	) {
 		this.treeContext = treeContext;
-		this.subtreeContext = new JvmNodeSubtreeContext();
+		this.candidateSubtreeCache = candidateSubtreeCache;
+		this.subtreeCache = new ConcurrentClockCache<>(maxSize);
+		this.subtreeContext = new JvmNodeSubtreeContext(subtreeCache);
 		this.nodeContextFactory = nodeContextFactory;
-		this.nodeContextCache = new ConcurrentHashMap<>();
-		this.candidateTreeCache = new ConcurrentHashMap<>();
-		this.concreteTypeCandidateTreeCache = new ConcurrentHashMap<>();
+		this.nodeContextCache = new ConcurrentClockCache<>(maxSize);
+		this.candidateTreeCache = new ConcurrentClockCache<>(maxSize);
+		this.concreteTypeCandidateTreeCache = new ConcurrentClockCache<>(maxSize);
 	}
 
 	public JvmNodeCandidateTreeContext getTreeContext() {
@@ -133,6 +192,22 @@ public final class TreeContextCache {
 		);
 	}
 
+	/**
+	 * Returns the counters of the node context, candidate tree and concrete type candidate tree caches
+	 * keyed by {@code "nodeContext"}, {@code "candidateTree"} and {@code "concreteTypeCandidateTree"}.
+	 */
+	public Map<String, CacheStats> getCacheStats() {
+		Map<String, CacheStats> stats = new LinkedHashMap<>();
+		stats.put("nodeContext", nodeContextCache.stats());
+		stats.put("candidateTree", candidateTreeCache.stats());
+		stats.put("concreteTypeCandidateTree", concreteTypeCandidateTreeCache.stats());
+		stats.put("subtree", subtreeCache.stats());
+		if (candidateSubtreeCache != null) {
+			stats.put("candidateSubtree", candidateSubtreeCache.stats());
+		}
+		return stats;
+	}
+
 	/**
 	 * Clears all caches and the subtree context.
 	 */
@@ -37,6 +37,7 @@ import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.option.InterfaceSelectionStrategy;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.planner.AnalysisResult;
 import com.navercorp.fixturemonkey.planner.RuntimeTreeFactory;
 import com.navercorp.fixturemonkey.tracing.TraceContext;
@@ -147,7 +148,7 @@ public final class AssembleContext {
 	 * Cross-call cache for assembly node metadata. Type-erased here since {@code CachedTypeMetadata}
 	 * is package-private in this package.
 	 */
-	private final @Nullable ConcurrentHashMap<?, ?> nodeMetadataCache;
+	private final @Nullable Map<?, ?> nodeMetadataCache;
 
 	/**
 	 * Paths where the user has explicitly set container sizes via size() calls.
@@ -162,6 +163,18 @@ public final class AssembleContext {
 	 */
 	private final InlinedValueResolver inlinedValueResolver;
 
+	/**
+	 * Validator checking each property against its own constraints as it is generated.
+	 * Null when the builder is not valid only, the whole object is validated after assembly either way.
+	 */
+	private final @Nullable ArbitraryValidator propertyValidator;
+
+	/**
+	 * The wildcard and type selector patterns of the values and typed path values, built once per plan.
+	 * Null when they are indexed per assembly.
+	 */
+	private final @Nullable PathPatterns pathPatterns;
+
 	private AssembleContext(Builder builder) {
 		this.monkeyContext = builder.monkeyContext;
 		this.rootProperty = builder.rootProperty;
@@ -181,6 +194,8 @@ public final class AssembleContext {
 		this.pathResolverContext = builder.pathResolverContext;
 		this.nodeMetadataCache = builder.nodeMetadataCache;
 		this.inlinedValueResolver = builder.inlinedValueResolver;
+		this.propertyValidator = builder.propertyValidator;
+		this.pathPatterns = builder.pathPatterns;
 		this.userContainerSizePaths = Collections.unmodifiableSet(new HashSet<>(builder.userContainerSizePaths));
 		this.typedPathValues = Collections.unmodifiableMap(new HashMap<>(builder.typedPathValues));
 		this.typedPathOrders = Collections.unmodifiableMap(new HashMap<>(builder.typedPathOrders));
@@ -366,15 +381,36 @@ public final class AssembleContext {
 		return pathResolverContext;
 	}
 
+	/**
+	 * Returns the wildcard and type selector patterns built with the plan.
+	 *
+	 * @return the patterns, or null if they are indexed per assembly
+	 */
+	public @Nullable PathPatterns getPathPatterns() {
+		return pathPatterns;
+	}
+
 	/**
 	 * Returns the cross-call assembly node metadata cache.
 	 *
 	 * @return the metadata cache, or null if not set
 	 */
-	public @Nullable ConcurrentHashMap<?, ?> getNodeMetadataCache() {
+	public @Nullable Map<?, ?> getSharedNodeMetadataCache() {
 		return nodeMetadataCache;
 	}
 
+	/**
+	 * Returns a copy of the cross-call assembly node metadata cache.
+	 *
+	 * @return a copy of the metadata cache, or null if not set
+	 * @deprecated The cache is bounded and no longer a {@link ConcurrentHashMap},
+	 * the returned map is a copy. Use {@link #getSharedNodeMetadataCache()} instead.
+	 */
+	@Deprecated
+	public @Nullable ConcurrentHashMap<?, ?> getNodeMetadataCache() {
+		return nodeMetadataCache != null ? new ConcurrentHashMap<>(nodeMetadataCache) : null;
+	}
+
 	/**
 	 * Returns the {@link InlinedValueResolver} applied while decomposing a set value into child
 	 * field values.
@@ -385,6 +421,15 @@ public final class AssembleContext {
 		return inlinedValueResolver;
 	}
 
+	/**
+	 * Returns the validator checking each property against its own constraints as it is generated.
+	 *
+	 * @return the property validator, or null if properties are not validated one by one
+	 */
+	public @Nullable ArbitraryValidator getPropertyValidator() {
+		return propertyValidator;
+	}
+
 	/**
 	 * Returns the set of paths where the user has explicitly set container sizes.
 	 *
@@ -423,8 +468,10 @@ public final class AssembleContext {
 		private Map<Class<?>, ArbitraryIntrospector> introspectorsByType = Collections.emptyMap();
 		private @Nullable RuntimeTreeFactory runtimeTreeFactory;
 		private @Nullable PathResolverContext pathResolverContext;
-		private @Nullable ConcurrentHashMap<?, ?> nodeMetadataCache;
+		private @Nullable Map<?, ?> nodeMetadataCache;
 		private InlinedValueResolver inlinedValueResolver = InlinedValueResolver.noOp();
+		private @Nullable ArbitraryValidator propertyValidator;
+		private @Nullable PathPatterns pathPatterns;
 		private Set<PathExpression> userContainerSizePaths = Collections.emptySet();
 		private Map<PathExpression, @Nullable Object> typedPathValues = Collections.emptyMap();
 		private Map<PathExpression, Integer> typedPathOrders = Collections.emptyMap();
@@ -581,11 +628,23 @@ public final class AssembleContext {
 		 * @param nodeMetadataCache the metadata cache
 		 * @return this builder
 		 */
-		public Builder nodeMetadataCache(@Nullable ConcurrentHashMap<?, ?> nodeMetadataCache) {
+		public Builder nodeMetadataCache(@Nullable Map<?, ?> nodeMetadataCache) {
 			this.nodeMetadataCache = nodeMetadataCache;
 			return this;
 		}
 
+		/**
+		 * Sets the cross-call assembly node metadata cache.
+		 *
+		 * @param nodeMetadataCache the metadata cache
+		 * @return this builder
+		 * @deprecated Use {@link #nodeMetadataCache(Map)} instead.
+		 */
+		@Deprecated
+		public Builder nodeMetadataCache(@Nullable ConcurrentHashMap<?, ?> nodeMetadataCache) {
+			return nodeMetadataCache((Map<?, ?>)nodeMetadataCache);
+		}
+
 		/**
 		 * Sets the {@link InlinedValueResolver} applied while decomposing a set value into child
 		 * field values.
@@ -598,6 +657,30 @@ public final class AssembleContext {
 			return this;
 		}
 
+		/**
+		 * Sets the validator checking each property against its own constraints as it is generated.
+		 * A property that is not valid is re-created without discarding the whole object.
+		 *
+		 * @param propertyValidator the property validator, null to validate only the whole object
+		 * @return this builder
+		 */
+		public Builder propertyValidator(@Nullable ArbitraryValidator propertyValidator) {
+			this.propertyValidator = propertyValidator;
+			return this;
+		}
+
+		/**
+		 * Sets the wildcard and type selector patterns built with the plan.
+		 * They must cover the paths of the values and of the typed path values.
+		 *
+		 * @param pathPatterns the patterns, null to index them per assembly
+		 * @return this builder
+		 */
+		public Builder pathPatterns(@Nullable PathPatterns pathPatterns) {
+			this.pathPatterns = pathPatterns;
+			return this;
+		}
+
 		/**
 		 * Sets the user container size paths.
 		 *
@@ -18,14 +18,12 @@
 
 package com.navercorp.fixturemonkey.projection;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -39,13 +37,12 @@ import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.option.InterfaceSelectionStrategy;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.planner.AnalysisResult;
 import com.navercorp.fixturemonkey.planner.RuntimeTreeFactory;
 import com.navercorp.fixturemonkey.property.JvmNodePropertyFactory;
 import com.navercorp.fixturemonkey.tracing.TraceContext;
 import com.navercorp.objectfarm.api.expression.PathExpression;
-import com.navercorp.objectfarm.api.expression.Segment;
-import com.navercorp.objectfarm.api.expression.TypeSelector;
 import com.navercorp.objectfarm.api.input.ContainerDetector;
 import com.navercorp.objectfarm.api.input.FieldExtractor;
 import com.navercorp.objectfarm.api.input.InlinedValueResolver;
@@ -82,6 +79,8 @@ final class AssemblyState {
 	final TraceContext traceContext;
 	final Map<Class<?>, ArbitraryIntrospector> introspectorsByType;
 
+	final @Nullable ArbitraryValidator propertyValidator;
+
 	final Map<JvmNode, JvmNodeTree> concreteTreeByNode;
 
 	final Map<JvmType, Boolean> containerTypeCache;
@@ -104,15 +103,12 @@ final class AssemblyState {
 
 	final Map<LazyValueHolder, Object> resolvedLazyCache;
 
-	final List<Map.Entry<PathExpression, ValueCandidate>> wildcardEntries;
-
-	final List<Map.Entry<PathExpression, ValueCandidate>> typeSelectorEntries;
-
-	final List<Map.Entry<PathExpression, ValueCandidate>> rootTypeSelectors;
+	// Built once per plan, so each node finds its wildcard and type selector candidates in O(depth)
+	final PathPatterns pathPatterns;
 
 	final ValueDecomposer valueDecomposer;
 
-	final @Nullable ConcurrentHashMap<JvmType, CachedTypeMetadata> typeMetadataCache;
+	final @Nullable Map<JvmType, CachedTypeMetadata> typeMetadataCache;
 
 	AssemblyState(
 		JvmNodeTree nodeTree,
@@ -131,9 +127,11 @@ final class AssemblyState {
 		Map<Class<?>, ArbitraryIntrospector> introspectorsByType,
 		@Nullable RuntimeTreeFactory runtimeTreeFactory,
 		@Nullable PathResolverContext pathResolverContext,
-		@Nullable ConcurrentHashMap<?, ?> nodeMetadataCache,
+		@Nullable Map<?, ?> nodeMetadataCache,
 		Set<PathExpression> userContainerSizePaths,
-		InlinedValueResolver inlinedValueResolver
+		InlinedValueResolver inlinedValueResolver,
+		@Nullable ArbitraryValidator propertyValidator,
+		PathPatterns pathPatterns
 	) {
 		this.nodeTree = nodeTree;
 		this.candidatesByPath = candidatesByPath;
@@ -153,6 +151,7 @@ final class AssemblyState {
 		this.introspectorsByType = introspectorsByType;
 		this.runtimeTreeFactory = runtimeTreeFactory;
 		this.pathResolverContext = pathResolverContext;
+		this.propertyValidator = propertyValidator;
 
 		this.containerTypeCache = new HashMap<>();
 		this.propertyByNode = new IdentityHashMap<>();
@@ -174,26 +173,7 @@ final class AssemblyState {
 			notNullPaths
 		);
 
-		List<Map.Entry<PathExpression, ValueCandidate>> wildcards = new ArrayList<>();
-		List<Map.Entry<PathExpression, ValueCandidate>> typeSelectors = new ArrayList<>();
-		List<Map.Entry<PathExpression, ValueCandidate>> rootTypeOnly = new ArrayList<>();
-		for (Map.Entry<PathExpression, ValueCandidate> entry : candidatesByPath.entrySet()) {
-			PathExpression pattern = entry.getKey();
-			if (pattern.hasWildcard()) {
-				wildcards.add(entry);
-			} else if (pattern.hasTypeSelector()) {
-				typeSelectors.add(entry);
-				List<Segment> segments = pattern.getSegments();
-				if (segments.size() == 1
-					&& segments.get(0).isSingleSelector()
-					&& segments.get(0).getFirstSelector() instanceof TypeSelector) {
-					rootTypeOnly.add(entry);
-				}
-			}
-		}
-		this.wildcardEntries = wildcards;
-		this.typeSelectorEntries = typeSelectors;
-		this.rootTypeSelectors = rootTypeOnly;
+		this.pathPatterns = pathPatterns;
 
 		this.nodePropertyFactory = new JvmNodePropertyFactory(child -> {
 			JvmNode parent = nodeTree.getParent(child);
@@ -209,8 +189,8 @@ final class AssemblyState {
 
 		if (nodeMetadataCache != null) {
 			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<JvmType, CachedTypeMetadata> typedCache =
-				(ConcurrentHashMap<JvmType, CachedTypeMetadata>)nodeMetadataCache;
+			Map<JvmType, CachedTypeMetadata> typedCache =
+				(Map<JvmType, CachedTypeMetadata>)nodeMetadataCache;
 			this.typeMetadataCache = typedCache;
 		} else {
 			this.typeMetadataCache = null;
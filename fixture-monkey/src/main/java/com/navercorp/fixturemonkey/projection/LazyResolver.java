@@ -21,7 +21,6 @@ package com.navercorp.fixturemonkey.projection;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
@@ -72,15 +71,20 @@ final class LazyResolver {
 		PathExpression currentPath,
 		AssemblyState state
 	) {
-		if (state.rootTypeSelectors.isEmpty()) {
+		List<PathExpression> rootTypeSelectors = state.pathPatterns.getRootTypeSelectors();
+		if (rootTypeSelectors.isEmpty()) {
 			return null;
 		}
 
-		for (Map.Entry<PathExpression, ValueCandidate> entry : state.rootTypeSelectors) {
-			TypeSelector typeSelector = (TypeSelector)entry.getKey().getSegments().get(0).getFirstSelector();
+		for (PathExpression pattern : rootTypeSelectors) {
+			ValueCandidate candidate = state.candidatesByPath.get(pattern);
+			if (candidate == null) {
+				continue;
+			}
+			TypeSelector typeSelector = (TypeSelector)pattern.getSegments().get(0).getFirstSelector();
 
 			if (node.getConcreteType() != null && typeSelector.matchesType(node.getConcreteType().getRawType())) {
-				Object value = entry.getValue().value;
+				Object value = candidate.value;
 				if (value instanceof LazyValueHolder) {
 					Object resolved = resolveLazyWithCache((LazyValueHolder)value, state);
 					if (resolved == LazyValueHolder.RECURSION_BLOCKED) {
@@ -100,7 +104,7 @@ final class LazyResolver {
 				if (ancestorNode != null
 					&& ancestorNode.getConcreteType() != null
 					&& typeSelector.matchesType(ancestorNode.getConcreteType().getRawType())) {
-					Object value = entry.getValue().value;
+					Object value = candidate.value;
 					Object resolved;
 					if (value instanceof LazyValueHolder) {
 						resolved = resolveLazyWithCache((LazyValueHolder)value, state);
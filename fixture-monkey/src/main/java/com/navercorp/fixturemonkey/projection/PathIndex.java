@@ -22,9 +22,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.objectfarm.api.expression.IndexSelector;
 import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.expression.Segment;
 
 /**
  * Pre-built lookup index for paths that have any descendant directives (values, sizes,
@@ -32,8 +35,6 @@ import com.navercorp.objectfarm.api.expression.PathExpression;
  * parent path has no relevant descendants.
  */
 final class PathIndex {
-	private static final Pattern INDEX_PATTERN = Pattern.compile("\\[\\d+]");
-
 	private final Map<PathExpression, Set<PathExpression>> childPathsByParent;
 	private final Set<PathExpression> wildcardParentPaths;
 	private final Set<PathExpression> typePatternPaths;
@@ -91,15 +92,36 @@ final class PathIndex {
 		if (wildcardParentPaths.contains(parentPath)) {
 			return true;
 		}
-		String pathStr = parentPath.toExpression();
 		// Convert indexed paths ($.list[0]) to wildcard form ($.list[*]) to check wildcard coverage
-		if (pathStr.contains("[") && !pathStr.contains("[*]")) {
-			String wildcardForm = INDEX_PATTERN.matcher(pathStr).replaceAll("[*]");
-			PathExpression wildcardPath = PathExpression.of(wildcardForm);
-			return wildcardParentPaths.contains(wildcardPath)
-				|| childPathsByParent.containsKey(wildcardPath);
+		PathExpression wildcardPath = toWildcardForm(parentPath);
+		if (wildcardPath == null) {
+			return false;
+		}
+		return wildcardParentPaths.contains(wildcardPath)
+			|| childPathsByParent.containsKey(wildcardPath);
+	}
+
+	/**
+	 * Returns the path replacing every index segment by a wildcard, null if the path has no index segment
+	 * or already has a wildcard. The derived paths are interned while reachable,
+	 * so deriving one of the wildcard paths this index holds does not allocate.
+	 */
+	private static @Nullable PathExpression toWildcardForm(PathExpression path) {
+		if (path.hasWildcard()) {
+			return null;
+		}
+
+		boolean hasIndex = false;
+		PathExpression result = PathExpression.root();
+		for (Segment segment : path.getSegments()) {
+			if (segment.isSingleSelector() && segment.getFirstSelector() instanceof IndexSelector) {
+				hasIndex = true;
+				result = result.wildcard();
+			} else {
+				result = result.appendSegment(segment);
+			}
 		}
-		return false;
+		return hasIndex ? result : null;
 	}
 
 	Set<PathExpression> getTypePatternPaths() {
@@ -108,10 +108,10 @@ final class PathMatcher {
 		}
 
 		if (state != null) {
-			for (Map.Entry<PathExpression, ValueCandidate> entry : state.wildcardEntries) {
-				PathExpression pattern = entry.getKey();
-				if (pattern.matches(path)) {
-					ValueOrder order = entry.getValue().order;
+			for (PathExpression pattern : state.pathPatterns.wildcardCandidates(path)) {
+				ValueCandidate candidate = candidatesByPath.get(pattern);
+				if (candidate != null && pattern.matches(path)) {
+					ValueOrder order = candidate.order;
 					if (order.compareTo(bestOrder) > 0) {
 						bestOrder = order;
 						bestPath = pattern;
@@ -119,12 +119,15 @@ final class PathMatcher {
 				}
 			}
 
-			for (Map.Entry<PathExpression, ValueCandidate> entry : state.typeSelectorEntries) {
-				PathExpression pattern = entry.getKey();
+			for (PathExpression pattern : state.pathPatterns.typeSelectorCandidates(path)) {
+				ValueCandidate candidate = candidatesByPath.get(pattern);
+				if (candidate == null) {
+					continue;
+				}
 				// depth = how deep in the tree the type match occurs; deeper = more specific = wins
 				int depth = matchesTypePattern(pattern, path, state);
 				if (depth >= 0) {
-					ValueOrder order = entry.getValue().order;
+					ValueOrder order = candidate.order;
 					if (depth > bestTypeDepth || (depth == bestTypeDepth && order.compareTo(bestTypeOrder) > 0)) {
 						bestTypeDepth = depth;
 						bestTypeOrder = order;
@@ -144,8 +147,8 @@ final class PathMatcher {
 	}
 
 	static boolean matchesAnyWildcardCandidate(PathExpression childPath, AssemblyState state) {
-		for (Map.Entry<PathExpression, ValueCandidate> entry : state.wildcardEntries) {
-			if (entry.getKey().matches(childPath)) {
+		for (PathExpression pattern : state.pathPatterns.wildcardCandidates(childPath)) {
+			if (state.candidatesByPath.containsKey(pattern) && pattern.matches(childPath)) {
 				return true;
 			}
 		}
@@ -229,12 +232,7 @@ final class PathMatcher {
 	}
 
 	static PathExpression buildPathUpTo(PathExpression fullPath, int segmentIndex) {
-		List<Segment> segments = fullPath.getSegments();
-		PathExpression result = PathExpression.root();
-		for (int i = 0; i <= segmentIndex && i < segments.size(); i++) {
-			result = result.appendSegment(segments.get(i));
-		}
-		return result;
+		return fullPath.prefix(segmentIndex + 1);
 	}
 
 	static boolean isRootTypeSelector(PathExpression path) {
@@ -0,0 +1,230 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.projection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.navercorp.objectfarm.api.expression.IndexSelector;
+import com.navercorp.objectfarm.api.expression.KeySelector;
+import com.navercorp.objectfarm.api.expression.NameSelector;
+import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.expression.Segment;
+import com.navercorp.objectfarm.api.expression.Selector;
+import com.navercorp.objectfarm.api.expression.TypeSelector;
+import com.navercorp.objectfarm.api.expression.ValueSelector;
+
+/**
+ * Trie of path patterns over their {@link Segment}s, compiled once per plan by {@link PathPatterns}.
+ *
+ * <p>Finds the patterns that may match a path in O(depth) instead of testing every pattern.
+ * Segments selecting a single name, index, key or value are looked up by hash; wildcard, type and
+ * union segments are tested by {@link PathExpression#matchesSegment(Segment, Segment)}.
+ * The candidates are a superset of the matching patterns, in the order the patterns were given,
+ * callers still confirm each of them by the exact matching rule.</p>
+ *
+ * <p>Two layouts are supported:</p>
+ * <ul>
+ *   <li>{@link #ofPatterns(List)} — the whole pattern from the root, a candidate has as many segments as the path,
+ *   used for wildcard patterns like {@code $.items[*].name}</li>
+ *   <li>{@link #ofTypeSelectorSuffixes(List)} — the segments after the type selector, from the last one backwards.
+ *   A candidate's suffix matches the end of the path, used for patterns like {@code $[type:Order].items[*]}</li>
+ * </ul>
+ */
+final class PathPatternTrie {
+	private static final PathPatternTrie EMPTY = new PathPatternTrie(Collections.emptyList(), false);
+
+	private final List<PathExpression> patterns;
+	private final boolean suffix;
+	private final Node root;
+
+	private PathPatternTrie(List<PathExpression> patterns, boolean suffix) {
+		this.patterns = patterns;
+		this.suffix = suffix;
+		this.root = new Node();
+	}
+
+	static PathPatternTrie ofPatterns(List<PathExpression> patterns) {
+		if (patterns.isEmpty()) {
+			return EMPTY;
+		}
+
+		PathPatternTrie trie = new PathPatternTrie(patterns, false);
+		for (int ordinal = 0; ordinal < patterns.size(); ordinal++) {
+			List<Segment> segments = patterns.get(ordinal).getSegments();
+			Node node = trie.root;
+			for (Segment segment : segments) {
+				node = node.child(segment);
+			}
+			node.ordinals.add(ordinal);
+		}
+		return trie;
+	}
+
+	static PathPatternTrie ofTypeSelectorSuffixes(List<PathExpression> patterns) {
+		if (patterns.isEmpty()) {
+			return EMPTY;
+		}
+
+		PathPatternTrie trie = new PathPatternTrie(patterns, true);
+		for (int ordinal = 0; ordinal < patterns.size(); ordinal++) {
+			List<Segment> segments = patterns.get(ordinal).getSegments();
+			int typeSegmentIndex = typeSegmentIndex(segments);
+			if (typeSegmentIndex < 0) {
+				// never matched by PathMatcher#matchesTypePattern
+				continue;
+			}
+
+			Node node = trie.root;
+			for (int i = segments.size() - 1; i > typeSegmentIndex; i--) {
+				node = node.child(segments.get(i));
+			}
+			node.ordinals.add(ordinal);
+		}
+		return trie;
+	}
+
+	/**
+	 * Returns the patterns which may match the given path, in the order they were given.
+	 */
+	List<PathExpression> candidates(PathExpression path) {
+		if (patterns.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Segment> segments = path.getSegments();
+		List<Integer> ordinals = new ArrayList<>();
+		if (suffix) {
+			collectSuffixes(root, segments, segments.size() - 1, ordinals);
+		} else {
+			collect(root, segments, 0, ordinals);
+		}
+
+		if (ordinals.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (ordinals.size() > 1) {
+			Collections.sort(ordinals);
+		}
+
+		List<PathExpression> candidates = new ArrayList<>(ordinals.size());
+		for (Integer ordinal : ordinals) {
+			candidates.add(patterns.get(ordinal));
+		}
+		return candidates;
+	}
+
+	private static void collect(Node node, List<Segment> segments, int depth, List<Integer> ordinals) {
+		if (depth == segments.size()) {
+			ordinals.addAll(node.ordinals);
+			return;
+		}
+
+		Segment segment = segments.get(depth);
+		node.forEachMatchingChild(segment, child -> collect(child, segments, depth + 1, ordinals));
+	}
+
+	private static void collectSuffixes(Node node, List<Segment> segments, int position, List<Integer> ordinals) {
+		ordinals.addAll(node.ordinals);
+		if (position < 0) {
+			return;
+		}
+
+		Segment segment = segments.get(position);
+		node.forEachMatchingChild(segment, child -> collectSuffixes(child, segments, position - 1, ordinals));
+	}
+
+	private static int typeSegmentIndex(List<Segment> segments) {
+		for (int i = 0; i < segments.size(); i++) {
+			Segment segment = segments.get(i);
+			if (segment.isSingleSelector() && segment.getFirstSelector() instanceof TypeSelector) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether the segment selects exactly the single selector it holds,
+	 * so a path segment matches it if and only if it is equal.
+	 */
+	private static boolean isExactSegment(Segment segment) {
+		if (!segment.isSingleSelector()) {
+			return false;
+		}
+		Selector selector = segment.getFirstSelector();
+		if (selector instanceof NameSelector) {
+			return !"*".equals(((NameSelector)selector).getName());
+		}
+		return selector instanceof IndexSelector
+			|| selector instanceof KeySelector
+			|| selector instanceof ValueSelector;
+	}
+
+	private static final class Node {
+		private final Map<Segment, Node> exactChildren = new HashMap<>();
+		private final List<Segment> patternSegments = new ArrayList<>();
+		private final List<Node> patternChildren = new ArrayList<>();
+		private final List<Integer> ordinals = new ArrayList<>();
+
+		private Node child(Segment segment) {
+			if (isExactSegment(segment)) {
+				return exactChildren.computeIfAbsent(segment, it -> new Node());
+			}
+
+			int index = patternSegments.indexOf(segment);
+			if (index >= 0) {
+				return patternChildren.get(index);
+			}
+			Node child = new Node();
+			patternSegments.add(segment);
+			patternChildren.add(child);
+			return child;
+		}
+
+		private void forEachMatchingChild(Segment segment, Consumer<Node> action) {
+			if (segment.isSingleSelector()) {
+				Node exactChild = exactChildren.get(segment);
+				if (exactChild != null) {
+					action.accept(exactChild);
+				}
+			} else {
+				for (Map.Entry<Segment, Node> entry : exactChildren.entrySet()) {
+					if (matches(entry.getKey(), segment)) {
+						action.accept(entry.getValue());
+					}
+				}
+			}
+
+			for (int i = 0; i < patternSegments.size(); i++) {
+				if (matches(patternSegments.get(i), segment)) {
+					action.accept(patternChildren.get(i));
+				}
+			}
+		}
+
+		private static boolean matches(Segment patternSegment, Segment pathSegment) {
+			return patternSegment.equals(pathSegment) || PathExpression.matchesSegment(patternSegment, pathSegment);
+		}
+	}
+}
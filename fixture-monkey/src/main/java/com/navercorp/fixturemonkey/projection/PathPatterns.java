@@ -0,0 +1,125 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.projection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.objectfarm.api.expression.PathExpression;
+import com.navercorp.objectfarm.api.expression.Segment;
+import com.navercorp.objectfarm.api.expression.TypeSelector;
+
+/**
+ * The wildcard and type selector patterns of the values of a plan, indexed for lookup during assembly.
+ * <p>
+ * The patterns only depend on the analyzed directives, so the planner builds them once per compiled plan
+ * and every assembly of the plan looks up its values by them.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+public final class PathPatterns {
+	private static final PathPatterns EMPTY = new PathPatterns(
+		PathPatternTrie.ofPatterns(Collections.emptyList()),
+		PathPatternTrie.ofTypeSelectorSuffixes(Collections.emptyList()),
+		Collections.emptyList(),
+		false
+	);
+
+	private final PathPatternTrie wildcardTrie;
+	private final PathPatternTrie typeSelectorTrie;
+	private final List<PathExpression> rootTypeSelectors;
+	private final boolean hasWildcards;
+
+	private PathPatterns(
+		PathPatternTrie wildcardTrie,
+		PathPatternTrie typeSelectorTrie,
+		List<PathExpression> rootTypeSelectors,
+		boolean hasWildcards
+	) {
+		this.wildcardTrie = wildcardTrie;
+		this.typeSelectorTrie = typeSelectorTrie;
+		this.rootTypeSelectors = rootTypeSelectors;
+		this.hasWildcards = hasWildcards;
+	}
+
+	/**
+	 * Indexes the wildcard and type selector patterns among the given paths, the other paths are ignored.
+	 *
+	 * @param paths the paths of the values, in the order their candidates are looked up
+	 * @return the indexed patterns
+	 */
+	public static PathPatterns of(Collection<PathExpression> paths) {
+		List<PathExpression> wildcards = new ArrayList<>();
+		List<PathExpression> typeSelectors = new ArrayList<>();
+		List<PathExpression> rootTypeSelectors = new ArrayList<>();
+		for (PathExpression path : paths) {
+			if (path.hasWildcard()) {
+				wildcards.add(path);
+			} else if (path.hasTypeSelector()) {
+				typeSelectors.add(path);
+				List<Segment> segments = path.getSegments();
+				if (segments.size() == 1
+					&& segments.get(0).isSingleSelector()
+					&& segments.get(0).getFirstSelector() instanceof TypeSelector) {
+					rootTypeSelectors.add(path);
+				}
+			}
+		}
+
+		if (wildcards.isEmpty() && typeSelectors.isEmpty()) {
+			return EMPTY;
+		}
+		return new PathPatterns(
+			PathPatternTrie.ofPatterns(wildcards),
+			PathPatternTrie.ofTypeSelectorSuffixes(typeSelectors),
+			rootTypeSelectors,
+			!wildcards.isEmpty()
+		);
+	}
+
+	/**
+	 * Returns the wildcard patterns which may match the given path, callers confirm them by
+	 * {@link PathExpression#matches(PathExpression)}.
+	 */
+	List<PathExpression> wildcardCandidates(PathExpression path) {
+		return wildcardTrie.candidates(path);
+	}
+
+	/**
+	 * Returns the type selector patterns whose segments after the type selector may match the end of the path.
+	 */
+	List<PathExpression> typeSelectorCandidates(PathExpression path) {
+		return typeSelectorTrie.candidates(path);
+	}
+
+	/**
+	 * Returns the patterns made of a single type selector, like {@code $[type:Order]}.
+	 */
+	List<PathExpression> getRootTypeSelectors() {
+		return rootTypeSelectors;
+	}
+
+	boolean hasWildcards() {
+		return hasWildcards;
+	}
+}
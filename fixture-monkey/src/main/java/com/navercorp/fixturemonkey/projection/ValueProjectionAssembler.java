@@ -56,6 +56,7 @@ import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 import com.navercorp.fixturemonkey.planner.AnalysisResult;
 import com.navercorp.fixturemonkey.property.JvmNodePropertyFactory;
 import com.navercorp.objectfarm.api.expression.PathExpression;
@@ -113,6 +114,11 @@ final class ValueProjectionAssembler {
 			);
 		}
 
+		PathPatterns pathPatterns = context.getPathPatterns();
+		if (pathPatterns == null) {
+			pathPatterns = PathPatterns.of(mergedCandidates.keySet());
+		}
+
 		AssemblyState state = new AssemblyState(
 			structure,
 			mergedCandidates,
@@ -130,9 +136,11 @@ final class ValueProjectionAssembler {
 			context.getIntrospectorsByType(),
 			context.getRuntimeTreeFactory(),
 			context.getPathResolverContext(),
-			context.getNodeMetadataCache(),
+			context.getSharedNodeMetadataCache(),
 			context.getUserContainerSizePaths(),
-			context.getInlinedValueResolver()
+			context.getInlinedValueResolver(),
+			context.getPropertyValidator(),
+			pathPatterns
 		);
 
 		if (state.traceContext.isEnabled()) {
@@ -280,7 +288,7 @@ final class ValueProjectionAssembler {
 					Object earlyValue = decomposeResult.getEarlyReturnValue();
 
 					// Apply wildcard overrides to container elements when a wildcard has higher order
-					if (isCurrentTypeContainer && earlyValue != null && !state.wildcardEntries.isEmpty()) {
+					if (isCurrentTypeContainer && earlyValue != null && state.pathPatterns.hasWildcards()) {
 						earlyValue = applyWildcardOverridesToContainer(
 							earlyValue, currentPath, parentOrder, state
 						);
@@ -573,7 +581,18 @@ final class ValueProjectionAssembler {
 					if (childPath == null) {
 						return CombinableArbitrary.NOT_GENERATED;
 					}
-					return assembleNode(childNode, state, currentContext, propertyPath, childPath, visitedTypes);
+					CombinableArbitrary<?> child =
+						assembleNode(childNode, state, currentContext, propertyPath, childPath, visitedTypes);
+					if (isCurrentTypeContainer) {
+						return child;
+					}
+					return applyPropertyValidation(
+						child,
+						currentRawType,
+						childProp.getObjectProperty().getProperty(),
+						childPath,
+						state
+					);
 				},
 				lazyPropertyPath,
 				state.monkeyGeneratorContext,
@@ -926,7 +945,12 @@ final class ValueProjectionAssembler {
 						childNode = new JavaNode(childProperty.getJvmType(), childName != null ? childName : "");
 					}
 
-					return assembleNode(childNode, state, currentContext, propertyPath, childPath, visitedTypes);
+					CombinableArbitrary<?> child =
+						assembleNode(childNode, state, currentContext, propertyPath, childPath, visitedTypes);
+					if (isContainer) {
+						return child;
+					}
+					return applyPropertyValidation(child, actualType, childProperty, childPath, state);
 				},
 				lazyPropertyPath,
 				state.monkeyGeneratorContext,
@@ -1668,6 +1692,33 @@ final class ValueProjectionAssembler {
 		return result;
 	}
 
+	/**
+	 * Validates a property against the constraints declared on it as soon as it is combined,
+	 * so a violation re-creates only the property instead of the whole object.
+	 * Values set by the user are left to the validation of the whole object.
+	 */
+	private static <T> CombinableArbitrary<T> applyPropertyValidation(
+		CombinableArbitrary<T> arbitrary,
+		Class<?> declaringType,
+		Property property,
+		PathExpression path,
+		AssemblyState state
+	) {
+		ArbitraryValidator validator = state.propertyValidator;
+		String propertyName = property.getName();
+		if (validator == null
+			|| propertyName == null
+			|| state.candidatesByPath.containsKey(path)
+			|| !validator.isConstrained(declaringType, propertyName)) {
+			return arbitrary;
+		}
+
+		return arbitrary.filter(value -> {
+			validator.validateProperty(declaringType, propertyName, value);
+			return true;
+		});
+	}
+
 	private CombinableArbitrary<?> applyCustomizers(
 		CombinableArbitrary<?> arbitrary,
 		PathExpression path,
@@ -1725,13 +1776,15 @@ final class ValueProjectionAssembler {
 			List<@Nullable Object> result = null;
 			for (int i = 0; i < list.size(); i++) {
 				PathExpression elementPath = containerPath.index(i);
-				for (Map.Entry<PathExpression, ValueCandidate> entry : state.wildcardEntries) {
-					if (entry.getKey().matches(elementPath)
-						&& entry.getValue().order.compareTo(containerOrder) > 0) {
+				for (PathExpression pattern : state.pathPatterns.wildcardCandidates(elementPath)) {
+					ValueCandidate candidate = state.candidatesByPath.get(pattern);
+					if (candidate != null
+						&& pattern.matches(elementPath)
+						&& candidate.order.compareTo(containerOrder) > 0) {
 						if (result == null) {
 							result = new ArrayList<>(list);
 						}
-						result.set(i, LazyResolver.resolveLazyValue(entry.getValue().value, false, state));
+						result.set(i, LazyResolver.resolveLazyValue(candidate.value, false, state));
 						break;
 					}
 				}
@@ -1742,9 +1795,11 @@ final class ValueProjectionAssembler {
 			boolean modified = false;
 			for (int i = 0; i < length; i++) {
 				PathExpression elementPath = containerPath.index(i);
-				for (Map.Entry<PathExpression, ValueCandidate> entry : state.wildcardEntries) {
-					if (entry.getKey().matches(elementPath)
-						&& entry.getValue().order.compareTo(containerOrder) > 0) {
+				for (PathExpression pattern : state.pathPatterns.wildcardCandidates(elementPath)) {
+					ValueCandidate candidate = state.candidatesByPath.get(pattern);
+					if (candidate != null
+						&& pattern.matches(elementPath)
+						&& candidate.order.compareTo(containerOrder) > 0) {
 						if (!modified) {
 							Class<?> componentType = container.getClass().getComponentType();
 							if (componentType == null) {
@@ -1756,7 +1811,7 @@ final class ValueProjectionAssembler {
 							container = copy;
 							modified = true;
 						}
-						Object resolved = LazyResolver.resolveLazyValue(entry.getValue().value, false, state);
+						Object resolved = LazyResolver.resolveLazyValue(candidate.value, false, state);
 						if (resolved != null) {
 							Array.set(container, i, resolved);
 						}
@@ -21,7 +21,6 @@ package com.navercorp.fixturemonkey.resolver;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -90,8 +89,8 @@ public final class AbstractTypeResolver {
 				return currentType;
 			}
 
-			Random random = seedState.snapshot().randomFor(currentType.hashCode());
-			Property selected = candidates.get(random.nextInt(candidates.size()));
+			int index = seedState.snapshot().nextInt(currentType.hashCode(), candidates.size());
+			Property selected = candidates.get(index);
 
 			currentType = selected.getJvmType();
 		}
@@ -31,16 +31,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.ObjectBuilder;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.DefaultTreeMatcherMetadata;
 import com.navercorp.fixturemonkey.api.matcher.ExactTypeMatcher;
@@ -50,6 +53,7 @@ import com.navercorp.fixturemonkey.api.matcher.TreeMatcherOperator;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.random.RandomSource;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
 import com.navercorp.fixturemonkey.customizer.DirectiveSet;
@@ -58,11 +62,14 @@ import com.navercorp.fixturemonkey.customizer.SizeDirective;
 import com.navercorp.fixturemonkey.planner.AnalysisResult;
 import com.navercorp.fixturemonkey.planner.AssemblyPlan;
 import com.navercorp.fixturemonkey.planner.AssemblyPlanner;
+import com.navercorp.fixturemonkey.planner.CompiledAssemblyPlan;
 import com.navercorp.fixturemonkey.planner.TypedValueExtractor;
 import com.navercorp.fixturemonkey.projection.AssembleContext;
 import com.navercorp.fixturemonkey.projection.ValueProjection;
 import com.navercorp.fixturemonkey.tracing.AssemblyTraceBuilder;
 import com.navercorp.fixturemonkey.tracing.AssemblyTracer;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.GenerationStage;
 import com.navercorp.fixturemonkey.tracing.TraceContext;
 import com.navercorp.objectfarm.api.expression.PathExpression;
 import com.navercorp.objectfarm.api.type.JvmType;
@@ -76,18 +83,109 @@ public final class ArbitraryResolver {
 	private final AssemblyPlanner assemblyPlanner;
 	private final AssemblyTracer tracer;
 	private final Map<Class<?>, Set<Property>> inferredPropertiesCache;
+	private final Map<JvmType, RegisteredBuilderIndex> registeredBuilderIndexCache;
+	private final boolean compiledAssemblyPlanEnabled;
+	private final GenerationMetrics generationMetrics;
 
 	public ArbitraryResolver(
 		MonkeyContext monkeyContext,
 		AssemblyPlanner assemblyPlanner,
 		AssemblyTracer tracer,
 		@Nullable Map<Class<?>, Set<Property>> inferredPropertiesCache
+	) {
+		this(monkeyContext, assemblyPlanner, tracer, inferredPropertiesCache, null, false);
+	}
+
+	/**
+	 * Creates a resolver.
+	 *
+	 * @param compiledAssemblyPlanEnabled whether to compile the plan once per builder context and reuse it
+	 *                                    across samples, see {@link CompiledAssemblyPlan}
+	 */
+	public ArbitraryResolver(
+		MonkeyContext monkeyContext,
+		AssemblyPlanner assemblyPlanner,
+		AssemblyTracer tracer,
+		@Nullable Map<Class<?>, Set<Property>> inferredPropertiesCache,
+		boolean compiledAssemblyPlanEnabled
+	) {
+		this(monkeyContext, assemblyPlanner, tracer, inferredPropertiesCache, null, compiledAssemblyPlanEnabled);
+	}
+
+	/**
+	 * Creates a resolver.
+	 *
+	 * @param registeredBuilderIndexCache the registered-builder indexes by root type, shared between the resolvers
+	 *                                    of the same {@code FixtureMonkey}, see {@link RegisteredBuilderIndex}
+	 * @param compiledAssemblyPlanEnabled whether to compile the plan once per builder context and reuse it
+	 *                                    across samples, see {@link CompiledAssemblyPlan}
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public ArbitraryResolver(
+		MonkeyContext monkeyContext,
+		AssemblyPlanner assemblyPlanner,
+		AssemblyTracer tracer,
+		@Nullable Map<Class<?>, Set<Property>> inferredPropertiesCache,
+		@Nullable Map<JvmType, RegisteredBuilderIndex> registeredBuilderIndexCache,
+		boolean compiledAssemblyPlanEnabled
+	) {
+		this(
+			monkeyContext,
+			assemblyPlanner,
+			tracer,
+			inferredPropertiesCache,
+			registeredBuilderIndexCache,
+			compiledAssemblyPlanEnabled,
+			GenerationMetrics.noOp()
+		);
+	}
+
+	/**
+	 * Creates a resolver.
+	 *
+	 * @param registeredBuilderIndexCache the registered-builder indexes by root type, shared between the resolvers
+	 *                                    of the same {@code FixtureMonkey}, see {@link RegisteredBuilderIndex}
+	 * @param compiledAssemblyPlanEnabled whether to compile the plan once per builder context and reuse it
+	 *                                    across samples, see {@link CompiledAssemblyPlan}
+	 * @param generationMetrics           records the latency of each stage and the retries by root type
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public ArbitraryResolver(
+		MonkeyContext monkeyContext,
+		AssemblyPlanner assemblyPlanner,
+		AssemblyTracer tracer,
+		@Nullable Map<Class<?>, Set<Property>> inferredPropertiesCache,
+		@Nullable Map<JvmType, RegisteredBuilderIndex> registeredBuilderIndexCache,
+		boolean compiledAssemblyPlanEnabled,
+		GenerationMetrics generationMetrics
 	) {
 		this.monkeyContext = monkeyContext;
 		this.assemblyPlanner = assemblyPlanner;
 		this.tracer = tracer;
 		this.inferredPropertiesCache =
 			inferredPropertiesCache != null ? inferredPropertiesCache : new ConcurrentHashMap<>();
+		this.registeredBuilderIndexCache =
+			registeredBuilderIndexCache != null ? registeredBuilderIndexCache : new ConcurrentHashMap<>();
+		this.compiledAssemblyPlanEnabled = compiledAssemblyPlanEnabled;
+		this.generationMetrics = generationMetrics;
+	}
+
+	/**
+	 * Runs a generation with the given seed confined to the current thread.
+	 *
+	 * @see AssemblyPlanner#callWithSeed(long, Supplier)
+	 */
+	public <T> T callWithSeed(long seed, Supplier<T> supplier) {
+		return assemblyPlanner.callWithSeed(seed, supplier);
+	}
+
+	/**
+	 * Runs a generation with the given random source bound to the current thread.
+	 *
+	 * @see AssemblyPlanner#callWith(RandomSource, Supplier)
+	 */
+	public <T> T callWith(RandomSource source, Supplier<T> supplier) {
+		return assemblyPlanner.callWith(source, supplier);
 	}
 
 	public CombinableArbitrary<?> resolve(
@@ -104,8 +202,47 @@ public final class ArbitraryResolver {
 			options.getGenerateMaxTries(),
 			options.getDefaultArbitraryValidator(),
 			activeContext::isValidOnly,
-			() -> {
-			}
+			() -> generationMetrics.recordRetry(rootProperty.getJvmType().getRawType()),
+			generationMetrics
+		);
+	}
+
+	/**
+	 * Resolves an arbitrary generating a batch of samples.
+	 * The directives and the registered builders are analyzed once, on the first sample, and the assembly plan
+	 * is compiled once as well, so each following sample only draws container sizes and values.
+	 * There are exceptions:
+	 * <ul>
+	 *   <li>a size directive with a size range, such as {@code size("list", 1, 3)}, makes the compiled plan
+	 *   redraw the size and rebuild its path resolvers on every sample</li>
+	 *   <li>a lazy directive, such as {@code setLazy} or one made by {@code thenApply}, is not compiled at all,
+	 *   so every sample analyzes the directives and plans from scratch, the same as {@code sample()}</li>
+	 *   <li>tracing always plans from scratch, so that every resolution event is reported</li>
+	 * </ul>
+	 * The given context should not be changed while the batch is generated, pass a copy of the builder context.
+	 *
+	 * @see CompiledAssemblyPlan
+	 */
+	@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+	public CombinableArbitrary<?> resolveBatch(
+		TreeRootProperty rootProperty,
+		ArbitraryBuilderContext activeContext,
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts
+	) {
+		FixtureMonkeyOptions options = monkeyContext.getFixtureMonkeyOptions();
+		List<PathDirective> activeDirectives = activeContext.getDirectives();
+		LazyArbitrary<PreparedAssembly> preparedAssembly = LazyArbitrary.lazy(
+			() -> prepare(rootProperty, activeContext, activeDirectives, standbyContexts, options)
+		);
+
+		return new RootArbitrary<>(
+			rootProperty,
+			() -> assembleAdapterResult(rootProperty, preparedAssembly.getValue(), true),
+			options.getGenerateMaxTries(),
+			options.getDefaultArbitraryValidator(),
+			activeContext::isValidOnly,
+			() -> generationMetrics.recordRetry(rootProperty.getJvmType().getRawType()),
+			generationMetrics
 		);
 	}
 
@@ -115,6 +252,45 @@ public final class ArbitraryResolver {
 		List<PathDirective> activeDirectives,
 		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
 		FixtureMonkeyOptions options
+	) {
+		PreparedAssembly preparedAssembly = prepare(
+			rootProperty,
+			activeContext,
+			activeDirectives,
+			standbyContexts,
+			options
+		);
+		return assembleAdapterResult(rootProperty, preparedAssembly, compiledAssemblyPlanEnabled);
+	}
+
+	private PreparedAssembly prepare(
+		TreeRootProperty rootProperty,
+		ArbitraryBuilderContext activeContext,
+		List<PathDirective> activeDirectives,
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
+		FixtureMonkeyOptions options
+	) {
+		PreparedAssembly preparedAssembly = prepareAssembly(
+			rootProperty,
+			activeContext,
+			activeDirectives,
+			standbyContexts,
+			options
+		);
+		generationMetrics.recordStage(
+			rootProperty.getJvmType().getRawType(),
+			GenerationStage.PREPARE,
+			preparedAssembly.prepNanos
+		);
+		return preparedAssembly;
+	}
+
+	private PreparedAssembly prepareAssembly(
+		TreeRootProperty rootProperty,
+		ArbitraryBuilderContext activeContext,
+		List<PathDirective> activeDirectives,
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
+		FixtureMonkeyOptions options
 	) {
 		long prepStart = System.nanoTime();
 
@@ -125,7 +301,7 @@ public final class ArbitraryResolver {
 		// skip all register-related preparation (inferPossibleProperties, collectRelevantTypes,
 		// typed values/container sizes collection, registered property configurers/introspectors)
 		if (!hasRegisteredBuilders && !hasStandbyContexts) {
-			return generateFastPath(
+			return prepareFastPath(
 				rootProperty,
 				activeContext,
 				activeDirectives,
@@ -134,7 +310,7 @@ public final class ArbitraryResolver {
 			);
 		}
 
-		return generateFullPath(
+		return prepareFullPath(
 			rootProperty,
 			activeContext,
 			activeDirectives,
@@ -148,7 +324,7 @@ public final class ArbitraryResolver {
 	 * Fast path when no registered builders or standby contexts exist.
 	 * Skips all register-related preparation for significantly better performance.
 	 */
-	private CombinableArbitrary<Object> generateFastPath(
+	private PreparedAssembly prepareFastPath(
 		TreeRootProperty rootProperty,
 		ArbitraryBuilderContext activeContext,
 		List<PathDirective> activeDirectives,
@@ -193,8 +369,7 @@ public final class ArbitraryResolver {
 
 		long prepNanos = System.nanoTime() - prepStart;
 
-		return assembleAdapterResult(
-			rootProperty,
+		return new PreparedAssembly(
 			activeContext,
 			activeDirectives,
 			options,
@@ -213,7 +388,7 @@ public final class ArbitraryResolver {
 	/**
 	 * Full path for adapter generation with registered builders and standby contexts.
 	 */
-	private CombinableArbitrary<Object> generateFullPath(
+	private PreparedAssembly prepareFullPath(
 		TreeRootProperty rootProperty,
 		ArbitraryBuilderContext activeContext,
 		List<PathDirective> activeDirectives,
@@ -221,14 +396,10 @@ public final class ArbitraryResolver {
 		FixtureMonkeyOptions options,
 		long prepStart
 	) {
-		// Infer possible properties for type-based matching
-		Set<Property> inferredProperties = inferPossibleProperties(rootProperty, new CycleDetector());
+		RegisteredBuilderIndex registeredBuilderIndex = registeredBuilderIndex(rootProperty);
 
 		// Set validOnly from all inferred property annotations (gathered from the entire tree)
-		Set<Annotation> allAnnotations = inferredProperties
-			.stream()
-			.flatMap(p -> p.getAnnotations().stream())
-			.collect(Collectors.toSet());
+		Set<Annotation> allAnnotations = registeredBuilderIndex.getAnnotations();
 		options
 			.getBuilderContextInitializers()
 			.stream()
@@ -237,20 +408,6 @@ public final class ArbitraryResolver {
 			.map(TreeMatcherOperator::getOperator)
 			.ifPresent(it -> activeContext.setOptionValidOnly(it.isValidOnly()));
 
-		// Get registered property builders for type-based matching
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredPropertyContexts =
-			monkeyContext
-				.getRegisteredArbitraryBuilders()
-				.stream()
-				.map(it ->
-					new PriorityMatcherOperator<>(
-						it.getMatcher(),
-						((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
-						it.getPriority()
-					)
-				)
-				.collect(Collectors.toList());
-
 		// 1. Collect SizeDirectives from registered root builders
 		List<SizeDirective> standbySizeDirectives = standbyContexts
 			.stream()
@@ -259,13 +416,7 @@ public final class ArbitraryResolver {
 			.collect(Collectors.toList());
 
 		// 2. Collect SizeDirectives from registered property builders
-		// Use inferred properties for matching
-		List<SizeDirective> registeredPropertySizeDirectives = registeredPropertyContexts
-			.stream()
-			.filter(it -> inferredProperties.stream().anyMatch(it::match))
-			.map(PriorityMatcherOperator::getOperator)
-			.flatMap(ctx -> ctx.getSizeDirectives().stream())
-			.collect(Collectors.toList());
+		List<SizeDirective> registeredPropertySizeDirectives = registeredBuilderIndex.getSizeDirectives();
 
 		// 3. Collect SizeDirectives from the active context
 		List<SizeDirective> activeSizeDirectives = new ArrayList<>(activeContext.getSizeDirectives());
@@ -291,11 +442,114 @@ public final class ArbitraryResolver {
 		mergedSizeDirectives.addAll(nonOverlappingStandbyDirectives);
 		mergedSizeDirectives.addAll(nonOverlappingPropertyDirectives);
 
+		// 5. Type-based container sizes and set values of the registered builders
+		Set<Class<?>> relevantTypes = registeredBuilderIndex.getRelevantTypes();
+		Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes =
+			registeredBuilderIndex.getTypedContainerSizes();
+		Map<JvmType, Map<String, @Nullable Object>> typedValues = registeredBuilderIndex.getTypedValues();
+
+		// Only use activeDirectives (registered manipulators are skipped
+		// because ManipulatorAnalyzer already handles type-based matching via typedValues)
+
+		Map<Class<?>, List<Property>> mergedPropertyConfigurers =
+			new HashMap<>(registeredBuilderIndex.getPropertyConfigurers());
+		mergedPropertyConfigurers.putAll(activeContext.getPropertyConfigurers());
+
+		Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors =
+			new HashMap<>(registeredBuilderIndex.getIntrospectors());
+		mergedIntrospectors.putAll(activeContext.getArbitraryIntrospectorsByType());
+
+		List<PathDirective> joinedDirectives = new ArrayList<>(activeDirectives);
+		joinedDirectives.addAll(mergedSizeDirectives);
+		DirectiveSet manipulatorSet = new DirectiveSet(
+			joinedDirectives,
+			typedContainerSizes,
+			typedValues,
+			mergedPropertyConfigurers,
+			mergedIntrospectors,
+			activeContext.isFixed()
+		);
+		JvmType rootJvmType = rootProperty.getJvmType();
+
+		long prepNanos = System.nanoTime() - prepStart;
+
+		return new PreparedAssembly(
+			activeContext,
+			activeDirectives,
+			options,
+			manipulatorSet,
+			rootJvmType,
+			mergedSizeDirectives,
+			activePaths,
+			typedValues,
+			typedContainerSizes,
+			relevantTypes,
+			mergedIntrospectors,
+			prepNanos
+		);
+	}
+
+	/**
+	 * Returns the registered-builder index of the root type, building it when the registered builders have changed
+	 * since it was cached.
+	 */
+	private RegisteredBuilderIndex registeredBuilderIndex(TreeRootProperty rootProperty) {
+		JvmType rootJvmType = rootProperty.getJvmType();
+		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredBuilders =
+			monkeyContext.getRegisteredArbitraryBuilders();
+
+		RegisteredBuilderIndex cached = registeredBuilderIndexCache.get(rootJvmType);
+		if (cached != null && cached.isIndexedFrom(registeredBuilders)) {
+			return cached;
+		}
+
+		RegisteredBuilderIndex index = indexRegisteredBuilders(rootProperty, registeredBuilders);
+		registeredBuilderIndexCache.put(rootJvmType, index);
+		return index;
+	}
+
+	private RegisteredBuilderIndex indexRegisteredBuilders(
+		TreeRootProperty rootProperty,
+		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredBuilders
+	) {
+		// Infer possible properties for type-based matching
+		Set<Property> inferredProperties = inferPossibleProperties(rootProperty, new CycleDetector());
+
+		Set<Annotation> allAnnotations = inferredProperties
+			.stream()
+			.flatMap(p -> p.getAnnotations().stream())
+			.collect(Collectors.toSet());
+
+		// Get registered property builders for type-based matching
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredPropertyContexts =
+			registeredBuilders
+				.stream()
+				.map(it ->
+					new PriorityMatcherOperator<>(
+						it.getMatcher(),
+						((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
+						it.getPriority()
+					)
+				)
+				.collect(Collectors.toList());
+
+		// Registered property builders matching any inferred property, scanned once for all consumers below
+		List<ArbitraryBuilderContext> matchedPropertyContexts = registeredPropertyContexts
+			.stream()
+			.filter(it -> inferredProperties.stream().anyMatch(it::match))
+			.map(PriorityMatcherOperator::getOperator)
+			.collect(Collectors.toList());
+
+		List<SizeDirective> registeredPropertySizeDirectives = matchedPropertyContexts
+			.stream()
+			.flatMap(ctx -> ctx.getSizeDirectives().stream())
+			.collect(Collectors.toList());
+
 		// Compute relevant types to filter register entries
 		// Only collect register operations for types that exist in the sample target's type tree
 		Set<Class<?>> relevantTypes = collectRelevantTypes(rootProperty);
 
-		// 5. Collect type-based container sizes
+		// Collect type-based container sizes
 		Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes = new HashMap<>();
 		for (PriorityMatcherOperator<ArbitraryBuilderContext> registered : registeredPropertyContexts) {
 			Matcher matcher = registered.getMatcher();
@@ -342,7 +596,7 @@ public final class ArbitraryResolver {
 			}
 		}
 
-		// 6. Collect type-based set values
+		// Collect type-based set values
 		List<PriorityMatcherOperator<ArbitraryBuilderContext>> sortedByPriority = new ArrayList<>(
 			registeredPropertyContexts
 		);
@@ -377,61 +631,28 @@ public final class ArbitraryResolver {
 			}
 		}
 
-		// Only use activeDirectives (registered manipulators are skipped
-		// because ManipulatorAnalyzer already handles type-based matching via typedValues)
-
-		// Collect registered property configurers using inferredProperties
-		Map<Class<?>, List<Property>> registeredPropertyConfigurers = registeredPropertyContexts
+		// Collect registered property configurers and introspectors of the first matching builder
+		Map<Class<?>, List<Property>> registeredPropertyConfigurers = matchedPropertyContexts
 			.stream()
-			.filter(it -> inferredProperties.stream().anyMatch(it::match))
-			.map(PriorityMatcherOperator::getOperator)
 			.map(ArbitraryBuilderContext::getPropertyConfigurers)
 			.findFirst()
 			.orElse(Collections.emptyMap());
 
-		Map<Class<?>, List<Property>> mergedPropertyConfigurers = new HashMap<>(registeredPropertyConfigurers);
-		mergedPropertyConfigurers.putAll(activeContext.getPropertyConfigurers());
-
-		// Collect registered introspectors using inferredProperties
-		Map<Class<?>, ArbitraryIntrospector> registeredIntrospectors = registeredPropertyContexts
+		Map<Class<?>, ArbitraryIntrospector> registeredIntrospectors = matchedPropertyContexts
 			.stream()
-			.filter(it -> inferredProperties.stream().anyMatch(it::match))
-			.map(PriorityMatcherOperator::getOperator)
 			.map(ArbitraryBuilderContext::getArbitraryIntrospectorsByType)
 			.findFirst()
 			.orElse(Collections.emptyMap());
 
-		Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors = new HashMap<>(registeredIntrospectors);
-		mergedIntrospectors.putAll(activeContext.getArbitraryIntrospectorsByType());
-
-		List<PathDirective> joinedDirectives = new ArrayList<>(activeDirectives);
-		joinedDirectives.addAll(mergedSizeDirectives);
-		DirectiveSet manipulatorSet = new DirectiveSet(
-			joinedDirectives,
+		return new RegisteredBuilderIndex(
+			registeredBuilders,
+			allAnnotations,
+			registeredPropertySizeDirectives,
+			relevantTypes,
 			typedContainerSizes,
 			typedValues,
-			mergedPropertyConfigurers,
-			mergedIntrospectors,
-			activeContext.isFixed()
-		);
-		JvmType rootJvmType = rootProperty.getJvmType();
-
-		long prepNanos = System.nanoTime() - prepStart;
-
-		return assembleAdapterResult(
-			rootProperty,
-			activeContext,
-			activeDirectives,
-			options,
-			manipulatorSet,
-			rootJvmType,
-			mergedSizeDirectives,
-			activePaths,
-			typedValues,
-			typedContainerSizes,
-			relevantTypes,
-			mergedIntrospectors,
-			prepNanos
+			registeredPropertyConfigurers,
+			registeredIntrospectors
 		);
 	}
 
@@ -441,31 +662,37 @@ public final class ArbitraryResolver {
 	@SuppressWarnings({"unchecked", "argument", "dereference.of.nullable"})
 	private CombinableArbitrary<Object> assembleAdapterResult(
 		TreeRootProperty rootProperty,
-		ArbitraryBuilderContext activeContext,
-		List<PathDirective> directives,
-		FixtureMonkeyOptions options,
-		DirectiveSet manipulatorSet,
-		JvmType rootJvmType,
-		List<SizeDirective> sizeDirectives,
-		Set<String> activePaths,
-		Map<JvmType, Map<String, @Nullable Object>> typedValues,
-		Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes,
-		Set<Class<?>> relevantTypes,
-		Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors,
-		long prepNanos
+		PreparedAssembly preparedAssembly,
+		boolean compilePlan
 	) {
+		ArbitraryBuilderContext activeContext = preparedAssembly.activeContext;
+		List<PathDirective> directives = preparedAssembly.directives;
+		FixtureMonkeyOptions options = preparedAssembly.options;
+		DirectiveSet manipulatorSet = preparedAssembly.manipulatorSet;
+		JvmType rootJvmType = preparedAssembly.rootJvmType;
+		List<SizeDirective> sizeDirectives = preparedAssembly.sizeDirectives;
+		Set<String> activePaths = preparedAssembly.activePaths;
+		Map<JvmType, Map<String, @Nullable Object>> typedValues = preparedAssembly.typedValues;
+		Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes = preparedAssembly.typedContainerSizes;
+		Set<Class<?>> relevantTypes = preparedAssembly.relevantTypes;
+		Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors = preparedAssembly.mergedIntrospectors;
+		long prepNanos = preparedAssembly.prepNanos;
+
 		// Create trace context early to capture resolution events
 		TraceContext traceContext = tracer.createTraceContext();
 
 		// Measure total adapter time
 		long adapterStartTime = System.nanoTime();
 
-		AssemblyPlan assemblyPlan = assemblyPlanner.plan(
+		AssemblyPlan assemblyPlan = plan(
 			rootJvmType,
+			activeContext,
 			manipulatorSet,
 			options,
-			traceContext
+			traceContext,
+			compilePlan
 		);
+		long planTimeNanos = System.nanoTime() - adapterStartTime;
 
 		AnalysisResult analysisResult = assemblyPlan.getAnalysisResult();
 		ValueProjection values = assemblyPlan.getValues();
@@ -507,9 +734,11 @@ public final class ArbitraryResolver {
 			.traceContext(traceContext)
 			.runtimeTreeFactory(this.assemblyPlanner)
 			.pathResolverContext(assemblyPlan.getResolverContext())
-			.nodeMetadataCache(this.assemblyPlanner.nodeMetadataCache())
+			.pathPatterns(assemblyPlan.getPathPatterns())
+			.nodeMetadataCache(this.assemblyPlanner.sharedNodeMetadataCache())
 			.inlinedValueResolver(this.assemblyPlanner.inlinedValueResolver())
 			.userContainerSizePaths(userContainerSizePaths)
+			.propertyValidator(activeContext.isValidOnly() ? options.getDefaultArbitraryValidator() : null)
 			.build();
 
 		// Measure assembly time
@@ -517,6 +746,14 @@ public final class ArbitraryResolver {
 		CombinableArbitrary<Object> result = (CombinableArbitrary<Object>)values.assemble(assembleContext);
 		long assemblyTimeNanos = System.nanoTime() - assemblyStartTime;
 
+		if (generationMetrics.isEnabled()) {
+			Class<?> rootType = rootProperty.getJvmType().getRawType();
+			long treeBuildTimeNanos = assemblyPlan.getTreeBuildTimeNanos();
+			generationMetrics.recordStage(rootType, GenerationStage.PLAN, planTimeNanos - treeBuildTimeNanos);
+			generationMetrics.recordStage(rootType, GenerationStage.TRANSFORM, treeBuildTimeNanos);
+			generationMetrics.recordStage(rootType, GenerationStage.ASSEMBLE, assemblyTimeNanos);
+		}
+
 		// Calculate total adapter time
 		long totalAdapterTimeNanos = System.nanoTime() - adapterStartTime;
 
@@ -540,6 +777,33 @@ public final class ArbitraryResolver {
 		return result;
 	}
 
+	/**
+	 * Plans the assembly, reusing the plan compiled for the builder context when {@code compilePlan} is true.
+	 * Tracing always plans from scratch so that every resolution event is reported.
+	 */
+	private AssemblyPlan plan(
+		JvmType rootJvmType,
+		ArbitraryBuilderContext activeContext,
+		DirectiveSet manipulatorSet,
+		FixtureMonkeyOptions options,
+		TraceContext traceContext,
+		boolean compilePlan
+	) {
+		if (!compilePlan || traceContext.isEnabled()) {
+			return assemblyPlanner.plan(rootJvmType, manipulatorSet, options, traceContext);
+		}
+
+		CompiledAssemblyPlan compiledPlan = activeContext.getCompiledAssemblyPlan();
+		if (compiledPlan == null || !compiledPlan.isCompiledFor(rootJvmType, options)) {
+			compiledPlan = assemblyPlanner.compile(rootJvmType, manipulatorSet, options);
+			if (compiledPlan == null) {
+				return assemblyPlanner.plan(rootJvmType, manipulatorSet, options, traceContext);
+			}
+			activeContext.setCompiledAssemblyPlan(compiledPlan);
+		}
+		return assemblyPlanner.plan(compiledPlan);
+	}
+
 	private Set<Property> inferPossibleProperties(Property property, CycleDetector cycleDetector) {
 		Class<?> actualType = com.navercorp.fixturemonkey.api.type.Types.normalizeRawType(
 			property.getJvmType().getRawType()
@@ -667,6 +931,53 @@ public final class ArbitraryResolver {
 		return new ReflectiveJvmType(targetType);
 	}
 
+	/**
+	 * The directives, registered builders and validOnly option analyzed for a builder context,
+	 * everything {@link #assembleAdapterResult} needs that does not change between samples.
+	 */
+	private static final class PreparedAssembly {
+		private final ArbitraryBuilderContext activeContext;
+		private final List<PathDirective> directives;
+		private final FixtureMonkeyOptions options;
+		private final DirectiveSet manipulatorSet;
+		private final JvmType rootJvmType;
+		private final List<SizeDirective> sizeDirectives;
+		private final Set<String> activePaths;
+		private final Map<JvmType, Map<String, @Nullable Object>> typedValues;
+		private final Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes;
+		private final Set<Class<?>> relevantTypes;
+		private final Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors;
+		private final long prepNanos;
+
+		private PreparedAssembly(
+			ArbitraryBuilderContext activeContext,
+			List<PathDirective> directives,
+			FixtureMonkeyOptions options,
+			DirectiveSet manipulatorSet,
+			JvmType rootJvmType,
+			List<SizeDirective> sizeDirectives,
+			Set<String> activePaths,
+			Map<JvmType, Map<String, @Nullable Object>> typedValues,
+			Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes,
+			Set<Class<?>> relevantTypes,
+			Map<Class<?>, ArbitraryIntrospector> mergedIntrospectors,
+			long prepNanos
+		) {
+			this.activeContext = activeContext;
+			this.directives = directives;
+			this.options = options;
+			this.manipulatorSet = manipulatorSet;
+			this.rootJvmType = rootJvmType;
+			this.sizeDirectives = sizeDirectives;
+			this.activePaths = activePaths;
+			this.typedValues = typedValues;
+			this.typedContainerSizes = typedContainerSizes;
+			this.relevantTypes = relevantTypes;
+			this.mergedIntrospectors = mergedIntrospectors;
+			this.prepNanos = prepNanos;
+		}
+	}
+
 	private static final class CycleDetector {
 
 		private final Set<Property> properties;
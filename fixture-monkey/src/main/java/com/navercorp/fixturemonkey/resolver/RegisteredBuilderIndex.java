@@ -0,0 +1,126 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.customizer.SizeDirective;
+import com.navercorp.objectfarm.api.type.JvmType;
+
+/**
+ * The part of the registered-builder preparation that depends only on the root type and the registered builders.
+ * <p>
+ * {@link ArbitraryResolver} computes it once per root type and reuses it for every sample until the registered
+ * builders change, so the property inference and the scans over the registered builders are not repeated.
+ * It is immutable and shared between the builders of the same {@code FixtureMonkey}.
+ */
+@API(since = "1.2.2", status = Status.INTERNAL)
+public final class RegisteredBuilderIndex {
+	private final List<PriorityMatcherOperator<?>> registeredBuilders;
+	private final Set<Annotation> annotations;
+	private final List<SizeDirective> sizeDirectives;
+	private final Set<Class<?>> relevantTypes;
+	private final Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes;
+	private final Map<JvmType, Map<String, @Nullable Object>> typedValues;
+	private final Map<Class<?>, List<Property>> propertyConfigurers;
+	private final Map<Class<?>, ArbitraryIntrospector> introspectors;
+
+	RegisteredBuilderIndex(
+		List<? extends PriorityMatcherOperator<?>> registeredBuilders,
+		Set<Annotation> annotations,
+		List<SizeDirective> sizeDirectives,
+		Set<Class<?>> relevantTypes,
+		Map<JvmType, Map<String, ArbitraryContainerInfo>> typedContainerSizes,
+		Map<JvmType, Map<String, @Nullable Object>> typedValues,
+		Map<Class<?>, List<Property>> propertyConfigurers,
+		Map<Class<?>, ArbitraryIntrospector> introspectors
+	) {
+		this.registeredBuilders = new ArrayList<>(registeredBuilders);
+		this.annotations = annotations;
+		this.sizeDirectives = sizeDirectives;
+		this.relevantTypes = relevantTypes;
+		this.typedContainerSizes = typedContainerSizes;
+		this.typedValues = typedValues;
+		this.propertyConfigurers = propertyConfigurers;
+		this.introspectors = introspectors;
+	}
+
+	/**
+	 * Returns whether this index was built from the given registered builders.
+	 * The builders are compared by identity since a registered builder is never mutated once registered.
+	 */
+	boolean isIndexedFrom(List<? extends PriorityMatcherOperator<?>> registeredBuilders) {
+		if (this.registeredBuilders.size() != registeredBuilders.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < registeredBuilders.size(); i++) {
+			if (this.registeredBuilders.get(i) != registeredBuilders.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The annotations of all properties inferred from the root type.
+	 */
+	Set<Annotation> getAnnotations() {
+		return annotations;
+	}
+
+	/**
+	 * The size directives of the registered builders matching any inferred property.
+	 */
+	List<SizeDirective> getSizeDirectives() {
+		return sizeDirectives;
+	}
+
+	Set<Class<?>> getRelevantTypes() {
+		return relevantTypes;
+	}
+
+	Map<JvmType, Map<String, ArbitraryContainerInfo>> getTypedContainerSizes() {
+		return typedContainerSizes;
+	}
+
+	Map<JvmType, Map<String, @Nullable Object>> getTypedValues() {
+		return typedValues;
+	}
+
+	Map<Class<?>, List<Property>> getPropertyConfigurers() {
+		return propertyConfigurers;
+	}
+
+	Map<Class<?>, ArbitraryIntrospector> getIntrospectors() {
+		return introspectors;
+	}
+}
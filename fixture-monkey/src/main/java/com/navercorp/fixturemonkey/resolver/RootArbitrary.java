@@ -18,6 +18,7 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -33,6 +34,8 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.type.Types;
 import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.GenerationStage;
 
 /**
  * CombinableArbitrary implementation for adapter path that doesn't require ObjectTree.
@@ -48,6 +51,7 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 	private final ArbitraryValidator validator;
 	private final Supplier<Boolean> validOnly;
 	private final Runnable onRetry;
+	private final GenerationMetrics generationMetrics;
 
 	private @Nullable Exception lastException = null;
 
@@ -58,6 +62,26 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 		ArbitraryValidator validator,
 		Supplier<Boolean> validOnly,
 		Runnable onRetry
+	) {
+		this(
+			rootProperty,
+			generateArbitrary,
+			generateMaxTries,
+			validator,
+			validOnly,
+			onRetry,
+			GenerationMetrics.noOp()
+		);
+	}
+
+	public RootArbitrary(
+		TreeRootProperty rootProperty,
+		Supplier<CombinableArbitrary<T>> generateArbitrary,
+		int generateMaxTries,
+		ArbitraryValidator validator,
+		Supplier<Boolean> validOnly,
+		Runnable onRetry,
+		GenerationMetrics generationMetrics
 	) {
 		this.rootProperty = rootProperty;
 		this.generateMaxTries = generateMaxTries;
@@ -65,20 +89,27 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 		this.validator = validator;
 		this.validOnly = validOnly;
 		this.onRetry = onRetry;
+		this.generationMetrics = generationMetrics;
 	}
 
 	@Override
 	public T combined() {
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
-					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly.get()))
-					.combined();
-			} catch (ContainerSizeFilterMissException | RetryableFilterMissException ex) {
+				CombinableArbitrary<T> generated = arbitrary.getValue();
+				return measureCombine(
+					validationNanos -> generated
+						.filter(
+							VALIDATION_ANNOTATION_FILTERING_COUNT,
+							this.validateFilter(validOnly.get(), validationNanos)
+						)
+						.combined()
+				);
+			} catch (ContainerSizeFilterMissException
+				| RetryableFilterMissException
+				| FixedValueFilterMissException ex) {
 				lastException = ex;
 				onRetry.run();
-			} catch (FixedValueFilterMissException ex) {
-				lastException = ex;
 			} finally {
 				arbitrary.clear();
 			}
@@ -98,14 +129,20 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 	public Object rawValue() {
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
-					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly.get()))
-					.rawValue();
-			} catch (ContainerSizeFilterMissException | RetryableFilterMissException ex) {
+				CombinableArbitrary<T> generated = arbitrary.getValue();
+				return measureCombine(
+					validationNanos -> generated
+						.filter(
+							VALIDATION_ANNOTATION_FILTERING_COUNT,
+							this.validateFilter(validOnly.get(), validationNanos)
+						)
+						.rawValue()
+				);
+			} catch (ContainerSizeFilterMissException
+				| RetryableFilterMissException
+				| FixedValueFilterMissException ex) {
 				lastException = ex;
 				onRetry.run();
-			} catch (FixedValueFilterMissException ex) {
-				lastException = ex;
 			} finally {
 				arbitrary.clear();
 			}
@@ -135,7 +172,13 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 		return false;
 	}
 
-	private Predicate<T> validateFilter(boolean validOnly) {
+	/**
+	 * Returns the filter validating the combined value.
+	 *
+	 * @param validationNanos accumulates the time spent on the validation when the metrics are enabled,
+	 *                        it is confined to a single combine call
+	 */
+	private Predicate<T> validateFilter(boolean validOnly, long @Nullable [] validationNanos) {
 		return fixture -> {
 			if (!validOnly) {
 				return true;
@@ -145,8 +188,44 @@ final class RootArbitrary<T> implements CombinableArbitrary<T> {
 				return true;
 			}
 
-			this.validator.validate(fixture);
+			if (validationNanos == null) {
+				this.validator.validate(fixture);
+				return true;
+			}
+
+			long validateStart = System.nanoTime();
+			try {
+				this.validator.validate(fixture);
+			} finally {
+				long elapsed = System.nanoTime() - validateStart;
+				validationNanos[0] += elapsed;
+				generationMetrics.recordStage(rootType(), GenerationStage.VALIDATE, elapsed);
+			}
 			return true;
 		};
 	}
+
+	/**
+	 * Combines the generated arbitrary, recording the time spent on it apart from the validation.
+	 * The validation time is accumulated in an array local to this call,
+	 * so that the combine calls of the samples generated concurrently do not interfere.
+	 */
+	private <R> R measureCombine(Function<long @Nullable [], R> combine) {
+		if (!generationMetrics.isEnabled()) {
+			return combine.apply(null);
+		}
+
+		long[] validationNanos = new long[1];
+		long combineStart = System.nanoTime();
+		try {
+			return combine.apply(validationNanos);
+		} finally {
+			long elapsed = System.nanoTime() - combineStart - validationNanos[0];
+			generationMetrics.recordStage(rootType(), GenerationStage.COMBINE, elapsed);
+		}
+	}
+
+	private Class<?> rootType() {
+		return rootProperty.getJvmType().getRawType();
+	}
 }
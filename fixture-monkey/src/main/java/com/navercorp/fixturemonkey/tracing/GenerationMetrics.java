@@ -0,0 +1,118 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tracing;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+
+/**
+ * Records the latency of each {@link GenerationStage} and the retries of generating samples by root type.
+ * <p>
+ * Unlike {@link AssemblyTracer}, it receives only the elapsed times and counts, not the resolution events,
+ * so a recording implementation such as {@link HistogramGenerationMetrics} can stay enabled for a whole test suite.
+ * Implementations should be thread-safe, samples may be generated concurrently.
+ *
+ * @see com.navercorp.fixturemonkey.FixtureMonkeyBuilder#generationMetrics(GenerationMetrics)
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public interface GenerationMetrics {
+	/**
+	 * Records the time spent on a stage of generating a sample.
+	 *
+	 * @param rootType the type of the sample
+	 * @param stage    the stage measured
+	 * @param nanos    the elapsed time in nanoseconds
+	 */
+	void recordStage(Class<?> rootType, GenerationStage stage, long nanos);
+
+	/**
+	 * Records that generating a sample is retried, because a filter or a container size could not be satisfied.
+	 *
+	 * @param rootType the type of the sample
+	 */
+	void recordRetry(Class<?> rootType);
+
+	/**
+	 * Binds the cache counters of a {@code FixtureMonkey} instance using this metrics.
+	 * The counters are read when needed, for example when the metrics are exported.
+	 * The instance keeps the supplier for as long as it lives, so the metrics may hold it weakly.
+	 *
+	 * @param cacheStats supplies the counters of each cache by its name
+	 */
+	default void bindCacheStats(Supplier<Map<String, CacheStats>> cacheStats) {
+	}
+
+	/**
+	 * Checks if the metrics are recorded.
+	 * The stages are not measured at all if it returns false.
+	 *
+	 * @return true if the metrics are recorded, false for no-op
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Returns metrics that record nothing, the default.
+	 *
+	 * @return the no-op metrics
+	 */
+	static GenerationMetrics noOp() {
+		return NoOpGenerationMetrics.INSTANCE;
+	}
+
+	/**
+	 * Returns new metrics recording the latencies into bounded histograms.
+	 *
+	 * @return the histogram metrics
+	 */
+	static HistogramGenerationMetrics histogram() {
+		return new HistogramGenerationMetrics();
+	}
+
+	/**
+	 * Singleton NoOp implementation.
+	 */
+	final class NoOpGenerationMetrics implements GenerationMetrics {
+		static final NoOpGenerationMetrics INSTANCE = new NoOpGenerationMetrics();
+
+		private NoOpGenerationMetrics() {
+		}
+
+		@Override
+		public void recordStage(Class<?> rootType, GenerationStage stage, long nanos) {
+			// No-op
+		}
+
+		@Override
+		public void recordRetry(Class<?> rootType) {
+			// No-op
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tracing;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The stages of generating a sample, measured by {@link GenerationMetrics}.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public enum GenerationStage {
+	/**
+	 * Merging the directives of the builder with the registered builders.
+	 */
+	PREPARE,
+
+	/**
+	 * Analyzing the directives and looking up the candidate tree, or reusing the compiled plan.
+	 */
+	PLAN,
+
+	/**
+	 * Transforming the candidate tree into the node tree of the sample.
+	 */
+	TRANSFORM,
+
+	/**
+	 * Assembling the arbitrary of the sample from the node tree.
+	 */
+	ASSEMBLE,
+
+	/**
+	 * Combining the assembled arbitrary into a value, including the filter retries of the properties.
+	 */
+	COMBINE,
+
+	/**
+	 * Validating the combined value by the {@code ArbitraryValidator}.
+	 */
+	VALIDATE
+}
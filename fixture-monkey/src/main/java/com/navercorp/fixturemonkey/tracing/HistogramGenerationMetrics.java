@@ -0,0 +1,290 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tracing;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+
+/**
+ * Records the latency of each {@link GenerationStage} into a {@link LatencyHistogram} by root type,
+ * and the retries by root type.
+ * <p>
+ * A histogram is allocated only for the stages recorded, its size does not grow with the number of samples.
+ * The metrics can be exported by {@link #toJson()} and {@link #toCsv()}, the types are sorted
+ * by the time spent on them so that the slowest ones come first.
+ * <p>
+ * Example CSV output:
+ * <pre>
+ * type,stage,count,totalMs,meanUs,p50Us,p90Us,p99Us,maxUs,retries
+ * com.example.Order,PREPARE,100,1.200,12.000,10.000,18.000,40.000,55.000,3
+ * </pre>
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class HistogramGenerationMetrics implements GenerationMetrics {
+	private static final GenerationStage[] STAGES = GenerationStage.values();
+	private static final double[] PERCENTILES = {50.0, 90.0, 99.0};
+
+	private final Map<Class<?>, TypeMetrics> metricsByType = new ConcurrentHashMap<>();
+	private final List<WeakReference<Supplier<Map<String, CacheStats>>>> cacheStatsSuppliers =
+		new CopyOnWriteArrayList<>();
+
+	@Override
+	public void recordStage(Class<?> rootType, GenerationStage stage, long nanos) {
+		metricsOf(rootType).histogram(stage).record(nanos);
+	}
+
+	@Override
+	public void recordRetry(Class<?> rootType) {
+		metricsOf(rootType).retries.increment();
+	}
+
+	@Override
+	public void bindCacheStats(Supplier<Map<String, CacheStats>> cacheStats) {
+		cacheStatsSuppliers.removeIf(it -> it.get() == null);
+		cacheStatsSuppliers.add(new WeakReference<>(cacheStats));
+	}
+
+	/**
+	 * Returns the histogram of a stage of the given type.
+	 *
+	 * @return the histogram, null if the stage of the type was not recorded
+	 */
+	public @Nullable LatencyHistogram getHistogram(Class<?> rootType, GenerationStage stage) {
+		TypeMetrics metrics = metricsByType.get(rootType);
+		return metrics != null ? metrics.histograms.get(stage.ordinal()) : null;
+	}
+
+	public long getRetryCount(Class<?> rootType) {
+		TypeMetrics metrics = metricsByType.get(rootType);
+		return metrics != null ? metrics.retries.sum() : 0L;
+	}
+
+	/**
+	 * Returns the cache counters of the bound {@code FixtureMonkey} instances, summed by the cache name.
+	 * The suppliers are held weakly, so an instance no longer in use is not kept alive by the metrics
+	 * and its counters are dropped once it is garbage collected.
+	 *
+	 * @return the counters of each cache by its name
+	 */
+	public Map<String, CacheStats> getCacheStats() {
+		Map<String, CacheStats> cacheStatsByName = new TreeMap<>();
+		for (WeakReference<Supplier<Map<String, CacheStats>>> reference : cacheStatsSuppliers) {
+			Supplier<Map<String, CacheStats>> supplier = reference.get();
+			if (supplier == null) {
+				continue;
+			}
+			for (Map.Entry<String, CacheStats> entry : supplier.get().entrySet()) {
+				cacheStatsByName.merge(entry.getKey(), entry.getValue(), HistogramGenerationMetrics::sum);
+			}
+		}
+		return cacheStatsByName;
+	}
+
+	/**
+	 * Clears the recorded latencies and retries. The cache counters are kept by the caches.
+	 */
+	public void reset() {
+		metricsByType.clear();
+	}
+
+	/**
+	 * Exports the metrics as a JSON object with the {@code types} and the {@code caches}.
+	 * The times are in microseconds.
+	 *
+	 * @return the JSON string
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n  \"types\": [");
+		List<Map.Entry<Class<?>, TypeMetrics>> entries = sortedEntries();
+		for (int i = 0; i < entries.size(); i++) {
+			Map.Entry<Class<?>, TypeMetrics> entry = entries.get(i);
+			TypeMetrics metrics = entry.getValue();
+			sb.append(i == 0 ? "\n" : ",\n");
+			sb.append("    {\"type\": \"").append(ResolutionTraceFormatter.escapeJson(entry.getKey().getName()))
+				.append("\", \"retries\": ").append(metrics.retries.sum())
+				.append(", \"stages\": {");
+
+			boolean first = true;
+			for (GenerationStage stage : STAGES) {
+				LatencyHistogram histogram = metrics.histograms.get(stage.ordinal());
+				if (histogram == null) {
+					continue;
+				}
+				sb.append(first ? "" : ", ").append('"').append(stage.name()).append("\": {")
+					.append("\"count\": ").append(histogram.getCount())
+					.append(", \"totalUs\": ").append(micros(histogram.getTotalNanos()))
+					.append(", \"meanUs\": ").append(micros(histogram.getMeanNanos()));
+				for (double percentile : PERCENTILES) {
+					sb.append(", \"p").append((int)percentile).append("Us\": ")
+						.append(micros(histogram.getValueAtPercentile(percentile)));
+				}
+				sb.append(", \"maxUs\": ").append(micros(histogram.getMaxNanos())).append('}');
+				first = false;
+			}
+			sb.append("}}");
+		}
+		sb.append(entries.isEmpty() ? "],\n" : "\n  ],\n");
+
+		sb.append("  \"caches\": {");
+		boolean first = true;
+		for (Map.Entry<String, CacheStats> entry : getCacheStats().entrySet()) {
+			CacheStats cacheStats = entry.getValue();
+			sb.append(first ? "\n" : ",\n")
+				.append("    \"").append(ResolutionTraceFormatter.escapeJson(entry.getKey())).append("\": {")
+				.append("\"size\": ").append(cacheStats.getSize())
+				.append(", \"maxSize\": ").append(cacheStats.getMaxSize())
+				.append(", \"hitCount\": ").append(cacheStats.getHitCount())
+				.append(", \"missCount\": ").append(cacheStats.getMissCount())
+				.append(", \"evictionCount\": ").append(cacheStats.getEvictionCount())
+				.append(", \"hitRate\": ").append(format(cacheStats.getHitRate()))
+				.append('}');
+			first = false;
+		}
+		sb.append(first ? "}\n" : "\n  }\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Exports the latencies as CSV rows of a type and a stage, with the retries of the type.
+	 * The cache counters are not included, see {@link #getCacheStats()}.
+	 *
+	 * @return the CSV string with a header row
+	 */
+	public String toCsv() {
+		StringBuilder sb = new StringBuilder("type,stage,count,totalMs,meanUs,p50Us,p90Us,p99Us,maxUs,retries\n");
+		for (Map.Entry<Class<?>, TypeMetrics> entry : sortedEntries()) {
+			TypeMetrics metrics = entry.getValue();
+			for (GenerationStage stage : STAGES) {
+				LatencyHistogram histogram = metrics.histograms.get(stage.ordinal());
+				if (histogram == null) {
+					continue;
+				}
+				sb.append(entry.getKey().getName())
+					.append(',').append(stage.name())
+					.append(',').append(histogram.getCount())
+					.append(',').append(format(histogram.getTotalNanos() / 1_000_000.0))
+					.append(',').append(micros(histogram.getMeanNanos()));
+				for (double percentile : PERCENTILES) {
+					sb.append(',').append(micros(histogram.getValueAtPercentile(percentile)));
+				}
+				sb.append(',').append(micros(histogram.getMaxNanos()))
+					.append(',').append(metrics.retries.sum())
+					.append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes {@link #toJson()} to the given file, replacing it.
+	 */
+	public void writeJson(Path path) throws IOException {
+		Files.write(path, toJson().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes {@link #toCsv()} to the given file, replacing it.
+	 */
+	public void writeCsv(Path path) throws IOException {
+		Files.write(path, toCsv().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private TypeMetrics metricsOf(Class<?> rootType) {
+		TypeMetrics metrics = metricsByType.get(rootType);
+		if (metrics != null) {
+			return metrics;
+		}
+		return metricsByType.computeIfAbsent(rootType, it -> new TypeMetrics());
+	}
+
+	private List<Map.Entry<Class<?>, TypeMetrics>> sortedEntries() {
+		List<Map.Entry<Class<?>, TypeMetrics>> entries = new ArrayList<>(metricsByType.entrySet());
+		entries.sort(
+			Comparator.comparingLong((Map.Entry<Class<?>, TypeMetrics> it) -> it.getValue().totalNanos())
+				.reversed()
+				.thenComparing(it -> it.getKey().getName())
+		);
+		return entries;
+	}
+
+	private static CacheStats sum(CacheStats left, CacheStats right) {
+		return new CacheStats(
+			left.getSize() + right.getSize(),
+			left.getMaxSize() + right.getMaxSize(),
+			left.getHitCount() + right.getHitCount(),
+			left.getMissCount() + right.getMissCount(),
+			left.getEvictionCount() + right.getEvictionCount()
+		);
+	}
+
+	private static String micros(double nanos) {
+		return format(nanos / 1_000.0);
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	private static final class TypeMetrics {
+		private final AtomicReferenceArray<LatencyHistogram> histograms = new AtomicReferenceArray<>(STAGES.length);
+		private final LongAdder retries = new LongAdder();
+
+		private LatencyHistogram histogram(GenerationStage stage) {
+			LatencyHistogram histogram = histograms.get(stage.ordinal());
+			if (histogram != null) {
+				return histogram;
+			}
+			histograms.compareAndSet(stage.ordinal(), null, new LatencyHistogram());
+			return histograms.get(stage.ordinal());
+		}
+
+		private long totalNanos() {
+			long totalNanos = 0;
+			for (int i = 0; i < histograms.length(); i++) {
+				LatencyHistogram histogram = histograms.get(i);
+				if (histogram != null) {
+					totalNanos += histogram.getTotalNanos();
+				}
+			}
+			return totalNanos;
+		}
+	}
+}
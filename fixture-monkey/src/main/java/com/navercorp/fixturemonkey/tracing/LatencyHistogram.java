@@ -0,0 +1,145 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tracing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A latency histogram of a fixed size, in the manner of HdrHistogram.
+ * <p>
+ * The values are counted in log-linear buckets, each power of two is split into {@value #SUB_BUCKET_COUNT}
+ * buckets, so a percentile is reported within about 6% of the recorded value.
+ * The values from 0 to {@value #MAX_TRACKABLE_NANOS} nanoseconds are tracked, the larger ones are counted
+ * in the last bucket, so a histogram takes about 4 KB however many values are recorded.
+ * Recording is lock-free and may run concurrently.
+ */
+@API(since = "1.2.2", status = Status.EXPERIMENTAL)
+public final class LatencyHistogram {
+	static final int SUB_BUCKET_COUNT = 16;
+	static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+	private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+	private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_NANOS) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Records a value, a negative value is recorded as 0.
+	 *
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0L);
+		counts.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE_NANOS)));
+		totalCount.increment();
+		totalNanos.add(value);
+		maxNanos.accumulateAndGet(value, Math::max);
+	}
+
+	public long getCount() {
+		return totalCount.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public double getMeanNanos() {
+		long count = getCount();
+		return count == 0 ? 0.0 : (double)getTotalNanos() / count;
+	}
+
+	/**
+	 * Returns the value at the given percentile, the highest value of its bucket capped by the maximum value.
+	 *
+	 * @param percentile the percentile from 0 to 100
+	 * @return the value at the percentile in nanoseconds, 0 if no value was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0.0 || percentile > 100.0) {
+			throw new IllegalArgumentException("percentile should be between 0 and 100. percentile: " + percentile);
+		}
+
+		long[] snapshot = new long[BUCKET_COUNT];
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+
+		if (count == 0) {
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long)Math.ceil(percentile / 100.0 * count));
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += snapshot[i];
+			if (cumulative >= rank) {
+				return Math.min(highestValueOf(i), getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+	/**
+	 * Clears the recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0L);
+		}
+		totalCount.reset();
+		totalNanos.reset();
+		maxNanos.set(0L);
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int)value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - SUB_BUCKET_BITS;
+		int subBucket = (int)(value >>> shift) - SUB_BUCKET_COUNT;
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowestValue = (long)(SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+		return lowestValue + (1L << shift) - 1;
+	}
+}
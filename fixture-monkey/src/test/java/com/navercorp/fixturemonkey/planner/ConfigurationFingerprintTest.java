@@ -0,0 +1,183 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.planner;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentClockCache;
+import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.plugin.InterfacePlugin;
+
+class ConfigurationFingerprintTest {
+	interface Shape {
+	}
+
+	static class Circle implements Shape {
+	}
+
+	static class Square implements Shape {
+	}
+
+	@Test
+	void sameConfigurationHasSameFingerprint() {
+		Long expected = ConfigurationFingerprint.of(components(FixtureMonkeyOptions.builder().build()), null);
+
+		Long actual = ConfigurationFingerprint.of(components(FixtureMonkeyOptions.builder().build()), null);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void interfaceImplementationsChangeFingerprint() {
+		Long circle = ConfigurationFingerprint.of(
+			components(
+				FixtureMonkeyOptions.builder()
+					.plugin(new InterfacePlugin().interfaceImplements(Shape.class, Arrays.asList(Circle.class)))
+					.build()
+			),
+			null
+		);
+
+		Long square = ConfigurationFingerprint.of(
+			components(
+				FixtureMonkeyOptions.builder()
+					.plugin(new InterfacePlugin().interfaceImplements(Shape.class, Arrays.asList(Square.class)))
+					.build()
+			),
+			null
+		);
+
+		then(square).isNotEqualTo(circle);
+	}
+
+	@Test
+	void objectIntrospectorChangesFingerprint() {
+		Long constructorProperties = ConfigurationFingerprint.of(
+			components(
+				FixtureMonkeyOptions.builder()
+					.objectIntrospector(it -> ConstructorPropertiesArbitraryIntrospector.INSTANCE)
+					.build()
+			),
+			null
+		);
+
+		Long fieldReflection = ConfigurationFingerprint.of(
+			components(
+				FixtureMonkeyOptions.builder()
+					.objectIntrospector(it -> FieldReflectionArbitraryIntrospector.INSTANCE)
+					.build()
+			),
+			null
+		);
+
+		then(fieldReflection).isNotEqualTo(constructorProperties);
+	}
+
+	@Test
+	void cacheContentDoesNotChangeFingerprint() {
+		CacheHolder holder = new CacheHolder();
+		Long expected = ConfigurationFingerprint.of(Collections.singletonList(holder), null);
+
+		holder.cache.put("key", "value");
+		Long actual = ConfigurationFingerprint.of(Collections.singletonList(holder), null);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void sameConfigurationIsFingerprinted() {
+		Long actual = ConfigurationFingerprint.of(components(FixtureMonkeyOptions.builder().build()), null);
+
+		then(actual).isNotNull();
+	}
+
+	@Test
+	void lambdasOfSameClassAreNotFingerprinted() {
+		Predicate<String> isEmpty = String::isEmpty;
+		Predicate<String> isNotEmpty = it -> !it.isEmpty();
+
+		Long empty = ConfigurationFingerprint.of(Collections.singletonList(new PredicateHolder(isEmpty)), null);
+		Long notEmpty = ConfigurationFingerprint.of(Collections.singletonList(new PredicateHolder(isNotEmpty)), null);
+
+		then(empty).isNull();
+		then(notEmpty).isNull();
+	}
+
+	@Test
+	void serializableLambdasOfSameClassChangeFingerprint() {
+		Predicate<String> isEmpty = (Predicate<String> & Serializable)String::isEmpty;
+		Predicate<String> isNotEmpty = (Predicate<String> & Serializable)it -> !it.isEmpty();
+
+		Long empty = ConfigurationFingerprint.of(Collections.singletonList(new PredicateHolder(isEmpty)), null);
+		Long notEmpty = ConfigurationFingerprint.of(Collections.singletonList(new PredicateHolder(isNotEmpty)), null);
+
+		then(empty).isNotNull();
+		then(notEmpty).isNotNull().isNotEqualTo(empty);
+	}
+
+	@Test
+	void cacheKeyFingerprintsLambdas() {
+		PredicateHolder holder = new PredicateHolder(it -> !it.isEmpty());
+
+		Long first = ConfigurationFingerprint.of(Collections.singletonList(holder), "first");
+		Long second = ConfigurationFingerprint.of(Collections.singletonList(holder), "second");
+
+		then(first).isNotNull();
+		then(second).isNotNull().isNotEqualTo(first);
+	}
+
+	@Test
+	void patternChangesFingerprint() {
+		Long digits = ConfigurationFingerprint.of(Collections.singletonList(Pattern.compile("\\d+")), null);
+		Long letters = ConfigurationFingerprint.of(Collections.singletonList(Pattern.compile("[a-z]+")), null);
+
+		then(digits).isNotNull();
+		then(letters).isNotNull().isNotEqualTo(digits);
+	}
+
+	private static List<Object> components(FixtureMonkeyOptions options) {
+		return Arrays.asList(
+			options.getDefaultArbitraryGenerator(),
+			options.getCandidateConcretePropertyResolvers()
+		);
+	}
+
+	private static final class PredicateHolder {
+		private final Predicate<String> predicate;
+
+		private PredicateHolder(Predicate<String> predicate) {
+			this.predicate = predicate;
+		}
+	}
+
+	private static final class CacheHolder {
+		private final ConcurrentClockCache<String, String> cache = new ConcurrentClockCache<>(4);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.projection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.objectfarm.api.expression.PathExpression;
+
+class PathPatternTrieTest {
+	private static final List<PathExpression> PATTERNS = Stream.of(
+			"$.items[*].name",
+			"$.items[*]",
+			"$.*",
+			"$.items[0]",
+			"$.map[key]",
+			"$.map[*]"
+		)
+		.map(PathExpression::of)
+		.collect(Collectors.toList());
+
+	@Test
+	void candidatesKeepGivenOrder() {
+		PathPatternTrie sut = PathPatternTrie.ofPatterns(PATTERNS);
+
+		List<String> actual = candidates(sut, "$.items[0]");
+
+		then(actual).containsExactly("$.items[*]", "$.items[0]");
+	}
+
+	@Test
+	void candidatesMatchSameAsPatterns() {
+		PathPatternTrie sut = PathPatternTrie.ofPatterns(PATTERNS);
+
+		for (String path : new String[] {"$", "$.items", "$.items[3].name", "$.map[key]", "$.map[value]", "$.other"}) {
+			PathExpression pathExpression = PathExpression.of(path);
+			List<String> expected = PATTERNS.stream()
+				.filter(it -> it.matches(pathExpression))
+				.map(PathExpression::toExpression)
+				.collect(Collectors.toList());
+
+			List<String> actual = candidates(sut, path).stream()
+				.filter(it -> PathExpression.of(it).matches(pathExpression))
+				.collect(Collectors.toList());
+
+			then(actual).as(path).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void emptyTrieHasNoCandidates() {
+		PathPatternTrie sut = PathPatternTrie.ofPatterns(Collections.emptyList());
+
+		then(sut.candidates(PathExpression.of("$.items[0]"))).isEmpty();
+	}
+
+	private static List<String> candidates(PathPatternTrie trie, String path) {
+		return trie.candidates(PathExpression.of(path))
+			.stream()
+			.map(PathExpression::toExpression)
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.GenerationStage;
+
+class RootArbitraryTest {
+	private static final long VALIDATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void interleavedCombineCallsRecordTheirOwnValidationTime() {
+		RecordingGenerationMetrics metrics = new RecordingGenerationMetrics();
+		AtomicReference<RootArbitrary<String>> sut = new AtomicReference<>();
+		AtomicBoolean nested = new AtomicBoolean(false);
+		sut.set(
+			new RootArbitrary<>(
+				new RootProperty(
+					new TypeParameterProperty(
+						Types.toJvmType(new TypeReference<String>() {
+						}.getAnnotatedType(), Collections.emptyList())
+					)
+				),
+				() -> CombinableArbitrary.from("value"),
+				1,
+				value -> {
+					if (nested.compareAndSet(false, true)) {
+						sut.get().combined();
+						return;
+					}
+					try {
+						TimeUnit.NANOSECONDS.sleep(VALIDATION_NANOS);
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				},
+				() -> true,
+				() -> {
+				},
+				metrics
+			)
+		);
+
+		String actual = sut.get().combined();
+
+		then(actual).isEqualTo("value");
+		then(metrics.nanosOf(GenerationStage.VALIDATE)).hasSize(2);
+		then(metrics.nanosOf(GenerationStage.COMBINE))
+			.hasSize(2)
+			.allSatisfy(it -> then(it).isNotNegative());
+	}
+
+	private static final class RecordingGenerationMetrics implements GenerationMetrics {
+		private final List<GenerationStage> stages = new ArrayList<>();
+		private final List<Long> nanos = new ArrayList<>();
+
+		@Override
+		public void recordStage(Class<?> rootType, GenerationStage stage, long nanos) {
+			this.stages.add(stage);
+			this.nanos.add(nanos);
+		}
+
+		@Override
+		public void recordRetry(Class<?> rootType) {
+			// not asserted
+		}
+
+		private List<Long> nanosOf(GenerationStage stage) {
+			List<Long> result = new ArrayList<>();
+			for (int i = 0; i < stages.size(); i++) {
+				if (stages.get(i) == stage) {
+					result.add(nanos.get(i));
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringListWrapper;
+
+class BatchGenerationTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.defaultNotNull(true)
+		.build();
+
+	@Test
+	void sampleBatchKeepsSetValue() {
+		List<SimpleObject> actual = new ArrayList<>();
+
+		SUT.giveMeBuilder(SimpleObject.class)
+			.set("str", "test")
+			.sampleBatch(100, actual::add);
+
+		then(actual).hasSize(100).allMatch(it -> "test".equals(it.getStr()));
+	}
+
+	@Test
+	void sampleBatchRedrawsContainerSizes() {
+		List<StringListWrapper> actual = new ArrayList<>();
+
+		SUT.giveMeBuilder(StringListWrapper.class)
+			.size("values", 0, 5)
+			.sampleBatch(50, actual::add);
+
+		Set<Integer> sizes = actual.stream()
+			.map(it -> it.getValues().size())
+			.collect(Collectors.toSet());
+		then(sizes).allMatch(it -> it >= 0 && it <= 5);
+		then(sizes).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void sampleBatchAppliesThenApplyToEachValue() {
+		List<SimpleObject> actual = new ArrayList<>();
+
+		SUT.giveMeBuilder(SimpleObject.class)
+			.thenApply((it, builder) -> builder.set("str", String.valueOf(it.getInteger())))
+			.sampleBatch(50, actual::add);
+
+		then(actual).hasSize(50).allMatch(it -> String.valueOf(it.getInteger()).equals(it.getStr()));
+		then(actual.stream().map(SimpleObject::getStr).collect(Collectors.toSet())).hasSizeGreaterThan(1);
+		then(actual).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void sampleBatchFixed() {
+		ArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class).fixed();
+		List<SimpleObject> actual = new ArrayList<>();
+
+		builder.sampleBatch(10, actual::add);
+
+		then(actual).allMatch(it -> it.equals(actual.get(0)));
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.container.CacheStats;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringListWrapper;
+
+class CacheStatsTest {
+	@Test
+	void cacheSizeIsBounded() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.treeContextCacheSize(1)
+			.nodeMetadataCacheSize(1)
+			.build();
+
+		sut.giveMeOne(SimpleObject.class);
+		sut.giveMeOne(ComplexObject.class);
+		sut.giveMeOne(StringListWrapper.class);
+
+		Map<String, CacheStats> actual = sut.getCacheStats();
+		then(actual).containsKeys(
+			"nodeContext",
+			"candidateTree",
+			"concreteTypeCandidateTree",
+			"subtree",
+			"candidateSubtree",
+			"nodeMetadata"
+		);
+		then(actual.values()).allMatch(it -> it.getSize() <= 1);
+		then(actual.get("nodeContext").getEvictionCount()).isPositive();
+	}
+
+	@Test
+	void registeredBuilderIndexCacheIsBounded() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(String.class, monkey -> monkey.giveMeBuilder("test"))
+			.treeContextCacheSize(1)
+			.build();
+
+		// ComplexObject is left out, its Map<String, SimpleObject> can not have two distinct keys.
+		sut.giveMeOne(SimpleObject.class);
+		sut.giveMeOne(StringListWrapper.class);
+
+		CacheStats actual = sut.getCacheStats().get("registeredBuilderIndex");
+		then(actual.getSize()).isLessThanOrEqualTo(1);
+		then(actual.getEvictionCount()).isPositive();
+	}
+
+	@Test
+	void cachedTypeIsHit() {
+		FixtureMonkey sut = FixtureMonkey.builder().build();
+
+		sut.giveMeOne(SimpleObject.class);
+		sut.giveMeOne(SimpleObject.class);
+
+		CacheStats actual = sut.getCacheStats().get("nodeContext");
+		then(actual.getHitCount()).isPositive();
+		then(actual.getEvictionCount()).isZero();
+	}
+
+	@Test
+	void nonPositiveCacheSizeThrows() {
+		thenThrownBy(() -> FixtureMonkey.builder().treeContextCacheSize(0))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.planner.CandidateTreeSnapshotStore;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeContext;
+
+class CandidateTreeSnapshotTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	void candidateTreesAreWrittenAndRestored() throws IOException {
+		Path file = directory.resolve("candidate-trees.bin");
+		FixtureMonkey writer = FixtureMonkey.builder()
+			.useExperimental(it -> it.candidateTreeSnapshot(file))
+			.build();
+		writer.giveMeOne(ComplexObject.class);
+
+		CandidateTreeSnapshotStore.writeAll();
+
+		then(Files.size(file)).isPositive();
+
+		FixtureMonkey reader = FixtureMonkey.builder()
+			.useExperimental(it -> it.candidateTreeSnapshot(file))
+			.build();
+		then(reader.giveMeOne(ComplexObject.class)).isNotNull();
+	}
+
+	@Test
+	void contextOfAnotherConfigurationIsNotRestored() {
+		Path file = directory.resolve("candidate-trees.bin");
+		FixtureMonkey writer = FixtureMonkey.builder()
+			.useExperimental(it -> it.candidateTreeSnapshot(file))
+			.build();
+		writer.giveMeOne(ComplexObject.class);
+		CandidateTreeSnapshotStore.writeAll();
+
+		JvmNodeCandidateTreeContext actual = new JvmNodeCandidateTreeContext();
+		CandidateTreeSnapshotStore.attach(actual, file, Collections.singletonList("another configuration"), null);
+
+		then(actual.getCacheSize()).isZero();
+	}
+}
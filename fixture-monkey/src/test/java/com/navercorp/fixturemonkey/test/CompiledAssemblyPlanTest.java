@@ -0,0 +1,93 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringListWrapper;
+
+class CompiledAssemblyPlanTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.defaultNotNull(true)
+		.useExperimental(it -> it.compiledAssemblyPlan())
+		.build();
+
+	@Test
+	void compiledPlanKeepsSetValue() {
+		ArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class)
+			.set("str", "test");
+
+		List<SimpleObject> actual = IntStream.range(0, 10)
+			.mapToObj(it -> builder.sample())
+			.collect(Collectors.toList());
+
+		then(actual).allMatch(it -> "test".equals(it.getStr()));
+		then(((DefaultArbitraryBuilder<SimpleObject>)builder).getActiveContext().getCompiledAssemblyPlan())
+			.isNotNull();
+	}
+
+	@Test
+	void compiledPlanRedrawsContainerSizes() {
+		ArbitraryBuilder<StringListWrapper> builder = SUT.giveMeBuilder(StringListWrapper.class)
+			.size("values", 0, 5);
+
+		Set<Integer> actual = IntStream.range(0, 50)
+			.mapToObj(it -> builder.sample().getValues().size())
+			.collect(Collectors.toSet());
+
+		then(actual).allMatch(it -> it >= 0 && it <= 5);
+		then(actual).hasSizeGreaterThan(1);
+		then(((DefaultArbitraryBuilder<StringListWrapper>)builder).getActiveContext().getCompiledAssemblyPlan())
+			.isNotNull();
+	}
+
+	@Test
+	void compiledPlanInvalidatedWhenDirectiveAdded() {
+		ArbitraryBuilder<StringListWrapper> builder = SUT.giveMeBuilder(StringListWrapper.class)
+			.size("values", 1);
+		builder.sample();
+
+		StringListWrapper actual = builder.size("values", 3).sample();
+
+		then(actual.getValues()).hasSize(3);
+	}
+
+	@Test
+	void lazyDirectiveIsNotCompiled() {
+		ArbitraryBuilder<SimpleObject> builder = SUT.giveMeBuilder(SimpleObject.class)
+			.setLazy("str", () -> "lazy");
+
+		SimpleObject actual = builder.sample();
+
+		then(actual.getStr()).isEqualTo("lazy");
+		then(((DefaultArbitraryBuilder<SimpleObject>)builder).getActiveContext().getCompiledAssemblyPlan())
+			.isNull();
+	}
+}
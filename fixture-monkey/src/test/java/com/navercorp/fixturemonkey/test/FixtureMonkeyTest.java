@@ -1337,6 +1337,19 @@ class FixtureMonkeyTest {
 		then(actual).hasSizeLessThanOrEqualTo(2);
 	}
 
+	@Test
+	void sampleBooleanSetLargerThanDomainFailsFast() {
+		thenThrownBy(() ->
+			SUT.giveMeBuilder(new TypeReference<Set<Boolean>>() {
+				})
+				.size("$", 4)
+				.sample()
+		)
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.getCause()
+			.hasMessageContaining("unique elements");
+	}
+
 	@Test
 	void setNullFixed() {
 		String expected = "test";
@@ -0,0 +1,95 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
+import com.navercorp.fixturemonkey.tracing.GenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.GenerationStage;
+import com.navercorp.fixturemonkey.tracing.HistogramGenerationMetrics;
+import com.navercorp.fixturemonkey.tracing.LatencyHistogram;
+
+class GenerationMetricsTest {
+	@Test
+	void stagesAreRecordedByRootType() {
+		HistogramGenerationMetrics metrics = GenerationMetrics.histogram();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generationMetrics(metrics)
+			.build();
+
+		sut.giveMe(ComplexObject.class, 5);
+
+		for (GenerationStage stage : new GenerationStage[] {
+			GenerationStage.PREPARE,
+			GenerationStage.PLAN,
+			GenerationStage.TRANSFORM,
+			GenerationStage.ASSEMBLE,
+			GenerationStage.COMBINE
+		}) {
+			LatencyHistogram actual = metrics.getHistogram(ComplexObject.class, stage);
+			then(actual).as(stage.name()).isNotNull();
+			then(actual.getCount()).as(stage.name()).isGreaterThanOrEqualTo(5);
+		}
+		then(metrics.getCacheStats()).isNotEmpty();
+		then(metrics.toJson()).contains("\"type\": \"" + ComplexObject.class.getName() + "\"");
+		then(metrics.toCsv()).contains(ComplexObject.class.getName() + ",ASSEMBLE,");
+	}
+
+	@Test
+	void retriesAreRecordedByRootType() {
+		HistogramGenerationMetrics metrics = GenerationMetrics.histogram();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generationMetrics(metrics)
+			.build();
+
+		thenThrownBy(() ->
+			sut.giveMeBuilder(ComplexObject.class)
+				.setPostCondition("str", String.class, it -> it != null && it.length() > 0)
+				.setNull("str")
+				.sample()
+		).isExactlyInstanceOf(IllegalArgumentException.class);
+
+		then(metrics.getRetryCount(ComplexObject.class)).isPositive();
+	}
+
+	@Test
+	void cacheStatsDoNotKeepFixtureMonkeyAlive() throws InterruptedException {
+		HistogramGenerationMetrics metrics = GenerationMetrics.histogram();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.generationMetrics(metrics)
+			.build();
+		WeakReference<FixtureMonkey> reference = new WeakReference<>(sut);
+		sut = null;
+
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		then(reference.get()).isNull();
+		then(metrics.getCacheStats()).isEmpty();
+	}
+}
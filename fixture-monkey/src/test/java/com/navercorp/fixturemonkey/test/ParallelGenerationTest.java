@@ -0,0 +1,93 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.random.RandomSource;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringListWrapper;
+
+class ParallelGenerationTest {
+	private static final long SEED = 12345L;
+
+	@Test
+	void giveMeParallel() {
+		FixtureMonkey sut = FixtureMonkey.builder().defaultNotNull(true).build();
+
+		List<SimpleObject> actual = sut.giveMeParallel(SimpleObject.class, 100);
+
+		then(actual).hasSize(100).doesNotContainNull();
+	}
+
+	@Test
+	void sameSeedGeneratesSameListRegardlessOfParallelism() {
+		ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+		ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+		try {
+			List<StringListWrapper> sequential = FixtureMonkey.builder()
+				.seed(SEED)
+				.build()
+				.giveMeParallel(StringListWrapper.class, 200, singleThreadPool);
+
+			List<StringListWrapper> parallel = FixtureMonkey.builder()
+				.seed(SEED)
+				.build()
+				.giveMeParallel(StringListWrapper.class, 200, multiThreadPool);
+
+			then(parallel).isEqualTo(sequential);
+		} finally {
+			singleThreadPool.shutdown();
+			multiThreadPool.shutdown();
+		}
+	}
+
+	@Test
+	void sampleListParallelKeepsSetValue() {
+		FixtureMonkey sut = FixtureMonkey.builder().defaultNotNull(true).build();
+
+		List<SimpleObject> actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("str", "test")
+			.sampleListParallel(50);
+
+		then(actual).allMatch(it -> "test".equals(it.getStr()));
+	}
+
+	@Test
+	void sameRandomSourceGeneratesSameOnOtherThread() {
+		FixtureMonkey sut = FixtureMonkey.builder().build();
+		StringListWrapper expected = sut.callWith(
+			RandomSource.of(SEED),
+			() -> sut.giveMeOne(StringListWrapper.class)
+		);
+
+		StringListWrapper actual = CompletableFuture.supplyAsync(
+			() -> sut.callWith(RandomSource.of(SEED), () -> sut.giveMeOne(StringListWrapper.class))
+		).join();
+
+		then(actual).isEqualTo(expected);
+	}
+}
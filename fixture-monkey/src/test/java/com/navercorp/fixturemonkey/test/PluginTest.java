@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
+import com.navercorp.fixturemonkey.api.plugin.PrimitiveArbitraryPlugin;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
 
@@ -80,4 +81,33 @@ class PluginTest {
 		then(actual).hasSize(expected.size());
 	}
 
+	@Test
+	void primitiveArbitraryPlugin() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new PrimitiveArbitraryPlugin())
+			.defaultNotNull(true)
+			.build();
+
+		// when
+		List<SimpleObject> actual = sut.giveMe(SimpleObject.class, 100);
+
+		// then
+		then(actual).allSatisfy(it -> {
+			then(it.getWrapperCharacter()).isNotNull();
+			then(it.getWrapperShort()).isNotNull();
+			then(it.getWrapperByte()).isNotNull();
+			then(it.getWrapperInteger()).isNotNull();
+			then(it.getWrapperLong()).isNotNull();
+			then(it.getWrapperBoolean()).isNotNull();
+			then(it.getPrimitiveDouble()).isBetween((double)Integer.MIN_VALUE, (double)Integer.MAX_VALUE);
+			then(it.getWrapperDouble()).isBetween((double)Integer.MIN_VALUE, (double)Integer.MAX_VALUE);
+			then(it.getPrimitiveFloat()).isBetween((float)Integer.MIN_VALUE, (float)Integer.MAX_VALUE);
+			then(it.getWrapperFloat()).isBetween((float)Integer.MIN_VALUE, (float)Integer.MAX_VALUE);
+		});
+		then(actual.stream().map(SimpleObject::getInteger).distinct().count()).isGreaterThan(1L);
+		then(actual.stream().map(SimpleObject::getCharacter).distinct().count()).isGreaterThan(1L);
+		then(actual.stream().map(SimpleObject::isPrimitiveBoolean).distinct().count()).isEqualTo(2L);
+	}
+
 }
@@ -906,4 +906,45 @@ class RegisterTest {
 		then(actual).isNull();
 	}
 
+	@Test
+	void registerFieldSizeAppliedToEverySampleOfRootType() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.register(StringListWrapper.class, fixture ->
+				fixture.giveMeBuilder(StringListWrapper.class).size("values", 1)
+			)
+			.build();
+
+		// when
+		List<StringListWrapper> actual = Stream.concat(
+				sut.giveMeBuilder(NestedStringListWrapper.class).sampleList(5).stream(),
+				sut.giveMeBuilder(NestedStringListWrapper.class).sampleList(5).stream()
+			)
+			.flatMap(it -> it.getValues().stream())
+			.collect(Collectors.toList());
+
+		// then
+		then(actual).allMatch(it -> it.getValues().size() == 1);
+	}
+
+	@Test
+	void activeSizeOverridesRegisteredSizeAfterRootTypeSampled() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.register(StringListWrapper.class, fixture ->
+				fixture.giveMeBuilder(StringListWrapper.class).size("values", 1)
+			)
+			.build();
+		sut.giveMeOne(StringListWrapper.class);
+
+		// when
+		StringListWrapper actual = sut.giveMeBuilder(StringListWrapper.class)
+			.size("values", 3)
+			.sample();
+
+		// then
+		then(actual.getValues()).hasSize(3);
+	}
 }
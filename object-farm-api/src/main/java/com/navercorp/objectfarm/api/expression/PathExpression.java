@@ -18,7 +18,11 @@
 
 package com.navercorp.objectfarm.api.expression;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -32,30 +36,56 @@ import org.jspecify.annotations.Nullable;
  * Follows <a href="https://datatracker.ietf.org/doc/rfc9535/">JSONPath RFC 9535</a> terminology.
  * <p>
  * Supports concrete paths ({@code $.items[0]}) and wildcard patterns ({@code $.items[*]}).
+ * <p>
+ * A path is stored as its parent and its last segment, so the paths sharing a prefix share its instances.
+ * The children derived by {@link #child(String)}, {@link #index(int)}, {@link #key()}, {@link #value()} and
+ * {@link #wildcard()} are interned in their parent, deriving the same child again does not allocate.
+ * A parent refers to its interned children weakly, so a derived path is released once neither it nor its
+ * descendants are referenced, by a cached tree for example.
+ * The segment list and the expression string are materialized on first use.
  *
  * @see Segment
  * @see Selector
  */
 public final class PathExpression implements Comparable<PathExpression> {
+	// indices of larger containers are derived without being interned
+	private static final int INDEX_CACHE_SIZE = 64;
 
-	private static final PathExpression ROOT = new PathExpression(Collections.emptyList());
-
-	public static final String ROOT_EXPRESSION = "$";
+	private static final PathExpression ROOT = new PathExpression(null, null);
 
-	private final List<Segment> segments;
-	private volatile int cachedHashCode;
-	private volatile String cachedExpression;
-	private volatile PathExpression cachedParent;
-	private final ConcurrentMap<String, PathExpression> cachedChildren = new ConcurrentHashMap<>(16);
-	private volatile byte cachedHasWildcard; // 0=not computed, 1=false, 2=true
-	private volatile byte cachedHasTypeSelector; // 0=not computed, 1=false, 2=true
+	private static final ReferenceQueue<PathExpression> RELEASED_CHILDREN = new ReferenceQueue<>();
 
-	private PathExpression(List<Segment> segments) {
-		this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
-	}
+	public static final String ROOT_EXPRESSION = "$";
 
-	private PathExpression(List<Segment> segments, boolean trusted) {
-		this.segments = Collections.unmodifiableList(segments);
+	private final @Nullable PathExpression parent;
+	private final @Nullable Segment lastSegment;
+	private final int depth;
+	private final int hashCode;
+	private final boolean hasWildcard;
+	private final boolean hasTypeSelector;
+
+	private volatile @Nullable List<Segment> cachedSegments;
+	private volatile @Nullable String cachedExpression;
+	private volatile @Nullable ConcurrentMap<String, ChildReference> cachedChildren;
+	private volatile @Nullable WeakReference<PathExpression> @Nullable [] cachedIndices;
+	private volatile @Nullable WeakReference<PathExpression> cachedKey;
+	private volatile @Nullable WeakReference<PathExpression> cachedValue;
+	private volatile @Nullable WeakReference<PathExpression> cachedWildcard;
+
+	private PathExpression(@Nullable PathExpression parent, @Nullable Segment lastSegment) {
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		if (parent == null || lastSegment == null) {
+			this.depth = 0;
+			this.hashCode = 0;
+			this.hasWildcard = false;
+			this.hasTypeSelector = false;
+		} else {
+			this.depth = parent.depth + 1;
+			this.hashCode = 31 * parent.hashCode + lastSegment.hashCode();
+			this.hasWildcard = parent.hasWildcard || isWildcard(lastSegment);
+			this.hasTypeSelector = parent.hasTypeSelector || isTypeSelector(lastSegment);
+		}
 	}
 
 	public static PathExpression root() {
@@ -70,8 +100,11 @@ public final class PathExpression implements Comparable<PathExpression> {
 			return ROOT;
 		}
 
-		List<Segment> segments = parseExpression(expression);
-		return new PathExpression(segments);
+		PathExpression result = ROOT;
+		for (Segment segment : parseExpression(expression)) {
+			result = result.appendSegment(segment);
+		}
+		return result;
 	}
 
 	private static List<Segment> parseExpression(String expression) {
@@ -204,78 +237,141 @@ public final class PathExpression implements Comparable<PathExpression> {
 	public PathExpression child(String propertyName) {
 		Objects.requireNonNull(propertyName, "propertyName must not be null");
 
-		PathExpression cached = cachedChildren.get(propertyName);
+		ConcurrentMap<String, ChildReference> children = cachedChildren;
+		if (children == null) {
+			synchronized (this) {
+				children = cachedChildren;
+				if (children == null) {
+					children = new ConcurrentHashMap<>(4);
+					cachedChildren = children;
+				}
+			}
+		}
+
+		PathExpression cached = dereference(children.get(propertyName));
 		if (cached != null) {
 			return cached;
 		}
 
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofName(propertyName));
-		PathExpression result = new PathExpression(newSegments, true);
+		expungeReleasedChildren();
+		PathExpression result = new PathExpression(this, Segment.ofName(propertyName));
+		ChildReference reference = new ChildReference(result, propertyName, children);
+		while (true) {
+			ChildReference existing = children.putIfAbsent(propertyName, reference);
+			if (existing == null) {
+				return result;
+			}
 
-		PathExpression existing = cachedChildren.putIfAbsent(propertyName, result);
-		return existing != null ? existing : result;
+			PathExpression existingChild = existing.get();
+			if (existingChild != null) {
+				return existingChild;
+			}
+			if (children.replace(propertyName, existing, reference)) {
+				return result;
+			}
+		}
 	}
 
 	public PathExpression index(int index) {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofIndex(index));
-		return new PathExpression(newSegments, true);
+		if (index < 0 || index >= INDEX_CACHE_SIZE) {
+			return new PathExpression(this, Segment.ofIndex(index));
+		}
+
+		@Nullable WeakReference<PathExpression>[] indices = cachedIndices;
+		if (indices != null && index < indices.length) {
+			PathExpression cached = dereference(indices[index]);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
+		PathExpression result = new PathExpression(this, Segment.ofIndex(index));
+		// The fields of a path are final, a racing thread sees either a complete path or null and derives its own
+		@Nullable WeakReference<PathExpression>[] updated = indices == null
+			? newIndexReferences(Math.min(INDEX_CACHE_SIZE, Math.max(8, index + 1)))
+			: indices.length > index ? indices : Arrays.copyOf(indices, Math.min(INDEX_CACHE_SIZE, index * 2 + 1));
+		updated[index] = new WeakReference<>(result);
+		cachedIndices = updated;
+		return result;
 	}
 
 	public PathExpression key() {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofKey());
-		return new PathExpression(newSegments, true);
+		PathExpression cached = dereference(cachedKey);
+		if (cached == null) {
+			cached = new PathExpression(this, Segment.ofKey());
+			cachedKey = new WeakReference<>(cached);
+		}
+		return cached;
 	}
 
 	public PathExpression value() {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofValue());
-		return new PathExpression(newSegments, true);
+		PathExpression cached = dereference(cachedValue);
+		if (cached == null) {
+			cached = new PathExpression(this, Segment.ofValue());
+			cachedValue = new WeakReference<>(cached);
+		}
+		return cached;
 	}
 
 	public PathExpression type(Class<?> type) {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofType(type));
-		return new PathExpression(newSegments, true);
+		return new PathExpression(this, Segment.ofType(type));
 	}
 
 	/**
 	 * @param exact if true, only exact type matches; if false, subtypes also match
 	 */
 	public PathExpression type(Class<?> type, boolean exact) {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofType(type, exact));
-		return new PathExpression(newSegments, true);
+		return new PathExpression(this, Segment.ofType(type, exact));
 	}
 
 	public PathExpression appendSegment(Segment segment) {
 		Objects.requireNonNull(segment, "segment must not be null");
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(segment);
-		return new PathExpression(newSegments, true);
+		if (segment.isSingleSelector()) {
+			Selector selector = segment.getFirstSelector();
+			if (selector instanceof NameSelector) {
+				return child(((NameSelector)selector).getName());
+			} else if (selector instanceof IndexSelector) {
+				return index(((IndexSelector)selector).getIndex());
+			} else if (selector instanceof KeySelector) {
+				return key();
+			} else if (selector instanceof ValueSelector) {
+				return value();
+			} else if (selector instanceof WildcardSelector) {
+				return wildcard();
+			}
+		}
+		return new PathExpression(this, segment);
 	}
 
 	public PathExpression append(PathExpression other) {
 		if (other.isRoot()) {
 			return this;
 		}
-		List<Segment> newSegments = new ArrayList<>(segments.size() + other.segments.size());
-		newSegments.addAll(segments);
-		newSegments.addAll(other.segments);
-		return new PathExpression(newSegments, true);
+		PathExpression result = this;
+		for (Segment segment : other.getSegments()) {
+			result = result.appendSegment(segment);
+		}
+		return result;
 	}
 
 	public List<Segment> getSegments() {
-		return segments;
+		List<Segment> cached = cachedSegments;
+		if (cached != null) {
+			return cached;
+		}
+		if (depth == 0) {
+			cached = Collections.emptyList();
+		} else {
+			Segment[] segments = new Segment[depth];
+			PathExpression current = this;
+			for (int i = depth - 1; i >= 0 && current.parent != null && current.lastSegment != null; i--) {
+				segments[i] = current.lastSegment;
+				current = current.parent;
+			}
+			cached = Collections.unmodifiableList(Arrays.asList(segments));
+		}
+		cachedSegments = cached;
+		return cached;
 	}
 
 	public String toExpression() {
@@ -283,62 +379,55 @@ public final class PathExpression implements Comparable<PathExpression> {
 		if (cached != null) {
 			return cached;
 		}
-		if (segments.isEmpty()) {
-			cachedExpression = "$";
-			return "$";
-		}
-		StringBuilder sb = new StringBuilder("$");
-		for (Segment segment : segments) {
-			sb.append(segment.toExpression());
+		if (parent == null || lastSegment == null) {
+			cached = ROOT_EXPRESSION;
+		} else {
+			cached = parent.toExpression() + lastSegment.toExpression();
 		}
-		cached = sb.toString();
 		cachedExpression = cached;
 		return cached;
 	}
 
 	public boolean startsWith(PathExpression prefix) {
-		if (prefix.segments.size() > segments.size()) {
+		if (prefix.depth > depth) {
 			return false;
 		}
-		for (int i = 0; i < prefix.segments.size(); i++) {
-			if (!prefix.segments.get(i).equals(segments.get(i))) {
-				return false;
-			}
-		}
-		return true;
+		return prefix(prefix.depth).equals(prefix);
 	}
 
 	public boolean isChildOf(PathExpression parent) {
-		return startsWith(parent) && segments.size() > parent.segments.size();
+		return depth > parent.depth && startsWith(parent);
 	}
 
 	public boolean isRoot() {
-		return segments.isEmpty();
+		return depth == 0;
 	}
 
 	public int depth() {
-		return segments.size();
+		return depth;
 	}
 
-	public PathExpression getParent() {
-		if (segments.isEmpty() || segments.size() == 1) {
-			return ROOT;
-		}
-		PathExpression cached = cachedParent;
-		if (cached != null) {
-			return cached;
+	/**
+	 * Returns the ancestor of this path having the given number of segments.
+	 *
+	 * @param depth the number of segments of the ancestor, {@code 0} for the root
+	 * @return the ancestor, or this path if the depth is not less than the depth of this path
+	 */
+	public PathExpression prefix(int depth) {
+		PathExpression current = this;
+		while (current.depth > depth && current.parent != null) {
+			current = current.parent;
 		}
-		cached = new PathExpression(new ArrayList<>(segments.subList(0, segments.size() - 1)));
-		cachedParent = cached;
-		return cached;
+		return current;
+	}
+
+	public PathExpression getParent() {
+		return parent != null ? parent : ROOT;
 	}
 
 	@Nullable
 	public Segment getLastSegment() {
-		if (segments.isEmpty()) {
-			return null;
-		}
-		return segments.get(segments.size() - 1);
+		return lastSegment;
 	}
 
 	/**
@@ -346,17 +435,18 @@ public final class PathExpression implements Comparable<PathExpression> {
 	 * {@link WildcardSelector} matches any {@link IndexSelector}, {@link KeySelector}, or {@link ValueSelector}.
 	 */
 	public boolean matches(PathExpression path) {
-		List<Segment> pathSegments = path.getSegments();
-
-		if (segments.size() != pathSegments.size()) {
+		if (depth != path.depth) {
 			return false;
 		}
 
+		List<Segment> segments = getSegments();
+		List<Segment> pathSegments = path.getSegments();
+
 		for (int i = 0; i < segments.size(); i++) {
 			Segment patternSegment = segments.get(i);
 			Segment pathSegment = pathSegments.get(i);
 
-			if (!segmentMatches(patternSegment, pathSegment)) {
+			if (!matchesSegment(patternSegment, pathSegment)) {
 				return false;
 			}
 		}
@@ -364,7 +454,15 @@ public final class PathExpression implements Comparable<PathExpression> {
 		return true;
 	}
 
-	private boolean segmentMatches(Segment patternSegment, Segment pathSegment) {
+	/**
+	 * Returns true if the given pattern segment matches the given path segment.
+	 * Each segment is compared this way by {@link #matches(PathExpression)}.
+	 *
+	 * @param patternSegment the segment of a pattern, it may contain wildcards
+	 * @param pathSegment    the segment of a concrete path
+	 * @return true if the pattern segment matches the path segment
+	 */
+	public static boolean matchesSegment(Segment patternSegment, Segment pathSegment) {
 		if (!patternSegment.isSingleSelector() || !pathSegment.isSingleSelector()) {
 			for (Selector patternSelector : patternSegment.getSelectors()) {
 				for (Selector pathSelector : pathSegment.getSelectors()) {
@@ -379,7 +477,7 @@ public final class PathExpression implements Comparable<PathExpression> {
 		return selectorMatches(patternSegment.getFirstSelector(), pathSegment.getFirstSelector());
 	}
 
-	private boolean selectorMatches(Selector patternSelector, Selector pathSelector) {
+	private static boolean selectorMatches(Selector patternSelector, Selector pathSelector) {
 		if (patternSelector instanceof WildcardSelector) {
 			return (pathSelector instanceof IndexSelector
 				|| pathSelector instanceof KeySelector
@@ -426,48 +524,20 @@ public final class PathExpression implements Comparable<PathExpression> {
 	 * Returns true if this path contains {@link WildcardSelector} ({@code [*]}) or {@code .*}.
 	 */
 	public boolean hasWildcard() {
-		byte cached = cachedHasWildcard;
-		if (cached != 0) {
-			return cached == 2;
-		}
-		for (Segment segment : segments) {
-			for (Selector selector : segment.getSelectors()) {
-				if (selector instanceof WildcardSelector) {
-					cachedHasWildcard = 2;
-					return true;
-				}
-				if (selector instanceof NameSelector && "*".equals(((NameSelector)selector).getName())) {
-					cachedHasWildcard = 2;
-					return true;
-				}
-			}
-		}
-		cachedHasWildcard = 1;
-		return false;
+		return hasWildcard;
 	}
 
 	public boolean hasTypeSelector() {
-		byte cached = cachedHasTypeSelector;
-		if (cached != 0) {
-			return cached == 2;
-		}
-		for (Segment segment : segments) {
-			for (Selector selector : segment.getSelectors()) {
-				if (selector instanceof TypeSelector) {
-					cachedHasTypeSelector = 2;
-					return true;
-				}
-			}
-		}
-		cachedHasTypeSelector = 1;
-		return false;
+		return hasTypeSelector;
 	}
 
 	public PathExpression wildcard() {
-		List<Segment> newSegments = new ArrayList<>(segments.size() + 1);
-		newSegments.addAll(segments);
-		newSegments.add(Segment.ofWildcard());
-		return new PathExpression(newSegments, true);
+		PathExpression cached = dereference(cachedWildcard);
+		if (cached == null) {
+			cached = new PathExpression(this, Segment.ofWildcard());
+			cachedWildcard = new WeakReference<>(cached);
+		}
+		return cached;
 	}
 
 	@Override
@@ -479,19 +549,24 @@ public final class PathExpression implements Comparable<PathExpression> {
 			return false;
 		}
 		PathExpression that = (PathExpression)obj;
-		if (cachedHashCode != 0 && that.cachedHashCode != 0 && cachedHashCode != that.cachedHashCode) {
+		if (depth != that.depth || hashCode != that.hashCode) {
 			return false;
 		}
-		return Objects.equals(segments, that.segments);
+
+		PathExpression left = this;
+		PathExpression right = that;
+		while (left != right) {
+			if (left.parent == null || right.parent == null || !Objects.equals(left.lastSegment, right.lastSegment)) {
+				return false;
+			}
+			left = left.parent;
+			right = right.parent;
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
-		int hashCode = cachedHashCode;
-		if (hashCode == 0 && !segments.isEmpty()) {
-			hashCode = Objects.hash(segments);
-			cachedHashCode = hashCode;
-		}
 		return hashCode;
 	}
 
@@ -504,4 +579,59 @@ public final class PathExpression implements Comparable<PathExpression> {
 	public String toString() {
 		return toExpression();
 	}
+
+	private static boolean isWildcard(Segment segment) {
+		for (Selector selector : segment.getSelectors()) {
+			if (selector instanceof WildcardSelector) {
+				return true;
+			}
+			if (selector instanceof NameSelector && "*".equals(((NameSelector)selector).getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isTypeSelector(Segment segment) {
+		for (Selector selector : segment.getSelectors()) {
+			if (selector instanceof TypeSelector) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable PathExpression dereference(@Nullable Reference<PathExpression> reference) {
+		return reference != null ? reference.get() : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @Nullable WeakReference<PathExpression>[] newIndexReferences(int length) {
+		return (WeakReference<PathExpression>[])new WeakReference<?>[length];
+	}
+
+	/**
+	 * Removes the name children released since the last call from the map of their parent.
+	 */
+	private static void expungeReleasedChildren() {
+		Reference<? extends PathExpression> released;
+		while ((released = RELEASED_CHILDREN.poll()) != null) {
+			((ChildReference)released).expunge();
+		}
+	}
+
+	private static final class ChildReference extends WeakReference<PathExpression> {
+		private final String name;
+		private final ConcurrentMap<String, ChildReference> owner;
+
+		private ChildReference(PathExpression child, String name, ConcurrentMap<String, ChildReference> owner) {
+			super(child, RELEASED_CHILDREN);
+			this.name = name;
+			this.owner = owner;
+		}
+
+		private void expunge() {
+			owner.remove(name, this);
+		}
+	}
 }
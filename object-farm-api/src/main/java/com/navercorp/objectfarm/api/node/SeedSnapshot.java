@@ -37,11 +37,11 @@ import org.jspecify.annotations.Nullable;
  *
  * // First sample() call
  * SeedSnapshot snapshot1 = state.snapshot();
- * int size1 = snapshot1.randomFor(type.hashCode()).nextInt(10);
+ * int size1 = snapshot1.nextInt(type.hashCode(), 10);
  *
  * // Second sample() call - different sequence, different values
  * SeedSnapshot snapshot2 = state.snapshot();
- * int size2 = snapshot2.randomFor(type.hashCode()).nextInt(10);
+ * int size2 = snapshot2.nextInt(type.hashCode(), 10);
  * }</pre>
  *
  * @see SeedState
@@ -49,6 +49,7 @@ import org.jspecify.annotations.Nullable;
 public final class SeedSnapshot {
 
 	private static final long GOLDEN_RATIO_PRIME = 0x9E3779B97F4A7C15L;
+	private static final long UNSIGNED_INT_RANGE = 1L << 32;
 
 	private final long baseSeed;
 	private final long sequence;
@@ -85,6 +86,9 @@ public final class SeedSnapshot {
 	/**
 	 * Creates a new Random instance seeded for the given type hash.
 	 *
+	 * <p>Prefer {@link #nextInt(int, int)} or {@link #nextLong(int, long)} when only a few values are needed,
+	 * they draw the same deterministic values without allocating a synchronized {@link Random}.</p>
+	 *
 	 * @param typeHash the hash code of the type
 	 * @return a new Random instance with deterministic seed
 	 */
@@ -92,6 +96,47 @@ public final class SeedSnapshot {
 		return new Random(seedFor(typeHash));
 	}
 
+	/**
+	 * Returns the {@code k}-th value of the SplitMix64 stream seeded by {@link #seedFor(int)}.
+	 *
+	 * <p>The stream is splittable: any element can be computed directly from
+	 * (baseSeed, sequence, typeHash, k) without allocation or shared mutable state,
+	 * so it is safe to call from any resolver on any thread.</p>
+	 *
+	 * @param typeHash the hash code of the type
+	 * @param k        the index of the value in the stream, starting from 0
+	 * @return a deterministic pseudo-random long value
+	 */
+	public long nextLong(int typeHash, long k) {
+		return mix64(seedFor(typeHash) + (k + 1) * GOLDEN_RATIO_PRIME);
+	}
+
+	/**
+	 * Returns a deterministic pseudo-random int between 0 (inclusive) and {@code bound} (exclusive).
+	 *
+	 * <p>The value is unbiased, it uses multiply-shift reduction and rejects the few values that would
+	 * favor lower results by moving on to the next element of the {@link #nextLong(int, long)} stream.</p>
+	 *
+	 * @param typeHash the hash code of the type
+	 * @param bound    the upper bound (exclusive), must be positive
+	 * @return a deterministic value in {@code [0, bound)}
+	 * @throws IllegalArgumentException if bound is not positive
+	 */
+	public int nextInt(int typeHash, int bound) {
+		if (bound <= 0) {
+			throw new IllegalArgumentException("bound must be positive, but was: " + bound);
+		}
+
+		long seed = seedFor(typeHash);
+		long threshold = UNSIGNED_INT_RANGE % bound;
+		for (long k = 1; ; k++) {
+			long product = (mix64(seed + k * GOLDEN_RATIO_PRIME) >>> 32) * bound;
+			if ((product & 0xFFFFFFFFL) >= threshold) {
+				return (int) (product >>> 32);
+			}
+		}
+	}
+
 	/**
 	 * Returns the base seed of this snapshot.
 	 *
@@ -110,6 +155,12 @@ public final class SeedSnapshot {
 		return sequence;
 	}
 
+	private static long mix64(long value) {
+		long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		return mixed ^ (mixed >>> 31);
+	}
+
 	@Override
 	public boolean equals(@Nullable Object obj) {
 		if (this == obj) {
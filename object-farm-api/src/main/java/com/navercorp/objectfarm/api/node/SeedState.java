@@ -19,6 +19,9 @@
 package com.navercorp.objectfarm.api.node;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
 
 /**
  * Manages seed state for deterministic random generation across multiple sample() calls.
@@ -28,7 +31,12 @@ import java.util.concurrent.atomic.AtomicLong;
  * with a unique sequence number, ensuring different random values for each
  * sample() call while maintaining reproducibility.</p>
  *
- * <p>This class is thread-safe.</p>
+ * <p>This class is thread-safe without locking. Each thread has its own seed and counters,
+ * so the snapshots of a thread only depend on the calls made on it, not on the generations running
+ * on other threads. The first thread using the state starts from the initial seed, the following ones
+ * from the initial seed mixed with the order in which they first used it. The threads draw distinct streams,
+ * reproducible as long as the threads start using the state in the same order.
+ * A thread can run a generation with another seed by {@link #callInScope(long, Supplier)}.</p>
  *
  * <p>Example usage:</p>
  * <pre>{@code
@@ -47,9 +55,11 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see SeedSnapshot
  */
 public final class SeedState {
-	private volatile long initialSeed;
-	private final AtomicLong counter;
-	private final AtomicLong containerSizeCounter;
+	private static final long LANE_SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final AtomicLong laneCount = new AtomicLong();
+	@SuppressWarnings("type.argument")
+	private final ThreadLocal<Lane> lane;
 
 	/**
 	 * Creates a new SeedState with the specified initial seed.
@@ -57,38 +67,56 @@ public final class SeedState {
 	 * @param initialSeed the initial seed value
 	 */
 	public SeedState(long initialSeed) {
-		this.initialSeed = initialSeed;
-		this.counter = new AtomicLong(0);
-		this.containerSizeCounter = new AtomicLong(0);
+		this.lane = ThreadLocal.withInitial(() -> new Lane(initialSeed, laneCount.getAndIncrement(), false));
 	}
 
 	/**
-	 * Resets the seed and counters for a new generation cycle.
+	 * Resets the seed and counters of the current thread for a new generation cycle.
 	 *
-	 * <p>Sets {@code initialSeed} to the given value and resets all sequence
+	 * <p>Sets the seed to the given value, mixed with the order of the thread, and resets all sequence
 	 * counters to {@code 0}. Used at the start of a top-level generation call
 	 * (e.g. {@code adapt()}) so that callers (such as a JUnit {@code @Seed}
 	 * extension) that change the global seed between runs see deterministic
-	 * snapshot sequences starting from {@code 0}.</p>
+	 * snapshot sequences starting from {@code 0}. The other threads are not affected.</p>
 	 *
 	 * @param newSeed the new seed value
 	 */
 	public void reset(long newSeed) {
-		this.initialSeed = newSeed;
-		this.counter.set(0);
-		this.containerSizeCounter.set(0);
+		lane.get().reset(newSeed);
+	}
+
+	/**
+	 * Resets the seed and counters of the current thread if the given generation differs
+	 * from the one of the previous call on the current thread.
+	 *
+	 * <p>The generation is compared by reference, e.g. the random instance of the thread, which is
+	 * replaced when the seed is changed. It is a no-op inside {@link #callInScope(long, Supplier)}.</p>
+	 *
+	 * @param generation the object identifying the current generation cycle of the thread
+	 * @param newSeed    the seed of the new generation cycle
+	 * @return true if the state of the current thread was reset
+	 */
+	public boolean resetIfChanged(Object generation, long newSeed) {
+		Lane current = lane.get();
+		if (current.scoped || current.generation == generation) {
+			return false;
+		}
+		current.reset(newSeed);
+		current.generation = generation;
+		return true;
 	}
 
 	/**
 	 * Creates an immutable snapshot of the current seed state.
 	 *
-	 * <p>Each call increments the internal sequence counter, ensuring
+	 * <p>Each call increments the sequence counter of the current thread, ensuring
 	 * that successive snapshots produce different random values.</p>
 	 *
 	 * @return a new immutable SeedSnapshot
 	 */
 	public SeedSnapshot snapshot() {
-		return new SeedSnapshot(initialSeed, counter.getAndIncrement());
+		Lane current = lane.get();
+		return new SeedSnapshot(current.seed, current.counter++);
 	}
 
 	/**
@@ -102,7 +130,8 @@ public final class SeedState {
 	 * @return a new immutable SeedSnapshot whose sequence is the next container-size value
 	 */
 	public SeedSnapshot containerSizeSnapshot() {
-		return new SeedSnapshot(initialSeed, containerSizeCounter.getAndIncrement());
+		Lane current = lane.get();
+		return new SeedSnapshot(current.seed, current.containerSizeCounter++);
 	}
 
 	/**
@@ -117,24 +146,87 @@ public final class SeedState {
 	 * @return a new immutable SeedSnapshot at the given sequence
 	 */
 	public SeedSnapshot snapshotAt(long sequence) {
-		return new SeedSnapshot(initialSeed, sequence);
+		return new SeedSnapshot(getInitialSeed(), sequence);
 	}
 
 	/**
-	 * Returns the initial seed value.
+	 * Returns the seed of the current thread.
 	 *
 	 * @return the initial seed
 	 */
 	public long getInitialSeed() {
-		return initialSeed;
+		return lane.get().seed;
 	}
 
 	/**
-	 * Returns the current sequence count (for debugging/testing).
+	 * Returns the current sequence count of the current thread (for debugging/testing).
 	 *
 	 * @return the current sequence count
 	 */
 	public long getCurrentSequence() {
-		return counter.get();
+		return lane.get().counter;
+	}
+
+	/**
+	 * Runs the given supplier with a seed and counters confined to this call.
+	 *
+	 * <p>While the supplier runs, every method of this state called on the current thread uses
+	 * the scoped seed and counters starting from {@code 0}, the state of the thread is neither read nor changed.
+	 * It makes a generation reproducible by its seed alone, regardless of the generations running
+	 * before. Scopes can be nested, the previous scope is restored afterwards.</p>
+	 *
+	 * @param seed     the seed of the scope
+	 * @param supplier the generation to run
+	 * @param <T>      the type of the result
+	 * @return the result of the supplier
+	 */
+	public <T> T callInScope(long seed, Supplier<T> supplier) {
+		Lane previous = lane.get();
+		lane.set(new Lane(seed, 0L, true));
+		try {
+			return supplier.get();
+		} finally {
+			lane.set(previous);
+		}
+	}
+
+	/**
+	 * Returns whether the current thread runs inside {@link #callInScope(long, Supplier)}.
+	 *
+	 * @return true if the current thread runs a scoped generation
+	 */
+	public boolean isScoped() {
+		return lane.get().scoped;
+	}
+
+	/**
+	 * The seed and counters of a thread, only accessed by the thread owning it.
+	 */
+	private static final class Lane {
+		private final long index;
+		private final boolean scoped;
+		private long seed;
+		private long counter;
+		private long containerSizeCounter;
+		private @Nullable Object generation;
+
+		/**
+		 * @param index the order in which the thread first used the state, the first thread keeps the seed as is
+		 */
+		private Lane(long seed, long index, boolean scoped) {
+			this.index = index;
+			this.seed = laneSeed(seed, index);
+			this.scoped = scoped;
+		}
+
+		private void reset(long newSeed) {
+			this.seed = laneSeed(newSeed, index);
+			this.counter = 0;
+			this.containerSizeCounter = 0;
+		}
+
+		private static long laneSeed(long seed, long index) {
+			return seed + index * LANE_SEED_INCREMENT;
+		}
 	}
 }
@@ -38,6 +38,7 @@ import org.jspecify.annotations.Nullable;
 import com.navercorp.objectfarm.api.type.JvmType;
 import com.navercorp.objectfarm.api.type.JvmTypes;
 import com.navercorp.objectfarm.api.type.Reflections;
+import com.navercorp.objectfarm.api.type.TypeMetadataIndex;
 
 public final class JavaFieldNodeCandidateGenerator implements JvmNodeCandidateGenerator {
 
@@ -94,6 +95,11 @@ public final class JavaFieldNodeCandidateGenerator implements JvmNodeCandidateGe
 	}
 
 	private static Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> clazz) {
+		Map<String, PropertyDescriptor> indexed = TypeMetadataIndex.findPropertyDescriptors(clazz);
+		if (indexed != null) {
+			return indexed;
+		}
+
 		try {
 			PropertyDescriptor[] descriptors = Introspector.getBeanInfo(clazz).getPropertyDescriptors();
 			Map<String, PropertyDescriptor> result = new HashMap<>(descriptors.length);
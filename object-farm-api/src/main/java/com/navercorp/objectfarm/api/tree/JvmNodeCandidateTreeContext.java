@@ -48,13 +48,24 @@ import com.navercorp.objectfarm.api.type.JvmType;
  * significantly reducing redundant computation.
  */
 public final class JvmNodeCandidateTreeContext {
-	private final Map<JvmType, SubtreeSnapshot> subtreeCache;
+	// Type-erased since SubtreeSnapshot is package-private
+	private final Map<JvmType, Object> subtreeCache;
 
 	/**
 	 * Creates a new JvmNodeCandidateTreeContext with the specified JvmNodeContext.
 	 */
 	public JvmNodeCandidateTreeContext() {
-		this.subtreeCache = new ConcurrentHashMap<>();
+		this(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Creates a context caching the subtrees in the given map.
+	 * A bounded concurrent map keeps the number of cached types bounded, an evicted subtree is built again.
+	 *
+	 * @param subtreeCache the thread-safe map backing the cache
+	 */
+	public JvmNodeCandidateTreeContext(Map<JvmType, Object> subtreeCache) {
+		this.subtreeCache = subtreeCache;
 	}
 
 	/**
@@ -65,7 +76,7 @@ public final class JvmNodeCandidateTreeContext {
 	 */
 	@Nullable
 	SubtreeSnapshot getCachedSubtree(JvmType jvmType) {
-		return subtreeCache.get(jvmType);
+		return (SubtreeSnapshot)subtreeCache.get(jvmType);
 	}
 
 	/**
@@ -93,6 +104,27 @@ public final class JvmNodeCandidateTreeContext {
 		subtreeCache.putIfAbsent(jvmType, snapshot);
 	}
 
+	/**
+	 * Returns a copy of the cached subtree snapshots by their type.
+	 *
+	 * @return the cached snapshots
+	 */
+	Map<JvmType, SubtreeSnapshot> getCachedSubtrees() {
+		Map<JvmType, SubtreeSnapshot> subtrees = new HashMap<>();
+		subtreeCache.forEach((jvmType, snapshot) -> subtrees.put(jvmType, (SubtreeSnapshot)snapshot));
+		return subtrees;
+	}
+
+	/**
+	 * Restores a subtree snapshot built by another context, keeping the snapshot already cached for the type.
+	 *
+	 * @param jvmType the type to cache
+	 * @param snapshot the snapshot to restore
+	 */
+	void restoreSubtree(JvmType jvmType, SubtreeSnapshot snapshot) {
+		subtreeCache.putIfAbsent(jvmType, snapshot);
+	}
+
 	/**
 	 * Clears all cached subtree information.
 	 * Useful when generator configurations change or when memory needs to be freed.
@@ -0,0 +1,895 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.tree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.objectfarm.api.nodecandidate.ConstructorParamCreationMethod;
+import com.navercorp.objectfarm.api.nodecandidate.ContainerElementCreationMethod;
+import com.navercorp.objectfarm.api.nodecandidate.CreationMethod;
+import com.navercorp.objectfarm.api.nodecandidate.FieldAccessCreationMethod;
+import com.navercorp.objectfarm.api.nodecandidate.JavaNodeCandidate;
+import com.navercorp.objectfarm.api.nodecandidate.JvmNodeCandidate;
+import com.navercorp.objectfarm.api.nodecandidate.MethodInvocationCreationMethod;
+import com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeContext.SubtreeSnapshot;
+import com.navercorp.objectfarm.api.type.JvmType;
+import com.navercorp.objectfarm.api.type.ReflectiveJvmType;
+
+/**
+ * Persists the subtree snapshots of {@link JvmNodeCandidateTreeContext} in a compact binary form,
+ * so that another JVM can restore them instead of generating the candidate trees again.
+ * <p>
+ * The file consists of a header, a string table and a class table holding a CRC-32 of the class file of every
+ * class the snapshots refer to, followed by the annotation, type, candidate and snapshot tables referring to
+ * the previous entries by their index. A snapshot is restored only if every class it refers to is loaded
+ * from the same class file, so the snapshots of a changed class are invalidated automatically.
+ * Classes of the JDK are validated by the Java version written in the header instead.
+ * <p>
+ * Only the snapshots made of {@link JavaNodeCandidate}s of {@link ReflectiveJvmType}s are persisted,
+ * the others are generated again by the next JVM. Annotations are persisted as a reference to the field,
+ * method or parameter declaring them.
+ * <p>
+ * The header also holds a fingerprint of the configuration that built the candidate trees, given by the caller.
+ * A file written for another configuration restores nothing, so the snapshots of other candidate generators
+ * are never restored.
+ */
+public final class JvmNodeCandidateTreeSnapshots {
+	private static final int MAGIC = 0x464d4354;
+	private static final int VERSION = 2;
+
+	private static final int CREATION_NONE = 0;
+	private static final int CREATION_FIELD = 1;
+	private static final int CREATION_CONSTRUCTOR = 2;
+	private static final int CREATION_METHOD = 3;
+	private static final int CREATION_CONTAINER_ELEMENT = 4;
+
+	private static final int SOURCE_FIELD = 1;
+	private static final int SOURCE_METHOD = 2;
+	private static final int SOURCE_METHOD_PARAMETER = 3;
+	private static final int SOURCE_CONSTRUCTOR_PARAMETER = 4;
+
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES_BY_NAME = new HashMap<>();
+
+	static {
+		for (Class<?> primitiveType : new Class<?>[] {
+			boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+			void.class
+		}) {
+			PRIMITIVE_TYPES_BY_NAME.put(primitiveType.getName(), primitiveType);
+		}
+	}
+
+	private JvmNodeCandidateTreeSnapshots() {
+	}
+
+	/**
+	 * Writes the subtree snapshots of the given contexts to the file, replacing it atomically if possible.
+	 * If more than one context caches a snapshot of the same type, the first one is written.
+	 *
+	 * @param contexts                 the contexts to persist, built by the same configuration
+	 * @param file                     the file to write
+	 * @param configurationFingerprint the fingerprint of the configuration that built the candidate trees
+	 * @return the number of snapshots written
+	 * @throws IOException if the file could not be written
+	 */
+	public static int write(
+		Collection<JvmNodeCandidateTreeContext> contexts,
+		Path file,
+		long configurationFingerprint
+	) throws IOException {
+		Map<JvmType, SubtreeSnapshot> snapshotsByType = new HashMap<>();
+		for (JvmNodeCandidateTreeContext context : contexts) {
+			for (Entry<JvmType, SubtreeSnapshot> entry : context.getCachedSubtrees().entrySet()) {
+				snapshotsByType.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+		}
+
+		Encoder encoder = new Encoder(snapshotsByType, configurationFingerprint);
+		for (Entry<JvmType, SubtreeSnapshot> entry : snapshotsByType.entrySet()) {
+			encoder.writeSnapshot(entry.getKey(), entry.getValue());
+		}
+
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temporaryFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+				encoder.writeTo(outputStream);
+			}
+			try {
+				Files.move(
+					temporaryFile,
+					file,
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE
+				);
+			} catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+		return encoder.snapshotCount;
+	}
+
+	/**
+	 * Restores the subtree snapshots of the file into the given context. The file is memory-mapped.
+	 * Snapshots referring to a class that can not be loaded or whose class file has changed are skipped,
+	 * a file written by another version of the format or of the JDK, or for another configuration restores nothing.
+	 *
+	 * @param context                  the context to restore the snapshots into
+	 * @param file                     the file to read
+	 * @param classLoader              the class loader to load the classes the snapshots refer to
+	 * @param configurationFingerprint the fingerprint of the configuration of the context
+	 * @return the number of snapshots restored
+	 * @throws IOException if the file could not be read
+	 */
+	public static int read(
+		JvmNodeCandidateTreeContext context,
+		Path file,
+		ClassLoader classLoader,
+		long configurationFingerprint
+	) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+
+		Map<JvmType, SubtreeSnapshot> snapshotsByType;
+		try {
+			snapshotsByType = new Decoder(buffer, classLoader, configurationFingerprint).readSnapshots();
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException ex) {
+			// a truncated or corrupted file is treated as an empty cache
+			return 0;
+		}
+
+		for (Entry<JvmType, SubtreeSnapshot> entry : snapshotsByType.entrySet()) {
+			context.restoreSubtree(entry.getKey(), entry.getValue());
+		}
+		return snapshotsByType.size();
+	}
+
+	/**
+	 * Returns the CRC-32 of the class file of the given class, 0 for the classes of the JDK
+	 * or -1 if the class file is not available, for example for a class generated at runtime.
+	 */
+	private static long classFileHash(Class<?> type) {
+		Class<?> elementType = type;
+		while (elementType.isArray()) {
+			elementType = elementType.getComponentType();
+		}
+
+		ClassLoader classLoader = elementType.getClassLoader();
+		if (elementType.isPrimitive() || classLoader == null) {
+			return 0L;
+		}
+
+		try (InputStream inputStream = classLoader.getResourceAsStream(
+			elementType.getName().replace('.', '/') + ".class"
+		)) {
+			if (inputStream == null) {
+				return -1L;
+			}
+
+			CRC32 crc = new CRC32();
+			byte[] chunk = new byte[8192];
+			int read;
+			while ((read = inputStream.read(chunk)) != -1) {
+				crc.update(chunk, 0, read);
+			}
+			return crc.getValue();
+		} catch (IOException ex) {
+			return -1L;
+		}
+	}
+
+	private static final class Encoder {
+		private final long configurationFingerprint;
+		private final Map<String, Integer> stringIds = new HashMap<>();
+		private final Map<Class<?>, Integer> classIds = new HashMap<>();
+		private final Map<Annotation, Integer> annotationIds = new HashMap<>();
+		private final Map<JvmType, Integer> typeIds = new IdentityHashMap<>();
+		private final Map<JvmNodeCandidate, Integer> candidateIds = new IdentityHashMap<>();
+		private final Map<Annotation, AnnotationSource> annotationSources = new HashMap<>();
+		private final Set<Class<?>> scannedTypes = new HashSet<>();
+
+		private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream classes = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream annotations = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream types = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream candidates = new ByteArrayOutputStream();
+		private final ByteArrayOutputStream snapshots = new ByteArrayOutputStream();
+		private int snapshotCount;
+
+		Encoder(Map<JvmType, SubtreeSnapshot> snapshotsByType, long configurationFingerprint) {
+			this.configurationFingerprint = configurationFingerprint;
+			// annotations are found by the members of the types the candidates are declared in or refer to
+			for (Entry<JvmType, SubtreeSnapshot> entry : snapshotsByType.entrySet()) {
+				scan(entry.getKey().getRawType());
+				for (List<JvmNodeCandidate> children : entry.getValue().getParentChildMap().values()) {
+					for (JvmNodeCandidate child : children) {
+						scan(child.getType().getRawType());
+						Class<?> declaringType = declaringType(child.getCreationMethod());
+						if (declaringType != null) {
+							scan(declaringType);
+						}
+					}
+				}
+			}
+		}
+
+		void writeSnapshot(JvmType type, SubtreeSnapshot snapshot) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			try {
+				writeVarInt(output, typeId(type));
+				List<JvmNodeCandidate> children = snapshot.getChildren();
+				writeVarInt(output, children.size());
+				for (JvmNodeCandidate child : children) {
+					writeVarInt(output, candidateId(child));
+				}
+
+				Map<JvmNodeCandidate, List<JvmNodeCandidate>> parentChildMap = snapshot.getParentChildMap();
+				writeVarInt(output, parentChildMap.size());
+				for (Entry<JvmNodeCandidate, List<JvmNodeCandidate>> entry : parentChildMap.entrySet()) {
+					writeVarInt(output, candidateId(entry.getKey()));
+					writeVarInt(output, entry.getValue().size());
+					for (JvmNodeCandidate child : entry.getValue()) {
+						writeVarInt(output, candidateId(child));
+					}
+				}
+			} catch (UnencodableException ex) {
+				// the entries already written for the snapshot are complete and left unreferenced
+				return;
+			}
+
+			bytes.writeTo(snapshots);
+			snapshotCount++;
+		}
+
+		void writeTo(OutputStream outputStream) throws IOException {
+			DataOutputStream output = new DataOutputStream(outputStream);
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			writeString(output, System.getProperty("java.version", ""));
+			output.writeLong(configurationFingerprint);
+
+			writeSection(output, stringIds.size(), strings);
+			writeSection(output, classIds.size(), classes);
+			writeSection(output, annotationIds.size(), annotations);
+			writeSection(output, typeIds.size(), types);
+			writeSection(output, candidateIds.size(), candidates);
+			writeSection(output, snapshotCount, snapshots);
+			output.flush();
+		}
+
+		private void writeSection(DataOutputStream output, int count, ByteArrayOutputStream section)
+			throws IOException {
+			writeVarInt(output, count);
+			section.writeTo(output);
+		}
+
+		private int candidateId(JvmNodeCandidate candidate) throws IOException {
+			Integer id = candidateIds.get(candidate);
+			if (id != null) {
+				return id;
+			}
+			if (candidate.getClass() != JavaNodeCandidate.class) {
+				throw new UnencodableException();
+			}
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			writeVarInt(output, typeId(candidate.getType()));
+			String name = candidate.getName();
+			writeVarInt(output, name == null ? 0 : stringId(name) + 1);
+			writeCreationMethod(output, candidate.getCreationMethod());
+
+			bytes.writeTo(candidates);
+			id = candidateIds.size();
+			candidateIds.put(candidate, id);
+			return id;
+		}
+
+		private void writeCreationMethod(DataOutputStream output, @Nullable CreationMethod creationMethod)
+			throws IOException {
+			if (creationMethod == null) {
+				output.writeByte(CREATION_NONE);
+			} else if (creationMethod.getClass() == FieldAccessCreationMethod.class) {
+				Field field = ((FieldAccessCreationMethod)creationMethod).getField();
+				output.writeByte(CREATION_FIELD);
+				writeVarInt(output, classId(field.getDeclaringClass()));
+				writeVarInt(output, stringId(field.getName()));
+			} else if (creationMethod.getClass() == ConstructorParamCreationMethod.class) {
+				ConstructorParamCreationMethod constructorParam = (ConstructorParamCreationMethod)creationMethod;
+				Constructor<?> constructor = constructorParam.getConstructor();
+				output.writeByte(CREATION_CONSTRUCTOR);
+				writeVarInt(output, classId(constructor.getDeclaringClass()));
+				writeClassIds(output, constructor.getParameterTypes());
+				writeVarInt(output, constructorParam.getParameterIndex());
+			} else if (creationMethod.getClass() == MethodInvocationCreationMethod.class) {
+				Method method = ((MethodInvocationCreationMethod)creationMethod).getMethod();
+				output.writeByte(CREATION_METHOD);
+				writeVarInt(output, classId(method.getDeclaringClass()));
+				writeVarInt(output, stringId(method.getName()));
+				writeClassIds(output, method.getParameterTypes());
+			} else if (creationMethod.getClass() == ContainerElementCreationMethod.class) {
+				output.writeByte(CREATION_CONTAINER_ELEMENT);
+				writeVarInt(output, ((ContainerElementCreationMethod)creationMethod).getIndex());
+			} else {
+				throw new UnencodableException();
+			}
+		}
+
+		private int typeId(JvmType type) throws IOException {
+			Integer id = typeIds.get(type);
+			if (id != null) {
+				return id;
+			}
+			if (type.getClass() != ReflectiveJvmType.class) {
+				throw new UnencodableException();
+			}
+
+			List<Integer> typeVariableIds = new ArrayList<>();
+			for (JvmType typeVariable : type.getTypeVariables()) {
+				typeVariableIds.add(typeId(typeVariable));
+			}
+			List<Integer> annotationIdsOfType = new ArrayList<>();
+			for (Annotation annotation : type.getAnnotations()) {
+				annotationIdsOfType.add(annotationId(annotation));
+			}
+			JvmType componentType = type.getComponentType();
+			int componentTypeId = componentType == null ? 0 : typeId(componentType) + 1;
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			writeVarInt(output, classId(type.getRawType()));
+			writeIds(output, typeVariableIds);
+			writeIds(output, annotationIdsOfType);
+			writeVarInt(output, componentTypeId);
+			Boolean nullable = type.getNullable();
+			output.writeByte(nullable == null ? 0 : nullable ? 2 : 1);
+
+			bytes.writeTo(types);
+			id = typeIds.size();
+			typeIds.put(type, id);
+			return id;
+		}
+
+		private int annotationId(Annotation annotation) throws IOException {
+			Integer id = annotationIds.get(annotation);
+			if (id != null) {
+				return id;
+			}
+			AnnotationSource source = annotationSources.get(annotation);
+			if (source == null) {
+				throw new UnencodableException();
+			}
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream output = new DataOutputStream(bytes);
+			writeVarInt(output, classId(annotation.annotationType()));
+			output.writeByte(source.kind);
+			writeVarInt(output, classId(source.declaringType));
+			writeVarInt(output, stringId(source.name));
+			writeClassIds(output, source.parameterTypes);
+			writeVarInt(output, source.parameterIndex);
+
+			bytes.writeTo(annotations);
+			id = annotationIds.size();
+			annotationIds.put(annotation, id);
+			return id;
+		}
+
+		private int classId(Class<?> type) throws IOException {
+			Integer id = classIds.get(type);
+			if (id != null) {
+				return id;
+			}
+			long hash = classFileHash(type);
+			if (hash == -1L) {
+				throw new UnencodableException();
+			}
+
+			int nameId = stringId(type.getName());
+			DataOutputStream output = new DataOutputStream(classes);
+			writeVarInt(output, nameId);
+			output.writeLong(hash);
+			id = classIds.size();
+			classIds.put(type, id);
+			return id;
+		}
+
+		private int stringId(String value) throws IOException {
+			Integer id = stringIds.get(value);
+			if (id != null) {
+				return id;
+			}
+			writeString(new DataOutputStream(strings), value);
+			id = stringIds.size();
+			stringIds.put(value, id);
+			return id;
+		}
+
+		private void writeClassIds(DataOutputStream output, Class<?>[] types) throws IOException {
+			List<Integer> ids = new ArrayList<>(types.length);
+			for (Class<?> type : types) {
+				ids.add(classId(type));
+			}
+			writeIds(output, ids);
+		}
+
+		private static void writeIds(DataOutputStream output, List<Integer> ids) throws IOException {
+			writeVarInt(output, ids.size());
+			for (int id : ids) {
+				writeVarInt(output, id);
+			}
+		}
+
+		private void scan(Class<?> type) {
+			Class<?> current = type;
+			while (current != null && current != Object.class && current.getClassLoader() != null
+				&& scannedTypes.add(current)) {
+				try {
+					for (Field field : current.getDeclaredFields()) {
+						putSources(field.getAnnotations(), SOURCE_FIELD, current, field.getName(), new Class<?>[0], 0);
+					}
+					for (Method method : current.getDeclaredMethods()) {
+						String name = method.getName();
+						Class<?>[] parameterTypes = method.getParameterTypes();
+						putSources(method.getAnnotations(), SOURCE_METHOD, current, name, parameterTypes, 0);
+						Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+						for (int i = 0; i < parameterAnnotations.length; i++) {
+							putSources(
+								parameterAnnotations[i],
+								SOURCE_METHOD_PARAMETER,
+								current,
+								name,
+								parameterTypes,
+								i
+							);
+						}
+					}
+					for (Constructor<?> constructor : current.getDeclaredConstructors()) {
+						Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+						for (int i = 0; i < parameterAnnotations.length; i++) {
+							putSources(
+								parameterAnnotations[i],
+								SOURCE_CONSTRUCTOR_PARAMETER,
+								current,
+								"",
+								constructor.getParameterTypes(),
+								i
+							);
+						}
+					}
+				} catch (LinkageError ex) {
+					// a member refers to a class missing at runtime, its annotations are left unencodable
+				}
+				current = current.getSuperclass();
+			}
+		}
+
+		private void putSources(
+			Annotation[] annotations,
+			int kind,
+			Class<?> declaringType,
+			String name,
+			Class<?>[] parameterTypes,
+			int parameterIndex
+		) {
+			for (Annotation annotation : annotations) {
+				annotationSources.putIfAbsent(
+					annotation,
+					new AnnotationSource(kind, declaringType, name, parameterTypes, parameterIndex)
+				);
+			}
+		}
+
+		@Nullable
+		private static Class<?> declaringType(@Nullable CreationMethod creationMethod) {
+			if (creationMethod instanceof FieldAccessCreationMethod) {
+				return ((FieldAccessCreationMethod)creationMethod).getField().getDeclaringClass();
+			}
+			if (creationMethod instanceof ConstructorParamCreationMethod) {
+				return ((ConstructorParamCreationMethod)creationMethod).getConstructor().getDeclaringClass();
+			}
+			if (creationMethod instanceof MethodInvocationCreationMethod) {
+				return ((MethodInvocationCreationMethod)creationMethod).getMethod().getDeclaringClass();
+			}
+			return null;
+		}
+
+		private static void writeString(DataOutputStream output, String value) throws IOException {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(output, bytes.length);
+			output.write(bytes);
+		}
+
+		private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+			int remaining = value;
+			while ((remaining & ~0x7F) != 0) {
+				output.writeByte((remaining & 0x7F) | 0x80);
+				remaining >>>= 7;
+			}
+			output.writeByte(remaining);
+		}
+	}
+
+	private static final class Decoder {
+		private final ByteBuffer buffer;
+		private final ClassLoader classLoader;
+		private final long configurationFingerprint;
+
+		private String[] strings = new String[0];
+		private @Nullable Class<?>[] classes = new Class<?>[0];
+		private @Nullable Annotation[] annotations = new Annotation[0];
+		private @Nullable JvmType[] types = new JvmType[0];
+		private @Nullable JvmNodeCandidate[] candidates = new JvmNodeCandidate[0];
+
+		Decoder(ByteBuffer buffer, ClassLoader classLoader, long configurationFingerprint) {
+			this.buffer = buffer;
+			this.classLoader = classLoader;
+			this.configurationFingerprint = configurationFingerprint;
+		}
+
+		Map<JvmType, SubtreeSnapshot> readSnapshots() {
+			Map<JvmType, SubtreeSnapshot> snapshotsByType = new HashMap<>();
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+				|| !readString().equals(System.getProperty("java.version", ""))
+				|| buffer.getLong() != configurationFingerprint) {
+				return snapshotsByType;
+			}
+
+			strings = new String[readVarInt()];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = readString();
+			}
+
+			classes = new Class<?>[readVarInt()];
+			for (int i = 0; i < classes.length; i++) {
+				classes[i] = readClass();
+			}
+
+			annotations = new Annotation[readVarInt()];
+			for (int i = 0; i < annotations.length; i++) {
+				annotations[i] = readAnnotation();
+			}
+
+			types = new JvmType[readVarInt()];
+			for (int i = 0; i < types.length; i++) {
+				types[i] = readType();
+			}
+
+			candidates = new JvmNodeCandidate[readVarInt()];
+			for (int i = 0; i < candidates.length; i++) {
+				candidates[i] = readCandidate();
+			}
+
+			int snapshotCount = readVarInt();
+			for (int i = 0; i < snapshotCount; i++) {
+				JvmType type = types[readVarInt()];
+				List<JvmNodeCandidate> children = readCandidates();
+				int parentCount = readVarInt();
+				Map<JvmNodeCandidate, List<JvmNodeCandidate>> parentChildMap = new HashMap<>(parentCount * 2);
+				boolean valid = true;
+				for (int j = 0; j < parentCount; j++) {
+					JvmNodeCandidate parent = candidates[readVarInt()];
+					List<JvmNodeCandidate> parentChildren = readCandidates();
+					if (parent == null || parentChildren == null) {
+						valid = false;
+					} else {
+						parentChildMap.put(parent, parentChildren);
+					}
+				}
+
+				if (valid && type != null && children != null) {
+					snapshotsByType.put(type, new SubtreeSnapshot(children, parentChildMap));
+				}
+			}
+			return snapshotsByType;
+		}
+
+		@Nullable
+		private List<JvmNodeCandidate> readCandidates() {
+			int count = readVarInt();
+			List<JvmNodeCandidate> result = new ArrayList<>(count);
+			boolean valid = true;
+			for (int i = 0; i < count; i++) {
+				JvmNodeCandidate candidate = candidates[readVarInt()];
+				if (candidate == null) {
+					valid = false;
+				} else {
+					result.add(candidate);
+				}
+			}
+			return valid ? result : null;
+		}
+
+		@Nullable
+		private JvmNodeCandidate readCandidate() {
+			JvmType type = types[readVarInt()];
+			int nameId = readVarInt();
+			@Nullable String name = nameId == 0 ? null : strings[nameId - 1];
+
+			CreationMethod creationMethod = null;
+			boolean valid = true;
+			int kind = buffer.get();
+			try {
+				switch (kind) {
+					case CREATION_NONE:
+						break;
+					case CREATION_FIELD: {
+						Class<?> declaringType = classes[readVarInt()];
+						String fieldName = strings[readVarInt()];
+						if (declaringType == null) {
+							valid = false;
+						} else {
+							creationMethod = new FieldAccessCreationMethod(declaringType.getDeclaredField(fieldName));
+						}
+						break;
+					}
+					case CREATION_CONSTRUCTOR: {
+						Class<?> declaringType = classes[readVarInt()];
+						Class<?>[] parameterTypes = readClasses();
+						int parameterIndex = readVarInt();
+						if (declaringType == null || parameterTypes == null) {
+							valid = false;
+						} else {
+							creationMethod = new ConstructorParamCreationMethod(
+								declaringType.getDeclaredConstructor(parameterTypes),
+								parameterIndex
+							);
+						}
+						break;
+					}
+					case CREATION_METHOD: {
+						Class<?> declaringType = classes[readVarInt()];
+						String methodName = strings[readVarInt()];
+						Class<?>[] parameterTypes = readClasses();
+						if (declaringType == null || parameterTypes == null) {
+							valid = false;
+						} else {
+							creationMethod = new MethodInvocationCreationMethod(
+								declaringType.getDeclaredMethod(methodName, parameterTypes)
+							);
+						}
+						break;
+					}
+					case CREATION_CONTAINER_ELEMENT:
+						creationMethod = new ContainerElementCreationMethod(readVarInt());
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown creation method kind: " + kind);
+				}
+			} catch (NoSuchFieldException | NoSuchMethodException | LinkageError ex) {
+				valid = false;
+			}
+
+			if (!valid || type == null) {
+				return null;
+			}
+			return new JavaNodeCandidate(type, name, creationMethod);
+		}
+
+		@Nullable
+		private JvmType readType() {
+			Class<?> rawType = classes[readVarInt()];
+			List<JvmType> typeVariables = new ArrayList<>();
+			boolean valid = true;
+			int typeVariableCount = readVarInt();
+			for (int i = 0; i < typeVariableCount; i++) {
+				JvmType typeVariable = types[readVarInt()];
+				if (typeVariable == null) {
+					valid = false;
+				} else {
+					typeVariables.add(typeVariable);
+				}
+			}
+			List<Annotation> annotationsOfType = new ArrayList<>();
+			int annotationCount = readVarInt();
+			for (int i = 0; i < annotationCount; i++) {
+				Annotation annotation = annotations[readVarInt()];
+				if (annotation == null) {
+					valid = false;
+				} else {
+					annotationsOfType.add(annotation);
+				}
+			}
+			int componentTypeId = readVarInt();
+			JvmType componentType = componentTypeId == 0 ? null : types[componentTypeId - 1];
+			valid &= componentTypeId == 0 || componentType != null;
+			int nullable = buffer.get();
+
+			if (!valid || rawType == null) {
+				return null;
+			}
+			return new ReflectiveJvmType(
+				rawType,
+				typeVariables,
+				annotationsOfType,
+				componentType,
+				nullable == 0 ? null : nullable == 2
+			);
+		}
+
+		@Nullable
+		@SuppressWarnings("unchecked")
+		private Annotation readAnnotation() {
+			Class<?> annotationType = classes[readVarInt()];
+			int kind = buffer.get();
+			Class<?> declaringType = classes[readVarInt()];
+			String name = strings[readVarInt()];
+			Class<?>[] parameterTypes = readClasses();
+			int parameterIndex = readVarInt();
+			if (annotationType == null || declaringType == null || parameterTypes == null
+				|| !annotationType.isAnnotation()) {
+				return null;
+			}
+
+			Class<? extends Annotation> type = (Class<? extends Annotation>)annotationType;
+			try {
+				switch (kind) {
+					case SOURCE_FIELD:
+						return declaringType.getDeclaredField(name).getAnnotation(type);
+					case SOURCE_METHOD:
+						return declaringType.getDeclaredMethod(name, parameterTypes).getAnnotation(type);
+					case SOURCE_METHOD_PARAMETER:
+						return find(
+							declaringType.getDeclaredMethod(name, parameterTypes).getParameterAnnotations(),
+							parameterIndex,
+							type
+						);
+					case SOURCE_CONSTRUCTOR_PARAMETER:
+						return find(
+							declaringType.getDeclaredConstructor(parameterTypes).getParameterAnnotations(),
+							parameterIndex,
+							type
+						);
+					default:
+						throw new IllegalArgumentException("Unknown annotation source kind: " + kind);
+				}
+			} catch (NoSuchFieldException | NoSuchMethodException | LinkageError ex) {
+				return null;
+			}
+		}
+
+		@Nullable
+		private static Annotation find(
+			Annotation[][] parameterAnnotations,
+			int parameterIndex,
+			Class<? extends Annotation> type
+		) {
+			if (parameterIndex >= parameterAnnotations.length) {
+				return null;
+			}
+			for (Annotation annotation : parameterAnnotations[parameterIndex]) {
+				if (annotation.annotationType() == type) {
+					return annotation;
+				}
+			}
+			return null;
+		}
+
+		@Nullable
+		private Class<?> readClass() {
+			String name = strings[readVarInt()];
+			long hash = buffer.getLong();
+
+			Class<?> type = PRIMITIVE_TYPES_BY_NAME.get(name);
+			if (type != null) {
+				return type;
+			}
+
+			try {
+				type = Class.forName(name, false, classLoader);
+			} catch (ClassNotFoundException | LinkageError ex) {
+				return null;
+			}
+			return classFileHash(type) == hash ? type : null;
+		}
+
+		private Class<?> @Nullable [] readClasses() {
+			Class<?>[] result = new Class<?>[readVarInt()];
+			boolean valid = true;
+			for (int i = 0; i < result.length; i++) {
+				result[i] = classes[readVarInt()];
+				valid &= result[i] != null;
+			}
+			return valid ? result : null;
+		}
+
+		private String readString() {
+			byte[] bytes = new byte[readVarInt()];
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private int readVarInt() {
+			int value = 0;
+			for (int shift = 0; shift < 32; shift += 7) {
+				byte read = buffer.get();
+				value |= (read & 0x7F) << shift;
+				if ((read & 0x80) == 0) {
+					if (value < 0) {
+						throw new IllegalArgumentException("Negative length or index: " + value);
+					}
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable-length integer");
+		}
+	}
+
+	private static final class AnnotationSource {
+		private final int kind;
+		private final Class<?> declaringType;
+		private final String name;
+		private final Class<?>[] parameterTypes;
+		private final int parameterIndex;
+
+		AnnotationSource(int kind, Class<?> declaringType, String name, Class<?>[] parameterTypes, int parameterIndex) {
+			this.kind = kind;
+			this.declaringType = declaringType;
+			this.name = name;
+			this.parameterTypes = parameterTypes;
+			this.parameterIndex = parameterIndex;
+		}
+	}
+
+	/**
+	 * Thrown while encoding a snapshot that refers to something the format can not represent.
+	 */
+	private static final class UnencodableException extends IOException {
+		UnencodableException() {
+			super(null, null);
+		}
+	}
+}
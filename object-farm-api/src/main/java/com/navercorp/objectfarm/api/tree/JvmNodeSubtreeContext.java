@@ -39,11 +39,26 @@ import com.navercorp.objectfarm.api.type.JvmType;
  * only dynamically expanding container nodes (whose sizes vary per call).
  */
 public final class JvmNodeSubtreeContext {
-	private final ConcurrentHashMap<JvmType, Snapshot> cache = new ConcurrentHashMap<>();
+	// Type-erased since Snapshot is package-private
+	private final Map<JvmType, Object> cache;
+
+	public JvmNodeSubtreeContext() {
+		this(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Creates a context caching the snapshots in the given map.
+	 * A bounded concurrent map keeps the number of cached types bounded, an evicted snapshot is captured again.
+	 *
+	 * @param cache the thread-safe map backing the cache
+	 */
+	public JvmNodeSubtreeContext(Map<JvmType, Object> cache) {
+		this.cache = cache;
+	}
 
 	@Nullable
 	Snapshot get(JvmType type) {
-		return cache.get(type);
+		return (Snapshot)cache.get(type);
 	}
 
 	void put(JvmType type, Snapshot snapshot) {
@@ -0,0 +1,294 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The metadata of a type recorded at build time by the {@code fixture-monkey-processor} annotation processor.
+ * <p>
+ * It holds what is otherwise discovered by reflection on first use of the type: the JavaBeans properties
+ * and the parameter names of the constructors. Members are recorded by name and resolved against the runtime
+ * class by {@link TypeMetadataIndex}, an entry that does not match the runtime class is ignored.
+ * The number of members is recorded as well, so that an entry left behind by a class changed since it was indexed
+ * is ignored even if its recorded members still resolve.
+ * <p>
+ * Example usage, as written by the generated provider:
+ * <pre>{@code
+ * TypeMetadata metadata = TypeMetadata.builder("com.example.Order")
+ *     .memberCount(3)
+ *     .beanProperty("id", "getId", "setId", "long")
+ *     .constructor(new String[] {"long", "java.lang.String"}, new String[] {"id", "name"})
+ *     .build();
+ * }</pre>
+ */
+public final class TypeMetadata {
+	public static final int UNKNOWN_MEMBER_COUNT = -1;
+
+	private final String typeName;
+	private final int memberCount;
+	private final boolean beanPropertiesIndexed;
+	private final List<BeanProperty> beanProperties;
+	private final List<ConstructorParameters> constructors;
+
+	private TypeMetadata(
+		String typeName,
+		int memberCount,
+		boolean beanPropertiesIndexed,
+		List<BeanProperty> beanProperties,
+		List<ConstructorParameters> constructors
+	) {
+		this.typeName = typeName;
+		this.memberCount = memberCount;
+		this.beanPropertiesIndexed = beanPropertiesIndexed;
+		this.beanProperties = beanProperties;
+		this.constructors = constructors;
+	}
+
+	/**
+	 * Creates a new builder for TypeMetadata.
+	 *
+	 * @param typeName the binary name of the type, as returned by {@link Class#getName()}
+	 * @return a new builder instance
+	 */
+	public static Builder builder(String typeName) {
+		return new Builder(typeName);
+	}
+
+	/**
+	 * Returns the binary name of the type.
+	 *
+	 * @return the type name
+	 */
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * Returns the number of the public instance methods declared by the type and its superclasses
+	 * and the constructors declared by the type, the synthetic ones excluded.
+	 *
+	 * @return the member count, or {@link #UNKNOWN_MEMBER_COUNT} if it is not recorded
+	 */
+	public int getMemberCount() {
+		return memberCount;
+	}
+
+	/**
+	 * Returns whether the bean properties are indexed.
+	 * They are not if the type has an explicit {@code BeanInfo} that only {@link java.beans.Introspector} honors.
+	 *
+	 * @return true if {@link #getBeanProperties()} can be used instead of introspection
+	 */
+	public boolean isBeanPropertiesIndexed() {
+		return beanPropertiesIndexed;
+	}
+
+	/**
+	 * Returns the JavaBeans properties of the type, the {@code class} property excluded.
+	 *
+	 * @return the bean properties
+	 */
+	public List<BeanProperty> getBeanProperties() {
+		return beanProperties;
+	}
+
+	/**
+	 * Returns the parameters of the constructors declaring at least one parameter.
+	 *
+	 * @return the constructor parameters
+	 */
+	public List<ConstructorParameters> getConstructors() {
+		return constructors;
+	}
+
+	/**
+	 * A JavaBeans property of an indexed type.
+	 */
+	public static final class BeanProperty {
+		private final String name;
+		@Nullable
+		private final String readMethodName;
+		@Nullable
+		private final String writeMethodName;
+		private final String propertyTypeName;
+
+		private BeanProperty(
+			String name,
+			@Nullable String readMethodName,
+			@Nullable String writeMethodName,
+			String propertyTypeName
+		) {
+			this.name = name;
+			this.readMethodName = readMethodName;
+			this.writeMethodName = writeMethodName;
+			this.propertyTypeName = propertyTypeName;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public @Nullable String getReadMethodName() {
+			return readMethodName;
+		}
+
+		public @Nullable String getWriteMethodName() {
+			return writeMethodName;
+		}
+
+		/**
+		 * Returns the binary name of the erased property type, as returned by {@link Class#getName()}.
+		 *
+		 * @return the property type name
+		 */
+		public String getPropertyTypeName() {
+			return propertyTypeName;
+		}
+	}
+
+	/**
+	 * The parameters of a constructor of an indexed type.
+	 */
+	public static final class ConstructorParameters {
+		private final List<String> parameterTypeNames;
+		private final List<String> parameterNames;
+
+		private ConstructorParameters(List<String> parameterTypeNames, List<String> parameterNames) {
+			this.parameterTypeNames = parameterTypeNames;
+			this.parameterNames = parameterNames;
+		}
+
+		/**
+		 * Returns the binary names of the erased parameter types, as returned by {@link Class#getName()}.
+		 *
+		 * @return the parameter type names
+		 */
+		public List<String> getParameterTypeNames() {
+			return parameterTypeNames;
+		}
+
+		/**
+		 * Returns the parameter names as declared in the source.
+		 *
+		 * @return the parameter names
+		 */
+		public List<String> getParameterNames() {
+			return parameterNames;
+		}
+	}
+
+	/**
+	 * Builder for creating TypeMetadata instances.
+	 */
+	public static final class Builder {
+		private final String typeName;
+		private int memberCount = UNKNOWN_MEMBER_COUNT;
+		private boolean beanPropertiesIndexed = true;
+		private final List<BeanProperty> beanProperties = new ArrayList<>();
+		private final List<ConstructorParameters> constructors = new ArrayList<>();
+
+		private Builder(String typeName) {
+			this.typeName = typeName;
+		}
+
+		/**
+		 * Sets the number of the members the type had when it was indexed.
+		 *
+		 * @param memberCount the member count, see {@link TypeMetadata#getMemberCount()}
+		 * @return this builder
+		 */
+		public Builder memberCount(int memberCount) {
+			this.memberCount = memberCount;
+			return this;
+		}
+
+		/**
+		 * Sets whether the bean properties are indexed.
+		 *
+		 * @param beanPropertiesIndexed false to leave the bean properties to introspection
+		 * @return this builder
+		 */
+		public Builder beanPropertiesIndexed(boolean beanPropertiesIndexed) {
+			this.beanPropertiesIndexed = beanPropertiesIndexed;
+			return this;
+		}
+
+		/**
+		 * Adds a bean property.
+		 *
+		 * @param name             the property name
+		 * @param readMethodName   the name of the getter, null if write-only
+		 * @param writeMethodName  the name of the setter, null if read-only
+		 * @param propertyTypeName the binary name of the erased property type
+		 * @return this builder
+		 */
+		public Builder beanProperty(
+			String name,
+			@Nullable String readMethodName,
+			@Nullable String writeMethodName,
+			String propertyTypeName
+		) {
+			this.beanProperties.add(new BeanProperty(name, readMethodName, writeMethodName, propertyTypeName));
+			return this;
+		}
+
+		/**
+		 * Adds the parameters of a constructor.
+		 *
+		 * @param parameterTypeNames the binary names of the erased parameter types
+		 * @param parameterNames     the parameter names, the same length as the types
+		 * @return this builder
+		 */
+		public Builder constructor(String[] parameterTypeNames, String[] parameterNames) {
+			if (parameterTypeNames.length != parameterNames.length) {
+				throw new IllegalArgumentException(
+					"Constructor parameter names should have the same size as the types. type: " + typeName
+				);
+			}
+			this.constructors.add(
+				new ConstructorParameters(
+					Collections.unmodifiableList(Arrays.asList(parameterTypeNames.clone())),
+					Collections.unmodifiableList(Arrays.asList(parameterNames.clone()))
+				)
+			);
+			return this;
+		}
+
+		/**
+		 * Builds the TypeMetadata instance.
+		 *
+		 * @return a new TypeMetadata instance
+		 */
+		public TypeMetadata build() {
+			return new TypeMetadata(
+				typeName,
+				memberCount,
+				beanPropertiesIndexed,
+				Collections.unmodifiableList(new ArrayList<>(beanProperties)),
+				Collections.unmodifiableList(new ArrayList<>(constructors))
+			);
+		}
+	}
+}
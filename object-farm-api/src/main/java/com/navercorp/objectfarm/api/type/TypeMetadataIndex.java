@@ -0,0 +1,221 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.type;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.objectfarm.api.type.TypeMetadata.BeanProperty;
+import com.navercorp.objectfarm.api.type.TypeMetadata.ConstructorParameters;
+
+/**
+ * Looks up the {@link TypeMetadata} recorded at build time.
+ * <p>
+ * The {@link TypeMetadataProvider}s are loaded once by {@link ServiceLoader} on first use.
+ * Every lookup returns null when no provider indexed the type or the recorded members can not be resolved
+ * against the runtime class, the caller falls back to reflection then.
+ * An entry whose recorded member count differs from the runtime class is stale, it is ignored as if the type
+ * was not indexed.
+ */
+public abstract class TypeMetadataIndex {
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES_BY_NAME;
+
+	static {
+		Map<String, Class<?>> primitiveTypesByName = new HashMap<>();
+		for (Class<?> primitiveType : new Class<?>[] {
+			boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+		}) {
+			primitiveTypesByName.put(primitiveType.getName(), primitiveType);
+		}
+		PRIMITIVE_TYPES_BY_NAME = Collections.unmodifiableMap(primitiveTypesByName);
+	}
+
+	/**
+	 * Returns the metadata of the given type.
+	 *
+	 * @param type the type to look up
+	 * @return the metadata, or null if no provider indexed the type or the type changed since it was indexed
+	 */
+	public static @Nullable TypeMetadata find(Class<?> type) {
+		TypeMetadata metadata = MetadataHolder.METADATA_BY_TYPE_NAME.get(type.getName());
+		if (metadata == null || isStale(metadata, type)) {
+			return null;
+		}
+		return metadata;
+	}
+
+	/**
+	 * Returns the JavaBeans properties of the given type by the property name,
+	 * resolved from the index instead of {@link java.beans.Introspector}.
+	 * Unlike the introspector, it does not include the {@code class} property of {@link Object#getClass()}.
+	 *
+	 * @param type the type to look up
+	 * @return the property descriptors, or null if the type is not indexed or the index does not match it
+	 */
+	public static @Nullable Map<String, PropertyDescriptor> findPropertyDescriptors(Class<?> type) {
+		TypeMetadata metadata = find(type);
+		if (metadata == null || !metadata.isBeanPropertiesIndexed()) {
+			return null;
+		}
+
+		Map<String, PropertyDescriptor> result = new HashMap<>(metadata.getBeanProperties().size());
+		try {
+			for (BeanProperty beanProperty : metadata.getBeanProperties()) {
+				Method readMethod = null;
+				String readMethodName = beanProperty.getReadMethodName();
+				if (readMethodName != null) {
+					readMethod = type.getMethod(readMethodName);
+				}
+
+				Method writeMethod = null;
+				String writeMethodName = beanProperty.getWriteMethodName();
+				if (writeMethodName != null) {
+					Class<?> propertyType = readMethod != null
+						? readMethod.getReturnType()
+						: loadType(beanProperty.getPropertyTypeName(), type.getClassLoader());
+					writeMethod = type.getMethod(writeMethodName, propertyType);
+				}
+
+				String name = beanProperty.getName();
+				result.put(name, new PropertyDescriptor(name, readMethod, writeMethod));
+			}
+		} catch (NoSuchMethodException | ClassNotFoundException | IntrospectionException | LinkageError ex) {
+			return null;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the parameter names of the given constructor as declared in the source.
+	 * It provides the names even if the class is compiled without {@code -parameters}.
+	 *
+	 * @param constructor the constructor to look up
+	 * @return the parameter names, or null if the constructor is not indexed
+	 */
+	public static String @Nullable [] findParameterNames(Constructor<?> constructor) {
+		TypeMetadata metadata = find(constructor.getDeclaringClass());
+		if (metadata == null) {
+			return null;
+		}
+
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for (ConstructorParameters candidate : metadata.getConstructors()) {
+			if (matches(candidate.getParameterTypeNames(), parameterTypes)) {
+				return candidate.getParameterNames().toArray(new String[0]);
+			}
+		}
+		return null;
+	}
+
+	private static boolean isStale(TypeMetadata metadata, Class<?> type) {
+		int memberCount = metadata.getMemberCount();
+		if (memberCount == TypeMetadata.UNKNOWN_MEMBER_COUNT) {
+			return false;
+		}
+
+		try {
+			return memberCount != countMembers(type);
+		} catch (LinkageError ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * Counts the members as the processor does, see {@link TypeMetadata#getMemberCount()}.
+	 */
+	private static int countMembers(Class<?> type) {
+		int count = 0;
+		for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+			if (!constructor.isSynthetic()) {
+				count++;
+			}
+		}
+
+		Class<?> current = type;
+		while (current != null && current != Object.class) {
+			for (Method method : current.getDeclaredMethods()) {
+				int modifiers = method.getModifiers();
+				if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && !method.isSynthetic()) {
+					count++;
+				}
+			}
+			current = current.getSuperclass();
+		}
+		return count;
+	}
+
+	private static boolean matches(List<String> parameterTypeNames, Class<?>[] parameterTypes) {
+		if (parameterTypeNames.size() != parameterTypes.length) {
+			return false;
+		}
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (!parameterTypeNames.get(i).equals(parameterTypes[i].getName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Class<?> loadType(String typeName, @Nullable ClassLoader classLoader) throws ClassNotFoundException {
+		Class<?> primitiveType = PRIMITIVE_TYPES_BY_NAME.get(typeName);
+		if (primitiveType != null) {
+			return primitiveType;
+		}
+		return Class.forName(typeName, false, classLoader);
+	}
+
+	private static Map<String, TypeMetadata> load() {
+		Map<String, TypeMetadata> metadataByTypeName = new HashMap<>();
+		Iterator<TypeMetadataProvider> providers = ServiceLoader.load(TypeMetadataProvider.class).iterator();
+		while (true) {
+			TypeMetadataProvider provider;
+			try {
+				if (!providers.hasNext()) {
+					break;
+				}
+				provider = providers.next();
+			} catch (ServiceConfigurationError ex) {
+				// a provider that can not be loaded leaves its types to reflection.
+				continue;
+			}
+
+			for (TypeMetadata metadata : provider.getTypeMetadata()) {
+				metadataByTypeName.put(metadata.getTypeName(), metadata);
+			}
+		}
+		return metadataByTypeName;
+	}
+
+	private static final class MetadataHolder {
+		private static final Map<String, TypeMetadata> METADATA_BY_TYPE_NAME = load();
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.type;
+
+import java.util.Collection;
+
+/**
+ * Provides the {@link TypeMetadata} recorded at build time.
+ * <p>
+ * Implementations are generated by the {@code fixture-monkey-processor} annotation processor, one per compilation,
+ * and registered in {@code META-INF/services} to be found by {@link TypeMetadataIndex}.
+ */
+public interface TypeMetadataProvider {
+	/**
+	 * Returns the metadata of the types this provider indexed.
+	 *
+	 * @return the indexed type metadata
+	 */
+	Collection<TypeMetadata> getTypeMetadata();
+}
@@ -21,6 +21,8 @@ package com.navercorp.objectfarm.api.expression;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.lang.ref.WeakReference;
+
 import org.junit.jupiter.api.Test;
 
 class PathExpressionTest {
@@ -652,4 +654,60 @@ class PathExpressionTest {
 		then(pathA.compareTo(pathA)).isEqualTo(0);
 		then(pathA.compareTo(pathAWithIndex)).isLessThan(0);
 	}
+
+	@Test
+	void derivedAndParsedPathsAreInterned() {
+		// given
+		PathExpression derived = PathExpression.root().child("items").index(3).child("name");
+
+		// when
+		PathExpression parsed = PathExpression.of("$.items[3].name");
+
+		// then
+		then(parsed).isSameAs(derived);
+		then(parsed.getParent()).isSameAs(derived.getParent());
+	}
+
+	@Test
+	void unreferencedDerivedPathIsReleased() throws InterruptedException {
+		// given
+		WeakReference<PathExpression> released = new WeakReference<>(
+			PathExpression.root().child("released").index(3).child("name")
+		);
+
+		// when
+		for (int i = 0; i < 50 && released.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		// then
+		then(released.get()).isNull();
+		then(PathExpression.of("$.released[3].name").toExpression()).isEqualTo("$.released[3].name");
+	}
+
+	@Test
+	void largeIndexIsEqualWithoutInterning() {
+		// given
+		PathExpression items = PathExpression.root().child("items");
+
+		// when
+		PathExpression actual = items.index(1000);
+
+		// then
+		then(actual).isEqualTo(PathExpression.of("$.items[1000]"));
+		then(actual.hashCode()).isEqualTo(PathExpression.of("$.items[1000]").hashCode());
+		then(actual.toExpression()).isEqualTo("$.items[1000]");
+	}
+
+	@Test
+	void prefixShouldReturnAncestor() {
+		// given
+		PathExpression path = PathExpression.of("$.items[3].name");
+
+		// then
+		then(path.prefix(0)).isEqualTo(PathExpression.root());
+		then(path.prefix(2)).isEqualTo(PathExpression.of("$.items[3]"));
+		then(path.prefix(5)).isSameAs(path);
+	}
 }
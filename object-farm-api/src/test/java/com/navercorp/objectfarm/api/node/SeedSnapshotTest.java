@@ -0,0 +1,65 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.node;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SeedSnapshotTest {
+	@Test
+	void nextIntIsDeterministic() {
+		SeedSnapshot first = new SeedSnapshot(12345L, 3);
+		SeedSnapshot second = new SeedSnapshot(12345L, 3);
+
+		then(first.nextInt(7, 10)).isEqualTo(second.nextInt(7, 10));
+		then(first.nextLong(7, 5)).isEqualTo(second.nextLong(7, 5));
+	}
+
+	@Test
+	void nextIntIsWithinBound() {
+		Set<Integer> actual = IntStream.range(0, 1000)
+			.mapToObj(sequence -> new SeedSnapshot(12345L, sequence).nextInt(7, 5))
+			.collect(Collectors.toSet());
+
+		then(actual).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void nextLongDiffersByIndex() {
+		SeedSnapshot snapshot = new SeedSnapshot(12345L, 0);
+
+		Set<Long> actual = IntStream.range(0, 100)
+			.mapToObj(k -> snapshot.nextLong(7, k))
+			.collect(Collectors.toSet());
+
+		then(actual).hasSize(100);
+	}
+
+	@Test
+	void nextIntWithNonPositiveBoundThrows() {
+		thenThrownBy(() -> new SeedSnapshot(12345L, 0).nextInt(7, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.node;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SeedStateTest {
+	@Test
+	void threadsDoNotShareCounters() {
+		SeedState sut = new SeedState(12345L);
+		List<Long> firstLane = draw(sut, 100);
+
+		List<List<Long>> actual = drawOnNewThreads(sut, 4);
+
+		SeedState other = new SeedState(12345L);
+		draw(other, 100);
+		List<List<Long>> expected = drawOnNewThreads(other, 4);
+		then(actual).isEqualTo(expected);
+		then(actual).doesNotContain(firstLane);
+		then(new HashSet<>(actual)).hasSize(4);
+	}
+
+	@Test
+	void resetIfChangedResetsOncePerGeneration() {
+		SeedState sut = new SeedState(12345L);
+		Object generation = new Object();
+		sut.snapshot();
+
+		boolean first = sut.resetIfChanged(generation, 777L);
+		sut.snapshot();
+		boolean second = sut.resetIfChanged(generation, 777L);
+
+		then(first).isTrue();
+		then(second).isFalse();
+		then(sut.getInitialSeed()).isEqualTo(777L);
+		then(sut.getCurrentSequence()).isEqualTo(1L);
+	}
+
+	@Test
+	void scopeIsNotReset() {
+		SeedState sut = new SeedState(12345L);
+
+		long actual = sut.callInScope(777L, () -> {
+			sut.resetIfChanged(new Object(), 1L);
+			return sut.getInitialSeed();
+		});
+
+		then(actual).isEqualTo(777L);
+		then(sut.getInitialSeed()).isEqualTo(12345L);
+	}
+
+	/**
+	 * Draws on a new thread each time, one after the other, so that the lanes are created in the same order.
+	 */
+	private static List<List<Long>> drawOnNewThreads(SeedState seedState, int threadCount) {
+		return IntStream.range(0, threadCount)
+			.mapToObj(it -> CompletableFuture.supplyAsync(
+				() -> draw(seedState, 100),
+				command -> new Thread(command).start()
+			).join())
+			.collect(Collectors.toList());
+	}
+
+	private static List<Long> draw(SeedState seedState, int count) {
+		return IntStream.range(0, count)
+			.mapToObj(it -> seedState.snapshot().nextLong(7, 0))
+			.collect(Collectors.toList());
+	}
+}
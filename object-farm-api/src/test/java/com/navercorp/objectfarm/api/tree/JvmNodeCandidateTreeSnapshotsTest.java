@@ -0,0 +1,175 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.objectfarm.api.tree;
+
+import static com.navercorp.objectfarm.api.tree.JvmNodeCandidateTreeTest.CONTEXT;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.navercorp.objectfarm.api.nodecandidate.JvmNodeCandidate;
+import com.navercorp.objectfarm.api.type.ReflectiveJvmType;
+
+class JvmNodeCandidateTreeSnapshotsTest {
+	private static final long CONFIGURATION_FINGERPRINT = 1L;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readRestoresWrittenSnapshots() throws IOException {
+		// given
+		JvmNodeCandidateTreeContext writtenContext = new JvmNodeCandidateTreeContext();
+		JvmNodeCandidateTree writtenTree = buildTree(writtenContext);
+		Path file = directory.resolve("candidate-trees.bin");
+		int written = JvmNodeCandidateTreeSnapshots.write(
+			Collections.singletonList(writtenContext),
+			file,
+			CONFIGURATION_FINGERPRINT
+		);
+
+		// when
+		JvmNodeCandidateTreeContext readContext = new JvmNodeCandidateTreeContext();
+		int read = JvmNodeCandidateTreeSnapshots.read(
+			readContext,
+			file,
+			getClass().getClassLoader(),
+			CONFIGURATION_FINGERPRINT
+		);
+
+		// then
+		then(written).isEqualTo(writtenContext.getCacheSize());
+		then(read).isEqualTo(written);
+		then(readContext.isCached(new ReflectiveJvmType(Order.class))).isTrue();
+
+		JvmNodeCandidateTree readTree = buildTree(readContext);
+		then(describe(readTree, readTree.getRootNode())).isEqualTo(describe(writtenTree, writtenTree.getRootNode()));
+	}
+
+	@Test
+	void readRestoresNothingFromCorruptedFile() throws IOException {
+		// given
+		JvmNodeCandidateTreeContext writtenContext = new JvmNodeCandidateTreeContext();
+		buildTree(writtenContext);
+		Path file = directory.resolve("candidate-trees.bin");
+		JvmNodeCandidateTreeSnapshots.write(
+			Collections.singletonList(writtenContext),
+			file,
+			CONFIGURATION_FINGERPRINT
+		);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+		// when
+		JvmNodeCandidateTreeContext readContext = new JvmNodeCandidateTreeContext();
+		int actual = JvmNodeCandidateTreeSnapshots.read(
+			readContext,
+			file,
+			getClass().getClassLoader(),
+			CONFIGURATION_FINGERPRINT
+		);
+
+		// then
+		then(actual).isZero();
+		then(readContext.getCacheSize()).isZero();
+	}
+
+	@Test
+	void readRestoresNothingWrittenForAnotherConfiguration() throws IOException {
+		// given
+		JvmNodeCandidateTreeContext writtenContext = new JvmNodeCandidateTreeContext();
+		buildTree(writtenContext);
+		Path file = directory.resolve("candidate-trees.bin");
+		JvmNodeCandidateTreeSnapshots.write(
+			Collections.singletonList(writtenContext),
+			file,
+			CONFIGURATION_FINGERPRINT
+		);
+
+		// when
+		JvmNodeCandidateTreeContext readContext = new JvmNodeCandidateTreeContext();
+		int actual = JvmNodeCandidateTreeSnapshots.read(
+			readContext,
+			file,
+			getClass().getClassLoader(),
+			CONFIGURATION_FINGERPRINT + 1
+		);
+
+		// then
+		then(actual).isZero();
+		then(readContext.getCacheSize()).isZero();
+	}
+
+	private static JvmNodeCandidateTree buildTree(JvmNodeCandidateTreeContext treeContext) {
+		return new JvmNodeCandidateTree.Builder(new ReflectiveJvmType(Order.class), CONTEXT)
+			.withTreeContext(treeContext)
+			.build();
+	}
+
+	private static List<String> describe(JvmNodeCandidateTree tree, JvmNodeCandidate parent) {
+		return tree.getChildren(parent).stream()
+			.flatMap(child -> {
+				String description = child.getName() + ":" + child.getType().getRawType().getSimpleName()
+					+ child.getType().getAnnotations() + child.getType().getTypeVariables()
+					+ child.getCreationMethod();
+				return Stream.concat(
+					Stream.of(description),
+					describe(tree, child).stream()
+				);
+			})
+			.collect(Collectors.toList());
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Tag {
+		String value();
+	}
+
+	public static class Order {
+		@Tag("identifier")
+		private String id;
+
+		private Customer customer;
+
+		private List<String> items;
+	}
+
+	public static class Customer {
+		private String name;
+
+		@Tag("address")
+		private Address address;
+	}
+
+	public static class Address {
+		private String city;
+	}
+}